@@ -0,0 +1,48 @@
+package com.navyattack.benchmark;
+
+import com.navyattack.model.History;
+import com.navyattack.model.User;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Genera datos sintéticos y reproducibles para los benchmarks.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+final class BenchmarkData {
+
+    /**
+     * Constructor privado: clase de utilidades.
+     */
+    private BenchmarkData() {
+    }
+
+    /**
+     * Crea un usuario con un historial de partidas contra la CPU de resultados variados.
+     *
+     * @param username Nombre del usuario
+     * @param games Número de partidas del historial
+     * @return Usuario con su historial
+     */
+    static User userWithHistory(String username, int games) {
+        User user = new User(username, "secret1");
+        SplittableRandom random = new SplittableRandom(username.hashCode());
+        List<User> players = List.of(user);
+        for (int i = 0; i < games; i++) {
+            boolean won = random.nextBoolean();
+            long millis = random.nextLong(60_000, 900_000);
+            String time = String.format("%02d:%02d", millis / 60_000, (millis / 1000) % 60);
+            user.addHistory(new History(players,
+                    won ? username : "CPU",
+                    won ? "CPU" : username,
+                    time, millis, "PVC",
+                    random.nextInt(20, 100),
+                    won ? 10 : random.nextInt(10),
+                    won ? random.nextInt(10) : 10));
+        }
+        return user;
+    }
+}
@@ -0,0 +1,149 @@
+package com.navyattack.benchmark;
+
+import com.navyattack.model.AttackResult;
+import com.navyattack.model.Board;
+import com.navyattack.model.BoardConfig;
+import com.navyattack.model.Ship;
+import com.navyattack.model.ShipType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de las operaciones de {@link Board}: ataques, validación de colocaciones
+ * y colocación aleatoria de la flota.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    /**
+     * Celdas por lado del tablero.
+     */
+    @Param({"10", "100"})
+    public int size;
+
+    /**
+     * Configuración de los tableros.
+     */
+    private BoardConfig config;
+
+    /**
+     * Tablero con la flota colocada, compartido por los benchmarks de solo lectura.
+     */
+    private Board placedBoard;
+
+    /**
+     * Tablero que se ataca completo en cada invocación de {@link #attackWholeBoard()}.
+     */
+    private Board attackBoard;
+
+    /**
+     * Orden aleatorio (fijo) de las celdas atacadas.
+     */
+    private int[] attackOrder;
+
+    /**
+     * Barco sin colocar usado para validar colocaciones.
+     */
+    private Ship probe;
+
+    /**
+     * Índice de la siguiente celda a validar.
+     */
+    private int nextCell;
+
+    /**
+     * Prepara los tableros y el orden de ataque.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        config = BoardConfig.ofSize(size);
+        placedBoard = new Board(config);
+        Board.placeShipsRandomly(placedBoard, 1L);
+        probe = new Ship(ShipType.DESTROYER);
+
+        int cells = config.getCellCount();
+        attackOrder = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            attackOrder[i] = i;
+        }
+        Random random = new Random(2L);
+        for (int i = cells - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = attackOrder[i];
+            attackOrder[i] = attackOrder[j];
+            attackOrder[j] = tmp;
+        }
+    }
+
+    /**
+     * Vuelve a colocar la flota antes de cada ataque completo, fuera de la medición.
+     */
+    @Setup(Level.Invocation)
+    public void setUpAttack() {
+        attackBoard = new Board(config);
+        Board.placeShipsRandomly(attackBoard, 3L);
+    }
+
+    /**
+     * Ataca todas las celdas del tablero en orden aleatorio.
+     *
+     * @return Resultado del último ataque
+     */
+    @Benchmark
+    public AttackResult attackWholeBoard() {
+        int n = size;
+        AttackResult result = null;
+        for (int cell : attackOrder) {
+            result = attackBoard.attack(cell / n, cell % n);
+        }
+        return result;
+    }
+
+    /**
+     * Valida la colocación de un destructor en una celda distinta en cada llamada.
+     *
+     * @return true si el destructor cabe
+     */
+    @Benchmark
+    public boolean canPlaceShip() {
+        int cell = nextCell;
+        nextCell = cell + 1 == attackOrder.length ? 0 : cell + 1;
+        int target = attackOrder[cell];
+        return placedBoard.canPlaceShip(probe, target / size, target % size);
+    }
+
+    /**
+     * Crea un tablero y coloca la flota estándar al azar.
+     *
+     * @param blackhole Sumidero para evitar la eliminación del tablero
+     */
+    @Benchmark
+    public void placeShipsRandomly(Blackhole blackhole) {
+        Board board = new Board(config);
+        Board.placeShipsRandomly(board);
+        blackhole.consume(board);
+    }
+}
@@ -0,0 +1,105 @@
+package com.navyattack.benchmark;
+
+import com.navyattack.model.AttackResult;
+import com.navyattack.model.Board;
+import com.navyattack.model.BoardConfig;
+import com.navyattack.model.CPU;
+import com.navyattack.model.CPUDifficulty;
+import com.navyattack.model.Ship;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de una partida completa de la CPU: {@link CPU#attackCell()} y
+ * {@link CPU#processResult(AttackResult, int, Ship)} hasta hundir toda la flota.
+ * La dificultad HARD no se incluye porque su tiempo por turno lo fija su presupuesto.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpuBenchmark {
+
+    /**
+     * Dificultad de la CPU.
+     */
+    @Param({"EASY", "MEDIUM"})
+    public CPUDifficulty difficulty;
+
+    /**
+     * Configuración del tablero atacado.
+     */
+    private BoardConfig config;
+
+    /**
+     * Tablero que la CPU ataca en cada invocación.
+     */
+    private Board board;
+
+    /**
+     * CPU que juega la partida.
+     */
+    private CPU cpu;
+
+    /**
+     * Semilla de la próxima partida, para variar la flota entre invocaciones.
+     */
+    private long seed;
+
+    /**
+     * Prepara la configuración del tablero.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        config = BoardConfig.standard();
+    }
+
+    /**
+     * Crea un tablero nuevo y una CPU nueva antes de cada partida, fuera de la medición.
+     */
+    @Setup(Level.Invocation)
+    public void setUpGame() {
+        board = new Board(config);
+        Board.placeShipsRandomly(board, seed);
+        cpu = new CPU(config, difficulty, 50, seed);
+        seed++;
+    }
+
+    /**
+     * Juega la partida hasta hundir la flota.
+     *
+     * @return Número de disparos de la CPU
+     */
+    @Benchmark
+    public int playGame() {
+        int size = config.getSize();
+        int shots = 0;
+        while (!board.areAllShipsSunk()) {
+            int cell = cpu.attackCell();
+            int row = cell / size;
+            int col = cell % size;
+            AttackResult result = board.attack(row, col);
+            cpu.processResult(result, cell, result == AttackResult.SUNK ? board.getShipAt(row, col) : null);
+            shots++;
+        }
+        return shots;
+    }
+}
@@ -0,0 +1,161 @@
+package com.navyattack.benchmark;
+
+import com.navyattack.controller.MenuController;
+import com.navyattack.model.GameLog;
+import com.navyattack.model.User;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la persistencia de usuarios: el archivo users.dat de versiones anteriores
+ * de {@link MenuController}, medido en memoria, y la carga y compactación del
+ * {@link GameLog} que lo reemplaza, medidas sobre un archivo temporal.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserSerializationBenchmark {
+
+    /**
+     * Número de usuarios registrados.
+     */
+    @Param({"10", "100"})
+    public int users;
+
+    /**
+     * Partidas en el historial de cada usuario.
+     */
+    @Param({"10", "1000"})
+    public int gamesPerUser;
+
+    /**
+     * Usuarios a serializar.
+     */
+    private List<User> data;
+
+    /**
+     * Archivo de usuarios ya serializado, para medir la lectura.
+     */
+    private byte[] serialized;
+
+    /**
+     * Registro de partidas temporal con los mismos usuarios.
+     */
+    private Path logFile;
+
+    /**
+     * Genera los usuarios, su forma serializada y su registro de partidas.
+     *
+     * @throws IOException si falla la escritura inicial
+     */
+    @Setup
+    public void setUp() throws IOException {
+        data = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            data.add(BenchmarkData.userWithHistory("player" + i, gamesPerUser));
+        }
+        serialized = write();
+        logFile = Files.createTempFile("navyattack-benchmark", ".log");
+        compactLog();
+    }
+
+    /**
+     * Elimina el registro temporal.
+     *
+     * @throws IOException si no se puede eliminar
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(logFile);
+        Files.deleteIfExists(logFile.resolveSibling(logFile.getFileName() + ".idx"));
+    }
+
+    /**
+     * Escribe todos los usuarios.
+     *
+     * @return Bytes escritos
+     * @throws IOException si falla la serialización
+     */
+    @Benchmark
+    public byte[] write() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(serialized == null ? 1 << 16 : serialized.length);
+        MenuController.writeUsers(data, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Lee todos los usuarios.
+     *
+     * @return Usuarios leídos
+     * @throws IOException si falla la lectura
+     * @throws ClassNotFoundException si el flujo contiene clases desconocidas
+     */
+    @Benchmark
+    public List<User> read() throws IOException, ClassNotFoundException {
+        return MenuController.readUsers(new ByteArrayInputStream(serialized));
+    }
+
+    /**
+     * Carga todos los usuarios desde el registro de partidas.
+     *
+     * @return Usuarios cargados
+     * @throws IOException si falla la lectura
+     */
+    @Benchmark
+    public List<User> loadLog() throws IOException {
+        try (GameLog log = new GameLog(logFile)) {
+            return log.load();
+        }
+    }
+
+    /**
+     * Carga solo el índice de usuarios, como al arrancar la aplicación.
+     *
+     * @return Usuarios cargados, sin historiales
+     * @throws IOException si falla la lectura
+     */
+    @Benchmark
+    public List<User> loadLogIndex() throws IOException {
+        try (GameLog log = new GameLog(logFile)) {
+            return log.loadIndexed();
+        }
+    }
+
+    /**
+     * Reescribe el registro de partidas completo, como en una compactación.
+     *
+     * @throws IOException si falla la escritura
+     */
+    @Benchmark
+    public void compactLog() throws IOException {
+        try (GameLog log = new GameLog(logFile)) {
+            log.compact(data);
+        }
+    }
+}
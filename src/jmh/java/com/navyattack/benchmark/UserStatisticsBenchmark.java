@@ -0,0 +1,75 @@
+package com.navyattack.benchmark;
+
+import com.navyattack.model.History;
+import com.navyattack.model.User;
+import com.navyattack.model.UserStatistics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la construcción de {@link UserStatistics} sobre historiales grandes.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserStatisticsBenchmark {
+
+    /**
+     * Número de partidas del historial.
+     */
+    @Param({"100", "10000", "100000"})
+    public int games;
+
+    /**
+     * Usuario cuyas estadísticas se calculan.
+     */
+    private User user;
+
+    /**
+     * Genera el historial del usuario.
+     */
+    @Setup
+    public void setUp() {
+        user = BenchmarkData.userWithHistory("player", games);
+    }
+
+    /**
+     * Calcula las estadísticas del usuario.
+     *
+     * @return Estadísticas calculadas
+     */
+    @Benchmark
+    public UserStatistics buildStatistics() {
+        List<History> history = user.getHistory();
+        return new UserStatistics(user.getUsername(), history);
+    }
+
+    /**
+     * Construye las estadísticas del usuario desde sus totales acumulados.
+     *
+     * @return Estadísticas del usuario
+     */
+    @Benchmark
+    public UserStatistics statisticsFromTotals() {
+        return new UserStatistics(user);
+    }
+}
@@ -1,12 +1,8 @@
 package com.navyattack.controller;
 
 import com.navyattack.model.*;
-import javafx.event.ActionEvent;
-import javafx.scene.control.Button;
 import com.navyattack.view.DeploymentView;
-import com.navyattack.view.components.BoardGridComponent;
-
-import java.util.List;
+import com.navyattack.view.components.BoardRenderer;
 
 /**
  * Controlador para la fase de deployment del juego NavyAttack.
@@ -68,8 +64,8 @@ public class DeploymentController {
      * Configura los listeners para los botones de despliegue, rotación, colocación y clicks en celdas.
      */
     private void connectHandlers() {
-        BoardGridComponent grid = view.getBoardGrid();
-        grid.setCellClickHandler(this::handleCellClick);
+        BoardRenderer grid = view.getBoardGrid();
+        grid.setCellClickListener(this::handleCellClick);
 
         view.setOnDeployCarrier(e -> handleDeployShip(ShipType.CARRY));
         view.setOnDeployCruiser(e -> handleDeployShip(ShipType.CRUISER));
@@ -102,18 +98,10 @@ public class DeploymentController {
      * Maneja el click en una celda del tablero.
      * Valida la posición seleccionada y muestra una previsualización del barco.
      * 
-     * @param e Evento de acción generado por el click en la celda
+     * @param row Fila de la celda pulsada
+     * @param col Columna de la celda pulsada
      */
-    private void handleCellClick(ActionEvent e) {
-        Object source = e.getSource();
-        if (!(source instanceof Button btn)) return;
-
-        Object userData = btn.getUserData();
-        if (!(userData instanceof int[] pos) || pos.length != 2) return;
-
-        int row = pos[0];
-        int col = pos[1];
-
+    private void handleCellClick(int row, int col) {
         if (!deploymentState.hasSelectedShip()) {
             view.showMessage("Please select a ship first", false);
             return;
@@ -122,14 +110,14 @@ public class DeploymentController {
         deploymentState.setTargetPosition(row, col);
 
         Ship ship = deploymentState.getSelectedShip();
-        List<int[]> positions = ship.calculatePositions(row, col);
+        ShipPositions positions = ship.calculatePositions(row, col);
 
         if (board.canPlaceShip(ship, row, col)) {
-            view.getBoardGrid().highlightCells(positions, "#90EE90"); // Verde
+            view.getBoardGrid().highlightCells(positions, true);
             view.enablePlaceButton(true);
             view.showMessage("Valid position - click 'Place Ship'", false);
         } else {
-            view.getBoardGrid().highlightCells(positions, "#FF6B6B"); // Rojo
+            view.getBoardGrid().highlightCells(positions, false);
             view.enablePlaceButton(false);
             view.showMessage("Invalid position", false);
         }
@@ -149,7 +137,7 @@ public class DeploymentController {
 
         if (deploymentState.hasTargetPosition()) {
             // Recalcular preview con nueva orientación
-            handleCellClick(createMockEvent(deploymentState.getRow(), deploymentState.getCol()));
+            handleCellClick(deploymentState.getRow(), deploymentState.getCol());
         }
 
         view.showMessage("Ship rotated", false);
@@ -268,20 +256,6 @@ public class DeploymentController {
         }
     }
 
-    /**
-     * Crea un evento mock para simular clicks en celdas.
-     * Utilizado para recalcular la previsualización después de rotar un barco.
-     * 
-     * @param row Fila de la celda
-     * @param col Columna de la celda
-     * @return Evento de acción simulado
-     */
-    private ActionEvent createMockEvent(int row, int col) {
-        Button mockButton = new Button();
-        mockButton.setUserData(new int[]{row, col});
-        return new ActionEvent(mockButton, null);
-    }
-
     /**
      * Obtiene el tablero asociado a este controlador.
      * 
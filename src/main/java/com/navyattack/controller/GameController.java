@@ -2,21 +2,36 @@ package com.navyattack.controller;
 
 import javafx.scene.Scene;
 import javafx.stage.Stage;
-import javafx.event.ActionEvent;
-import javafx.scene.control.Button;
+import javafx.application.Platform;
+import javafx.scene.control.Alert;
 
 import com.navyattack.model.*;
 import com.navyattack.view.GameView;
 import com.navyattack.view.TurnTransitionView;
+import com.navyattack.view.components.BoardBinding;
 import com.navyattack.model.GameTimer;
 
 import java.util.List;
+import java.util.Map;
+import java.util.EnumMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Controlador para la fase de batalla del juego NavyAttack.
- * Maneja la lógica de los turnos, ataques, transiciones entre jugadores
- * y condiciones de victoria. Coordina la interacción entre los tableros
- * de los jugadores y la vista del juego.
+ * Adapta la vista del juego al {@link GameEngine}, que mantiene los turnos, los ataques
+ * y la condición de victoria; este controlador solo traduce los eventos de la interfaz,
+ * actualiza los tableros en pantalla y gestiona las transiciones entre jugadores.
+ *
+ * Cada tablero se muestra mediante un {@link BoardBinding}, que aplica en pantalla solo
+ * las celdas que cambian con cada ataque. En modo PVP cada jugador tiene su propio
+ * componente de flota y de aguas enemigas, y al cambiar de turno solo se intercambian
+ * los componentes visibles, sin volver a dibujar los tableros.
+ *
+ * En modo PVC, el turno de la CPU se calcula en un hilo en segundo plano para no
+ * bloquear el hilo de JavaFX; el ataque resultante se aplica en el hilo de la interfaz
+ * mediante {@link Platform#runLater(Runnable)}.
  * 
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
@@ -33,11 +48,6 @@ public class GameController {
      */
     private final Board player1Board;
     
-    /**
-     * Tablero del segundo jugador o CPU.
-     */
-    private final Board player2Board;
-    
     /**
      * Controlador del menú principal para gestionar datos de usuario.
      */
@@ -49,30 +59,51 @@ public class GameController {
     private final NavigationController navigationController;
 
     /**
-     * Contador de turnos transcurridos en la partida.
+     * Nombre mostrado para la CPU en modo PVC.
      */
-    private int turnCounter;
-    
+    private static final String CPU_NAME = "CPU";
+
+    /**
+     * Motor de la partida con el estado de turnos y la detección de victoria.
+     */
+    private final GameEngine engine;
+
     /**
      * Instancia de la CPU para el modo jugador vs computadora.
      */
-    private CPU cpu = new CPU();
+    private final CPU cpu;
     
     /**
-     * Indica si es el turno del jugador 1.
-     * true si es turno del jugador 1, false si es turno del jugador 2.
+     * Temporizador del juego para medir el tiempo de partida.
      */
-    private boolean isPlayer1Turn;
-    
+    private GameTimer gameTimer;
+
     /**
-     * Indica si el jugador actual ya realizó un ataque en este turno.
+     * Ejecutor de un solo hilo (daemon) donde la CPU calcula sus ataques.
      */
-    private boolean hasAttackedThisTurn;
-    
+    private final ExecutorService cpuExecutor;
+
     /**
-     * Temporizador del juego para medir el tiempo de partida.
+     * Vinculaciones que muestran la flota de cada jugador, con sus barcos.
      */
-    private GameTimer gameTimer;
+    private final Map<PlayerSide, BoardBinding> fleetBindings;
+
+    /**
+     * Vinculaciones que muestran el tablero de cada jugador visto por su rival,
+     * solo con los ataques recibidos.
+     */
+    private final Map<PlayerSide, BoardBinding> watersBindings;
+
+    /**
+     * Turno de la CPU en curso, o null si no hay ninguno.
+     */
+    private Future<?> cpuTurn;
+
+    /**
+     * Indica si la partida sigue activa. Se desactiva al rendirse o al terminar la
+     * partida para descartar turnos de la CPU que terminen después.
+     */
+    private volatile boolean gameActive;
 
     /**
      * Constructor del controlador del juego.
@@ -84,16 +115,24 @@ public class GameController {
      * @param view Vista del juego
      * @param menuController Controlador del menú para gestionar datos
      * @param navigationController Controlador de navegación
+     * @param cpuDifficulty Dificultad de la CPU en modo PVC
      */
-    public GameController(Board player1Board, Board player2Board, GameView view, MenuController menuController, NavigationController navigationController) {
+    public GameController(Board player1Board, Board player2Board, GameView view, MenuController menuController,
+                          NavigationController navigationController, CPUDifficulty cpuDifficulty) {
         this.view = view;
-        this.turnCounter = 0;
-        this.isPlayer1Turn = true;
-        this.hasAttackedThisTurn = false;
+        this.engine = new GameEngine(player1Board, player2Board);
         this.player1Board = player1Board;
-        this.player2Board = player2Board;
         this.menuController = menuController;
         this.navigationController = navigationController;
+        this.cpu = new CPU(player1Board.getConfig(), cpuDifficulty);
+        this.cpuExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "navyattack-cpu");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.gameActive = true;
+        this.fleetBindings = new EnumMap<>(PlayerSide.class);
+        this.watersBindings = new EnumMap<>(PlayerSide.class);
 
         this.gameTimer = new GameTimer();
         view.bindTimer(gameTimer.timeStringProperty());
@@ -111,111 +150,49 @@ public class GameController {
     private void connectHandlers() {
         view.setOnEnemyBoardClick(this::handleAttack);
         view.setOnEndTurn(e -> handleEndTurn());
+        view.setOnSurrender(this::handleSurrender);
     }
 
     /**
      * Inicializa los tableros al comenzar el juego.
-     * Establece los nombres de los jugadores, muestra los barcos del jugador actual
-     * y actualiza los contadores de puntuación.
+     * Establece los nombres de los jugadores, vincula los tableros con sus componentes
+     * (mostrando los barcos del jugador 1) y actualiza los contadores de puntuación.
      */
     private void initializeBoards() {
         // Establecer nombres iniciales correctos
-        String player1Name = view.getPlayer1() != null ? view.getPlayer1() : "Player 1";
-        String player2Name;
-
-        if (view.getGameMode().equals("PVC")) {
-            player2Name = "CPU";
-        } else {
-            player2Name = view.getPlayer2() != null ? view.getPlayer2() : "Player 2";
-        }
-
-        view.updateMyPlayerName(player1Name);
-        view.updateEnemyPlayerName(player2Name);
+        view.updateMyPlayerName(getPlayerName(PlayerSide.PLAYER_1));
+        view.updateEnemyPlayerName(getPlayerName(PlayerSide.PLAYER_2));
 
         // Mostrar los barcos del jugador 1 en "mi tablero" (izquierda)
-        displayShipsOnBoard(player1Board, view.getMyBoard());
+        Board player2Board = engine.getBoard(PlayerSide.PLAYER_2);
+        fleetBindings.put(PlayerSide.PLAYER_1, new BoardBinding(player1Board, view.getMyBoard(), true));
+        watersBindings.put(PlayerSide.PLAYER_2, new BoardBinding(player2Board, view.getEnemyBoard(), false));
+
+        // En PVP, el jugador 2 tiene sus propios componentes para cuando sea su turno
+        if (!isPvc()) {
+            fleetBindings.put(PlayerSide.PLAYER_2, new BoardBinding(player2Board, view.createBoard(false), true));
+            watersBindings.put(PlayerSide.PLAYER_1, new BoardBinding(player1Board, view.createBoard(true), false));
+        }
 
         // Actualizar contadores
         updateScores();
     }
 
-    /**
-     * Muestra los barcos de un tablero en el componente de cuadrícula especificado.
-     * 
-     * @param board Tablero que contiene los barcos a mostrar
-     * @param grid Componente de cuadrícula donde se mostrarán los barcos
-     */
-    private void displayShipsOnBoard(Board board, com.navyattack.view.components.BoardGridComponent grid) {
-        List<Ship> ships = board.getShips();
-
-        for (Ship ship : ships) {
-            if (ship.isPlaced()) {
-                List<int[]> positions = ship.getPositions();
-                grid.showShipCells(positions);
-            }
-        }
-    }
-
-    /**
-     * Muestra tanto los barcos como los ataques (impactos y fallos) en un tablero.
-     * 
-     * @param board Tablero que contiene los barcos y estados de ataque
-     * @param grid Componente de cuadrícula donde se mostrará la información
-     */
-    private void displayShipsAndAttacksOnBoard(Board board, com.navyattack.view.components.BoardGridComponent grid) {
-        List<Ship> ships = board.getShips();
-
-        for (Ship ship : ships) {
-            if (ship.isPlaced()) {
-                List<int[]> positions = ship.getPositions();
-                grid.showShipCells(positions);
-            }
-        }
-        for (int row = 0; row < Board.BOARD_SIZE; row++) {
-            for (int col = 0; col < Board.BOARD_SIZE; col++) {
-                CellState state = board.getCellState(row, col);
-
-                if (state == CellState.HIT) {
-                    grid.markHit(row, col);
-                } else if (state == CellState.MISS) {
-                    grid.markMiss(row, col);
-                }
-            }
-        }
-    }
-
     /**
      * Maneja el ataque a una celda del tablero enemigo.
      * Valida que no se haya atacado en este turno y procesa el resultado del ataque.
      * 
-     * @param e Evento de acción generado por el click en una celda
+     * @param row Fila de la celda atacada
+     * @param col Columna de la celda atacada
      */
-    private void handleAttack(ActionEvent e) {
-        if (hasAttackedThisTurn) {
+    private void handleAttack(int row, int col) {
+        if (engine.hasAttackedThisTurn()) {
             view.showMessage("You already attacked this turn! Click 'END TURN' to continue.", true);
             return;
         }
 
-        Object source = e.getSource();
-        if (!(source instanceof Button btn)) {
-            System.err.println("Source is not a Button");
-            return;
-        }
-
-        Object userData = btn.getUserData();
-        if (!(userData instanceof int[] pos) || pos.length != 2) {
-            System.err.println("UserData is not valid position");
-            return;
-        }
-
-        int row = pos[0];
-        int col = pos[1];
-
-        // Determinar qué tablero atacar
-        Board targetBoard = isPlayer1Turn ? player2Board : player1Board;
-
-        // Ejecutar ataque
-        AttackResult result = targetBoard.attack(row, col);
+        // Ejecutar ataque sobre el tablero rival del jugador en turno
+        AttackResult result = engine.attack(row, col);
 
         // Procesar resultado
         processAttackResult(result, row, col);
@@ -236,75 +213,160 @@ public class GameController {
             return;
         }
 
-        // Marcar la celda en el tablero enemigo
+        // La celda ya se marcó en el tablero enemigo a través de su vinculación
         if (result == AttackResult.HIT) {
-            view.getEnemyBoard().markHit(row, col);
             view.showMessage("🎯 HIT! You damaged an enemy ship!", false);
         } else if (result == AttackResult.SUNK) {
-            view.getEnemyBoard().markHit(row, col);
             view.showMessage("💥 SUNK! You destroyed an enemy ship!", false);
         } else if (result == AttackResult.MISS) {
-            view.getEnemyBoard().markMiss(row, col);
             view.showMessage("💦 MISS! You hit water.", false);
         }
 
-        // Marcar que ya se atacó en este turno
-        hasAttackedThisTurn = true;
         view.enableEndTurnButton(true);
         view.disableEnemyBoard();
 
         updateScores();
 
-        // Verificar victoria
-        Board targetBoard = isPlayer1Turn ? player2Board : player1Board;
-        if (targetBoard.areAllShipsSunk()) {
+        if (engine.isGameOver()) {
             handleVictory();
         }
     }
 
     /**
      * Maneja la finalización del turno actual.
-     * Valida que se haya realizado un ataque, incrementa el contador de turnos,
-     * cambia el turno al siguiente jugador y ejecuta el turno de la CPU si corresponde.
+     * Valida que se haya realizado un ataque, cede el turno al siguiente jugador
+     * y ejecuta el turno de la CPU si corresponde.
      */
     private void handleEndTurn() {
-        if (!hasAttackedThisTurn) {
+        if (!engine.hasAttackedThisTurn()) {
             view.showMessage("You must attack before ending your turn!", true);
             return;
         }
 
-        // Incrementar contador de turnos
-        turnCounter++;
-
-        // Cambiar turno (solo para PVP)
-        if (view.getGameMode().equals("PVP")) {
-            isPlayer1Turn = !isPlayer1Turn;
-        } 
-        hasAttackedThisTurn = false;
+        engine.endTurn();
 
         // Actualizar UI
         view.enableEndTurnButton(false);
-        updateTurnDisplay();
 
-        if (view.getGameMode().equals("PVP")) {
-            showTurnTransition();
+        if (isPvc()) {
+            startCpuTurn();
         } else {
-            // Turno de la CPU
-            int[] posAttack = cpu.attack();
-            AttackResult result = player1Board.attack(posAttack[0], posAttack[1]);
-           
-            // La CPU aprende del resultado para su próximo ataque
-            cpu.processResult(result, posAttack);
-
-            // Actualiza el tablero con el ataque de CPU
-            displayShipsAndAttacksOnBoard(player1Board, view.getMyBoard());
-            view.enableEnemyBoard();
+            updateTurnDisplay();
+            showTurnTransition();
         }
     }
 
+    /**
+     * Inicia el turno de la CPU en segundo plano.
+     * Muestra el indicador de "pensando" y bloquea el tablero enemigo mientras la CPU
+     * elige su ataque; el resultado se aplica en el hilo de JavaFX.
+     */
+    private void startCpuTurn() {
+        view.disableEnemyBoard();
+        view.setCpuThinking(true);
+
+        cpuTurn = cpuExecutor.submit(() -> {
+            int cell = cpu.attackCell();
+            if (gameActive && !Thread.currentThread().isInterrupted()) {
+                Platform.runLater(() -> applyCpuAttack(cell));
+            }
+        });
+    }
+
+    /**
+     * Aplica en el tablero del jugador el ataque elegido por la CPU y le devuelve el turno.
+     * Se ejecuta en el hilo de JavaFX; no hace nada si la partida ya terminó.
+     * Igual que {@link GameEngine#playMatch}, no reintenta un ataque inválido: la CPU
+     * volvería a elegir la misma celda, así que la partida se abandona como al rendirse.
+     *
+     * @param cell Celda elegida por la CPU ({@code fila * tamaño + columna})
+     */
+    private void applyCpuAttack(int cell) {
+        if (!gameActive) {
+            return;
+        }
+        cpuTurn = null;
+        view.setCpuThinking(false);
+
+        int row = cell / player1Board.getSize();
+        int col = cell % player1Board.getSize();
+        AttackResult result = engine.attack(row, col);
+        if (result.isInvalidMove()) {
+            System.err.printf("La CPU eligió una celda inválida (%d, %d): %s%n", row, col, result);
+            abortGame("The CPU could not choose a valid move. The game has been stopped.");
+            return;
+        }
+
+        // La CPU aprende del resultado para su próximo ataque
+        Ship sunkShip = result == AttackResult.SUNK ? player1Board.getShipAt(row, col) : null;
+        cpu.processResult(result, cell, sunkShip);
+
+        // El tablero del jugador ya muestra el ataque a través de su vinculación
+        updateScores();
+
+        if (engine.isGameOver()) {
+            handleVictory();
+            return;
+        }
+
+        engine.endTurn();
+        updateTurnDisplay();
+        view.enableEnemyBoard();
+    }
+
+    /**
+     * Maneja la rendición del jugador.
+     * Cancela el turno de la CPU en curso antes de abandonar la partida.
+     */
+    private void handleSurrender() {
+        gameTimer.stop();
+        stopCpu();
+    }
+
+    /**
+     * Abandona la partida por un error, igual que al rendirse: detiene el cronómetro y la CPU,
+     * muestra el error y vuelve al menú principal sin guardar la partida.
+     *
+     * @param message Mensaje de error para el jugador
+     */
+    private void abortGame(String message) {
+        handleSurrender();
+        view.disableEnemyBoard();
+
+        Alert alert = new Alert(Alert.AlertType.ERROR, message);
+        alert.setTitle("NavyAttack - Error");
+        alert.setHeaderText(null);
+        alert.showAndWait();
+        navigationController.navigateToView("menu");
+    }
+
+    /**
+     * Detiene la CPU: marca la partida como inactiva, deja de observar los tableros,
+     * cancela el turno en curso y libera el hilo del ejecutor.
+     */
+    private void stopCpu() {
+        gameActive = false;
+        unbindBoards();
+        if (cpuTurn != null) {
+            cpuTurn.cancel(true);
+            cpuTurn = null;
+        }
+        cpuExecutor.shutdownNow();
+        view.setCpuThinking(false);
+    }
+
+    /**
+     * Deja de observar los tableros, que ya no cambiarán al terminar la partida.
+     */
+    private void unbindBoards() {
+        fleetBindings.values().forEach(BoardBinding::unbind);
+        watersBindings.values().forEach(BoardBinding::unbind);
+    }
+
     /**
      * Guarda el historial de la partida finalizada en los perfiles de los jugadores.
-     * Crea un registro de History con los datos de la partida y lo asocia a ambos jugadores.
+     * Crea un registro de History con los datos de la partida y lo asocia a los jugadores
+     * humanos que participaron, tanto si ganaron como si perdieron.
      * 
      * @param winnerName Nombre del jugador ganador
      * @param loserName Nombre del jugador perdedor
@@ -316,12 +378,12 @@ public class GameController {
     private void saveGameHistory(String winnerName, String loserName, String timePlayed, long timePlayedMillis,
                                  int winnerShipsSunk, int loserShipsSunk) {
 
-        User winner = menuController.getUserByUsername(winnerName);
-        User loser = menuController.getUserByUsername(loserName);
+        User winner = findHumanUser(winnerName);
+        User loser = findHumanUser(loserName);
 
         List<User> players = new java.util.ArrayList<>();
         if (winner != null) players.add(winner);
-        if (loser != null && !view.getGameMode().equals("PVC")) players.add(loser);
+        if (loser != null) players.add(loser);
 
         History history = new History(
                 players,
@@ -330,7 +392,7 @@ public class GameController {
                 timePlayed,
                 timePlayedMillis,
                 view.getGameMode(),
-                turnCounter,
+                getReportedTurns(),
                 winnerShipsSunk,
                 loserShipsSunk
         );
@@ -340,12 +402,12 @@ public class GameController {
             winner.addHistory(history);
         }
 
-        if (loser != null && !view.getGameMode().equals("PVC")) {
+        if (loser != null) {
             loser.addHistory(history);
         }
 
         // Notificar al MenuController para que guarde los datos
-        menuController.saveGameData();
+        menuController.saveGameData(history);
     }
 
     /**
@@ -372,14 +434,14 @@ public class GameController {
      * cambiar al siguiente jugador.
      */
     private void showTurnTransition() {
-        if (view.getGameMode().equals("PVC")) {
+        if (isPvc()) {
             view.enableEnemyBoard();
             return;
         }
 
         pauseTimer();
 
-        String nextPlayerName = isPlayer1Turn ? view.getPlayer1() : view.getPlayer2();
+        String nextPlayerName = getPlayerName(engine.getCurrentPlayer());
         Stage stage = (Stage) view.getScene().getWindow();
         Scene gameScene = view.getScene();
 
@@ -411,27 +473,14 @@ public class GameController {
 
     /**
      * Intercambia la visualización de los tableros entre jugadores.
-     * Actualiza los nombres, muestra los barcos del jugador actual
-     * y los ataques previos en el tablero enemigo.
+     * Actualiza los nombres y muestra los componentes de la flota del jugador actual
+     * y de las aguas de su rival, que ya están al día, sin volver a dibujarlos.
      */
     private void swapBoardDisplays() {
-        // Limpiar ambos tableros
-        view.getMyBoard().clearAll();
-        view.getEnemyBoard().clearAll();
-
-        // Determinar qué jugador es el actual
-        String currentPlayer = isPlayer1Turn ? view.getPlayer1() : view.getPlayer2();
-        String enemyPlayer = isPlayer1Turn ? view.getPlayer2() : view.getPlayer1();
-
-        // Actualizar nombres de los jugadores
-        String myPlayerName = currentPlayer != null ? currentPlayer : (isPlayer1Turn ? "Player 1" : "Player 2");
-        String enemyPlayerName = enemyPlayer != null ? enemyPlayer : (isPlayer1Turn ? "Player 2" : "Player 1");
-
-        // En modo PVC, el enemigo siempre es CPU
-        if (view.getGameMode().equals("PVC")) {
-            myPlayerName = view.getPlayer1();
-            enemyPlayerName = "CPU";
-        }
+        // Determinar qué jugador está frente a la pantalla
+        PlayerSide viewer = getViewerSide();
+        String myPlayerName = getPlayerName(viewer);
+        String enemyPlayerName = getPlayerName(viewer.opponent());
 
         view.updateMyBoardTitle("YOUR FLEET");
         view.updateEnemyBoardTitle("ENEMY WATERS - " + enemyPlayerName.toUpperCase());
@@ -439,48 +488,20 @@ public class GameController {
         view.updateMyPlayerName(myPlayerName);
         view.updateEnemyPlayerName(enemyPlayerName);
 
-        // Mostrar barcos del jugador actual en "mi tablero"
-        Board currentPlayerBoard = isPlayer1Turn ? player1Board : player2Board;
-        displayShipsOnBoard(currentPlayerBoard, view.getMyBoard());
-
-        // Mostrar ataques previos en el tablero enemigo
-        Board enemyBoard = isPlayer1Turn ? player2Board : player1Board;
-        displayAttacksOnEnemyBoard(enemyBoard, view.getEnemyBoard());
+        // Mostrar la flota del jugador actual y los ataques previos en el tablero enemigo
+        view.showBoards(fleetBindings.get(viewer).getRenderer(),
+                watersBindings.get(viewer.opponent()).getRenderer());
 
         // Actualizar scores
         updateScores();
     }
 
-    /**
-     * Muestra los ataques previos (impactos y fallos) en el tablero enemigo.
-     * 
-     * @param board Tablero enemigo con los estados de las celdas
-     * @param grid Componente de cuadrícula donde se mostrarán los ataques
-     */
-    private void displayAttacksOnEnemyBoard(Board board, com.navyattack.view.components.BoardGridComponent grid) {
-        // Recorrer todas las celdas y mostrar HITs y MISSes
-        for (int row = 0; row < Board.BOARD_SIZE; row++) {
-            for (int col = 0; col < Board.BOARD_SIZE; col++) {
-                CellState state = board.getCellState(row, col);
-
-                if (state == CellState.HIT) {
-                    grid.markHit(row, col);
-                } else if (state == CellState.MISS) {
-                    grid.markMiss(row, col);
-                }
-            }
-        }
-    }
-
     /**
      * Actualiza la visualización del turno actual en la interfaz.
      * Muestra el nombre del jugador actual y un mensaje informativo.
      */
     private void updateTurnDisplay() {
-        String currentPlayer = isPlayer1Turn ? view.getPlayer1() :
-                (view.getPlayer2() != null ? view.getPlayer2() : "Player 2");
-
-        view.updateCurrentTurn(currentPlayer);
+        view.updateCurrentTurn(getPlayerName(engine.getCurrentPlayer()));
         view.showMessage("Select a cell on the enemy board to attack!", false);
     }
 
@@ -489,32 +510,9 @@ public class GameController {
      * Muestra cuántos barcos quedan vivos para cada jugador.
      */
     private void updateScores() {
-        int player1Ships = countRemainingShips(player1Board);
-        int player2Ships = countRemainingShips(player2Board);
-
-        if (isPlayer1Turn) {
-            view.updateMyScore(player1Ships);
-            view.updateEnemyScore(player2Ships);
-        } else {
-            view.updateMyScore(player2Ships);
-            view.updateEnemyScore(player1Ships);
-        }
-    }
-
-    /**
-     * Cuenta el número de barcos que aún no han sido hundidos en un tablero.
-     * 
-     * @param board Tablero a evaluar
-     * @return Número de barcos restantes
-     */
-    private int countRemainingShips(Board board) {
-        int count = 0;
-        for (Ship ship : board.getShips()) {
-            if (!ship.isSunk()) {
-                count++;
-            }
-        }
-        return count;
+        PlayerSide viewer = getViewerSide();
+        view.updateMyScore(engine.getShipsRemaining(viewer));
+        view.updateEnemyScore(engine.getShipsRemaining(viewer.opponent()));
     }
 
     /**
@@ -524,21 +522,17 @@ public class GameController {
      */
     private void handleVictory() {
         gameTimer.stop();
+        stopCpu();
         String finalTime = gameTimer.getFormattedTime();
         long finalTimeMillis = gameTimer.getElapsedTimeMillis();
 
-        String winner = isPlayer1Turn ? view.getPlayer1() : view.getPlayer2();
-        String loser = isPlayer1Turn ? view.getPlayer2() : view.getPlayer1();
-
-        String winnerName = winner != null ? winner : (isPlayer1Turn ? "Player 1" : "Player 2");
-        String loserName = loser != null ? loser : (view.getGameMode().equals("PVC") ? "CPU" : "Player 2");
+        PlayerSide winner = engine.getWinner();
+        String winnerName = getPlayerName(winner);
+        String loserName = getPlayerName(winner.opponent());
+        int totalTurns = getReportedTurns();
 
-        // Calcular barcos hundidos
-        Board winnerBoard = isPlayer1Turn ? player1Board : player2Board;
-        Board loserBoard = isPlayer1Turn ? player2Board : player1Board;
-
-        int winnerShipsSunk = countSunkShips(loserBoard); // Barcos que hundió el ganador
-        int loserShipsSunk = countSunkShips(winnerBoard); // Barcos que hundió el perdedor
+        int winnerShipsSunk = engine.getShipsSunkBy(winner);
+        int loserShipsSunk = engine.getShipsSunkBy(winner.opponent());
 
         view.showMessage("🎉 " + winnerName + " WINS! 🎉", false);
         view.disableEnemyBoard();
@@ -552,8 +546,8 @@ public class GameController {
             try {
                 Thread.sleep(2000);
                 javafx.application.Platform.runLater(() -> {
-                    navigationController.navigateToVictory(winner, loser, view.getGameMode(),
-                            turnCounter, finalTime, finalTimeMillis,
+                    navigationController.navigateToVictory(winnerName, loserName, view.getGameMode(),
+                            totalTurns, finalTime, finalTimeMillis,
                             winnerShipsSunk, loserShipsSunk);
                 });
             } catch (InterruptedException e) {
@@ -563,18 +557,60 @@ public class GameController {
     }
 
     /**
-     * Cuenta el número de barcos hundidos en un tablero.
-     * 
-     * @param board Tablero a evaluar
-     * @return Número de barcos hundidos
-     */
-    private int countSunkShips(Board board) {
-        int sunkCount = 0;
-        for (Ship ship : board.getShips()) {
-            if (ship.isSunk()) {
-                sunkCount++;
-            }
+     * Verifica si la partida es contra la CPU.
+     *
+     * @return true si el modo de juego es PVC
+     */
+    private boolean isPvc() {
+        return view.getGameMode().equals("PVC");
+    }
+
+    /**
+     * Obtiene el jugador cuya flota se muestra en "mi tablero".
+     * En modo PVC siempre es el jugador humano; en PVP es el jugador en turno.
+     *
+     * @return Lado del jugador frente a la pantalla
+     */
+    private PlayerSide getViewerSide() {
+        return isPvc() ? PlayerSide.PLAYER_1 : engine.getCurrentPlayer();
+    }
+
+    /**
+     * Obtiene el nombre a mostrar para un jugador.
+     *
+     * @param side Lado del jugador
+     * @return Nombre del usuario, "CPU" en modo PVC o un nombre genérico si no hay usuario
+     */
+    private String getPlayerName(PlayerSide side) {
+        if (side == PlayerSide.PLAYER_1) {
+            return view.getPlayer1() != null ? view.getPlayer1() : "Player 1";
+        }
+        if (isPvc()) {
+            return CPU_NAME;
+        }
+        return view.getPlayer2() != null ? view.getPlayer2() : "Player 2";
+    }
+
+    /**
+     * Obtiene el número de turnos a registrar en el historial y en la pantalla de victoria.
+     * En modo PVC solo cuentan los turnos del jugador humano.
+     *
+     * @return Turnos de la partida
+     */
+    private int getReportedTurns() {
+        return isPvc() ? engine.getTurnCount(PlayerSide.PLAYER_1) : engine.getTurnCount();
+    }
+
+    /**
+     * Busca el usuario registrado con el nombre dado, ignorando a la CPU en modo PVC.
+     *
+     * @param name Nombre del jugador
+     * @return Usuario encontrado o null si no corresponde a un jugador humano
+     */
+    private User findHumanUser(String name) {
+        if (isPvc() && CPU_NAME.equals(name)) {
+            return null;
         }
-        return sunkCount;
+        return menuController.getUserByUsername(name);
     }
-}
\ No newline at end of file
+}
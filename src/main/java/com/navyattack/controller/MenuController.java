@@ -5,9 +5,13 @@ import java.util.List;
 import java.nio.file.Path;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 import com.navyattack.model.User;
+import com.navyattack.model.GameLog;
+import com.navyattack.model.History;
 import com.navyattack.model.DataManager;
+import com.navyattack.model.PersistenceService;
 import com.navyattack.model.Authentication;
 
 /**
@@ -31,49 +35,76 @@ public class MenuController {
     private static final String DATA_DIR = "data";
     
     /**
-     * Nombre del archivo que contiene los datos de usuarios serializados.
+     * Nombre del archivo de datos de versiones anteriores, con la lista de usuarios serializada.
      */
     private static final String USERS_FILE = "users.dat";
     
     /**
-     * Ruta completa al archivo de datos de usuarios.
+     * Ruta completa al archivo de datos de versiones anteriores.
      */
     private static final String DATA_PATH = DATA_DIR + File.separator + USERS_FILE;
 
+    /**
+     * Nombre del registro de solo anexado con los usuarios y las partidas.
+     */
+    private static final String LOG_FILE = "navyattack.log";
+
+    /**
+     * Propiedad del sistema que, con el valor "true", muestra al salir las métricas
+     * del servicio de persistencia.
+     */
+    public static final String PERSISTENCE_STATS_PROPERTY = "navyattack.persistence.stats";
+
+    /**
+     * Registro de solo anexado donde se persisten usuarios y partidas.
+     */
+    private final GameLog gameLog;
+
+    /**
+     * Servicio que escribe los guardados en el registro desde un hilo de fondo.
+     */
+    private final PersistenceService persistenceService;
+
+    /**
+     * Indica si ya se cerró la persistencia.
+     */
+    private boolean shutDown;
+
     /**
      * Constructor del controlador del menú.
-     * Inicializa el gestor de datos y carga la información de usuarios almacenada.
+     * Inicializa el gestor de datos, carga la información de usuarios almacenada
+     * e inicia el servicio de persistencia.
      */
     public MenuController() {
         this.dataManager = new DataManager();
+        this.gameLog = new GameLog(Paths.get(DATA_DIR, LOG_FILE));
         loadUserData();
+        this.persistenceService = new PersistenceService(gameLog, PersistenceService.DEFAULT_CAPACITY);
     }
 
     /**
-     * Carga los datos de usuarios desde el archivo de persistencia.
-     * Si el archivo no existe o está vacío, inicia con datos vacíos.
-     * Maneja errores de deserialización e incompatibilidad de versiones.
+     * Carga los datos de usuarios desde el registro de partidas.
+     * Si el registro no existe pero hay un archivo users.dat de una versión anterior,
+     * lo migra al registro. Un registro con un formato anterior se reescribe en el formato
+     * actual, ya que no admite anexos y se carga completo de todos modos.
      */
     private void loadUserData() {
         try {
             createDataDirectory();
 
+            if (gameLog.exists()) {
+                for (User user : gameLog.loadIndexed()) {
+                    dataManager.addUser(user);
+                }
+                if (gameLog.needsMigration()) {
+                    gameLog.compact(dataManager.getUsers());
+                }
+                return;
+            }
+
             File file = new File(DATA_PATH);
             if (file.exists() && file.length() > 0) {
-                try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-                    @SuppressWarnings("unchecked")
-                    List<User> users = (List<User>) ois.readObject();
-
-                    for (User user : users) {
-                        dataManager.addUser(user);
-                    }
-
-                } catch (ClassNotFoundException e) {
-                    System.err.println("Error al deserializar los datos de usuarios: " + e.getMessage());
-                } catch (InvalidClassException e) {
-                    System.err.println("Versión de clase incompatible. Creando nuevo archivo de datos.");
-                    saveUserData();
-                }
+                migrateLegacyData(file);
             } else {
                 System.out.println("No se encontró archivo de datos existente. Iniciando con datos vacíos.");
             }
@@ -83,20 +114,54 @@ public class MenuController {
     }
 
     /**
-     * Guarda todos los datos de usuarios en el archivo de persistencia.
-     * Serializa la lista completa de usuarios en formato binario.
+     * Migra el archivo users.dat de versiones anteriores al registro de partidas.
+     * El archivo original se conserva renombrado como users.dat.bak.
+     *
+     * @param file Archivo users.dat a migrar
+     * @throws IOException si ocurre un error al leer el archivo o escribir el registro
      */
-    private void saveUserData() {
-        try {
-            createDataDirectory();
-            List<User> users = dataManager.getUsers();
+    private void migrateLegacyData(File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            List<User> users = readUsers(in);
 
-            try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(DATA_PATH))) {
-                oos.writeObject(users);
+            for (User user : users) {
+                dataManager.addUser(user);
             }
-        } catch (IOException e) {
-            System.err.println("Error al guardar datos de usuarios: " + e.getMessage());
+        } catch (ClassNotFoundException | InvalidClassException e) {
+            System.err.println("Error al deserializar los datos de usuarios: " + e.getMessage());
+            return;
         }
+
+        gameLog.compact(dataManager.getUsers());
+        Files.move(file.toPath(), file.toPath().resolveSibling(USERS_FILE + ".bak"),
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Serializa una lista de usuarios en el formato del archivo users.dat de versiones anteriores.
+     *
+     * @param users Usuarios a serializar
+     * @param out Flujo de salida; no se cierra
+     * @throws IOException si ocurre un error de escritura
+     */
+    public static void writeUsers(List<User> users, OutputStream out) throws IOException {
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(users);
+        oos.flush();
+    }
+
+    /**
+     * Deserializa una lista de usuarios escrita con {@link #writeUsers(List, OutputStream)}.
+     *
+     * @param in Flujo de entrada; no se cierra
+     * @return Usuarios leídos
+     * @throws IOException si ocurre un error de lectura o la versión de clase es incompatible
+     * @throws ClassNotFoundException si el archivo contiene clases desconocidas
+     */
+    @SuppressWarnings("unchecked")
+    public static List<User> readUsers(InputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream ois = new ObjectInputStream(in);
+        return (List<User>) ois.readObject();
     }
 
     /**
@@ -117,22 +182,68 @@ public class MenuController {
 
     /**
      * Guarda un nuevo usuario en el sistema.
-     * Añade el usuario al gestor de datos y persiste los cambios en disco.
+     * Añade el usuario al gestor de datos y encola el guardado de su registro.
      * 
      * @param user Usuario a guardar
+     * @throws Exception si otro registro simultáneo ya tomó el nombre de usuario
+     */
+    private void saveNewUser(User user) throws Exception {
+        if (!dataManager.addUserIfAbsent(user)) {
+            throw new Exception("The user already exists");
+        }
+        persistenceService.saveUser(user);
+    }
+
+    /**
+     * Guarda una partida terminada.
+     * Encola el registro de la partida; se escribe en disco desde un hilo de fondo,
+     * por lo que el llamador no espera al disco.
+     *
+     * @param history Partida a guardar, ya añadida al historial de sus jugadores
      */
-    private void saveNewUser(User user) {
-        dataManager.addUser(user);
-        saveUserData();
+    public void saveGameData(History history) {
+        persistenceService.saveGame(history);
     }
 
     /**
-     * Guarda los datos del juego actual.
-     * Persiste los cambios realizados durante una partida, como historiales
-     * y estadísticas actualizadas.
+     * Cierra la persistencia al salir de la aplicación.
+     * Escribe los guardados pendientes, compacta el registro si aún usa un formato anterior y lo cierra.
+     * Avisa si se perdió algún guardado; las métricas de persistencia solo se muestran
+     * si se activa la propiedad {@link #PERSISTENCE_STATS_PROPERTY}.
+     * Llamarlo más de una vez no tiene efecto.
      */
-    public void saveGameData() {
-        saveUserData();
+    public void shutdown() {
+        if (shutDown) {
+            return;
+        }
+        shutDown = true;
+        persistenceService.close();
+        try {
+            if (gameLog.needsMigration()) {
+                gameLog.compact(dataManager.getUsers());
+            }
+            gameLog.close();
+        } catch (IOException e) {
+            System.err.println("Error al cerrar el registro de partidas: " + e.getMessage());
+        }
+        if (persistenceService.getDroppedSaves() > 0) {
+            System.err.println("Se perdieron " + persistenceService.getDroppedSaves()
+                    + " guardados que no se pudieron escribir en el registro");
+        }
+        if (Boolean.getBoolean(PERSISTENCE_STATS_PROPERTY)) {
+            System.out.printf("Persistencia: %d guardados en %d escrituras, latencia media %.2f ms, máxima %.2f ms%n",
+                    persistenceService.getSavesWritten(), persistenceService.getFlushCount(),
+                    persistenceService.getMeanFlushNanos() / 1e6, persistenceService.getMaxFlushNanos() / 1e6);
+        }
+    }
+
+    /**
+     * Obtiene el servicio de persistencia, para consultar sus métricas.
+     *
+     * @return Servicio de persistencia
+     */
+    public PersistenceService getPersistenceService() {
+        return persistenceService;
     }
 
     /**
@@ -147,9 +258,7 @@ public class MenuController {
         User user = dataManager.findUser(username);
         boolean result = Authentication.login(username, password, user);
         if (result) {
-            if (!dataManager.getLoggedUsers().contains(user)) {
-                dataManager.addLoggedUser(user);
-            }
+            dataManager.addLoggedUser(user);
             return true;
         } else {
             return false;
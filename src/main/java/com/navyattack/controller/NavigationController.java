@@ -4,11 +4,22 @@ import javafx.stage.Stage;
 import javafx.application.Application;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CancellationException;
 
 import com.navyattack.view.*;
 import com.navyattack.model.User;
 import com.navyattack.model.Board;
+import com.navyattack.model.BoardConfig;
+import com.navyattack.model.CPUDifficulty;
 
 /**
  * Controlador de navegación del juego NavyAttack.
@@ -21,6 +32,12 @@ import com.navyattack.model.Board;
  */
 public class NavigationController {
 
+   /**
+    * Número máximo de vistas que se conservan construidas en la caché.
+    * Al superarlo se descarta la vista usada hace más tiempo.
+    */
+   public static final int VIEW_CACHE_CAPACITY = 4;
+
    /**
     * Vista actualmente mostrada en la aplicación.
     */
@@ -36,6 +53,39 @@ public class NavigationController {
     */
    private final Map<String, ViewFactory> viewRegistry;
 
+   /**
+    * Nombres de las vistas registradas cuya escena se reutiliza entre navegaciones.
+    */
+   private final Set<String> cachedViewNames;
+
+   /**
+    * Vistas ya construidas, en orden de uso, de la menos a la más reciente.
+    * Al superar {@link #VIEW_CACHE_CAPACITY} se descarta la menos reciente.
+    */
+   private final Map<String, IView> viewCache;
+
+   /**
+    * Hilo de baja prioridad que construye en segundo plano la vista que
+    * probablemente se mostrará a continuación.
+    */
+   private final ExecutorService prebuildExecutor;
+
+   /**
+    * Vistas construidas o en construcción en segundo plano, por pantalla.
+    * Solo se accede desde el hilo de JavaFX.
+    */
+   private final Map<String, PrebuiltView> prebuiltViews;
+
+   /**
+    * Configuración de tablero (dimensiones y flota) usada en las próximas partidas.
+    */
+   private BoardConfig boardConfig;
+
+   /**
+    * Dificultad de la CPU en las próximas partidas PVC.
+    */
+   private CPUDifficulty cpuDifficulty;
+
    /**
     * Constructor del controlador de navegación.
     * Inicializa el registro de vistas y registra las vistas por defecto.
@@ -45,9 +95,63 @@ public class NavigationController {
    public NavigationController(MenuController menuController) {
       this.menuController = menuController;
       this.viewRegistry = new HashMap<>();
+      this.cachedViewNames = new HashSet<>();
+      this.viewCache = new LinkedHashMap<>(16, 0.75f, true) {
+         @Override
+         protected boolean removeEldestEntry(Map.Entry<String, IView> eldest) {
+            return size() > VIEW_CACHE_CAPACITY;
+         }
+      };
+      this.boardConfig = BoardConfig.standard();
+      this.cpuDifficulty = CPUDifficulty.MEDIUM;
+      this.prebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+         Thread thread = new Thread(runnable, "navyattack-prebuild");
+         thread.setDaemon(true);
+         thread.setPriority(Thread.MIN_PRIORITY);
+         return thread;
+      });
+      this.prebuiltViews = new HashMap<>();
       registerDefaultViews();
    }
 
+   /**
+    * Establece la configuración de tablero para las próximas partidas.
+    * Si se proporciona null, se usa la configuración estándar.
+    * 
+    * @param boardConfig Configuración de tablero (dimensiones y flota)
+    */
+   public void setBoardConfig(BoardConfig boardConfig) {
+      this.boardConfig = boardConfig != null ? boardConfig : BoardConfig.standard();
+   }
+
+   /**
+    * Obtiene la configuración de tablero usada en las próximas partidas.
+    * 
+    * @return Configuración de tablero actual
+    */
+   public BoardConfig getBoardConfig() {
+      return boardConfig;
+   }
+
+   /**
+    * Establece la dificultad de la CPU para las próximas partidas PVC.
+    * Si se proporciona null, se usa la dificultad MEDIUM.
+    * 
+    * @param cpuDifficulty Dificultad de la CPU
+    */
+   public void setCpuDifficulty(CPUDifficulty cpuDifficulty) {
+      this.cpuDifficulty = cpuDifficulty != null ? cpuDifficulty : CPUDifficulty.MEDIUM;
+   }
+
+   /**
+    * Obtiene la dificultad de la CPU usada en las próximas partidas PVC.
+    * 
+    * @return Dificultad de la CPU actual
+    */
+   public CPUDifficulty getCpuDifficulty() {
+      return cpuDifficulty;
+   }
+
    /**
     * Registra todas las vistas por defecto del sistema.
     * Este método puede ser extendido sin modificar el código existente,
@@ -55,12 +159,12 @@ public class NavigationController {
     */
    private void registerDefaultViews() {
       // Vistas de autenticación
-      registerView("login", () -> new LoginView(menuController, this));
-      registerView("signup", () -> new SignUpView(menuController, this));
+      registerCachedView("login", () -> new LoginView(menuController, this));
+      registerCachedView("signup", () -> new SignUpView(menuController, this));
       
       // Vistas principales
-      registerView("menu", () -> new MenuView(menuController, this));
-      registerView("play", () -> new PlayView(menuController, this));
+      registerCachedView("menu", () -> new MenuView(menuController, this));
+      registerCachedView("play", () -> new PlayView(menuController, this));
       
       // Vista de historial (placeholder - requiere parámetros dinámicos)
       registerView("history", () -> new HistoryView(this, null, null));
@@ -75,6 +179,39 @@ public class NavigationController {
     */
    public void registerView(String viewName, ViewFactory factory) {
       viewRegistry.put(viewName, factory);
+      cachedViewNames.remove(viewName);
+      viewCache.remove(viewName);
+   }
+
+   /**
+    * Registra una vista cuya escena se conserva construida y se reutiliza en las
+    * siguientes navegaciones, en lugar de crearse de nuevo cada vez.
+    * Al volver a ella se invoca {@link IView#refresh(Stage)} para actualizar sus datos;
+    * si la vista indica que no puede reutilizarse, se reconstruye con el factory.
+    * 
+    * @param viewName Nombre único identificador de la vista
+    * @param factory Factory que crea la instancia de la vista
+    */
+   public void registerCachedView(String viewName, ViewFactory factory) {
+      registerView(viewName, factory);
+      cachedViewNames.add(viewName);
+   }
+
+   /**
+    * Descarta la instancia guardada de una vista, de modo que la próxima
+    * navegación a ella la construya de nuevo.
+    * 
+    * @param viewName Nombre de la vista registrada
+    */
+   public void evictView(String viewName) {
+      viewCache.remove(viewName);
+   }
+
+   /**
+    * Descarta todas las vistas guardadas en la caché.
+    */
+   public void clearViewCache() {
+      viewCache.clear();
    }
 
    /**
@@ -92,7 +229,8 @@ public class NavigationController {
 
    /**
     * Navega a una vista registrada por su nombre.
-    * Utiliza el factory registrado para crear la instancia de la vista.
+    * Si la vista se registró con caché y ya está construida, reutiliza su escena;
+    * en otro caso utiliza el factory registrado para crear la instancia de la vista.
     * 
     * @param viewName Nombre de la vista registrada
     */
@@ -106,8 +244,17 @@ public class NavigationController {
          return;
       }
 
+      IView cached = viewCache.get(viewName);
+      if (cached != null && cached.refresh(stage)) {
+         currentView = cached;
+         return;
+      }
+
       currentView = factory.create();
       currentView.start(stage);
+      if (cachedViewNames.contains(viewName)) {
+         viewCache.put(viewName, currentView);
+      }
    }
 
    /**
@@ -136,13 +283,14 @@ public class NavigationController {
 
    /**
     * Inicializa la primera vista de la aplicación.
-    * Muestra la pantalla de inicio de sesión al arrancar.
+    * Muestra la pantalla de inicio de sesión al arrancar y la guarda en la caché.
     * 
     * @param primaryStage Stage principal de JavaFX
     */
    public void initializeView(Stage primaryStage) {
-      currentView = new LoginView(menuController, this);
+      currentView = viewRegistry.get("login").create();
       currentView.start(primaryStage);
+      viewCache.put("login", currentView);
    }
 
    /**
@@ -156,6 +304,16 @@ public class NavigationController {
       navigateToView(historyView);
    }
 
+   /**
+    * Navega a la vista de historial de un usuario.
+    * Las estadísticas se muestran a partir de los totales del usuario.
+    * 
+    * @param user Usuario cuyo historial se mostrará
+    */
+   public void navigateToHistory(User user) {
+      navigateToView(new HistoryView(this, user));
+   }
+
    /**
     * Navega a la vista de deployment (colocación de barcos) del primer jugador.
     * Crea un nuevo tablero e inicializa el controlador de deployment.
@@ -166,15 +324,49 @@ public class NavigationController {
       Stage stage = getCurrentStage();
       if (stage == null) return;
 
-      Board playerBoard = new Board();
+      Board playerBoard = new Board(boardConfig);
       User currentPlayer = menuController.getLoggedUsers().isEmpty() ? 
                            null : menuController.getLoggedUsers().get(0);
 
-      DeploymentView deploymentView = new DeploymentView(this, gameMode, currentPlayer.getUsername());
+      DeploymentView deploymentView = takePrebuilt("deployment:" + gameMode,
+            deploymentKey(gameMode, currentPlayer.getUsername()), DeploymentView.class,
+            () -> new DeploymentView(this, gameMode, currentPlayer.getUsername(), boardConfig.getSize()));
       currentView = deploymentView;
       deploymentView.start(stage);
 
       new DeploymentController(playerBoard, deploymentView, this);
+
+      // Mientras el jugador coloca sus barcos se construye la siguiente pantalla
+      if (gameMode.equals("PVP")) {
+         User nextPlayer = menuController.getLoggedUsers().size() > 1 ?
+                           menuController.getLoggedUsers().get(1) : null;
+         if (nextPlayer != null) {
+            String nextName = nextPlayer.getUsername();
+            int size = boardConfig.getSize();
+            prebuild("transition", nextName + ":" + gameMode,
+                  () -> new TransitionView(this, nextName, gameMode));
+            prebuild("deployment:second", deploymentKey(gameMode, nextName),
+                  () -> new DeploymentView(this, gameMode, nextName, size));
+         }
+      } else {
+         prepareGame(currentPlayer.getUsername(), null, gameMode);
+      }
+   }
+
+   /**
+    * Construye en segundo plano la vista de deployment del primer jugador para un modo de juego,
+    * de modo que esté lista si el jugador elige ese modo.
+    * Se invoca desde la pantalla de selección de modo.
+    * 
+    * @param gameMode Modo de juego (PVP o PVC)
+    */
+   public void prepareDeployment(String gameMode) {
+      if (menuController.getLoggedUsers().isEmpty()) return;
+
+      String username = menuController.getLoggedUsers().get(0).getUsername();
+      int size = boardConfig.getSize();
+      prebuild("deployment:" + gameMode, deploymentKey(gameMode, username),
+            () -> new DeploymentView(this, gameMode, username, size));
    }
 
    /**
@@ -192,7 +384,8 @@ public class NavigationController {
          return;
       }
 
-      TransitionView transitionView = new TransitionView(this, nextPlayer.getUsername(), gameMode);
+      TransitionView transitionView = takePrebuilt("transition", nextPlayer.getUsername() + ":" + gameMode,
+            TransitionView.class, () -> new TransitionView(this, nextPlayer.getUsername(), gameMode));
       navigateToView(transitionView);
    }
 
@@ -206,7 +399,7 @@ public class NavigationController {
       Stage stage = getCurrentStage();
       if (stage == null) return;
 
-      Board player2Board = new Board();
+      Board player2Board = new Board(boardConfig);
       User player2 = menuController.getLoggedUsers().size() > 1 ?
                      menuController.getLoggedUsers().get(1) : null;
 
@@ -215,11 +408,15 @@ public class NavigationController {
          return;
       }
 
-      DeploymentView deploymentView = new DeploymentView(this, gameMode, player2.getUsername());
+      DeploymentView deploymentView = takePrebuilt("deployment:second",
+            deploymentKey(gameMode, player2.getUsername()), DeploymentView.class,
+            () -> new DeploymentView(this, gameMode, player2.getUsername(), boardConfig.getSize()));
       currentView = deploymentView;
       deploymentView.start(stage);
 
       new DeploymentController(player2Board, deploymentView, this);
+
+      prepareGame(menuController.getLoggedUsers().get(0).getUsername(), player2.getUsername(), gameMode);
    }
 
    /**
@@ -241,7 +438,7 @@ public class NavigationController {
 
       if (gameMode.equals("PVC")) {
          // Modo Player vs CPU: generar tablero aleatorio para la CPU
-         player2Board = new Board();
+         player2Board = new Board(player1Board.getConfig());
          Board.placeShipsRandomly(player2Board);
          player2 = null;
       } else {
@@ -250,11 +447,107 @@ public class NavigationController {
                    menuController.getLoggedUsers().get(1).getUsername() : null;
       }
 
-      GameView gameView = new GameView(this, player1, player2, gameMode);
+      String opponent = player2;
+      GameView gameView = takePrebuilt("game", gameKey(player1, opponent, gameMode, player1Board.getSize()),
+            GameView.class, () -> new GameView(this, player1, opponent, gameMode, player1Board.getSize()));
       currentView = gameView;
       gameView.start(stage);
 
-      new GameController(player1Board, player2Board, gameView, menuController, this);
+      new GameController(player1Board, player2Board, gameView, menuController, this, cpuDifficulty);
+   }
+
+   /**
+    * Construye en segundo plano la vista de batalla que seguirá al deployment actual.
+    * 
+    * @param player1 Nombre del primer jugador
+    * @param player2 Nombre del segundo jugador, o null si juega la CPU
+    * @param gameMode Modo de juego (PVP o PVC)
+    */
+   private void prepareGame(String player1, String player2, String gameMode) {
+      int size = boardConfig.getSize();
+      prebuild("game", gameKey(player1, player2, gameMode, size),
+            () -> new GameView(this, player1, player2, gameMode, size));
+   }
+
+   /**
+    * Construye una vista en segundo plano y la guarda para la pantalla indicada.
+    * Si ya hay una vista para esa pantalla con la misma clave, no hace nada;
+    * si la clave es distinta, la vista anterior se descarta.
+    * 
+    * @param slot Pantalla para la que se construye la vista
+    * @param key Clave con los datos que determinan el contenido de la vista
+    * @param factory Factory que crea la vista; se ejecuta en el hilo de segundo plano
+    */
+   private void prebuild(String slot, String key, Supplier<? extends PreparableView> factory) {
+      PrebuiltView current = prebuiltViews.get(slot);
+      if (current != null) {
+         if (current.key.equals(key)) return;
+         current.view.cancel(false);
+      }
+
+      Future<PreparableView> view = prebuildExecutor.submit(() -> {
+         PreparableView prepared = factory.get();
+         prepared.prepare();
+         return prepared;
+      });
+      prebuiltViews.put(slot, new PrebuiltView(key, view));
+   }
+
+   /**
+    * Obtiene la vista construida en segundo plano para una pantalla, o crea una nueva
+    * si no la hay, si corresponde a otros datos o si todavía no terminó de construirse.
+    * Nunca espera al hilo de segundo plano.
+    * 
+    * @param <T> Tipo de la vista
+    * @param slot Pantalla que se va a mostrar
+    * @param key Clave con los datos que determinan el contenido de la vista
+    * @param type Clase de la vista
+    * @param factory Factory que crea la vista si no hay una construida
+    * @return Vista lista para mostrarse con start
+    */
+   private <T extends PreparableView> T takePrebuilt(String slot, String key, Class<T> type,
+                                                     Supplier<T> factory) {
+      PrebuiltView prebuilt = prebuiltViews.remove(slot);
+      if (prebuilt == null) {
+         return factory.get();
+      }
+      if (!prebuilt.key.equals(key) || !prebuilt.view.isDone()) {
+         prebuilt.view.cancel(false);
+         return factory.get();
+      }
+
+      try {
+         return type.cast(prebuilt.view.get());
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      } catch (ExecutionException | CancellationException e) {
+         System.err.println("ERROR: No se pudo construir la vista en segundo plano: " + e.getMessage());
+      }
+      return factory.get();
+   }
+
+   /**
+    * Crea la clave de una vista de deployment.
+    * 
+    * @param gameMode Modo de juego
+    * @param username Nombre del jugador que coloca sus barcos
+    * @return Clave de la vista
+    */
+   private String deploymentKey(String gameMode, String username) {
+      return gameMode + ":" + username + ":" + boardConfig.getSize();
+   }
+
+   /**
+    * Crea la clave de una vista de batalla.
+    * 
+    * @param player1 Nombre del primer jugador
+    * @param player2 Nombre del segundo jugador, o null si juega la CPU
+    * @param gameMode Modo de juego
+    * @param size Tamaño de los tableros
+    * @return Clave de la vista
+    */
+   private static String gameKey(String player1, String player2, String gameMode, int size) {
+      return player1 + ":" + player2 + ":" + gameMode + ":" + size;
    }
 
    /**
@@ -295,6 +588,33 @@ public class NavigationController {
       }
    }
 
+   /**
+    * Vista construida o en construcción en segundo plano, junto con la clave
+    * de los datos para los que se construyó.
+    */
+   private static final class PrebuiltView {
+      /**
+       * Clave de los datos que determinan el contenido de la vista.
+       */
+      private final String key;
+
+      /**
+       * Resultado de la construcción en segundo plano.
+       */
+      private final Future<PreparableView> view;
+
+      /**
+       * Constructor de la vista preconstruida.
+       * 
+       * @param key Clave de los datos de la vista
+       * @param view Resultado de la construcción en segundo plano
+       */
+      private PrebuiltView(String key, Future<PreparableView> view) {
+         this.key = key;
+         this.view = view;
+      }
+   }
+
    /**
     * Clase interna para iniciar la aplicación JavaFX.
     * Extiende Application de JavaFX e inicializa el sistema de controladores.
@@ -303,17 +623,35 @@ public class NavigationController {
     * @version 1.0
     */
    public static class NavigationApplication extends Application {
+      /**
+       * Controlador del menú, cuya persistencia se cierra al salir.
+       */
+      private MenuController menuController;
+
       /**
        * Método de inicio de la aplicación JavaFX.
        * Crea los controladores principales e inicializa la primera vista.
+       * Al cerrar la ventana se escriben los guardados pendientes.
        * 
        * @param primaryStage Stage principal proporcionado por JavaFX
        */
       @Override
       public void start(Stage primaryStage) {
-         MenuController menuController = new MenuController();
+         menuController = new MenuController();
          NavigationController controller = new NavigationController(menuController);
+         primaryStage.setOnCloseRequest(e -> menuController.shutdown());
          controller.initializeView(primaryStage);
       }
+
+      /**
+       * Método de cierre de la aplicación JavaFX.
+       * Escribe los guardados pendientes si la aplicación termina sin cerrar la ventana.
+       */
+      @Override
+      public void stop() {
+         if (menuController != null) {
+            menuController.shutdown();
+         }
+      }
    }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.navyattack.main;
+
+import com.navyattack.model.BoardConfig;
+import com.navyattack.model.CPUDifficulty;
+import com.navyattack.model.PlayerSide;
+import com.navyattack.model.Tournament;
+import com.navyattack.model.TournamentResult;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Punto de entrada de línea de comandos para enfrentar dos dificultades de CPU
+ * sin abrir la interfaz gráfica.
+ *
+ * Uso: {@code java -cp target/classes com.navyattack.main.TournamentRunner [opciones]}
+ * <ul>
+ *     <li>{@code --games N}: número de partidas (1000 por defecto)</li>
+ *     <li>{@code --p1 DIFICULTAD}, {@code --p2 DIFICULTAD}: EASY, MEDIUM o HARD (EASY y MEDIUM por defecto)</li>
+ *     <li>{@code --seed S}: semilla del torneo (0 por defecto)</li>
+ *     <li>{@code --size N}: celdas por lado del tablero (10 por defecto)</li>
+ *     <li>{@code --think MS}: límite de tiempo por turno de HARD (50 por defecto)</li>
+ *     <li>{@code --threads N}: hilos del pool (todos los núcleos por defecto)</li>
+ * </ul>
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public class TournamentRunner {
+
+    /**
+     * Método principal que lee las opciones, juega el torneo e imprime el informe.
+     *
+     * @param args Argumentos de línea de comandos
+     */
+    public static void main(String[] args) {
+        int games = 1000;
+        CPUDifficulty first = CPUDifficulty.EASY;
+        CPUDifficulty second = CPUDifficulty.MEDIUM;
+        long seed = 0;
+        int size = BoardConfig.standard().getSize();
+        long thinkTime = 50;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--games" -> games = Integer.parseInt(value);
+                    case "--p1" -> first = CPUDifficulty.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--p2" -> second = CPUDifficulty.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--size" -> size = Integer.parseInt(value);
+                    case "--think" -> thinkTime = Long.parseLong(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+
+            Tournament tournament = new Tournament(BoardConfig.ofSize(size), first, second, thinkTime);
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            TournamentResult result;
+            try {
+                result = tournament.play(games, seed, pool);
+            } finally {
+                pool.shutdown();
+            }
+            printReport(result, first, second, size, seed, threads);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println("Usage: TournamentRunner [--games N] [--p1 EASY|MEDIUM|HARD] [--p2 EASY|MEDIUM|HARD]"
+                    + " [--seed S] [--size N] [--think MS] [--threads N]");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Imprime las tasas de victoria, la distribución de disparos y el rendimiento del torneo.
+     *
+     * @param result Resultados del torneo
+     * @param first Dificultad del primer contendiente
+     * @param second Dificultad del segundo contendiente
+     * @param size Celdas por lado del tablero
+     * @param seed Semilla del torneo
+     * @param threads Hilos usados
+     */
+    private static void printReport(TournamentResult result, CPUDifficulty first, CPUDifficulty second,
+                                    int size, long seed, int threads) {
+        System.out.printf(Locale.ROOT, "%d games on %dx%d boards, seed %d, %d threads%n",
+                result.getGames(), size, size, seed, threads);
+        printContender(result, PlayerSide.PLAYER_1, "P1 " + first);
+        printContender(result, PlayerSide.PLAYER_2, "P2 " + second);
+        System.out.printf(Locale.ROOT, "%.1f games/s (%.2f s)%n",
+                result.getGamesPerSecond(), result.getElapsedNanos() / 1e9);
+    }
+
+    /**
+     * Imprime las estadísticas de un contendiente.
+     *
+     * @param result Resultados del torneo
+     * @param side Contendiente
+     * @param label Etiqueta a mostrar
+     */
+    private static void printContender(TournamentResult result, PlayerSide side, String label) {
+        System.out.printf(Locale.ROOT, "%-10s wins %6d (%5.1f%%)  shots to win: mean %.1f, p10 %d, p50 %d, p90 %d%n",
+                label, result.getWins(side), result.getWinRate(side) * 100,
+                result.getMeanShotsToWin(side),
+                result.getShotsToWinPercentile(side, 10),
+                result.getShotsToWinPercentile(side, 50),
+                result.getShotsToWinPercentile(side, 90));
+
+        int[] histogram = result.getShotsToWinHistogram(side);
+        int max = 0;
+        for (int count : histogram) {
+            max = Math.max(max, count);
+        }
+        for (int shots = 0; shots < histogram.length; shots++) {
+            if (histogram[shots] > 0) {
+                int bar = (int) Math.ceil(40.0 * histogram[shots] / max);
+                System.out.printf(Locale.ROOT, "  %4d | %-40s %d%n", shots, "#".repeat(bar), histogram[shots]);
+            }
+        }
+    }
+}
@@ -13,7 +13,8 @@ public class Authentication {
     /**
      * Valida las credenciales de inicio de sesión de un usuario.
      * Verifica que el usuario exista, que la contraseña no esté vacía
-     * y que coincida con la contraseña almacenada.
+     * y que coincida con la contraseña almacenada, comparando su hash para no
+     * tener que leer al usuario completo del registro.
      * 
      * @param username Nombre de usuario (no utilizado en la validación actual)
      * @param password Contraseña proporcionada por el usuario
@@ -24,7 +25,7 @@ public class Authentication {
         if (user == null || password.isEmpty()) {
             return false;
         }
-        if (!user.getPassword().equals(password)) {
+        if (!user.matchesPassword(password)) {
             	return false;
         }
         return true;
@@ -14,9 +14,19 @@ import java.util.Map;
  * - Lógica de validación y colocación de barcos
  * - Lógica de ataque y detección de impactos
  * 
- * El tablero tiene dimensiones estándar de 10x10 celdas y gestiona
- * todos los aspectos del juego relacionados con la colocación de barcos
- * y los ataques realizados.
+ * Las dimensiones del tablero y la composición de la flota se definen con un
+ * {@link BoardConfig}; por defecto se usa el tablero estándar de 10x10 celdas.
+ * El tablero gestiona todos los aspectos del juego relacionados con la
+ * colocación de barcos y los ataques realizados.
+ *
+ * Internamente el estado de las celdas se delega a un {@link CellStorage}: bitboards
+ * densos (máscaras de barcos, impactos y fallos empaquetadas en palabras {@code long})
+ * para tableros normales, o un mapa disperso de celdas ocupadas para tableros
+ * muy grandes y casi vacíos. La elección es automática según la densidad de la flota.
+ *
+ * Los cambios de las celdas (barcos colocados, impactos, fallos y reinicios) se avisan
+ * a los {@link CellChangeListener} registrados, de modo que la interfaz puede actualizar
+ * solo las celdas afectadas.
  *
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
@@ -25,14 +35,39 @@ public class Board {
 
     /**
      * Tamaño estándar del tablero (10x10 celdas).
+     * Los tableros con otras dimensiones se crean a partir de un {@link BoardConfig}.
      */
     public static final int BOARD_SIZE = 10;
 
     /**
-     * Grid bidimensional que representa el estado de cada celda del tablero.
-     * Cada celda puede estar vacía, ocupada por un barco, impactada o fallada.
+     * Configuración del tablero (dimensiones y flota).
+     */
+    private final BoardConfig config;
+
+    /**
+     * Número de celdas por lado del tablero.
+     */
+    private final int size;
+
+    /**
+     * Densidad de flota (celdas con barco / celdas totales) por debajo de la cual
+     * se usa el almacenamiento disperso.
      */
-    private final CellState[][] grid;
+    public static final double SPARSE_DENSITY_THRESHOLD = 0.01;
+
+    /**
+     * Propiedad del sistema que fuerza el tipo de almacenamiento de las celdas.
+     * Acepta "dense", "sparse" o "auto" (por defecto, elegido según la densidad).
+     */
+    public static final String STORAGE_PROPERTY = "navyattack.board.storage";
+
+    /**
+     * Estado de las celdas del tablero (barcos, impactos y fallos) junto con
+     * el índice de barcos por celda. Cada barco se identifica por
+     * {@code índice del barco en ships + 1}, de modo que encontrar el barco
+     * impactado es una sola consulta.
+     */
+    private final CellStorage cells;
 
     /**
      * Lista de barcos que han sido colocados en el tablero.
@@ -46,31 +81,99 @@ public class Board {
     private final Map<ShipType, Integer> availableShips;
 
     /**
-     * Constructor que inicializa un tablero vacío.
-     * Configura el grid en estado EMPTY y establece las cantidades
+     * Receptores de los cambios en las celdas.
+     */
+    private final List<CellChangeListener> listeners;
+
+    /**
+     * Constructor que inicializa un tablero vacío con la configuración estándar.
+     * Configura todas las celdas en estado EMPTY y establece las cantidades
      * iniciales de cada tipo de barco según las reglas del juego.
      */
     public Board() {
-        this.grid = new CellState[BOARD_SIZE][BOARD_SIZE];
+        this(BoardConfig.standard());
+    }
+
+    /**
+     * Constructor que inicializa un tablero vacío con una configuración específica.
+     * Las dimensiones y las cantidades iniciales de cada tipo de barco se toman
+     * de la configuración.
+     *
+     * @param config Configuración del tablero (dimensiones y flota)
+     */
+    public Board(BoardConfig config) {
+        this.config = config;
+        this.size = config.getSize();
+        this.cells = createStorage(config);
         this.ships = new ArrayList<>();
         this.availableShips = initializeAvailableShips();
-        initializeGrid();
+        this.listeners = new ArrayList<>();
     }
 
     /**
-     * Inicializa el grid con todas las celdas en estado EMPTY.
+     * Registra un receptor de los cambios en las celdas.
+     *
+     * @param listener Receptor a registrar
      */
-    private void initializeGrid() {
-        for (int row = 0; row < BOARD_SIZE; row++) {
-            for (int col = 0; col < BOARD_SIZE; col++) {
-                grid[row][col] = CellState.EMPTY;
-            }
+    public void addCellChangeListener(CellChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Elimina un receptor de los cambios en las celdas.
+     *
+     * @param listener Receptor a eliminar
+     */
+    public void removeCellChangeListener(CellChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Avisa a los receptores del cambio de estado de una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param state Nuevo estado de la celda
+     */
+    private void fireCellChanged(int row, int col, CellState state) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).cellChanged(row, col, state);
         }
     }
 
     /**
-     * Inicializa las cantidades disponibles de cada tipo de barco.
-     * Según reglas estándar de Batalla Naval:
+     * Elige el almacenamiento de celdas según la densidad de la flota.
+     * Los tableros casi vacíos (por ejemplo, la flota estándar en un tablero de
+     * 1000x1000) usan un mapa disperso; el resto usa bitboards densos.
+     * La propiedad {@link #STORAGE_PROPERTY} permite forzar cualquiera de los dos.
+     *
+     * @param config Configuración del tablero
+     * @return Almacenamiento de celdas adecuado para la configuración
+     */
+    private static CellStorage createStorage(BoardConfig config) {
+        String mode = System.getProperty(STORAGE_PROPERTY, "auto");
+        boolean sparse = switch (mode) {
+            case "dense" -> false;
+            case "sparse" -> true;
+            default -> (double) config.getTotalShipCells() / config.getCellCount() < SPARSE_DENSITY_THRESHOLD;
+        };
+        return sparse ? new SparseCellStorage() : new DenseCellStorage(config.getCellCount());
+    }
+
+    /**
+     * Convierte una posición (fila, columna) en el índice lineal de la celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @return Índice de la celda
+     */
+    private int cellIndex(int row, int col) {
+        return row * size + col;
+    }
+
+    /**
+     * Inicializa las cantidades disponibles de cada tipo de barco a partir de la flota
+     * de la configuración. Con las reglas estándar de Batalla Naval:
      * - 1 Portaaviones (Carrier)
      * - 2 Cruceros (Cruiser)
      * - 3 Destructores (Destroyer)
@@ -79,12 +182,7 @@ public class Board {
      * @return Map con las cantidades iniciales de cada tipo de barco
      */
     private Map<ShipType, Integer> initializeAvailableShips() {
-        Map<ShipType, Integer> ships = new HashMap<>();
-        ships.put(ShipType.CARRY, 1);
-        ships.put(ShipType.CRUISER, 2);
-        ships.put(ShipType.DESTROYER, 3);
-        ships.put(ShipType.SUBMARINE, 4);
-        return ships;
+        return new HashMap<>(config.getFleet());
     }
 
     /**
@@ -95,7 +193,7 @@ public class Board {
      * @return true si la posición es válida (dentro del tablero), false en caso contrario
      */
     private boolean isValidPosition(int row, int col) {
-        return row >= 0 && row < BOARD_SIZE && col >= 0 && col < BOARD_SIZE;
+        return row >= 0 && row < size && col >= 0 && col < size;
     }
 
     /**
@@ -126,23 +224,18 @@ public class Board {
             return false;
         }
 
-        // Calcular las posiciones que ocuparía el barco
-        List<int[]> positions = ship.calculatePositions(row, col);
-
-        // Verificar que todas las posiciones sean válidas y estén vacías
-        for (int[] pos : positions) {
-            int r = pos[0];
-            int c = pos[1];
-
-            // Verificar límites del tablero
-            if (!isValidPosition(r, c)) {
-                return false;
-            }
+        // Verificar límites del tablero para el extremo inicial y final del barco
+        boolean horizontal = ship.getOrientation() == Orientation.HORIZONTAL;
+        int length = ship.getLength();
+        int endRow = horizontal ? row : row + length - 1;
+        int endCol = horizontal ? col + length - 1 : col;
+        if (!isValidPosition(row, col) || !isValidPosition(endRow, endCol)) {
+            return false;
+        }
 
-            // Verificar que la celda esté vacía
-            if (grid[r][c] != CellState.EMPTY) {
-                return false;
-            }
+        // Verificar que todas las celdas estén vacías
+        if (!cells.isRunFree(cellIndex(row, col), length, horizontal ? 1 : size)) {
+            return false;
         }
 
         return true;
@@ -150,7 +243,8 @@ public class Board {
 
     /**
      * Coloca un barco en el tablero en la posición especificada.
-     * Actualiza el grid, registra el barco y decrementa la cantidad disponible.
+     * Actualiza el estado de las celdas y el índice de barcos, registra el barco
+     * y decrementa la cantidad disponible.
      *
      * @param ship Barco a colocar
      * @param row Fila inicial donde se colocará el barco
@@ -170,15 +264,21 @@ public class Board {
         ship.place(row, col);
 
         // Obtener las posiciones que ocupa el barco
-        List<int[]> positions = ship.getPositions();
-
-        // Marcar las celdas en el grid como ocupadas
-        for (int[] pos : positions) {
-            grid[pos[0]][pos[1]] = CellState.SHIP;
-        }
+        ShipPositions positions = ship.getPositions();
 
         // Agregar el barco a la lista de barcos colocados
         ships.add(ship);
+        int shipId = ships.size();
+
+        // Marcar las celdas como ocupadas y asociarlas al barco
+        for (int i = 0; i < positions.size(); i++) {
+            cells.placeShip(positions.cellIndex(i, size), shipId);
+        }
+        if (!listeners.isEmpty()) {
+            for (int i = 0; i < positions.size(); i++) {
+                fireCellChanged(positions.rowAt(i), positions.colAt(i), CellState.SHIP);
+            }
+        }
 
         // Decrementar la cantidad disponible de este tipo de barco
         decrementAvailableShip(ship.getType());
@@ -200,7 +300,7 @@ public class Board {
     /**
      * Procesa un ataque en una posición específica del tablero.
      * Determina si el ataque impacta un barco, falla o es inválido.
-     * Actualiza el estado del grid y registra impactos en los barcos.
+     * Actualiza el estado de las celdas y registra impactos en los barcos.
      *
      * @param row Fila atacada
      * @param col Columna atacada
@@ -212,7 +312,8 @@ public class Board {
             return AttackResult.INVALID_POSITION;
         }
 
-        CellState currentState = grid[row][col];
+        int index = cellIndex(row, col);
+        CellState currentState = cells.getState(index);
 
         // Verificar si ya fue atacada
         if (currentState == CellState.HIT || currentState == CellState.MISS) {
@@ -222,12 +323,13 @@ public class Board {
         // Procesar el ataque
         if (currentState == CellState.SHIP) {
             // Impacto en un barco
-            grid[row][col] = CellState.HIT;
+            cells.markHit(index);
+            fireCellChanged(row, col, CellState.HIT);
 
-            // Encontrar el barco impactado y registrar el golpe
-            Ship hitShip = findShipAt(row, col);
+            // Encontrar el barco impactado y registrar el golpe en su segmento
+            Ship hitShip = shipAtIndex(index);
             if (hitShip != null) {
-                hitShip.registerHit();
+                hitShip.registerHit(hitShip.segmentAt(row, col));
 
                 // Verificar si el barco fue hundido
                 if (hitShip.isSunk()) {
@@ -239,26 +341,36 @@ public class Board {
         }
 
         // Fallo - agua
-        grid[row][col] = CellState.MISS;
+        cells.markMiss(index);
+        fireCellChanged(row, col, CellState.MISS);
         return AttackResult.MISS;
     }
 
+    /**
+     * Obtiene el barco que ocupa una celda a partir del índice de barcos por celda.
+     *
+     * @param index Índice de la celda
+     * @return Ship si hay un barco en esa celda, null en caso contrario
+     */
+    private Ship shipAtIndex(int index) {
+        int shipId = cells.shipIdAt(index);
+        return shipId == 0 ? null : ships.get(shipId - 1);
+    }
+
     /**
      * Encuentra el barco que ocupa una posición específica del tablero.
+     * La búsqueda es de tiempo constante gracias al índice de barcos por celda.
      *
      * @param row Fila a buscar
      * @param col Columna a buscar
      * @return Ship si hay un barco en esa posición, null en caso contrario
+     *         (incluidas las posiciones fuera del tablero)
      */
-    private Ship findShipAt(int row, int col) {
-        for (Ship ship : ships) {
-            for (int[] pos : ship.getPositions()) {
-                if (pos[0] == row && pos[1] == col) {
-                    return ship;
-                }
-            }
+    public Ship getShipAt(int row, int col) {
+        if (!isValidPosition(row, col)) {
+            return null;
         }
-        return null;
+        return shipAtIndex(cellIndex(row, col));
     }
 
     /**
@@ -272,13 +384,7 @@ public class Board {
             return false;
         }
 
-        for (Ship ship : ships) {
-            if (!ship.isSunk()) {
-                return false;
-            }
-        }
-
-        return true;
+        return getRemainingShipCells() == 0;
     }
 
     /**
@@ -305,7 +411,34 @@ public class Board {
                     String.format("Position (%d, %d) is out of bounds", row, col)
             );
         }
-        return grid[row][col];
+        return cells.getState(cellIndex(row, col));
+    }
+
+    /**
+     * Obtiene la configuración con la que se creó el tablero.
+     *
+     * @return Configuración del tablero (dimensiones y flota)
+     */
+    public BoardConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Obtiene el número de celdas por lado del tablero.
+     *
+     * @return Tamaño del lado del tablero
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Indica si el tablero usa el almacenamiento disperso de celdas.
+     *
+     * @return true si las celdas se guardan en un mapa disperso, false si usan bitboards
+     */
+    boolean usesSparseStorage() {
+        return cells instanceof SparseCellStorage;
     }
 
     /**
@@ -347,15 +480,7 @@ public class Board {
      * @return Número de celdas con barcos intactas
      */
     public int getRemainingShipCells() {
-        int count = 0;
-        for (int row = 0; row < BOARD_SIZE; row++) {
-            for (int col = 0; col < BOARD_SIZE; col++) {
-                if (grid[row][col] == CellState.SHIP) {
-                    count++;
-                }
-            }
-        }
-        return count;
+        return cells.getRemainingShipCells();
     }
 
     /**
@@ -371,16 +496,16 @@ public class Board {
         sb.append("  ");
 
         // Encabezado de columnas
-        for (int col = 0; col < BOARD_SIZE; col++) {
+        for (int col = 0; col < size; col++) {
             sb.append(col).append(" ");
         }
         sb.append("\n");
 
         // Filas del tablero
-        for (int row = 0; row < BOARD_SIZE; row++) {
+        for (int row = 0; row < size; row++) {
             sb.append(row).append(" ");
-            for (int col = 0; col < BOARD_SIZE; col++) {
-                char symbol = switch (grid[row][col]) {
+            for (int col = 0; col < size; col++) {
+                char symbol = switch (getCellState(row, col)) {
                     case EMPTY -> '·';
                     case SHIP -> 'S';
                     case HIT -> 'X';
@@ -408,8 +533,8 @@ public class Board {
      * Útil para tests o reiniciar el juego.
      */
     public void reset() {
-        // Limpiar grid
-        initializeGrid();
+        // Limpiar celdas
+        cells.clear();
 
         // Limpiar barcos
         ships.clear();
@@ -417,53 +542,34 @@ public class Board {
         // Restaurar cantidades disponibles
         availableShips.clear();
         availableShips.putAll(initializeAvailableShips());
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).boardReset();
+        }
     }
 
     /**
-     * Coloca barcos aleatoriamente en el tablero.
-     * Intenta colocar todos los barcos de todos los tipos en posiciones válidas aleatorias.
-     * Utiliza hasta 100 intentos por barco para encontrar una posición válida.
+     * Coloca aleatoriamente todos los barcos que el tablero tiene disponibles.
+     * Cada barco se coloca de forma uniforme entre sus colocaciones legales y,
+     * si hace falta, se retrocede para garantizar que la flota completa quepa.
      *
      * @param board Tablero donde se colocarán los barcos aleatoriamente
+     * @throws IllegalStateException si la flota restante no cabe de ninguna forma
+     * @see FleetPlacer
      */
     public static void placeShipsRandomly(Board board) {
-        java.util.Random random = new java.util.Random();
-
-        for (ShipType type : ShipType.values()) {
-            int quantity = board.getRemainingShips(type);
-
-            for (int i = 0; i < quantity; i++) {
-                boolean placed = false;
-                int attempts = 0;
-
-                while (!placed && attempts < 100) {
-                    int row = random.nextInt(Board.BOARD_SIZE);
-                    int col = random.nextInt(Board.BOARD_SIZE);
-
-                    Ship ship = new Ship(type);
-
-                    if (random.nextBoolean()) {
-                        ship.rotate();
-                    }
-
-                    if (board.canPlaceShip(ship, row, col)) {
-                        board.placeShip(ship, row, col);
-                        placed = true;
-
-                        if (attempts > 0) {
-                            System.out.println("  " + type + " colocado en intento " + (attempts + 1));
-                        }
-                    }
-
-                    attempts++;
-                }
+        new FleetPlacer().placeRemaining(board);
+    }
 
-                if (!placed) {
-                    System.err.println("WARNING: No se pudo colocar " + type + " después de 100 intentos");
-                    System.err.println("Estado del tablero:");
-                    System.err.println(board.toString());
-                }
-            }
-        }
+    /**
+     * Coloca aleatoriamente todos los barcos disponibles usando una semilla fija.
+     * Con la misma semilla y el mismo estado inicial se obtiene la misma flota.
+     *
+     * @param board Tablero donde se colocarán los barcos aleatoriamente
+     * @param seed Semilla del generador aleatorio
+     * @throws IllegalStateException si la flota restante no cabe de ninguna forma
+     */
+    public static void placeShipsRandomly(Board board, long seed) {
+        new FleetPlacer(seed).placeRemaining(board);
     }
-}
\ No newline at end of file
+}
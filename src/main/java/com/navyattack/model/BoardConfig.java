@@ -0,0 +1,203 @@
+package com.navyattack.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuración de un tablero de NavyAttack.
+ * Define las dimensiones del tablero (siempre cuadrado) y la composición de la flota,
+ * es decir, cuántos barcos de cada tipo debe colocar cada jugador.
+ *
+ * La configuración es inmutable, por lo que puede compartirse entre los tableros
+ * de ambos jugadores, la CPU y los componentes de la vista de una misma partida.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public final class BoardConfig {
+
+    /**
+     * Tamaño mínimo permitido para el lado del tablero.
+     */
+    public static final int MIN_SIZE = 1;
+
+    /**
+     * Tamaño máximo permitido para el lado del tablero.
+     */
+    public static final int MAX_SIZE = 4096;
+
+    /**
+     * Número de celdas por lado del tablero.
+     */
+    private final int size;
+
+    /**
+     * Cantidad de barcos de cada tipo que componen la flota.
+     */
+    private final Map<ShipType, Integer> fleet;
+
+    /**
+     * Constructor de la configuración.
+     * Valida que el tamaño esté dentro de los límites permitidos y que la flota
+     * quepa en el tablero.
+     *
+     * @param size Número de celdas por lado del tablero
+     * @param fleet Cantidad de barcos de cada tipo (los tipos ausentes se consideran 0)
+     * @throws IllegalArgumentException si el tamaño o la flota no son válidos
+     */
+    public BoardConfig(int size, Map<ShipType, Integer> fleet) {
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Board size must be between %d and %d, got %d", MIN_SIZE, MAX_SIZE, size)
+            );
+        }
+
+        EnumMap<ShipType, Integer> copy = new EnumMap<>(ShipType.class);
+        long totalShips = 0;
+        long totalCells = 0;
+        for (ShipType type : ShipType.values()) {
+            int count = fleet == null ? 0 : fleet.getOrDefault(type, 0);
+            if (count < 0) {
+                throw new IllegalArgumentException("Ship count cannot be negative for " + type);
+            }
+            copy.put(type, count);
+            totalShips += count;
+            totalCells += (long) count * type.getLength();
+        }
+
+        if (totalShips > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Fleet cannot have more than " + Short.MAX_VALUE + " ships");
+        }
+        if (totalCells > (long) size * size) {
+            throw new IllegalArgumentException(
+                    String.format("Fleet needs %d cells but a %dx%d board only has %d",
+                            totalCells, size, size, (long) size * size)
+            );
+        }
+
+        this.size = size;
+        this.fleet = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Crea la configuración estándar del juego: tablero de 10x10 con
+     * 1 Portaaviones, 2 Cruceros, 3 Destructores y 4 Submarinos.
+     *
+     * @return Configuración estándar
+     */
+    public static BoardConfig standard() {
+        return ofSize(Board.BOARD_SIZE);
+    }
+
+    /**
+     * Crea una configuración con el tamaño indicado y la flota estándar.
+     *
+     * @param size Número de celdas por lado del tablero
+     * @return Configuración con la flota estándar
+     */
+    public static BoardConfig ofSize(int size) {
+        Map<ShipType, Integer> fleet = new EnumMap<>(ShipType.class);
+        fleet.put(ShipType.CARRY, 1);
+        fleet.put(ShipType.CRUISER, 2);
+        fleet.put(ShipType.DESTROYER, 3);
+        fleet.put(ShipType.SUBMARINE, 4);
+        return new BoardConfig(size, fleet);
+    }
+
+    /**
+     * Obtiene el número de celdas por lado del tablero.
+     *
+     * @return Tamaño del lado del tablero
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Obtiene el número total de celdas del tablero.
+     *
+     * @return Filas por columnas
+     */
+    public int getCellCount() {
+        return size * size;
+    }
+
+    /**
+     * Obtiene la cantidad de barcos de un tipo que componen la flota.
+     *
+     * @param type Tipo de barco
+     * @return Cantidad de barcos de ese tipo
+     */
+    public int getShipCount(ShipType type) {
+        return fleet.get(type);
+    }
+
+    /**
+     * Obtiene la composición completa de la flota.
+     *
+     * @return Mapa inmutable con la cantidad de barcos de cada tipo
+     */
+    public Map<ShipType, Integer> getFleet() {
+        return fleet;
+    }
+
+    /**
+     * Obtiene el número total de barcos de la flota.
+     *
+     * @return Suma de barcos de todos los tipos
+     */
+    public int getTotalShips() {
+        int total = 0;
+        for (int count : fleet.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Obtiene el número total de celdas que ocupa la flota completa.
+     *
+     * @return Suma de las longitudes de todos los barcos
+     */
+    public int getTotalShipCells() {
+        int total = 0;
+        for (Map.Entry<ShipType, Integer> entry : fleet.entrySet()) {
+            total += entry.getKey().getLength() * entry.getValue();
+        }
+        return total;
+    }
+
+    /**
+     * Compara dos configuraciones por tamaño y composición de flota.
+     *
+     * @param o Objeto a comparar
+     * @return true si ambas configuraciones son equivalentes
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BoardConfig other)) return false;
+        return size == other.size && fleet.equals(other.fleet);
+    }
+
+    /**
+     * Calcula el hash de la configuración.
+     *
+     * @return Código hash
+     */
+    @Override
+    public int hashCode() {
+        return 31 * size + fleet.hashCode();
+    }
+
+    /**
+     * Representación en String de la configuración.
+     *
+     * @return String con el tamaño y la flota
+     */
+    @Override
+    public String toString() {
+        return String.format("BoardConfig[%dx%d, fleet=%s]", size, size, fleet);
+    }
+}
@@ -1,65 +1,115 @@
 package com.navyattack.model;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Clase que simula una inteligencia artificial para jugar NavyAttack.
  * Implementa estrategias de ataque inteligente basadas en resultados previos,
  * alternando entre modo búsqueda (HUNT) para encontrar barcos y modo objetivo (TARGET)
  * para hundir barcos una vez detectados.
- * 
+ *
  * La IA utiliza patrones de ataque optimizados y aprende de los resultados
- * para mejorar la efectividad de sus ataques subsiguientes.
- * 
+ * para mejorar la efectividad de sus ataques subsiguientes. Según su
+ * {@link CPUDifficulty}, puede delegar la elección de objetivos en una
+ * {@link TargetingStrategy}, como el mapa de densidad de {@link DensityTargeting}.
+ *
+ * Todo el estado interno usa estructuras primitivas (un conjunto de bits para las celdas
+ * atacadas, una cola circular de enteros y celdas empaquetadas como {@code fila * tamaño + columna}),
+ * por lo que una partida completa con {@link #attackCell()} y
+ * {@link #processResult(AttackResult, int, Ship)} no crea objetos por disparo.
+ *
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
  */
-public class CPU {
+public class CPU implements PlayerStrategy {
 
     /**
-     * Tamaño del tablero de juego (10x10).
+     * Capacidad inicial de la cola de objetivos y de la lista de impactos.
      */
-    private static final int BOARD_SIZE = 10;
-    
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Número de celdas por lado del tablero enemigo.
+     */
+    private final int boardSize;
+
     /**
-     * Conjunto de posiciones que ya han sido atacadas.
-     * Almacena coordenadas en formato String para evitar ataques repetidos.
+     * Nivel de dificultad de la CPU.
      */
-    private final Set<String> attackedPositions;
-    
+    private final CPUDifficulty difficulty;
+
+    /**
+     * Estrategia que elige los objetivos, o null para usar la búsqueda clásica (EASY).
+     */
+    private final TargetingStrategy strategy;
+
+    /**
+     * Conjunto de bits con las celdas que ya han sido atacadas (un bit por celda).
+     */
+    private final long[] attacked;
+
     /**
-     * Cola de posiciones objetivo para atacar en modo TARGET.
-     * Contiene posiciones adyacentes a impactos previos.
+     * Conjunto de bits con las celdas del patrón de tablero de ajedrez que usa la búsqueda
+     * de la dificultad EASY, o null en las demás dificultades.
      */
-    private final Queue<int[]> targetQueue;
-    
+    private final long[] huntPattern;
+
+    /**
+     * Número de celdas atacadas.
+     */
+    private int attackCount;
+
+    /**
+     * Cola circular de celdas objetivo para atacar en modo TARGET.
+     * Contiene celdas adyacentes a impactos previos. Su capacidad es una potencia de 2.
+     */
+    private int[] targetQueue;
+
+    /**
+     * Posición del primer elemento de la cola de objetivos.
+     */
+    private int queueHead;
+
     /**
-     * Lista de posiciones donde se ha impactado un barco.
+     * Número de elementos en la cola de objetivos.
+     */
+    private int queueSize;
+
+    /**
+     * Celdas donde se ha impactado el barco que se está persiguiendo.
      * Se utiliza para rastrear barcos parcialmente hundidos.
      */
-    private final List<int[]> hitPositions;
-    
+    private int[] hitCells;
+
+    /**
+     * Número de celdas en la lista de impactos.
+     */
+    private int hitCount;
+
     /**
      * Generador de números aleatorios para ataques en modo HUNT.
      */
     private final Random random;
-    
+
     /**
      * Modo de ataque actual de la CPU.
      */
     private AttackMode currentMode;
-    
+
     /**
      * Dirección actual de ataque cuando se está siguiendo un barco.
      */
     private Direction currentDirection;
-    
+
     /**
-     * Posición del primer impacto en un barco.
+     * Celda del primer impacto en un barco, o -1 si no hay ninguno.
      * Se utiliza como referencia para determinar la dirección del barco.
      */
-    private int[] firstHit;
-    
+    private int firstHit;
+
     /**
      * Enumeración que define los modos de ataque de la CPU.
      */
@@ -68,7 +118,7 @@ public class CPU {
          * Modo búsqueda aleatoria para encontrar barcos.
          */
         HUNT,
-        
+
         /**
          * Modo ataque dirigido para hundir barcos detectados.
          */
@@ -83,192 +133,362 @@ public class CPU {
          * Dirección norte (arriba).
          */
         NORTH,
-        
+
         /**
          * Dirección sur (abajo).
          */
         SOUTH,
-        
+
         /**
          * Dirección este (derecha).
          */
         EAST,
-        
+
         /**
          * Dirección oeste (izquierda).
          */
         WEST,
-        
+
         /**
          * Sin dirección definida.
          */
         NONE
     }
-    
+
     /**
-     * Constructor de la CPU.
+     * Constructor de la CPU para el tablero estándar.
      * Inicializa el estado y estrategia de ataque en modo HUNT.
      */
     public CPU() {
-        this.attackedPositions = new HashSet<>();
-        this.targetQueue = new LinkedList<>();
-        this.hitPositions = new ArrayList<>();
-        this.random = new Random();
+        this(BoardConfig.standard());
+    }
+
+    /**
+     * Constructor de la CPU para un tablero con una configuración específica.
+     * Usa la dificultad MEDIUM.
+     *
+     * @param config Configuración del tablero que atacará la CPU
+     */
+    public CPU(BoardConfig config) {
+        this(config, CPUDifficulty.MEDIUM);
+    }
+
+    /**
+     * Constructor de la CPU con una dificultad específica.
+     * Inicializa el estado y estrategia de ataque en modo HUNT.
+     *
+     * @param config Configuración del tablero que atacará la CPU
+     * @param difficulty Nivel de dificultad
+     */
+    public CPU(BoardConfig config, CPUDifficulty difficulty) {
+        this(config, difficulty, MonteCarloTargeting.DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * Constructor de la CPU con una dificultad y un tiempo de pensamiento específicos.
+     * El tiempo de pensamiento solo se usa en la dificultad HARD, que devuelve el mejor
+     * ataque encontrado cuando se agota.
+     *
+     * @param config Configuración del tablero que atacará la CPU
+     * @param difficulty Nivel de dificultad
+     * @param thinkTimeMillis Presupuesto de tiempo por turno, en milisegundos
+     * @throws IllegalArgumentException si el tiempo de pensamiento no es positivo
+     */
+    public CPU(BoardConfig config, CPUDifficulty difficulty, long thinkTimeMillis) {
+        this(config, difficulty, thinkTimeMillis, new Random(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor de la CPU con una semilla fija, para partidas reproducibles.
+     * La dificultad HARD muestrea en el pool común.
+     *
+     * @param config Configuración del tablero que atacará la CPU
+     * @param difficulty Nivel de dificultad
+     * @param thinkTimeMillis Presupuesto de tiempo por turno, en milisegundos
+     * @param seed Semilla de los generadores aleatorios de la CPU
+     * @throws IllegalArgumentException si el tiempo de pensamiento no es positivo
+     */
+    public CPU(BoardConfig config, CPUDifficulty difficulty, long thinkTimeMillis, long seed) {
+        this(config, difficulty, thinkTimeMillis, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor de la CPU con una semilla fija y el pool donde muestrea la dificultad HARD.
+     * Con la misma semilla y los mismos resultados, todas las dificultades eligen siempre
+     * los mismos ataques, con cualquier pool; HARD deja de hacerlo solo si algún turno
+     * agota el tiempo de pensamiento antes de completar su número fijo de muestras.
+     *
+     * @param config Configuración del tablero que atacará la CPU
+     * @param difficulty Nivel de dificultad
+     * @param thinkTimeMillis Límite de tiempo por turno, en milisegundos
+     * @param seed Semilla de los generadores aleatorios de la CPU
+     * @param samplingPool Pool donde muestrea la dificultad HARD, o null para muestrear
+     *                     solo en el hilo que pide el ataque
+     * @throws IllegalArgumentException si el tiempo de pensamiento no es positivo
+     */
+    public CPU(BoardConfig config, CPUDifficulty difficulty, long thinkTimeMillis, long seed,
+               ForkJoinPool samplingPool) {
+        this(config, difficulty, thinkTimeMillis, new Random(seed), samplingPool);
+    }
+
+    /**
+     * Constructor común que recibe el generador del que se derivan los de la estrategia.
+     *
+     * @param config Configuración del tablero que atacará la CPU
+     * @param difficulty Nivel de dificultad
+     * @param thinkTimeMillis Presupuesto de tiempo por turno, en milisegundos
+     * @param random Generador de la CPU
+     * @param samplingPool Pool donde muestrea la dificultad HARD, o null para usar el hilo que llama
+     */
+    private CPU(BoardConfig config, CPUDifficulty difficulty, long thinkTimeMillis, Random random,
+                ForkJoinPool samplingPool) {
+        this.boardSize = config.getSize();
+        this.difficulty = difficulty;
+        this.strategy = switch (difficulty) {
+            case EASY -> null;
+            case MEDIUM -> new DensityTargeting(config, new Random(random.nextLong()));
+            case HARD -> new MonteCarloTargeting(config, thinkTimeMillis, samplingPool,
+                    new SplittableRandom(random.nextLong()));
+        };
+        this.attacked = new long[(config.getCellCount() + 63) >>> 6];
+        this.huntPattern = strategy == null ? checkerboard(boardSize, attacked.length) : null;
+        this.targetQueue = new int[INITIAL_CAPACITY];
+        this.hitCells = new int[INITIAL_CAPACITY];
+        this.random = random;
         this.currentMode = AttackMode.HUNT;
         this.currentDirection = Direction.NONE;
-        this.firstHit = null;
+        this.firstHit = -1;
     }
-    
+
     /**
      * Genera la siguiente posición de ataque según el modo actual.
      * En modo TARGET, ataca posiciones adyacentes a impactos previos.
      * En modo HUNT, ataca posiciones aleatorias con patrón de tablero de ajedrez.
-     * 
+     *
      * @return Arreglo [row, col] con la posición a atacar
      */
     public int[] attack() {
-        int[] position;
-        
-        if (currentMode == AttackMode.TARGET && !targetQueue.isEmpty()) {
-            position = targetQueue.poll();
-            
-            while (position != null && isAlreadyAttacked(position)) {
-                position = targetQueue.isEmpty() ? null : targetQueue.poll();
+        int cell = attackCell();
+        return new int[]{cell / boardSize, cell % boardSize};
+    }
+
+    /**
+     * Genera la siguiente celda de ataque según el modo actual, sin crear objetos.
+     *
+     * @return Índice de la celda a atacar ({@code fila * tamaño + columna})
+     */
+    @Override
+    public int attackCell() {
+        int cell;
+
+        if (strategy != null) {
+            cell = strategy.selectTarget();
+            if (cell < 0) {
+                cell = findFirstAvailableCell();
+            }
+        } else if (currentMode == AttackMode.TARGET && queueSize > 0) {
+            cell = pollTarget();
+
+            while (cell >= 0 && isAlreadyAttacked(cell)) {
+                cell = pollTarget();
             }
-            
-            if (position == null) {
+
+            if (cell < 0) {
                 currentMode = AttackMode.HUNT;
-                position = huntMode();
+                cell = huntMode();
             }
         } else {
             currentMode = AttackMode.HUNT;
-            position = huntMode();
+            cell = huntMode();
         }
-        
-        attackedPositions.add(positionToString(position));
-        return position;
+
+        markAttacked(cell);
+        return cell;
     }
-    
+
     /**
      * Procesa el resultado del último ataque para ajustar la estrategia.
      * Actualiza el modo de ataque y las posiciones objetivo según el resultado.
-     * 
+     *
      * @param result Resultado del ataque realizado
      * @param position Posición que fue atacada [row, col]
      */
     public void processResult(AttackResult result, int[] position) {
+        processResult(result, position, null);
+    }
+
+    /**
+     * Procesa el resultado del último ataque conociendo el barco hundido.
+     * Las estrategias que lo usan descartan las celdas del barco y su tipo de la flota restante.
+     *
+     * @param result Resultado del ataque realizado
+     * @param position Posición que fue atacada [row, col]
+     * @param sunkShip Barco hundido por el ataque, o null si no hubo hundimiento o se desconoce
+     */
+    public void processResult(AttackResult result, int[] position, Ship sunkShip) {
+        processResult(result, position[0] * boardSize + position[1], sunkShip);
+    }
+
+    /**
+     * Procesa el resultado del último ataque a una celda empaquetada.
+     *
+     * @param result Resultado del ataque realizado
+     * @param cell Índice de la celda atacada ({@code fila * tamaño + columna})
+     * @param sunkShip Barco hundido por el ataque, o null si no hubo hundimiento o se desconoce
+     */
+    @Override
+    public void processResult(AttackResult result, int cell, Ship sunkShip) {
+        if (strategy != null) {
+            switch (result) {
+                case HIT -> {
+                    strategy.recordHit(cell);
+                    currentMode = AttackMode.TARGET;
+                }
+                case SUNK -> {
+                    strategy.recordSunk(cell, sunkShip);
+                    currentMode = AttackMode.HUNT;
+                }
+                case MISS -> strategy.recordMiss(cell);
+                default -> { }
+            }
+            return;
+        }
+
         if (result == AttackResult.HIT) {
-            handleHit(position);
+            handleHit(cell);
         } else if (result == AttackResult.SUNK) {
-            handleSunk(position);
+            handleSunk(cell);
         } else if (result == AttackResult.MISS) {
-            handleMiss(position);
+            handleMiss(cell);
         }
     }
-    
+
     /**
      * Maneja un resultado de impacto (HIT).
      * Cambia al modo TARGET y agrega posiciones adyacentes a la cola de objetivos.
      * Si es el segundo impacto, determina la dirección del barco.
-     * 
-     * @param position Posición donde se impactó
+     *
+     * @param cell Celda donde se impactó
      */
-    private void handleHit(int[] position) {
+    private void handleHit(int cell) {
         currentMode = AttackMode.TARGET;
-        hitPositions.add(position);
-        
-        if (firstHit == null) {
-            firstHit = position;
-            addAdjacentPositions(position);
+        addHit(cell);
+
+        if (firstHit < 0) {
+            firstHit = cell;
+            addAdjacentPositions(cell);
         } else {
             if (currentDirection == Direction.NONE) {
-                determineDirection(firstHit, position);
+                determineDirection(firstHit, cell);
             }
-            addPositionInDirection(position);
+            addPositionInDirection(cell);
         }
     }
-    
+
     /**
      * Maneja un resultado de barco hundido (SUNK).
      * Reinicia el modo TARGET y limpia las posiciones objetivo.
      * Vuelve al modo HUNT para buscar el siguiente barco.
-     * 
-     * @param position Posición del último impacto
+     *
+     * @param cell Celda del último impacto
      */
-    private void handleSunk(int[] position) {
-        hitPositions.clear();
-        targetQueue.clear();
-        firstHit = null;
+    private void handleSunk(int cell) {
+        hitCount = 0;
+        clearTargets();
+        firstHit = -1;
         currentDirection = Direction.NONE;
         currentMode = AttackMode.HUNT;
     }
-    
+
     /**
      * Maneja un resultado de fallo (MISS).
      * Si está en modo TARGET con una dirección definida, invierte la dirección
      * para intentar atacar el barco desde el otro extremo.
-     * 
-     * @param position Posición donde se falló
+     *
+     * @param cell Celda donde se falló
      */
-    private void handleMiss(int[] position) {
+    private void handleMiss(int cell) {
         if (currentMode == AttackMode.TARGET && currentDirection != Direction.NONE) {
             reverseDirection();
-            if (firstHit != null) {
+            if (firstHit >= 0) {
                 addPositionInDirection(firstHit);
             }
         }
     }
-    
+
     /**
      * Modo de búsqueda: realiza ataques aleatorios con patrón de tablero de ajedrez.
      * Optimiza la búsqueda atacando solo posiciones donde podría haber un barco
      * según el tamaño mínimo de barco (2 celdas).
-     * 
-     * @return Posición aleatoria [row, col] no atacada previamente
-     */
-    private int[] huntMode() {
-        int[] position = null;
-        int attempts = 0;
-        int maxAttempts = BOARD_SIZE * BOARD_SIZE;
-        
-        do {
-            int row = random.nextInt(BOARD_SIZE);
-            int col = random.nextInt(BOARD_SIZE);
-            
-            if ((row + col) % 2 == 0) {
-                position = new int[]{row, col};
-            } else {
-                continue;
+     * Elige uniformemente entre las celdas del patrón aún no atacadas recorriendo
+     * el conjunto de bits palabra por palabra, sin sorteos desperdiciados.
+     *
+     * @return Celda aleatoria no atacada previamente
+     */
+    private int huntMode() {
+        int candidates = 0;
+        for (int word = 0; word < attacked.length; word++) {
+            candidates += Long.bitCount(huntPattern[word] & ~attacked[word]);
+        }
+        if (candidates == 0) {
+            return findFirstAvailableCell();
+        }
+
+        int k = random.nextInt(candidates);
+        for (int word = 0; ; word++) {
+            long free = huntPattern[word] & ~attacked[word];
+            int count = Long.bitCount(free);
+            if (k < count) {
+                for (; k > 0; k--) {
+                    free &= free - 1;
+                }
+                return (word << 6) + Long.numberOfTrailingZeros(free);
             }
-            
-            attempts++;
-            if (attempts > maxAttempts) {
-                position = findFirstAvailablePosition();
-                break;
+            k -= count;
+        }
+    }
+
+    /**
+     * Construye el patrón de tablero de ajedrez: las celdas cuya fila y columna suman un número par.
+     *
+     * @param size Número de celdas por lado del tablero
+     * @param words Número de palabras del conjunto de bits
+     * @return Conjunto de bits con las celdas del patrón
+     */
+    private static long[] checkerboard(int size, int words) {
+        long[] pattern = new long[words];
+        for (int row = 0; row < size; row++) {
+            for (int col = row & 1; col < size; col += 2) {
+                int cell = row * size + col;
+                pattern[cell >>> 6] |= 1L << cell;
             }
-        } while (position == null || isAlreadyAttacked(position));
-        
-        return position;
+        }
+        return pattern;
     }
-    
+
     /**
      * Determina la dirección del barco basándose en dos impactos consecutivos.
      * Identifica si el barco es horizontal o vertical y establece la dirección de ataque.
-     * 
-     * @param first Primera posición de impacto
-     * @param second Segunda posición de impacto
-     */
-    private void determineDirection(int[] first, int[] second) {
-        if (first[0] == second[0]) {
-            currentDirection = second[1] > first[1] ? Direction.EAST : Direction.WEST;
-        } else if (first[1] == second[1]) {
-            currentDirection = second[0] > first[0] ? Direction.SOUTH : Direction.NORTH;
+     *
+     * @param first Celda del primer impacto
+     * @param second Celda del segundo impacto
+     */
+    private void determineDirection(int first, int second) {
+        int firstRow = first / boardSize;
+        int firstCol = first % boardSize;
+        int secondRow = second / boardSize;
+        int secondCol = second % boardSize;
+
+        if (firstRow == secondRow) {
+            currentDirection = secondCol > firstCol ? Direction.EAST : Direction.WEST;
+        } else if (firstCol == secondCol) {
+            currentDirection = secondRow > firstRow ? Direction.SOUTH : Direction.NORTH;
         }
-        
-        targetQueue.clear();
+
+        clearTargets();
         addPositionInDirection(second);
     }
-    
+
     /**
      * Invierte la dirección actual de ataque.
      * Se utiliza cuando se alcanza el final del barco en una dirección
@@ -282,143 +502,213 @@ public class CPU {
             case WEST -> Direction.EAST;
             case NONE -> Direction.NONE;
         };
-        targetQueue.clear();
+        clearTargets();
     }
-    
+
     /**
      * Agrega la siguiente posición en la dirección actual a la cola de objetivos.
-     * 
-     * @param from Posición desde donde calcular la siguiente
+     *
+     * @param from Celda desde donde calcular la siguiente
      */
-    private void addPositionInDirection(int[] from) {
-        int[] next = getNextPositionInDirection(from, currentDirection);
-        if (next != null && !isAlreadyAttacked(next)) {
-            targetQueue.offer(next);
+    private void addPositionInDirection(int from) {
+        int next = getNextCellInDirection(from, currentDirection);
+        if (next >= 0 && !isAlreadyAttacked(next)) {
+            offerTarget(next);
         }
     }
-    
+
     /**
-     * Obtiene la siguiente posición en una dirección específica.
-     * 
-     * @param position Posición actual
+     * Obtiene la siguiente celda en una dirección específica.
+     *
+     * @param cell Celda actual
      * @param direction Dirección a seguir
-     * @return Nueva posición o null si está fuera de los límites del tablero
+     * @return Nueva celda o -1 si está fuera de los límites del tablero
      */
-    private int[] getNextPositionInDirection(int[] position, Direction direction) {
-        int row = position[0];
-        int col = position[1];
-        
+    private int getNextCellInDirection(int cell, Direction direction) {
+        int row = cell / boardSize;
+        int col = cell % boardSize;
+
         return switch (direction) {
-            case NORTH -> isValidPosition(row - 1, col) ? new int[]{row - 1, col} : null;
-            case SOUTH -> isValidPosition(row + 1, col) ? new int[]{row + 1, col} : null;
-            case EAST -> isValidPosition(row, col + 1) ? new int[]{row, col + 1} : null;
-            case WEST -> isValidPosition(row, col - 1) ? new int[]{row, col - 1} : null;
-            case NONE -> null;
+            case NORTH -> isValidPosition(row - 1, col) ? cell - boardSize : -1;
+            case SOUTH -> isValidPosition(row + 1, col) ? cell + boardSize : -1;
+            case EAST -> isValidPosition(row, col + 1) ? cell + 1 : -1;
+            case WEST -> isValidPosition(row, col - 1) ? cell - 1 : -1;
+            case NONE -> -1;
         };
     }
-    
+
     /**
      * Agrega todas las posiciones adyacentes (arriba, abajo, izquierda, derecha)
      * a la cola de objetivos. Se usa después del primer impacto en un barco.
-     * 
-     * @param position Posición central desde donde calcular adyacentes
-     */
-    private void addAdjacentPositions(int[] position) {
-        int row = position[0];
-        int col = position[1];
-        
-        int[][] adjacents = {
-            {row - 1, col},  // Norte
-            {row + 1, col},  // Sur
-            {row, col + 1},  // Este
-            {row, col - 1}   // Oeste
-        };
-        
-        for (int[] adj : adjacents) {
-            if (isValidPosition(adj[0], adj[1]) && !isAlreadyAttacked(adj)) {
-                targetQueue.offer(adj);
+     *
+     * @param cell Celda central desde donde calcular adyacentes
+     */
+    private void addAdjacentPositions(int cell) {
+        addPositionIfFree(getNextCellInDirection(cell, Direction.NORTH));
+        addPositionIfFree(getNextCellInDirection(cell, Direction.SOUTH));
+        addPositionIfFree(getNextCellInDirection(cell, Direction.EAST));
+        addPositionIfFree(getNextCellInDirection(cell, Direction.WEST));
+    }
+
+    /**
+     * Agrega una celda a la cola de objetivos si es válida y no ha sido atacada.
+     *
+     * @param cell Celda a agregar, o -1
+     */
+    private void addPositionIfFree(int cell) {
+        if (cell >= 0 && !isAlreadyAttacked(cell)) {
+            offerTarget(cell);
+        }
+    }
+
+    /**
+     * Agrega una celda al final de la cola circular de objetivos, ampliándola si está llena.
+     *
+     * @param cell Celda a agregar
+     */
+    private void offerTarget(int cell) {
+        if (queueSize == targetQueue.length) {
+            int[] grown = new int[targetQueue.length * 2];
+            for (int i = 0; i < queueSize; i++) {
+                grown[i] = targetQueue[(queueHead + i) & (targetQueue.length - 1)];
             }
+            targetQueue = grown;
+            queueHead = 0;
+        }
+        targetQueue[(queueHead + queueSize) & (targetQueue.length - 1)] = cell;
+        queueSize++;
+    }
+
+    /**
+     * Extrae la primera celda de la cola de objetivos.
+     *
+     * @return Celda extraída, o -1 si la cola está vacía
+     */
+    private int pollTarget() {
+        if (queueSize == 0) {
+            return -1;
         }
+        int cell = targetQueue[queueHead];
+        queueHead = (queueHead + 1) & (targetQueue.length - 1);
+        queueSize--;
+        return cell;
     }
-    
+
+    /**
+     * Vacía la cola de objetivos.
+     */
+    private void clearTargets() {
+        queueHead = 0;
+        queueSize = 0;
+    }
+
+    /**
+     * Agrega una celda a la lista de impactos, ampliándola si está llena.
+     *
+     * @param cell Celda impactada
+     */
+    private void addHit(int cell) {
+        if (hitCount == hitCells.length) {
+            hitCells = Arrays.copyOf(hitCells, hitCells.length * 2);
+        }
+        hitCells[hitCount++] = cell;
+    }
+
     /**
-     * Verifica si una posición ya fue atacada anteriormente.
-     * 
-     * @param position Posición a verificar [row, col]
+     * Verifica si una celda ya fue atacada anteriormente.
+     *
+     * @param cell Celda a verificar
      * @return true si ya fue atacada, false en caso contrario
      */
-    private boolean isAlreadyAttacked(int[] position) {
-        return attackedPositions.contains(positionToString(position));
+    private boolean isAlreadyAttacked(int cell) {
+        return (attacked[cell >>> 6] & (1L << cell)) != 0;
     }
-    
+
+    /**
+     * Marca una celda como atacada.
+     *
+     * @param cell Celda atacada
+     */
+    private void markAttacked(int cell) {
+        long bit = 1L << cell;
+        if ((attacked[cell >>> 6] & bit) == 0) {
+            attacked[cell >>> 6] |= bit;
+            attackCount++;
+        }
+    }
+
     /**
      * Verifica si una posición es válida dentro de los límites del tablero.
-     * 
+     *
      * @param row Fila a verificar
      * @param col Columna a verificar
      * @return true si la posición está dentro del tablero, false en caso contrario
      */
     private boolean isValidPosition(int row, int col) {
-        return row >= 0 && row < BOARD_SIZE && col >= 0 && col < BOARD_SIZE;
+        return row >= 0 && row < boardSize && col >= 0 && col < boardSize;
     }
-    
-    /**
-     * Convierte una posición a String para almacenamiento en el conjunto.
-     * 
-     * @param position Posición [row, col]
-     * @return String en formato "row,col"
-     */
-    private String positionToString(int[] position) {
-        return position[0] + "," + position[1];
-    }
-    
+
     /**
-     * Encuentra la primera posición disponible (no atacada) del tablero.
+     * Encuentra la primera celda disponible (no atacada) del tablero.
      * Se usa como fallback cuando no quedan posiciones en el patrón optimizado.
-     * 
-     * @return Primera posición no atacada encontrada
-     */
-    private int[] findFirstAvailablePosition() {
-        for (int row = 0; row < BOARD_SIZE; row++) {
-            for (int col = 0; col < BOARD_SIZE; col++) {
-                int[] pos = {row, col};
-                if (!isAlreadyAttacked(pos)) {
-                    return pos;
-                }
+     * Recorre el conjunto de bits palabra por palabra.
+     *
+     * @return Primera celda no atacada encontrada, o 0 si todas fueron atacadas
+     */
+    private int findFirstAvailableCell() {
+        int cellCount = boardSize * boardSize;
+        for (int word = 0; word < attacked.length; word++) {
+            long free = ~attacked[word];
+            if (free != 0) {
+                int cell = (word << 6) + Long.numberOfTrailingZeros(free);
+                return cell < cellCount ? cell : 0;
             }
         }
-        return new int[]{0, 0};
+        return 0;
     }
-    
+
     /**
      * Reinicia el estado de la CPU para una nueva partida.
      * Limpia todas las posiciones atacadas, la cola de objetivos y
      * restablece el modo de ataque a HUNT.
      */
     public void reset() {
-        attackedPositions.clear();
-        targetQueue.clear();
-        hitPositions.clear();
-        firstHit = null;
+        Arrays.fill(attacked, 0L);
+        attackCount = 0;
+        clearTargets();
+        hitCount = 0;
+        firstHit = -1;
         currentDirection = Direction.NONE;
         currentMode = AttackMode.HUNT;
+        if (strategy != null) {
+            strategy.reset();
+        }
     }
-    
+
     /**
      * Obtiene el número total de ataques realizados por la CPU.
-     * 
+     *
      * @return Cantidad de posiciones atacadas
      */
     public int getAttackCount() {
-        return attackedPositions.size();
+        return attackCount;
     }
-    
+
     /**
      * Obtiene el modo de ataque actual de la CPU.
-     * 
+     *
      * @return String con el nombre del modo actual (HUNT o TARGET)
      */
     public String getCurrentMode() {
         return currentMode.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * Obtiene el nivel de dificultad de la CPU.
+     *
+     * @return Dificultad configurada
+     */
+    public CPUDifficulty getDifficulty() {
+        return difficulty;
+    }
+}
@@ -0,0 +1,29 @@
+package com.navyattack.model;
+
+/**
+ * Niveles de dificultad de la CPU.
+ * Cada nivel determina la estrategia con la que la CPU elige sus ataques.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public enum CPUDifficulty {
+
+    /**
+     * Búsqueda aleatoria en patrón de tablero de ajedrez y persecución
+     * de los barcos impactados en las cuatro direcciones.
+     */
+    EASY,
+
+    /**
+     * Ataca la celda con mayor densidad de colocaciones posibles de la flota
+     * restante, según los impactos y fallos observados.
+     */
+    MEDIUM,
+
+    /**
+     * Simula en paralelo miles de flotas coherentes con lo observado durante un
+     * presupuesto de tiempo por turno y ataca la celda ocupada con más frecuencia.
+     */
+    HARD
+}
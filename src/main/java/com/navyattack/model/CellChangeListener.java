@@ -0,0 +1,31 @@
+package com.navyattack.model;
+
+/**
+ * Receptor de los cambios en las celdas de un {@link Board}.
+ * Permite que una vista actualice solo las celdas que cambiaron tras colocar un barco
+ * o recibir un ataque, en lugar de recorrer el tablero completo.
+ *
+ * Los avisos se emiten en el hilo que modifica el tablero, después de aplicar el cambio.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface CellChangeListener {
+
+    /**
+     * Se invoca cuando cambia el estado de una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param state Nuevo estado de la celda
+     */
+    void cellChanged(int row, int col, CellState state);
+
+    /**
+     * Se invoca cuando el tablero se reinicia y todas sus celdas vuelven a estar vacías.
+     * Por defecto no hace nada.
+     */
+    default void boardReset() {
+    }
+}
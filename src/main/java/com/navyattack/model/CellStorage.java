@@ -0,0 +1,75 @@
+package com.navyattack.model;
+
+/**
+ * Almacenamiento del estado de las celdas de un {@link Board}.
+ * Abstrae cómo se guardan los barcos, impactos y fallos para que el tablero
+ * pueda elegir una representación densa (bitboards) o dispersa (mapa de
+ * celdas ocupadas) según la densidad de la flota.
+ *
+ * Las celdas se identifican por su índice lineal {@code fila * tamaño + columna}.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+interface CellStorage {
+
+    /**
+     * Obtiene el estado de una celda.
+     *
+     * @param index Índice de la celda
+     * @return Estado de la celda
+     */
+    CellState getState(int index);
+
+    /**
+     * Verifica si un tramo de celdas está libre (sin barcos ni fallos).
+     *
+     * @param start Índice de la primera celda
+     * @param length Número de celdas del tramo
+     * @param stride Distancia entre índices de celdas consecutivas
+     * @return true si ninguna celda del tramo está ocupada, false en caso contrario
+     */
+    boolean isRunFree(int start, int length, int stride);
+
+    /**
+     * Marca una celda como ocupada por un barco.
+     *
+     * @param index Índice de la celda
+     * @param shipId Identificador del barco (mayor que 0)
+     */
+    void placeShip(int index, int shipId);
+
+    /**
+     * Obtiene el identificador del barco que ocupa una celda.
+     *
+     * @param index Índice de la celda
+     * @return Identificador del barco, o 0 si la celda no tiene barco
+     */
+    int shipIdAt(int index);
+
+    /**
+     * Marca una celda con barco como impactada.
+     *
+     * @param index Índice de la celda
+     */
+    void markHit(int index);
+
+    /**
+     * Marca una celda vacía como fallo.
+     *
+     * @param index Índice de la celda
+     */
+    void markMiss(int index);
+
+    /**
+     * Obtiene la cantidad de celdas con barcos que aún no han sido impactadas.
+     *
+     * @return Número de celdas con barcos intactas
+     */
+    int getRemainingShipCells();
+
+    /**
+     * Deja todas las celdas en estado EMPTY.
+     */
+    void clear();
+}
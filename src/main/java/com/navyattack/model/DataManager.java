@@ -2,157 +2,185 @@ package com.navyattack.model;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * Gestor de datos del sistema de usuarios de NavyAttack.
  * Mantiene y administra las colecciones de usuarios registrados en el sistema
  * y los usuarios con sesión activa. Proporciona métodos para realizar operaciones
  * CRUD sobre estas colecciones.
- * 
+ *
+ * Los usuarios registrados se indexan por nombre en un mapa concurrente, por lo que
+ * las búsquedas no dependen del número de usuarios, y los usuarios con sesión activa
+ * se guardan en un conjunto concurrente que conserva el orden de inicio de sesión
+ * (el primero es el jugador 1). Todos los métodos se pueden usar desde varios hilos,
+ * y los métodos que devuelven listas entregan copias que no cambian después.
+ *
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
  */
 public class DataManager {
-    
+
     /**
-     * Lista de todos los usuarios registrados en el sistema.
+     * Usuarios registrados en el sistema, por nombre de usuario.
      */
-    private List<User> users;
-    
+    private final ConcurrentMap<String, User> users;
+
     /**
-     * Lista de usuarios que tienen sesión activa actualmente.
+     * Usuarios que tienen sesión activa actualmente, en orden de inicio de sesión.
      */
-    private List<User> loggedUsers;
-    
+    private final CopyOnWriteArraySet<User> loggedUsers;
+
     /**
      * Constructor del gestor de datos.
-     * Inicializa las listas de usuarios registrados y usuarios con sesión activa.
+     * Inicializa las colecciones de usuarios registrados y usuarios con sesión activa.
      */
     public DataManager() {
-        this.users = new ArrayList<>();
-        this.loggedUsers = new ArrayList<>();
+        this.users = new ConcurrentHashMap<>();
+        this.loggedUsers = new CopyOnWriteArraySet<>();
     }
-    
+
     /**
-     * Establece la lista completa de usuarios registrados.
-     * Si se proporciona null, inicializa con una lista vacía.
-     * 
+     * Reemplaza los usuarios registrados por los de una lista.
+     * Si se proporciona null, deja el sistema sin usuarios.
+     *
      * @param data Lista de usuarios a establecer
      */
     public void setUsers(List<User> data) {
+        users.clear();
         if (data != null) {
-            this.users = data;
-        } else {
-            this.users = new ArrayList<>();
+            for (User user : data) {
+                addUser(user);
+            }
         }
     }
-    
+
     /**
-     * Obtiene la lista completa de usuarios registrados en el sistema.
-     * 
+     * Obtiene una copia de los usuarios registrados en el sistema, sin un orden definido.
+     *
      * @return Lista de todos los usuarios
      */
     public List<User> getUsers() {
-        return this.users;
+        return new ArrayList<>(users.values());
     }
-    
+
     /**
-     * Obtiene la lista de usuarios con sesión activa.
-     * 
+     * Obtiene una copia de los usuarios con sesión activa, en orden de inicio de sesión.
+     *
      * @return Lista de usuarios con sesión iniciada
      */
     public List<User> getLoggedUsers() {
-        return this.loggedUsers;
+        return List.copyOf(loggedUsers);
     }
-    
+
     /**
-     * Añade un usuario a la lista de usuarios con sesión activa.
-     * 
-     * @param user Usuario a añadir a la lista de sesiones activas (no debe ser null)
+     * Añade un usuario a los usuarios con sesión activa, si no la tenía ya.
+     *
+     * @param user Usuario a añadir a las sesiones activas (no debe ser null)
      */
     public void addLoggedUser(User user) {
         if (user != null) {
-            this.loggedUsers.add(user);
+            loggedUsers.add(user);
         }
     }
-    
+
     /**
-     * Añade un nuevo usuario a la lista de usuarios registrados.
-     * 
+     * Verifica si un usuario tiene sesión activa.
+     *
+     * @param user Usuario a verificar
+     * @return true si el usuario tiene sesión iniciada
+     */
+    public boolean isLogged(User user) {
+        return user != null && loggedUsers.contains(user);
+    }
+
+    /**
+     * Añade un usuario a los usuarios registrados.
+     * Si ya existía un usuario con el mismo nombre, lo reemplaza.
+     *
      * @param user Usuario a registrar en el sistema (no debe ser null)
      */
     public void addUser(User user) {
         if (user != null) {
-            this.users.add(user);
+            users.put(user.getUsername(), user);
         }
     }
-    
+
     /**
-     * Elimina un usuario de la lista de usuarios registrados.
-     * 
+     * Añade un usuario a los usuarios registrados solo si no existe otro con su nombre.
+     * La comprobación y el registro son atómicos.
+     *
+     * @param user Usuario a registrar en el sistema
+     * @return true si se registró, false si el nombre ya estaba en uso o el usuario es null
+     */
+    public boolean addUserIfAbsent(User user) {
+        return user != null && users.putIfAbsent(user.getUsername(), user) == null;
+    }
+
+    /**
+     * Elimina un usuario de los usuarios registrados.
+     *
      * @param user Usuario a eliminar del sistema
      */
     public void deleteUser(User user) {
-        users.remove(user);
+        if (user != null) {
+            users.remove(user.getUsername(), user);
+        }
     }
-    
+
     /**
-     * Elimina un usuario de la lista de sesiones activas.
+     * Elimina un usuario de las sesiones activas.
      * Cierra la sesión del usuario sin eliminarlo del sistema.
-     * 
+     *
      * @param user Usuario cuya sesión se cerrará
      */
     public void deleteLoggedUser(User user) {
         loggedUsers.remove(user);
     }
-    
+
     /**
      * Busca un usuario por su nombre de usuario.
-     * 
+     *
      * @param username Nombre de usuario a buscar
      * @return Usuario encontrado, o null si no existe
      */
     public User findUser(String username) {
-        for (User user : users) {
-            if (user.getUsername().equals(username)) {
-                return user;
-            }
-        }
-        return null;
+        return username != null ? users.get(username) : null;
     }
-    
+
     /**
      * Obtiene la cantidad total de usuarios registrados en el sistema.
-     * 
+     *
      * @return Número de usuarios registrados
      */
     public int getUsersCount() {
         return users.size();
     }
-    
+
     /**
      * Verifica si no hay usuarios registrados en el sistema.
-     * 
+     *
      * @return true si no hay usuarios registrados, false en caso contrario
      */
     public boolean isEmpty() {
         return users.isEmpty();
     }
-    
+
     /**
      * Verifica si no hay usuarios con sesión activa.
-     * 
+     *
      * @return true si no hay usuarios con sesión iniciada, false en caso contrario
      */
     public boolean isLoggedEmpty() {
         return loggedUsers.isEmpty();
     }
-    
+
     /**
      * Elimina todos los usuarios registrados del sistema.
-     * Limpia completamente la lista de usuarios.
      */
     public void clearData() {
         users.clear();
     }
-}
\ No newline at end of file
+}
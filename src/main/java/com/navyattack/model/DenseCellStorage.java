@@ -0,0 +1,161 @@
+package com.navyattack.model;
+
+import java.util.Arrays;
+
+/**
+ * Almacenamiento denso de celdas basado en bitboards.
+ * Guarda tres máscaras de bits (barcos, impactos y fallos) empaquetadas en
+ * palabras {@code long} y un índice de barcos por celda. Las validaciones de
+ * colocación y los conteos se resuelven con operaciones de máscara.
+ *
+ * Es la representación usada en tableros con una flota que ocupa una fracción
+ * apreciable de las celdas, como el tablero estándar de 10x10.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+final class DenseCellStorage implements CellStorage {
+
+    /**
+     * Número de palabras de 64 bits de cada máscara.
+     */
+    private final int words;
+
+    /**
+     * Máscara de bits con las celdas ocupadas por barcos.
+     */
+    private final long[] shipMask;
+
+    /**
+     * Máscara de bits con las celdas atacadas que impactaron un barco.
+     * Siempre es un subconjunto de {@link #shipMask}.
+     */
+    private final long[] hitMask;
+
+    /**
+     * Máscara de bits con las celdas atacadas que cayeron al agua.
+     */
+    private final long[] missMask;
+
+    /**
+     * Índice de barcos por celda: identificador del barco, o 0 si la celda no tiene barco.
+     */
+    private final short[] shipIds;
+
+    /**
+     * Constructor del almacenamiento denso.
+     *
+     * @param cellCount Número total de celdas del tablero
+     */
+    DenseCellStorage(int cellCount) {
+        this.words = (cellCount + 63) >>> 6;
+        this.shipMask = new long[words];
+        this.hitMask = new long[words];
+        this.missMask = new long[words];
+        this.shipIds = new short[cellCount];
+    }
+
+    /**
+     * Verifica si el bit de una celda está activo en una máscara.
+     *
+     * @param mask Máscara a consultar
+     * @param index Índice de la celda
+     * @return true si el bit está activo, false en caso contrario
+     */
+    private static boolean testBit(long[] mask, int index) {
+        return (mask[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Activa el bit de una celda en una máscara.
+     *
+     * @param mask Máscara a modificar
+     * @param index Índice de la celda
+     */
+    private static void setBit(long[] mask, int index) {
+        mask[index >>> 6] |= 1L << index;
+    }
+
+    @Override
+    public CellState getState(int index) {
+        if (testBit(hitMask, index)) {
+            return CellState.HIT;
+        }
+        if (testBit(missMask, index)) {
+            return CellState.MISS;
+        }
+        return testBit(shipMask, index) ? CellState.SHIP : CellState.EMPTY;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Un tramo horizontal ({@code stride == 1}) se valida con una sola máscara por palabra.
+     */
+    @Override
+    public boolean isRunFree(int start, int length, int stride) {
+        if (stride == 1) {
+            int end = start + length;
+            int index = start;
+            while (index < end) {
+                int word = index >>> 6;
+                int bits = Math.min(end - index, 64 - (index & 63));
+                long run = (bits == 64 ? -1L : (1L << bits) - 1) << index;
+                if (((shipMask[word] | missMask[word]) & run) != 0) {
+                    return false;
+                }
+                index += bits;
+            }
+            return true;
+        }
+
+        for (int i = 0, index = start; i < length; i++, index += stride) {
+            int word = index >>> 6;
+            if (((shipMask[word] | missMask[word]) & (1L << index)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void placeShip(int index, int shipId) {
+        setBit(shipMask, index);
+        shipIds[index] = (short) shipId;
+    }
+
+    @Override
+    public int shipIdAt(int index) {
+        return shipIds[index];
+    }
+
+    @Override
+    public void markHit(int index) {
+        setBit(hitMask, index);
+    }
+
+    @Override
+    public void markMiss(int index) {
+        setBit(missMask, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Se calcula como el conteo de bits de {@code barcos & ~impactos}.
+     */
+    @Override
+    public int getRemainingShipCells() {
+        int count = 0;
+        for (int word = 0; word < words; word++) {
+            count += Long.bitCount(shipMask[word] & ~hitMask[word]);
+        }
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(shipMask, 0L);
+        Arrays.fill(hitMask, 0L);
+        Arrays.fill(missMask, 0L);
+        Arrays.fill(shipIds, (short) 0);
+    }
+}
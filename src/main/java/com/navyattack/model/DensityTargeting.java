@@ -0,0 +1,474 @@
+package com.navyattack.model;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Estrategia de ataque basada en un mapa de densidad de probabilidad.
+ *
+ * Para cada celda mantiene la suma de los pesos de todas las colocaciones de la flota
+ * restante que la cubren y que son coherentes con lo observado: una colocación que pasa
+ * por un fallo o por un barco ya hundido pesa 0, y cada impacto sin resolver que cubre
+ * multiplica su relevancia ({@code 1 + HIT_WEIGHT * impactos}). Así la misma regla sirve
+ * para buscar barcos y para terminar de hundir los que ya fueron impactados.
+ * Cada tipo de barco cuenta mientras quede al menos uno de ese tipo a flote.
+ *
+ * El mapa se construye una sola vez con ventanas deslizantes y luego se actualiza de forma
+ * incremental: cuando cambia el estado de una celda solo se recalculan las colocaciones
+ * que la cubren. La celda de mayor densidad se obtiene con una división del tablero en
+ * bloques de 64 celdas que guardan su mejor candidata; solo se recalculan los bloques
+ * modificados. Los empates se resuelven con un ruido pseudoaleatorio fijo por partida.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+final class DensityTargeting implements TargetingStrategy {
+
+    /**
+     * Peso adicional que aporta cada impacto sin resolver a una colocación.
+     */
+    static final int HIT_WEIGHT = 50;
+
+    /**
+     * Desplazamiento que define el tamaño de bloque (64 celdas).
+     */
+    private static final int BLOCK_SHIFT = 6;
+
+    /**
+     * Bits reservados para el ruido de desempate en la clave de cada celda.
+     */
+    private static final int NOISE_BITS = 10;
+
+    /**
+     * Estado de una celda no atacada.
+     */
+    private static final byte UNKNOWN = 0;
+
+    /**
+     * Estado de una celda atacada sin barco.
+     */
+    private static final byte MISS = 1;
+
+    /**
+     * Estado de una celda con un impacto de un barco aún no hundido.
+     */
+    private static final byte HIT = 2;
+
+    /**
+     * Estado de una celda que pertenece a un barco ya hundido.
+     */
+    private static final byte BLOCKED = 3;
+
+    /**
+     * Tipos de barco, en caché para no copiar {@code ShipType.values()} en cada disparo.
+     */
+    private static final ShipType[] TYPES = ShipType.values();
+
+    /**
+     * Número de celdas por lado del tablero.
+     */
+    private final int size;
+
+    /**
+     * Configuración del tablero atacado.
+     */
+    private final BoardConfig config;
+
+    /**
+     * Barcos restantes de cada tipo, indexados por ordinal.
+     */
+    private final int[] remaining;
+
+    /**
+     * Estado observado de cada celda.
+     */
+    private final byte[] state;
+
+    /**
+     * Densidad acumulada de cada celda.
+     */
+    private final int[] density;
+
+    /**
+     * Mejor celda no atacada de cada bloque, o -1 si el bloque no tiene ninguna.
+     */
+    private final int[] blockBest;
+
+    /**
+     * Indica qué bloques deben recalcular su mejor celda.
+     */
+    private final boolean[] blockDirty;
+
+    /**
+     * Lista de bloques pendientes de recalcular.
+     */
+    private final int[] dirtyBlocks;
+
+    /**
+     * Cantidad de bloques pendientes de recalcular.
+     */
+    private int dirtyCount;
+
+    /**
+     * Arreglo de diferencias reutilizado al recorrer una fila o columna.
+     */
+    private final int[] lineBuffer;
+
+    /**
+     * Generador usado para elegir la semilla del ruido de desempate.
+     */
+    private final Random random;
+
+    /**
+     * Semilla del ruido de desempate de la partida actual.
+     */
+    private int salt;
+
+    /**
+     * Constructor de la estrategia.
+     *
+     * @param config Configuración del tablero que se va a atacar
+     */
+    DensityTargeting(BoardConfig config) {
+        this(config, new Random());
+    }
+
+    /**
+     * Constructor de la estrategia con un generador propio.
+     *
+     * @param config Configuración del tablero que se va a atacar
+     * @param random Generador usado para el desempate
+     */
+    DensityTargeting(BoardConfig config, Random random) {
+        this.config = config;
+        this.size = config.getSize();
+        this.random = random;
+
+        int cellCount = config.getCellCount();
+        int blocks = (cellCount + (1 << BLOCK_SHIFT) - 1) >>> BLOCK_SHIFT;
+        this.remaining = new int[TYPES.length];
+        this.state = new byte[cellCount];
+        this.density = new int[cellCount];
+        this.blockBest = new int[blocks];
+        this.blockDirty = new boolean[blocks];
+        this.dirtyBlocks = new int[blocks];
+        this.lineBuffer = new int[size + 1];
+
+        reset();
+    }
+
+    /**
+     * Elige la celda no atacada con mayor densidad.
+     *
+     * @return Índice de la celda elegida, o -1 si no quedan celdas por atacar
+     */
+    @Override
+    public int selectTarget() {
+        refreshDirtyBlocks();
+
+        int best = -1;
+        long bestKey = Long.MIN_VALUE;
+        for (int candidate : blockBest) {
+            if (candidate >= 0) {
+                long key = key(candidate);
+                if (key > bestKey) {
+                    bestKey = key;
+                    best = candidate;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Registra un fallo: las colocaciones que pasan por la celda dejan de ser posibles.
+     *
+     * @param cell Índice de la celda atacada
+     */
+    @Override
+    public void recordMiss(int cell) {
+        updateCell(cell, MISS);
+    }
+
+    /**
+     * Registra un impacto: las colocaciones que pasan por la celda ganan peso.
+     *
+     * @param cell Índice de la celda atacada
+     */
+    @Override
+    public void recordHit(int cell) {
+        updateCell(cell, HIT);
+    }
+
+    /**
+     * Registra un hundimiento: bloquea las celdas del barco y descuenta su tipo de la flota.
+     * Si no se conoce el barco, la celda se trata como un impacto.
+     *
+     * @param cell Índice de la celda atacada
+     * @param ship Barco hundido, o null si se desconoce
+     */
+    @Override
+    public void recordSunk(int cell, Ship ship) {
+        if (ship == null || !ship.isPlaced()) {
+            updateCell(cell, HIT);
+            return;
+        }
+
+        ShipPositions positions = ship.getPositions();
+        for (int i = 0; i < positions.size(); i++) {
+            updateCell(positions.cellIndex(i, size), BLOCKED);
+        }
+        updateCell(cell, BLOCKED);
+
+        int type = ship.getType().ordinal();
+        if (remaining[type] > 0 && --remaining[type] == 0) {
+            applyType(ship.getLength(), -1);
+        }
+    }
+
+    /**
+     * Reinicia el mapa para una nueva partida con la flota completa.
+     */
+    @Override
+    public void reset() {
+        Arrays.fill(state, UNKNOWN);
+        Arrays.fill(density, 0);
+        Arrays.fill(blockDirty, false);
+        dirtyCount = 0;
+        salt = random.nextInt();
+
+        for (ShipType type : TYPES) {
+            remaining[type.ordinal()] = config.getShipCount(type);
+            if (remaining[type.ordinal()] > 0) {
+                applyType(type.getLength(), 1);
+            }
+        }
+        for (int block = 0; block < blockBest.length; block++) {
+            markBlockDirty(block);
+        }
+    }
+
+    /**
+     * Obtiene la densidad actual de una celda.
+     *
+     * @param cell Índice de la celda
+     * @return Suma de los pesos de las colocaciones que cubren la celda
+     */
+    int getDensity(int cell) {
+        return density[cell];
+    }
+
+    /**
+     * Cambia el estado de una celda y corrige la densidad de todas las
+     * colocaciones que la cubren.
+     *
+     * @param cell Índice de la celda
+     * @param newState Nuevo estado
+     */
+    private void updateCell(int cell, byte newState) {
+        byte oldState = state[cell];
+        if (oldState == newState) {
+            return;
+        }
+
+        int row = cell / size;
+        int col = cell % size;
+        for (ShipType type : TYPES) {
+            if (remaining[type.ordinal()] == 0) {
+                continue;
+            }
+            int length = type.getLength();
+            updatePlacementsThrough(cell, col, 1, length, oldState, newState);
+            updatePlacementsThrough(cell, row, size, length, oldState, newState);
+        }
+
+        state[cell] = newState;
+        markBlockDirty(cell >>> BLOCK_SHIFT);
+    }
+
+    /**
+     * Corrige la densidad de las colocaciones de una orientación que cubren una celda.
+     *
+     * @param cell Índice de la celda que cambia
+     * @param offset Posición de la celda dentro de su fila (horizontal) o columna (vertical)
+     * @param stride 1 para colocaciones horizontales, el tamaño del tablero para verticales
+     * @param length Longitud del barco
+     * @param oldState Estado anterior de la celda
+     * @param newState Estado nuevo de la celda
+     */
+    private void updatePlacementsThrough(int cell, int offset, int stride, int length,
+                                         byte oldState, byte newState) {
+        for (int j = 0; j < length; j++) {
+            int startOffset = offset - j;
+            if (startOffset < 0 || startOffset + length > size) {
+                continue;
+            }
+            int start = cell - j * stride;
+            int delta = placementWeight(start, stride, length, cell, newState)
+                    - placementWeight(start, stride, length, cell, oldState);
+            if (delta != 0) {
+                for (int k = 0, c = start; k < length; k++, c += stride) {
+                    addDensity(c, delta);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcula el peso de una colocación suponiendo un estado dado para una de sus celdas.
+     *
+     * @param start Índice de la primera celda
+     * @param stride Distancia entre celdas consecutivas
+     * @param length Longitud del barco
+     * @param cell Celda cuyo estado se reemplaza
+     * @param cellState Estado supuesto de esa celda
+     * @return Peso de la colocación
+     */
+    private int placementWeight(int start, int stride, int length, int cell, byte cellState) {
+        int hits = 0;
+        for (int k = 0, c = start; k < length; k++, c += stride) {
+            byte s = c == cell ? cellState : state[c];
+            if (s == MISS || s == BLOCKED) {
+                return 0;
+            }
+            if (s == HIT) {
+                hits++;
+            }
+        }
+        return weight(hits);
+    }
+
+    /**
+     * Suma o resta la contribución completa de un tipo de barco a todo el mapa.
+     *
+     * @param length Longitud del tipo de barco
+     * @param sign 1 para sumar, -1 para restar
+     */
+    private void applyType(int length, int sign) {
+        if (length > size) {
+            return;
+        }
+        for (int line = 0; line < size; line++) {
+            applyLine(line * size, 1, length, sign);
+            applyLine(line, size, length, sign);
+        }
+    }
+
+    /**
+     * Aplica las colocaciones de una fila o columna con una ventana deslizante
+     * y un arreglo de diferencias, en tiempo lineal sobre la línea.
+     *
+     * @param first Índice de la primera celda de la línea
+     * @param stride Distancia entre celdas consecutivas de la línea
+     * @param length Longitud del barco
+     * @param sign 1 para sumar, -1 para restar
+     */
+    private void applyLine(int first, int stride, int length, int sign) {
+        int[] diff = lineBuffer;
+        Arrays.fill(diff, 0);
+
+        int hits = 0;
+        int blocked = 0;
+        for (int i = 0; i < size; i++) {
+            byte in = state[first + i * stride];
+            if (in == HIT) {
+                hits++;
+            } else if (in == MISS || in == BLOCKED) {
+                blocked++;
+            }
+            if (i >= length) {
+                byte out = state[first + (i - length) * stride];
+                if (out == HIT) {
+                    hits--;
+                } else if (out == MISS || out == BLOCKED) {
+                    blocked--;
+                }
+            }
+            if (i >= length - 1 && blocked == 0) {
+                int w = weight(hits);
+                diff[i - length + 1] += w;
+                diff[i + 1] -= w;
+            }
+        }
+
+        int acc = 0;
+        for (int i = 0; i < size; i++) {
+            acc += diff[i];
+            if (acc != 0) {
+                addDensity(first + i * stride, sign * acc);
+            }
+        }
+    }
+
+    /**
+     * Peso de una colocación coherente según los impactos sin resolver que cubre.
+     *
+     * @param hits Número de impactos cubiertos
+     * @return Peso de la colocación
+     */
+    private static int weight(int hits) {
+        return 1 + HIT_WEIGHT * hits;
+    }
+
+    /**
+     * Modifica la densidad de una celda y marca su bloque para recalcular.
+     *
+     * @param cell Índice de la celda
+     * @param delta Cantidad a sumar
+     */
+    private void addDensity(int cell, int delta) {
+        density[cell] += delta;
+        markBlockDirty(cell >>> BLOCK_SHIFT);
+    }
+
+    /**
+     * Marca un bloque como pendiente de recalcular.
+     *
+     * @param block Índice del bloque
+     */
+    private void markBlockDirty(int block) {
+        if (!blockDirty[block]) {
+            blockDirty[block] = true;
+            dirtyBlocks[dirtyCount++] = block;
+        }
+    }
+
+    /**
+     * Recalcula la mejor celda de cada bloque pendiente.
+     */
+    private void refreshDirtyBlocks() {
+        for (int i = 0; i < dirtyCount; i++) {
+            int block = dirtyBlocks[i];
+            blockDirty[block] = false;
+
+            int from = block << BLOCK_SHIFT;
+            int to = Math.min(state.length, from + (1 << BLOCK_SHIFT));
+            int best = -1;
+            long bestKey = Long.MIN_VALUE;
+            for (int cell = from; cell < to; cell++) {
+                if (state[cell] == UNKNOWN) {
+                    long key = key(cell);
+                    if (key > bestKey) {
+                        bestKey = key;
+                        best = cell;
+                    }
+                }
+            }
+            blockBest[block] = best;
+        }
+        dirtyCount = 0;
+    }
+
+    /**
+     * Clave de orden de una celda: la densidad en los bits altos y un ruido
+     * de desempate en los bajos.
+     *
+     * @param cell Índice de la celda
+     * @return Clave de la celda
+     */
+    private long key(int cell) {
+        int h = (cell ^ salt) * 0x9E3779B9;
+        h ^= h >>> 16;
+        return ((long) density[cell] << NOISE_BITS) | (h & ((1 << NOISE_BITS) - 1));
+    }
+}
@@ -0,0 +1,399 @@
+package com.navyattack.model;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generador de flotas aleatorias para NavyAttack.
+ * Coloca en un tablero todos los barcos que aún tiene disponibles, eligiendo para
+ * cada barco una colocación uniforme entre todas las colocaciones legales.
+ *
+ * Cada colocación se representa como un entero {@code (celda << 1) | vertical}, donde
+ * {@code celda = fila * tamaño + columna}. Primero se intenta un muestreo por rechazo
+ * (proponer una colocación uniforme dentro de los límites y aceptarla si está libre),
+ * que en tableros poco ocupados acierta casi siempre; si falla, se enumeran todas las
+ * colocaciones legales recorriendo la máscara de ocupación fila por fila y columna por
+ * columna. Ambos caminos producen la misma distribución uniforme.
+ *
+ * Los barcos se colocan de mayor a menor. Si un barco no tiene ninguna colocación
+ * legal se retrocede a los barcos anteriores y se prueban sus alternativas restantes,
+ * por lo que la colocación siempre termina cuando existe alguna solución.
+ * Con la misma semilla se obtiene siempre la misma flota.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public final class FleetPlacer {
+
+    /**
+     * Número de propuestas aleatorias antes de enumerar todas las colocaciones legales.
+     */
+    private static final int REJECTION_ATTEMPTS = 64;
+
+    /**
+     * Generador de números aleatorios usado para todas las decisiones.
+     */
+    private final Random random;
+
+    /**
+     * Número de celdas por lado del tablero que se está llenando.
+     */
+    private int size;
+
+    /**
+     * Máscara de celdas ocupadas (un bit por celda).
+     */
+    private long[] occupied;
+
+    /**
+     * Colocaciones candidatas por nivel de búsqueda. Los arreglos se reutilizan
+     * entre llamadas y solo crecen cuando hace falta.
+     */
+    private int[][] candidates = new int[0][];
+
+    /**
+     * Cantidad de candidatas pendientes por nivel de búsqueda.
+     */
+    private int[] candidateCounts = new int[0];
+
+    /**
+     * Indica si las candidatas de cada nivel ya fueron enumeradas.
+     */
+    private boolean[] enumerated = new boolean[0];
+
+    /**
+     * Racha de celdas libres por columna, usada al enumerar colocaciones verticales.
+     */
+    private int[] columnRuns = new int[0];
+
+    /**
+     * Constructor con una semilla aleatoria.
+     */
+    public FleetPlacer() {
+        this(new Random());
+    }
+
+    /**
+     * Constructor con semilla fija para obtener flotas reproducibles.
+     *
+     * @param seed Semilla del generador
+     */
+    public FleetPlacer(long seed) {
+        this(new Random(seed));
+    }
+
+    /**
+     * Constructor con un generador propio.
+     *
+     * @param random Generador de números aleatorios
+     */
+    public FleetPlacer(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Coloca en el tablero todos los barcos que aún tiene disponibles.
+     * Respeta los barcos que ya estaban colocados.
+     *
+     * @param board Tablero a completar
+     * @throws IllegalStateException si no existe ninguna forma de colocar los barcos restantes;
+     *         en ese caso el tablero no se modifica
+     */
+    public void placeRemaining(Board board) {
+        ShipType[] order = remainingShipsLargestFirst(board);
+        if (order.length == 0) {
+            return;
+        }
+
+        loadOccupancy(board);
+        ensureCapacity(order.length);
+
+        int[] chosen = new int[order.length];
+        if (!search(order, chosen)) {
+            throw new IllegalStateException(
+                    String.format("No legal placement exists for the remaining %d ships on a %dx%d board",
+                            order.length, size, size)
+            );
+        }
+
+        for (int i = 0; i < order.length; i++) {
+            Ship ship = new Ship(order[i]);
+            int cell = chosen[i] >>> 1;
+            if ((chosen[i] & 1) != 0) {
+                ship.rotate();
+            }
+            board.placeShip(ship, cell / size, cell % size);
+        }
+    }
+
+    /**
+     * Busca una colocación para cada barco, retrocediendo cuando un barco no cabe.
+     * La búsqueda es iterativa para soportar flotas de miles de barcos.
+     *
+     * @param order Tipos de barco a colocar, en orden
+     * @param chosen Arreglo donde se guarda la colocación elegida para cada barco
+     * @return true si se encontró una colocación para todos los barcos
+     */
+    private boolean search(ShipType[] order, int[] chosen) {
+        int depth = 0;
+        boolean backtracking = false;
+
+        while (depth >= 0 && depth < order.length) {
+            int length = order[depth].getLength();
+            int placement;
+
+            if (!backtracking) {
+                enumerated[depth] = false;
+                placement = sample(length);
+                if (placement < 0) {
+                    enumerate(depth, length, -1);
+                    placement = takeCandidate(depth);
+                }
+            } else {
+                setRun(chosen[depth], length, false);
+                if (!enumerated[depth]) {
+                    enumerate(depth, length, chosen[depth]);
+                }
+                placement = takeCandidate(depth);
+            }
+
+            if (placement >= 0) {
+                setRun(placement, length, true);
+                chosen[depth] = placement;
+                depth++;
+                backtracking = false;
+            } else {
+                depth--;
+                backtracking = true;
+            }
+        }
+        return depth == order.length;
+    }
+
+    /**
+     * Propone colocaciones uniformes dentro de los límites y devuelve la primera libre.
+     *
+     * @param length Longitud del barco
+     * @return Colocación codificada, o -1 si ninguna propuesta estuvo libre
+     */
+    private int sample(int length) {
+        int span = size - length + 1;
+        if (span <= 0) {
+            return -1;
+        }
+        int perOrientation = size * span;
+
+        for (int attempt = 0; attempt < REJECTION_ATTEMPTS; attempt++) {
+            int r = random.nextInt(2 * perOrientation);
+            int placement;
+            if (r < perOrientation) {
+                int cell = (r / span) * size + r % span;
+                placement = cell << 1;
+            } else {
+                placement = ((r - perOrientation) << 1) | 1;
+            }
+            if (isRunFree(placement, length)) {
+                return placement;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Enumera todas las colocaciones legales de un barco en el nivel indicado.
+     * Recorre cada fila contando rachas de celdas libres para las horizontales y
+     * mantiene una racha por columna para las verticales.
+     *
+     * @param depth Nivel de búsqueda
+     * @param length Longitud del barco
+     * @param exclude Colocación que no debe incluirse (ya probada), o -1
+     */
+    private void enumerate(int depth, int length, int exclude) {
+        int[] buffer = candidates[depth];
+        int count = 0;
+
+        Arrays.fill(columnRuns, 0, size, 0);
+        for (int row = 0; row < size; row++) {
+            int rowRun = 0;
+            for (int col = 0; col < size; col++) {
+                int cell = row * size + col;
+                if (isOccupied(cell)) {
+                    rowRun = 0;
+                    columnRuns[col] = 0;
+                    continue;
+                }
+                rowRun++;
+                columnRuns[col]++;
+
+                if (rowRun >= length) {
+                    buffer = append(buffer, count++, (cell - length + 1) << 1);
+                }
+                if (columnRuns[col] >= length) {
+                    buffer = append(buffer, count++, ((cell - (length - 1) * size) << 1) | 1);
+                }
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (buffer[i] == exclude) {
+                buffer[i] = buffer[--count];
+                break;
+            }
+        }
+
+        candidates[depth] = buffer;
+        candidateCounts[depth] = count;
+        enumerated[depth] = true;
+    }
+
+    /**
+     * Extrae una candidata al azar del nivel indicado, sin reemplazo.
+     *
+     * @param depth Nivel de búsqueda
+     * @return Colocación codificada, o -1 si no quedan candidatas
+     */
+    private int takeCandidate(int depth) {
+        int count = candidateCounts[depth];
+        if (count == 0) {
+            return -1;
+        }
+        int[] buffer = candidates[depth];
+        int i = random.nextInt(count);
+        int placement = buffer[i];
+        buffer[i] = buffer[count - 1];
+        candidateCounts[depth] = count - 1;
+        return placement;
+    }
+
+    /**
+     * Agrega un valor a un arreglo de candidatas, ampliándolo si está lleno.
+     *
+     * @param buffer Arreglo actual
+     * @param index Posición donde escribir
+     * @param value Valor a escribir
+     * @return El mismo arreglo o uno más grande con el valor escrito
+     */
+    private static int[] append(int[] buffer, int index, int value) {
+        if (index == buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(16, buffer.length * 2));
+        }
+        buffer[index] = value;
+        return buffer;
+    }
+
+    /**
+     * Verifica si todas las celdas de una colocación están libres.
+     *
+     * @param placement Colocación codificada
+     * @param length Longitud del barco
+     * @return true si ninguna celda está ocupada
+     */
+    private boolean isRunFree(int placement, int length) {
+        int cell = placement >>> 1;
+        int stride = (placement & 1) != 0 ? size : 1;
+        for (int i = 0; i < length; i++, cell += stride) {
+            if (isOccupied(cell)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marca o libera las celdas de una colocación en la máscara de ocupación.
+     *
+     * @param placement Colocación codificada
+     * @param length Longitud del barco
+     * @param value true para ocupar, false para liberar
+     */
+    private void setRun(int placement, int length, boolean value) {
+        int cell = placement >>> 1;
+        int stride = (placement & 1) != 0 ? size : 1;
+        for (int i = 0; i < length; i++, cell += stride) {
+            if (value) {
+                occupied[cell >>> 6] |= 1L << cell;
+            } else {
+                occupied[cell >>> 6] &= ~(1L << cell);
+            }
+        }
+    }
+
+    /**
+     * Verifica si una celda está ocupada.
+     *
+     * @param cell Índice lineal de la celda
+     * @return true si la celda está ocupada
+     */
+    private boolean isOccupied(int cell) {
+        return (occupied[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Construye la máscara de ocupación a partir de los barcos ya colocados.
+     *
+     * @param board Tablero de origen
+     */
+    private void loadOccupancy(Board board) {
+        size = board.getSize();
+        int words = (size * size + 63) >>> 6;
+        if (occupied == null || occupied.length < words) {
+            occupied = new long[words];
+        } else {
+            Arrays.fill(occupied, 0, words, 0L);
+        }
+        if (columnRuns.length < size) {
+            columnRuns = new int[size];
+        }
+
+        for (Ship ship : board.getShips()) {
+            ShipPositions positions = ship.getPositions();
+            for (int i = 0; i < positions.size(); i++) {
+                int cell = positions.cellIndex(i, size);
+                occupied[cell >>> 6] |= 1L << cell;
+            }
+        }
+    }
+
+    /**
+     * Asegura que haya estado de búsqueda para la cantidad de barcos indicada.
+     *
+     * @param ships Número de barcos a colocar
+     */
+    private void ensureCapacity(int ships) {
+        if (candidates.length < ships) {
+            candidates = Arrays.copyOf(candidates, ships);
+            for (int i = 0; i < ships; i++) {
+                if (candidates[i] == null) {
+                    candidates[i] = new int[16];
+                }
+            }
+            candidateCounts = new int[ships];
+            enumerated = new boolean[ships];
+        }
+    }
+
+    /**
+     * Lista los barcos pendientes del tablero, de mayor a menor longitud.
+     *
+     * @param board Tablero de origen
+     * @return Tipos de barco a colocar, uno por barco
+     */
+    private static ShipType[] remainingShipsLargestFirst(Board board) {
+        ShipType[] types = ShipType.values().clone();
+        Arrays.sort(types, (a, b) -> Integer.compare(b.getLength(), a.getLength()));
+
+        int total = 0;
+        for (ShipType type : types) {
+            total += board.getRemainingShips(type);
+        }
+
+        ShipType[] order = new ShipType[total];
+        int next = 0;
+        for (ShipType type : types) {
+            for (int i = board.getRemainingShips(type); i > 0; i--) {
+                order[next++] = type;
+            }
+        }
+        return order;
+    }
+}
@@ -0,0 +1,281 @@
+package com.navyattack.model;
+
+/**
+ * Motor de una partida de NavyAttack, independiente de la interfaz gráfica.
+ * Mantiene el turno actual, el contador de turnos, si el jugador en turno ya atacó
+ * y la detección de victoria, de modo que la misma lógica sirva para la vista JavaFX,
+ * simulaciones y partidas sin interfaz.
+ *
+ * Los turnos alternan estrictamente entre los dos jugadores: en cada turno el jugador
+ * realiza exactamente un ataque válido sobre el tablero rival y luego termina el turno.
+ * Los ataques inválidos (celda ya atacada o fuera del tablero) no consumen el turno.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public class GameEngine {
+
+    /**
+     * Tablero del jugador 1.
+     */
+    private final Board player1Board;
+
+    /**
+     * Tablero del jugador 2.
+     */
+    private final Board player2Board;
+
+    /**
+     * Jugador en turno.
+     */
+    private PlayerSide currentPlayer;
+
+    /**
+     * Indica si el jugador en turno ya realizó su ataque.
+     */
+    private boolean hasAttackedThisTurn;
+
+    /**
+     * Turnos terminados por el jugador 1.
+     */
+    private int player1Turns;
+
+    /**
+     * Turnos terminados por el jugador 2.
+     */
+    private int player2Turns;
+
+    /**
+     * Ataques válidos del jugador 1.
+     */
+    private int player1Shots;
+
+    /**
+     * Ataques válidos del jugador 2.
+     */
+    private int player2Shots;
+
+    /**
+     * Ganador de la partida, o null si aún no termina.
+     */
+    private PlayerSide winner;
+
+    /**
+     * Constructor del motor.
+     *
+     * @param player1Board Tablero del jugador 1, con su flota ya colocada
+     * @param player2Board Tablero del jugador 2, con su flota ya colocada
+     * @throws IllegalArgumentException si algún tablero es null
+     */
+    public GameEngine(Board player1Board, Board player2Board) {
+        if (player1Board == null || player2Board == null) {
+            throw new IllegalArgumentException("Both boards are required");
+        }
+        this.player1Board = player1Board;
+        this.player2Board = player2Board;
+        this.currentPlayer = PlayerSide.PLAYER_1;
+    }
+
+    /**
+     * Ataca una celda del tablero rival con el jugador en turno.
+     * Si el ataque hunde el último barco rival, la partida termina con el jugador
+     * en turno como ganador.
+     *
+     * @param row Fila de la celda atacada
+     * @param col Columna de la celda atacada
+     * @return Resultado del ataque
+     * @throws IllegalStateException si la partida terminó o el jugador ya atacó en este turno
+     */
+    public AttackResult attack(int row, int col) {
+        if (isGameOver()) {
+            throw new IllegalStateException("The game is over");
+        }
+        if (hasAttackedThisTurn) {
+            throw new IllegalStateException(currentPlayer + " already attacked this turn");
+        }
+
+        Board target = getTargetBoard();
+        AttackResult result = target.attack(row, col);
+        if (result.isInvalidMove()) {
+            return result;
+        }
+
+        hasAttackedThisTurn = true;
+        if (currentPlayer == PlayerSide.PLAYER_1) {
+            player1Shots++;
+        } else {
+            player2Shots++;
+        }
+        if (target.areAllShipsSunk()) {
+            winner = currentPlayer;
+        }
+        return result;
+    }
+
+    /**
+     * Termina el turno del jugador actual y cede el turno al rival.
+     *
+     * @throws IllegalStateException si la partida terminó o el jugador aún no atacó
+     */
+    public void endTurn() {
+        if (isGameOver()) {
+            throw new IllegalStateException("The game is over");
+        }
+        if (!hasAttackedThisTurn) {
+            throw new IllegalStateException(currentPlayer + " must attack before ending the turn");
+        }
+
+        if (currentPlayer == PlayerSide.PLAYER_1) {
+            player1Turns++;
+        } else {
+            player2Turns++;
+        }
+        currentPlayer = currentPlayer.opponent();
+        hasAttackedThisTurn = false;
+    }
+
+    /**
+     * Juega la partida completa entre dos jugadores automáticos, desde el estado actual.
+     *
+     * @param player1 Estrategia del jugador 1
+     * @param player2 Estrategia del jugador 2
+     * @return Resultado de la partida
+     * @throws IllegalStateException si una estrategia elige una celda inválida o ya atacada
+     */
+    public MatchResult playMatch(PlayerStrategy player1, PlayerStrategy player2) {
+        while (!isGameOver()) {
+            PlayerStrategy strategy = currentPlayer == PlayerSide.PLAYER_1 ? player1 : player2;
+            Board target = getTargetBoard();
+            int size = target.getSize();
+
+            int cell = strategy.attackCell();
+            int row = cell / size;
+            int col = cell % size;
+            AttackResult result = attack(row, col);
+            if (result.isInvalidMove()) {
+                throw new IllegalStateException(
+                        String.format("%s chose an invalid cell (%d, %d): %s", currentPlayer, row, col, result));
+            }
+
+            Ship sunkShip = result == AttackResult.SUNK ? target.getShipAt(row, col) : null;
+            strategy.processResult(result, cell, sunkShip);
+
+            if (!isGameOver()) {
+                endTurn();
+            }
+        }
+
+        return new MatchResult(winner, player1Shots, player2Shots,
+                getShipsSunkBy(PlayerSide.PLAYER_1), getShipsSunkBy(PlayerSide.PLAYER_2));
+    }
+
+    /**
+     * Obtiene el jugador en turno.
+     *
+     * @return Lado del jugador en turno
+     */
+    public PlayerSide getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Verifica si es el turno del jugador 1.
+     *
+     * @return true si el jugador 1 está en turno
+     */
+    public boolean isPlayer1Turn() {
+        return currentPlayer == PlayerSide.PLAYER_1;
+    }
+
+    /**
+     * Verifica si el jugador en turno ya atacó.
+     *
+     * @return true si ya realizó su ataque en este turno
+     */
+    public boolean hasAttackedThisTurn() {
+        return hasAttackedThisTurn;
+    }
+
+    /**
+     * Verifica si la partida terminó.
+     *
+     * @return true si algún jugador hundió toda la flota rival
+     */
+    public boolean isGameOver() {
+        return winner != null;
+    }
+
+    /**
+     * Obtiene el ganador de la partida.
+     *
+     * @return Lado ganador, o null si la partida no ha terminado
+     */
+    public PlayerSide getWinner() {
+        return winner;
+    }
+
+    /**
+     * Obtiene el número total de turnos terminados por ambos jugadores.
+     *
+     * @return Turnos terminados
+     */
+    public int getTurnCount() {
+        return player1Turns + player2Turns;
+    }
+
+    /**
+     * Obtiene el número de turnos terminados por un jugador.
+     *
+     * @param side Lado del jugador
+     * @return Turnos terminados por ese jugador
+     */
+    public int getTurnCount(PlayerSide side) {
+        return side == PlayerSide.PLAYER_1 ? player1Turns : player2Turns;
+    }
+
+    /**
+     * Obtiene el tablero de un jugador.
+     *
+     * @param side Lado del jugador
+     * @return Tablero con la flota de ese jugador
+     */
+    public Board getBoard(PlayerSide side) {
+        return side == PlayerSide.PLAYER_1 ? player1Board : player2Board;
+    }
+
+    /**
+     * Obtiene el tablero que ataca el jugador en turno.
+     *
+     * @return Tablero del rival
+     */
+    public Board getTargetBoard() {
+        return getBoard(currentPlayer.opponent());
+    }
+
+    /**
+     * Cuenta los barcos rivales que ha hundido un jugador.
+     *
+     * @param side Lado del jugador atacante
+     * @return Barcos hundidos en el tablero rival
+     */
+    public int getShipsSunkBy(PlayerSide side) {
+        int sunk = 0;
+        for (Ship ship : getBoard(side.opponent()).getShips()) {
+            if (ship.isSunk()) {
+                sunk++;
+            }
+        }
+        return sunk;
+    }
+
+    /**
+     * Cuenta los barcos que aún tiene a flote un jugador.
+     *
+     * @param side Lado del jugador
+     * @return Barcos no hundidos en su tablero
+     */
+    public int getShipsRemaining(PlayerSide side) {
+        Board board = getBoard(side);
+        return board.getShips().size() - getShipsSunkBy(side.opponent());
+    }
+}
@@ -0,0 +1,1230 @@
+package com.navyattack.model;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Registro binario de solo anexado con los usuarios y las partidas de NavyAttack.
+ * Guardar un usuario nuevo o una partida terminada añade un único registro al final
+ * del archivo, por lo que el costo de cada guardado depende solo del registro nuevo
+ * y no del tamaño del historial acumulado.
+ *
+ * El archivo empieza con una cabecera (número mágico y versión) seguida de registros
+ * con el formato {@code [longitud:int][tipo:byte][datos][crc32:int]}. Los nombres que
+ * aparecen en las partidas se internan con registros de nombre, y cada partida se
+ * codifica con {@link HistoryCodec} usando sus identificadores, seguida, por cada
+ * jugador, de la posición de la partida anterior de ese jugador; así el historial de
+ * un usuario se recorre hacia atrás desde su última partida sin leer las demás. Al
+ * cargar, un registro incompleto o con CRC inválido al final del archivo (por ejemplo,
+ * tras un cierre inesperado) se descarta y el archivo se trunca en el último registro válido.
+ * Los registros de usuario guardan el hash de la contraseña, nunca la contraseña.
+ *
+ * Junto al registro se guarda un índice ({@code <registro>.idx}) con la tabla de
+ * nombres y, por usuario, el hash de su contraseña, los totales de sus partidas
+ * ({@link UserTotals} y {@link RollingStatistics}) y las posiciones de su registro y
+ * de su última partida. {@link #loadIndexed()} lee solo el índice y los registros
+ * anexados después de escribirlo, de modo que el arranque no depende del número de
+ * partidas guardadas; si el índice falta o no es válido, se reconstruye recorriendo
+ * el registro. El índice se reescribe al cerrar y al compactar.
+ *
+ * La compactación reescribe el registro en un archivo temporal y lo reemplaza con un
+ * renombrado atómico. Solo se necesita para migrar un archivo que usa una versión anterior
+ * del formato, que se puede leer pero no ampliar: en el uso normal ningún registro se
+ * reemplaza, y las colas dañadas se truncan al cargar, así que no se acumulan bytes
+ * desperdiciados.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public final class GameLog implements AutoCloseable {
+
+    /**
+     * Número mágico de la cabecera ("NAVL").
+     */
+    static final int MAGIC = 0x4E41564C;
+
+    /**
+     * Versión del formato del archivo.
+     */
+    static final byte FORMAT_VERSION = 4;
+
+    /**
+     * Versión del formato en la que las partidas guardaban sus nombres como texto.
+     */
+    private static final byte TEXT_GAMES_VERSION = 1;
+
+    /**
+     * Primera versión del formato en la que las partidas se encadenan por jugador.
+     */
+    private static final byte CHAINED_GAMES_VERSION = 3;
+
+    /**
+     * Primera versión del formato en la que los usuarios guardan el hash de su contraseña
+     * en lugar de la contraseña.
+     */
+    private static final byte HASHED_PASSWORDS_VERSION = 4;
+
+    /**
+     * Tamaño en bytes del hash de una contraseña.
+     */
+    private static final int PASSWORD_HASH_SIZE = 32;
+
+    /**
+     * Tamaño de la cabecera del archivo en bytes: número mágico y versión.
+     */
+    static final int HEADER_SIZE = Integer.BYTES + 1;
+
+    /**
+     * Tamaño en bytes del prefijo de cada registro: longitud y tipo.
+     */
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + 1;
+
+    /**
+     * Tipo de registro de usuario.
+     */
+    static final byte USER_RECORD = 1;
+
+    /**
+     * Tipo de registro de partida.
+     */
+    static final byte GAME_RECORD = 2;
+
+    /**
+     * Tipo de registro de nombre internado.
+     */
+    static final byte NAME_RECORD = 3;
+
+    /**
+     * Número mágico del índice ("NAVI").
+     */
+    static final int INDEX_MAGIC = 0x4E415649;
+
+    /**
+     * Versión del formato del índice.
+     */
+    private static final byte INDEX_VERSION = 4;
+
+    /**
+     * Bytes de un registro además de sus datos: longitud, tipo y CRC.
+     */
+    private static final int RECORD_OVERHEAD = RECORD_HEADER_SIZE + Integer.BYTES;
+
+    /**
+     * Tamaño máximo de los datos de un registro; uno mayor se considera dañado.
+     */
+    private static final int MAX_PAYLOAD_SIZE = 1 << 20;
+
+    /**
+     * Ruta del archivo del registro.
+     */
+    private final Path path;
+
+    /**
+     * Ruta del archivo del índice.
+     */
+    private final Path indexPath;
+
+    /**
+     * Canal abierto para anexar registros, o null si aún no se ha abierto.
+     */
+    private FileChannel channel;
+
+    /**
+     * Identificadores de los nombres internados en el archivo.
+     */
+    private final Map<String, Integer> nameIds = new HashMap<>();
+
+    /**
+     * Nombres internados en el archivo, por identificador.
+     */
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * Posiciones de los registros de cada usuario, por nombre y en orden de registro.
+     */
+    private final Map<String, UserEntry> entries = new LinkedHashMap<>();
+
+    /**
+     * Partidas ya leídas o escritas, por posición, para que un historial cargado
+     * comparta las partidas con los de los demás jugadores.
+     */
+    private final Map<Long, History> games = new HashMap<>();
+
+    /**
+     * Versión del formato del archivo leído.
+     */
+    private byte version = FORMAT_VERSION;
+
+    /**
+     * Indica si ya se leyó el archivo existente o su índice.
+     */
+    private boolean loaded;
+
+    /**
+     * Indica si el archivo usa una versión anterior del formato y debe compactarse.
+     */
+    private boolean outdated;
+
+    /**
+     * Indica si el índice en disco no refleja el estado actual del registro.
+     */
+    private boolean indexStale;
+
+    /**
+     * Fin del último registro válido conocido.
+     */
+    private long length;
+
+    /**
+     * Constructor del registro.
+     *
+     * @param path Ruta del archivo; se crea al escribir el primer registro si no existe
+     */
+    public GameLog(Path path) {
+        this.path = path;
+        this.indexPath = path.resolveSibling(path.getFileName() + ".idx");
+    }
+
+    /**
+     * Verifica si el archivo del registro existe.
+     *
+     * @return true si el archivo existe
+     */
+    public boolean exists() {
+        return Files.exists(path);
+    }
+
+    /**
+     * Carga todos los usuarios del registro con sus historiales.
+     * Si el archivo termina en un registro dañado, se trunca en el último registro válido.
+     *
+     * @return Usuarios en orden de registro, o una lista vacía si el archivo no existe
+     * @throws IOException si el archivo no se puede leer o su cabecera no es válida
+     */
+    public synchronized List<User> load() throws IOException {
+        Map<String, User> users = new LinkedHashMap<>();
+        scan(users);
+        return new ArrayList<>(users.values());
+    }
+
+    /**
+     * Carga los usuarios del registro sin leer sus historiales, que se leen al pedirlos;
+     * para verificar una contraseña basta el hash del índice.
+     * Si el archivo usa una versión anterior del formato, se carga completo como con
+     * {@link #load()}.
+     *
+     * @return Usuarios en orden de registro, o una lista vacía si el archivo no existe
+     * @throws IOException si el archivo no se puede leer o su cabecera no es válida
+     */
+    public synchronized List<User> loadIndexed() throws IOException {
+        if (!readIndex()) {
+            scan(null);
+        }
+        if (outdated) {
+            return load();
+        }
+        List<User> users = new ArrayList<>(entries.size());
+        for (UserEntry entry : entries.values()) {
+            users.add(new User(entry.username, entry.passwordHash, entry.totals.copy(), entry.recent.copy(), this));
+        }
+        return users;
+    }
+
+    /**
+     * Añade al registro un usuario nuevo.
+     *
+     * @param user Usuario a guardar
+     * @throws IOException si ocurre un error de escritura
+     */
+    public synchronized void appendUser(User user) throws IOException {
+        appendAll(List.of(user), List.of());
+    }
+
+    /**
+     * Añade al registro una partida terminada.
+     *
+     * @param history Partida a guardar
+     * @throws IOException si ocurre un error de escritura
+     */
+    public synchronized void appendGame(History history) throws IOException {
+        appendAll(List.of(), List.of(history));
+    }
+
+    /**
+     * Añade al registro varios usuarios nuevos y partidas terminadas con una sola
+     * escritura, y fuerza los datos a disco una sola vez. Los usuarios se escriben
+     * antes que las partidas, que pueden hacer referencia a ellos.
+     * Si la escritura falla, el estado en memoria no cambia.
+     *
+     * @param users Usuarios a guardar
+     * @param games Partidas a guardar
+     * @throws IOException si ocurre un error de escritura
+     */
+    public synchronized void appendAll(Collection<User> users, Collection<History> games) throws IOException {
+        if (users.isEmpty() && games.isEmpty()) {
+            return;
+        }
+        prepareAppend();
+        openChannel();
+        long start = channel.size();
+        int namesBefore = names.size();
+        List<UserEntry> newUsers = new ArrayList<>(users.size());
+        Map<String, Long> heads = new HashMap<>();
+        Map<Long, History> written = new HashMap<>();
+        byte[] records;
+        try {
+            ByteArrayOutputStream batch = new ByteArrayOutputStream(64 * (users.size() + games.size()));
+            for (User user : users) {
+                byte[] record = record(USER_RECORD, encodeUser(user));
+                newUsers.add(new UserEntry(user.getUsername(), start + batch.size(),
+                        user.getPasswordHash()));
+                batch.write(record);
+            }
+            for (History history : games) {
+                for (String name : namesOf(history)) {
+                    if (!nameIds.containsKey(name)) {
+                        batch.write(record(NAME_RECORD, encodeName(intern(name), name)));
+                    }
+                }
+                long offset = start + batch.size();
+                batch.write(record(GAME_RECORD, encodeGame(history,
+                        player -> heads.containsKey(player) ? heads.get(player) : headOf(player))));
+                for (String player : history.getPlayerNames()) {
+                    heads.put(player, offset);
+                }
+                written.put(offset, history);
+            }
+            records = batch.toByteArray();
+            append(records, start);
+        } catch (IOException | RuntimeException e) {
+            while (names.size() > namesBefore) {
+                nameIds.remove(names.remove(names.size() - 1));
+            }
+            throw e;
+        }
+
+        for (UserEntry entry : newUsers) {
+            putEntry(entry);
+        }
+        for (Map.Entry<String, Long> head : heads.entrySet()) {
+            UserEntry entry = entries.get(head.getKey());
+            if (entry != null) {
+                entry.head = head.getValue();
+            }
+        }
+        for (History history : games) {
+            addToTotals(history);
+        }
+        this.games.putAll(written);
+        length = start + records.length;
+        indexStale = true;
+    }
+
+    /**
+     * Indica si el registro usa una versión anterior del formato y debe compactarse antes
+     * de anexar. En ese caso {@link #loadIndexed()} ya carga los usuarios completos, por lo
+     * que compactar no requiere lecturas adicionales.
+     *
+     * @return true si el archivo usa un formato anterior
+     */
+    public synchronized boolean needsMigration() {
+        return outdated;
+    }
+
+    /**
+     * Reescribe el registro con el estado actual de los usuarios y sus partidas.
+     * Escribe primero un archivo temporal y luego lo renombra de forma atómica, por
+     * lo que un cierre inesperado deja intacto el registro anterior o el nuevo.
+     * También sirve para crear el registro a partir de datos de otro formato.
+     * Los usuarios cargados con {@link #loadIndexed()} leen antes sus datos pendientes.
+     *
+     * @param users Usuarios a guardar, con sus historiales
+     * @throws IOException si ocurre un error de escritura
+     */
+    public synchronized void compact(Collection<User> users) throws IOException {
+        List<History> allGames = collectGames(users);
+
+        closeChannel();
+        createParentDirectories(path);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        Map<String, UserEntry> newEntries = new LinkedHashMap<>();
+        Map<Long, History> newGames = new HashMap<>();
+        nameIds.clear();
+        names.clear();
+        long position = HEADER_SIZE;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, header());
+            for (User user : users) {
+                int size = writeRecord(out, USER_RECORD, encodeUser(user));
+                newEntries.put(user.getUsername(),
+                        new UserEntry(user.getUsername(), position, user.getPasswordHash()));
+                position += size;
+            }
+            for (History history : allGames) {
+                for (String name : namesOf(history)) {
+                    if (!nameIds.containsKey(name)) {
+                        position += writeRecord(out, NAME_RECORD, encodeName(intern(name), name));
+                    }
+                }
+            }
+            for (History history : allGames) {
+                long offset = position;
+                position += writeRecord(out, GAME_RECORD, encodeGame(history, player -> {
+                    UserEntry entry = newEntries.get(player);
+                    return entry != null ? entry.head : -1;
+                }));
+                for (String player : history.getPlayerNames()) {
+                    UserEntry entry = newEntries.get(player);
+                    if (entry != null) {
+                        entry.head = offset;
+                        entry.totals.add(player, history);
+                        entry.recent.add(player, history);
+                    }
+                }
+                newGames.put(offset, history);
+            }
+            out.force(true);
+        }
+        replace(temp, path);
+
+        entries.clear();
+        entries.putAll(newEntries);
+        games.clear();
+        games.putAll(newGames);
+        version = FORMAT_VERSION;
+        length = position;
+        outdated = false;
+        loaded = true;
+        writeIndex();
+    }
+
+    /**
+     * Obtiene la ruta del archivo del registro.
+     *
+     * @return Ruta del archivo
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Obtiene la ruta del archivo del índice.
+     *
+     * @return Ruta del índice
+     */
+    public Path getIndexPath() {
+        return indexPath;
+    }
+
+    /**
+     * Cierra el canal de escritura, si está abierto, y guarda el índice si cambió.
+     *
+     * @throws IOException si ocurre un error al cerrar o al escribir el índice
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closeChannel();
+        if (loaded && !outdated && indexStale && Files.exists(path)) {
+            writeIndex();
+        }
+    }
+
+    /**
+     * Lee el historial de un usuario recorriendo hacia atrás la cadena de sus partidas.
+     *
+     * @param username Nombre del usuario
+     * @return Partidas del usuario en orden de registro
+     * @throws IOException si el registro no se puede leer o la cadena está dañada
+     */
+    synchronized List<History> readHistory(String username) throws IOException {
+        List<History> history = new ArrayList<>();
+        UserEntry entry = entries.get(username);
+        if (entry == null || entry.head < 0) {
+            return history;
+        }
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            long offset = entry.head;
+            while (offset >= 0) {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                        readRecordAt(file, offset, GAME_RECORD)));
+                History game = HistoryCodec.decode(in, this::nameOf);
+                long previous = -1;
+                for (String player : game.getPlayerNames()) {
+                    long link = in.readLong();
+                    if (player.equals(username)) {
+                        previous = link;
+                    }
+                }
+                if (previous >= offset) {
+                    throw new IOException("Broken game chain for " + username + " at byte " + offset);
+                }
+                history.add(games.computeIfAbsent(offset, key -> game));
+                offset = previous;
+            }
+        }
+        Collections.reverse(history);
+        return history;
+    }
+
+    /**
+     * Lee el archivo completo y reconstruye el estado en memoria.
+     * Si el archivo termina en un registro dañado, se trunca en el último registro válido.
+     *
+     * @param users Mapa donde cargar los usuarios con sus historiales, o null para
+     *              cargar solo las posiciones de sus registros
+     * @throws IOException si el archivo no se puede leer o su cabecera no es válida
+     */
+    private void scan(Map<String, User> users) throws IOException {
+        resetState();
+        if (!Files.exists(path) || Files.size(path) == 0) {
+            loaded = true;
+            return;
+        }
+
+        long fileSize = Files.size(path);
+        length = readRecords(HEADER_SIZE, users);
+        if (length < fileSize) {
+            System.err.println("Registro de partidas dañado a partir del byte " + length
+                    + "; se descartan " + (fileSize - length) + " bytes.");
+            try (FileChannel truncate = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                truncate.truncate(length);
+            }
+            Files.deleteIfExists(indexPath);
+        }
+        loaded = true;
+        indexStale = true;
+    }
+
+    /**
+     * Lee el índice y los registros anexados después de escribirlo.
+     *
+     * @return true si el índice es válido y el estado quedó cargado; false si hay que
+     *         recorrer el archivo completo
+     * @throws IOException si el registro no se puede leer
+     */
+    private boolean readIndex() throws IOException {
+        resetState();
+        if (!Files.exists(indexPath) || !Files.exists(path)) {
+            return false;
+        }
+        long fileSize = Files.size(path);
+        try {
+            byte[] bytes = Files.readAllBytes(indexPath);
+            if (bytes.length < 4) {
+                return false;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, bytes.length - 4);
+            if ((int) crc.getValue() != ByteBuffer.wrap(bytes, bytes.length - 4, 4).getInt()) {
+                return false;
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - 4));
+            if (in.readInt() != INDEX_MAGIC || in.readByte() != INDEX_VERSION) {
+                return false;
+            }
+            length = in.readLong();
+            if (length < HEADER_SIZE || length > fileSize) {
+                resetState();
+                return false;
+            }
+            int nameCount = HistoryCodec.readVarInt(in);
+            for (int i = 0; i < nameCount; i++) {
+                intern(in.readUTF());
+            }
+            int userCount = HistoryCodec.readVarInt(in);
+            for (int i = 0; i < userCount; i++) {
+                String username = in.readUTF();
+                byte[] passwordHash = new byte[PASSWORD_HASH_SIZE];
+                in.readFully(passwordHash);
+                UserEntry entry = new UserEntry(username, HistoryCodec.readVarLong(in), passwordHash);
+                entry.head = HistoryCodec.readVarLong(in) - 1;
+                entry.totals = UserTotals.read(in);
+                entry.recent = RollingStatistics.read(in);
+                entries.put(username, entry);
+            }
+        } catch (IOException e) {
+            resetState();
+            return false;
+        }
+
+        if (length < fileSize) {
+            // Registros anexados después de escribir el índice
+            if (readRecords(length, null) < fileSize) {
+                resetState();
+                return false;
+            }
+            length = fileSize;
+            indexStale = true;
+        } else {
+            try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+                readHeader(new DataInputStream(Channels.newInputStream(file)));
+            }
+        }
+        if (outdated) {
+            resetState();
+            return false;
+        }
+        loaded = true;
+        return true;
+    }
+
+    /**
+     * Escribe el índice en un archivo temporal y lo renombra de forma atómica.
+     *
+     * @throws IOException si ocurre un error de escritura
+     */
+    private void writeIndex() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + 64 * entries.size());
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(INDEX_MAGIC);
+        out.writeByte(INDEX_VERSION);
+        out.writeLong(length);
+        HistoryCodec.writeVarInt(out, names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+        HistoryCodec.writeVarInt(out, entries.size());
+        for (UserEntry entry : entries.values()) {
+            out.writeUTF(entry.username);
+            out.write(entry.passwordHash);
+            HistoryCodec.writeVarLong(out, entry.offset);
+            HistoryCodec.writeVarLong(out, entry.head + 1);
+            entry.totals.write(out);
+            entry.recent.write(out);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeInt((int) crc.getValue());
+
+        createParentDirectories(indexPath);
+        Path temp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        try (FileChannel file = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(file, ByteBuffer.wrap(bytes.toByteArray()));
+            file.force(true);
+        }
+        replace(temp, indexPath);
+        indexStale = false;
+    }
+
+    /**
+     * Lee los registros del archivo desde una posición y los aplica al estado en memoria.
+     *
+     * @param from Posición del primer registro
+     * @param users Mapa donde cargar los usuarios con sus historiales, o null
+     * @return Fin del último registro válido
+     * @throws IOException si el archivo no se puede leer o su cabecera no es válida
+     */
+    private long readRecords(long from, Map<String, User> users) throws IOException {
+        long validEnd = from;
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            version = readHeader(new DataInputStream(Channels.newInputStream(file)));
+            outdated = version < FORMAT_VERSION;
+            file.position(from);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(file)));
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length < 0 || length > MAX_PAYLOAD_SIZE) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                byte type;
+                int storedCrc;
+                try {
+                    type = in.readByte();
+                    in.readFully(payload);
+                    storedCrc = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(type);
+                crc.update(payload);
+                if ((int) crc.getValue() != storedCrc) {
+                    break;
+                }
+
+                int recordSize = RECORD_OVERHEAD + length;
+                applyRecord(type, payload, validEnd, users);
+                validEnd += recordSize;
+            }
+        }
+        return validEnd;
+    }
+
+    /**
+     * Lee y verifica un registro completo en una posición del archivo.
+     *
+     * @param file Canal de lectura
+     * @param offset Posición del registro
+     * @param expectedType Tipo esperado del registro
+     * @return Datos del registro
+     * @throws IOException si el registro no es del tipo esperado o está dañado
+     */
+    private static byte[] readRecordAt(FileChannel file, long offset, byte expectedType) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        readFully(file, head, offset);
+        head.flip();
+        int length = head.getInt();
+        byte type = head.get();
+        if (type != expectedType || length < 0 || length > MAX_PAYLOAD_SIZE) {
+            throw new IOException("Unexpected record at byte " + offset);
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(length + 4);
+        readFully(file, body, offset + RECORD_HEADER_SIZE);
+        body.flip();
+        byte[] payload = new byte[length];
+        body.get(payload);
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        if ((int) crc.getValue() != body.getInt()) {
+            throw new IOException("Corrupt record at byte " + offset);
+        }
+        return payload;
+    }
+
+    /**
+     * Llena un buffer con bytes del archivo a partir de una posición.
+     *
+     * @param file Canal de lectura
+     * @param buffer Buffer a llenar
+     * @param position Posición inicial
+     * @throws IOException si el archivo termina antes
+     */
+    private static void readFully(FileChannel file, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = file.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Truncated record at byte " + position);
+            }
+        }
+    }
+
+    /**
+     * Descarta el estado en memoria antes de leer el archivo.
+     */
+    private void resetState() {
+        nameIds.clear();
+        names.clear();
+        entries.clear();
+        games.clear();
+        version = FORMAT_VERSION;
+        length = 0;
+        outdated = false;
+        loaded = false;
+        indexStale = false;
+    }
+
+    /**
+     * Se asegura de conocer los nombres internados y las cadenas de partidas de un
+     * archivo existente antes de anexar.
+     *
+     * @throws IOException si el archivo no se puede leer
+     * @throws IllegalStateException si el archivo usa un formato anterior sin compactar
+     */
+    private void prepareAppend() throws IOException {
+        if (!loaded && !readIndex()) {
+            scan(null);
+        }
+        if (outdated) {
+            throw new IllegalStateException("The game log uses an older format and must be compacted first");
+        }
+    }
+
+    /**
+     * Registra la posición del registro vigente de un usuario.
+     *
+     * @param entry Posiciones del nuevo registro del usuario
+     */
+    private void putEntry(UserEntry entry) {
+        UserEntry previous = entries.get(entry.username);
+        if (previous != null) {
+            // Un registro posterior reemplaza al anterior y conserva su historial
+            entry.head = previous.head;
+            entry.totals = previous.totals;
+            entry.recent = previous.recent;
+        }
+        entries.put(entry.username, entry);
+    }
+
+    /**
+     * Suma una partida a los totales de sus jugadores registrados.
+     *
+     * @param history Partida
+     */
+    private void addToTotals(History history) {
+        for (String player : history.getPlayerNames()) {
+            UserEntry entry = entries.get(player);
+            if (entry != null) {
+                entry.totals.add(player, history);
+                entry.recent.add(player, history);
+            }
+        }
+    }
+
+    /**
+     * Obtiene la posición de la última partida escrita de un jugador.
+     *
+     * @param player Nombre del jugador
+     * @return Posición de la partida, o -1 si no tiene
+     */
+    private long headOf(String player) {
+        UserEntry entry = entries.get(player);
+        return entry != null ? entry.head : -1;
+    }
+
+    /**
+     * Asigna el siguiente identificador a un nombre nuevo.
+     *
+     * @param name Nombre a internar
+     * @return Identificador asignado
+     */
+    private int intern(String name) {
+        int id = names.size();
+        names.add(name);
+        nameIds.put(name, id);
+        return id;
+    }
+
+    /**
+     * Obtiene el nombre internado con un identificador.
+     *
+     * @param id Identificador
+     * @return Nombre, o null si no existe
+     */
+    private String nameOf(int id) {
+        return id >= 0 && id < names.size() ? names.get(id) : null;
+    }
+
+    /**
+     * Obtiene los nombres que una partida necesita tener internados.
+     *
+     * @param history Partida
+     * @return Nombres distintos de null, en orden de aparición
+     */
+    private static List<String> namesOf(History history) {
+        List<String> result = new ArrayList<>(4);
+        for (String name : new String[]{history.getWinner(), history.getLoser(), history.getGameMode()}) {
+            if (name != null) {
+                result.add(name);
+            }
+        }
+        result.addAll(history.getPlayerNames());
+        return result;
+    }
+
+    /**
+     * Abre el canal de escritura, creando el archivo con su cabecera si no existe.
+     *
+     * @throws IOException si el archivo no se puede abrir
+     */
+    private void openChannel() throws IOException {
+        if (channel == null) {
+            createParentDirectories(path);
+            channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            if (channel.size() == 0) {
+                writeFully(channel, header());
+            }
+        }
+    }
+
+    /**
+     * Anexa registros ya enmarcados y los fuerza a disco.
+     *
+     * @param records Registros completos, uno tras otro
+     * @param start Tamaño del archivo antes de anexar
+     * @throws IOException si ocurre un error de escritura
+     */
+    private void append(byte[] records, long start) throws IOException {
+        try {
+            writeFully(channel, ByteBuffer.wrap(records));
+            channel.force(false);
+        } catch (IOException e) {
+            // No dejar un lote a medias delante de los registros siguientes
+            channel.truncate(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Cierra el canal de escritura, si está abierto.
+     *
+     * @throws IOException si ocurre un error al cerrar
+     */
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Aplica un registro leído al estado en memoria.
+     *
+     * @param type Tipo del registro
+     * @param payload Datos del registro
+     * @param offset Posición del registro en el archivo
+     * @param users Usuarios cargados hasta el momento, por nombre, o null si solo se
+     *              cargan las posiciones de los registros
+     * @throws IOException si los datos del registro no son válidos
+     */
+    private void applyRecord(byte type, byte[] payload, long offset, Map<String, User> users)
+            throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        switch (type) {
+            case USER_RECORD -> {
+                String username = in.readUTF();
+                byte[] passwordHash;
+                if (version >= HASHED_PASSWORDS_VERSION) {
+                    passwordHash = new byte[PASSWORD_HASH_SIZE];
+                    in.readFully(passwordHash);
+                } else {
+                    passwordHash = User.hashPassword(username, in.readUTF());
+                }
+                putEntry(new UserEntry(username, offset, passwordHash));
+                if (users != null) {
+                    User previous = users.get(username);
+                    User user = new User(username, passwordHash, new UserTotals(), new RollingStatistics(), null);
+                    if (previous != null) {
+                        for (History history : previous.getHistory()) {
+                            user.addHistory(history);
+                        }
+                    }
+                    users.put(username, user);
+                }
+            }
+            case NAME_RECORD -> {
+                int id = HistoryCodec.readVarInt(in);
+                String name = in.readUTF();
+                if (id != names.size()) {
+                    throw new IOException("Name id " + id + " out of sequence");
+                }
+                intern(name);
+            }
+            case GAME_RECORD -> {
+                History history = version == TEXT_GAMES_VERSION
+                        ? decodeTextGame(in) : HistoryCodec.decode(in, this::nameOf);
+                addToTotals(history);
+                for (String player : history.getPlayerNames()) {
+                    UserEntry entry = entries.get(player);
+                    if (entry != null && version >= CHAINED_GAMES_VERSION) {
+                        entry.head = offset;
+                    }
+                    User user = users != null ? users.get(player) : null;
+                    if (user != null) {
+                        user.addHistory(history);
+                    }
+                }
+            }
+            default -> {
+                // Tipo de registro desconocido: se ignora
+            }
+        }
+    }
+
+    /**
+     * Codifica un registro de usuario: su nombre y el hash de su contraseña.
+     *
+     * @param user Usuario a codificar
+     * @return Datos del registro
+     * @throws IOException si ocurre un error de codificación
+     */
+    private static byte[] encodeUser(User user) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        DataOutputStream out = new DataOutputStream(bytes);
+        byte[] passwordHash = user.getPasswordHash();
+        if (passwordHash == null) {
+            throw new IllegalArgumentException("User " + user.getUsername() + " has no password");
+        }
+        out.writeUTF(user.getUsername());
+        out.write(passwordHash);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Codifica un registro de nombre internado.
+     *
+     * @param id Identificador del nombre
+     * @param name Nombre
+     * @return Datos del registro
+     * @throws IOException si ocurre un error de codificación
+     */
+    private static byte[] encodeName(int id, String name) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16);
+        DataOutputStream out = new DataOutputStream(bytes);
+        HistoryCodec.writeVarInt(out, id);
+        out.writeUTF(name);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Codifica un registro de partida con {@link HistoryCodec}, seguido de la posición
+     * de la partida anterior de cada jugador (-1 si no tiene) como entero de 8 bytes,
+     * para que el tamaño del registro no dependa de su posición en el archivo. Todos
+     * sus nombres deben estar ya internados.
+     *
+     * @param history Partida a codificar
+     * @param previous Función que devuelve la posición de la partida anterior de un jugador, o -1
+     * @return Datos del registro
+     * @throws IOException si ocurre un error de codificación
+     */
+    private byte[] encodeGame(History history, ToLongFunction<String> previous) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(40);
+        DataOutputStream out = new DataOutputStream(bytes);
+        HistoryCodec.encode(history, nameIds::get, out);
+        for (String player : history.getPlayerNames()) {
+            out.writeLong(previous.applyAsLong(player));
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodifica un registro de partida de la versión 1 del formato, que guardaba
+     * los nombres y la duración como texto.
+     *
+     * @param in Datos del registro
+     * @return Partida decodificada
+     * @throws IOException si los datos no son válidos
+     */
+    private static History decodeTextGame(DataInputStream in) throws IOException {
+        String winner = readNullableString(in);
+        String loser = readNullableString(in);
+        readNullableString(in);
+        long timePlayedMillis = in.readLong();
+        String gameMode = readNullableString(in);
+        int totalTurns = in.readInt();
+        int winnerShipsSunk = in.readInt();
+        int loserShipsSunk = in.readInt();
+        long gameDateMillis = in.readLong();
+
+        int playerCount = in.readUnsignedShort();
+        List<String> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(in.readUTF());
+        }
+        return new History(players, winner, loser, timePlayedMillis, gameMode,
+                totalTurns, winnerShipsSunk, loserShipsSunk, gameDateMillis);
+    }
+
+    /**
+     * Reúne las partidas de todos los usuarios sin repetir las compartidas,
+     * ordenadas por fecha.
+     *
+     * @param users Usuarios con sus historiales
+     * @return Partidas distintas
+     */
+    private static List<History> collectGames(Collection<User> users) {
+        Map<History, Boolean> seen = new IdentityHashMap<>();
+        List<History> games = new ArrayList<>();
+        for (User user : users) {
+            for (History history : user.getHistory()) {
+                if (seen.put(history, Boolean.TRUE) == null) {
+                    games.add(history);
+                }
+            }
+        }
+        games.sort(Comparator.comparingLong(History::getGameDateMillis));
+        return games;
+    }
+
+    /**
+     * Lee y valida la cabecera del archivo.
+     *
+     * @param in Flujo del archivo
+     * @return Versión del formato del archivo
+     * @throws IOException si la cabecera no corresponde a un registro de NavyAttack
+     */
+    private static byte readHeader(DataInputStream in) throws IOException {
+        int magic = in.readInt();
+        byte version = in.readByte();
+        if (magic != MAGIC) {
+            throw new IOException("Not a NavyAttack game log");
+        }
+        if (version < TEXT_GAMES_VERSION || version > FORMAT_VERSION) {
+            throw new IOException("Unsupported game log version " + version);
+        }
+        return version;
+    }
+
+    /**
+     * Crea la cabecera del archivo.
+     *
+     * @return Buffer con la cabecera
+     */
+    private static ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).put(FORMAT_VERSION).flip();
+        return header;
+    }
+
+    /**
+     * Crea el directorio que contiene un archivo si no existe.
+     *
+     * @param file Archivo
+     * @throws IOException si el directorio no se puede crear
+     */
+    private static void createParentDirectories(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+
+    /**
+     * Reemplaza un archivo por otro con un renombrado atómico, si el sistema de
+     * archivos lo permite.
+     *
+     * @param source Archivo nuevo
+     * @param target Archivo a reemplazar
+     * @throws IOException si el renombrado falla
+     */
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Escribe un registro completo en un canal.
+     *
+     * @param out Canal de destino
+     * @param type Tipo del registro
+     * @param payload Datos del registro
+     * @return Bytes escritos
+     * @throws IOException si ocurre un error de escritura
+     */
+    private static int writeRecord(FileChannel out, byte type, byte[] payload) throws IOException {
+        byte[] record = record(type, payload);
+        writeFully(out, ByteBuffer.wrap(record));
+        return record.length;
+    }
+
+    /**
+     * Enmarca los datos de un registro con su longitud, tipo y CRC.
+     *
+     * @param type Tipo del registro
+     * @param payload Datos del registro
+     * @return Registro completo
+     */
+    private static byte[] record(byte type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_OVERHEAD + payload.length);
+        record.putInt(payload.length).put(type).put(payload).putInt((int) crc.getValue());
+        return record.array();
+    }
+
+    /**
+     * Escribe todo el contenido de un buffer en un canal.
+     *
+     * @param out Canal de destino
+     * @param buffer Datos a escribir
+     * @throws IOException si ocurre un error de escritura
+     */
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Lee una cadena que puede ser null, precedida por un indicador de presencia.
+     *
+     * @param in Flujo de entrada
+     * @return Cadena leída, o null
+     * @throws IOException si ocurre un error de lectura
+     */
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Posiciones del registro vigente de un usuario y de su última partida.
+     */
+    private static final class UserEntry {
+
+        /**
+         * Nombre del usuario.
+         */
+        private final String username;
+
+        /**
+         * Posición del registro del usuario.
+         */
+        private final long offset;
+
+        /**
+         * Hash de la contraseña del usuario.
+         */
+        private final byte[] passwordHash;
+
+        /**
+         * Posición de la última partida del usuario, o -1 si no tiene.
+         */
+        private long head = -1;
+
+        /**
+         * Totales de las partidas del usuario escritas en el registro.
+         */
+        private UserTotals totals = new UserTotals();
+
+        /**
+         * Totales recientes, por modo de juego y periodo, de las partidas del usuario
+         * escritas en el registro.
+         */
+        private RollingStatistics recent = new RollingStatistics();
+
+        /**
+         * Constructor de las posiciones de un usuario.
+         *
+         * @param username Nombre del usuario
+         * @param offset Posición de su registro
+         * @param passwordHash Hash de su contraseña
+         */
+        private UserEntry(String username, long offset, byte[] passwordHash) {
+            this.username = username;
+            this.offset = offset;
+            this.passwordHash = passwordHash;
+        }
+    }
+}
@@ -1,15 +1,25 @@
 package com.navyattack.model;
 
 import java.util.List;
+import java.util.ArrayList;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Representa el historial de una partida jugada en NavyAttack.
  * Contiene información detallada sobre el resultado de la partida, jugadores participantes,
- * estadísticas de juego y fecha/hora. Esta clase es serializable para permitir
- * la persistencia del historial de partidas.
+ * estadísticas de juego y fecha/hora.
+ *
+ * Los participantes se guardan por nombre de usuario y la fecha como milisegundos desde
+ * la época; las representaciones legibles (duración "MM:SS", fecha y fecha formateada)
+ * se calculan la primera vez que se piden. Se persiste con {@link HistoryCodec}; sigue
+ * siendo serializable solo para poder migrar archivos users.dat de versiones anteriores.
  * 
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
@@ -18,9 +28,15 @@ public class History implements Serializable {
 
     /**
      * Serial version UID para control de versiones durante la serialización.
+     * Se conserva el de versiones anteriores para poder leer sus archivos.
      */
     private static final long serialVersionUID = 2L;
 
+    /**
+     * Formato de la fecha mostrada al usuario.
+     */
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
     /**
      * Nombre del jugador ganador de la partida.
      */
@@ -32,14 +48,9 @@ public class History implements Serializable {
     private String loser;
     
     /**
-     * Lista de usuarios que participaron en la partida.
+     * Nombres de los usuarios registrados que participaron en la partida.
      */
-    private List<User> users;
-    
-    /**
-     * Tiempo de duración de la partida en formato "MM:SS".
-     */
-    private String timePlayed;
+    private List<String> playerNames;
     
     /**
      * Tiempo de duración de la partida en milisegundos.
@@ -67,17 +78,34 @@ public class History implements Serializable {
     private int loserShipsSunk;
     
     /**
-     * Fecha y hora en que se jugó la partida.
+     * Fecha y hora en que se jugó la partida, en milisegundos desde la época.
      */
-    private LocalDateTime gameDate;
+    private long gameDateMillis;
     
     /**
-     * Fecha y hora formateada de la partida.
+     * Participantes leídos de un archivo de versiones anteriores, pendientes de convertir
+     * a nombres; null en cualquier otro caso.
+     */
+    private transient List<User> legacyPlayers;
+
+    /**
+     * Tiempo de duración en formato "MM:SS", calculado al pedirlo por primera vez.
+     */
+    private transient String timePlayed;
+
+    /**
+     * Fecha y hora local de la partida, calculada al pedirla por primera vez.
+     */
+    private transient LocalDateTime gameDate;
+
+    /**
+     * Fecha y hora formateada de la partida, calculada al pedirla por primera vez.
      */
-    private String gameDateFormatted;
+    private transient String gameDateFormatted;
 
     /**
      * Constructor completo para crear un registro de historial con todas las estadísticas.
+     * La duración legible se deriva de {@code timePlayedMillis}.
      * 
      * @param users Lista de usuarios que participaron en la partida
      * @param winner Nombre del jugador ganador
@@ -92,58 +120,136 @@ public class History implements Serializable {
     public History(List<User> users, String winner, String loser, String timePlayed,
                    long timePlayedMillis, String gameMode, int totalTurns,
                    int winnerShipsSunk, int loserShipsSunk) {
-        this.users = users;
-        this.winner = winner;
-        this.loser = loser;
-        this.timePlayed = timePlayed;
-        this.timePlayedMillis = timePlayedMillis;
-        this.gameMode = gameMode;
-        this.totalTurns = totalTurns;
-        this.winnerShipsSunk = winnerShipsSunk;
-        this.loserShipsSunk = loserShipsSunk;
-        this.gameDate = LocalDateTime.now();
-        this.gameDateFormatted = formatGameDate();
+        this(toUsernames(users), winner, loser, timePlayedMillis, gameMode, totalTurns,
+                winnerShipsSunk, loserShipsSunk, System.currentTimeMillis());
     }
 
     /**
      * Constructor simplificado para compatibilidad con versiones anteriores.
-     * Inicializa valores por defecto para estadísticas no proporcionadas.
+     * Inicializa valores por defecto para estadísticas no proporcionadas; la duración
+     * en milisegundos se obtiene del texto "MM:SS".
      * 
      * @param users Lista de usuarios que participaron en la partida
      * @param winner Nombre del jugador ganador
      * @param timePlayed Tiempo de juego en formato "MM:SS"
      */
     public History(List<User> users, String winner, String timePlayed) {
-        this.users = users;
-        this.winner = winner;
-        this.loser = "Unknown";
-        this.timePlayed = timePlayed;
-        this.timePlayedMillis = 0;
-        this.gameMode = "Unknown";
-        this.totalTurns = 0;
-        this.winnerShipsSunk = 0;
-        this.loserShipsSunk = 0;
-        this.gameDate = LocalDateTime.now();
-        this.gameDateFormatted = formatGameDate();
+        this(toUsernames(users), winner, "Unknown", parseTimePlayed(timePlayed), "Unknown", 0, 0, 0,
+                System.currentTimeMillis());
     }
 
     /**
-     * Formatea la fecha y hora de la partida en formato "dd/MM/yyyy HH:mm".
+     * Constructor usado al decodificar un registro guardado.
      * 
-     * @return Fecha y hora formateada como String
+     * @param playerNames Nombres de los usuarios que participaron en la partida
+     * @param winner Nombre del jugador ganador
+     * @param loser Nombre del jugador perdedor
+     * @param timePlayedMillis Tiempo de juego en milisegundos
+     * @param gameMode Modo de juego ("PVC" o "PVP")
+     * @param totalTurns Número total de turnos
+     * @param winnerShipsSunk Barcos hundidos por el ganador
+     * @param loserShipsSunk Barcos hundidos por el perdedor
+     * @param gameDateMillis Fecha de la partida en milisegundos desde la época
      */
-    private String formatGameDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-        return gameDate.format(formatter);
+    History(List<String> playerNames, String winner, String loser, long timePlayedMillis,
+            String gameMode, int totalTurns, int winnerShipsSunk, int loserShipsSunk,
+            long gameDateMillis) {
+        this.playerNames = List.copyOf(playerNames);
+        this.winner = winner;
+        this.loser = loser;
+        this.timePlayedMillis = timePlayedMillis;
+        this.gameMode = gameMode;
+        this.totalTurns = totalTurns;
+        this.winnerShipsSunk = winnerShipsSunk;
+        this.loserShipsSunk = loserShipsSunk;
+        this.gameDateMillis = gameDateMillis;
     }
 
     /**
-     * Obtiene la lista de jugadores que participaron en la partida.
+     * Obtiene los nombres de una lista de usuarios.
      * 
-     * @return Lista de usuarios participantes
+     * @param users Usuarios, o null
+     * @return Nombres de los usuarios
      */
-    public List<User> getPlayers() {
-        return this.users;
+    private static List<String> toUsernames(List<User> users) {
+        List<String> names = new ArrayList<>();
+        if (users != null) {
+            for (User user : users) {
+                names.add(user.getUsername());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Convierte un tiempo "MM:SS" a milisegundos.
+     *
+     * @param timePlayed Tiempo en formato "MM:SS"
+     * @return Milisegundos, o 0 si el texto no tiene ese formato
+     */
+    private static long parseTimePlayed(String timePlayed) {
+        if (timePlayed == null) {
+            return 0;
+        }
+        int colon = timePlayed.indexOf(':');
+        try {
+            long minutes = Long.parseLong(timePlayed.substring(0, colon));
+            long seconds = Long.parseLong(timePlayed.substring(colon + 1));
+            return (minutes * 60 + seconds) * 1000;
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Restaura un registro de un archivo users.dat de versiones anteriores, que guardaba
+     * los usuarios completos, la duración como texto y la fecha como {@link LocalDateTime}.
+     *
+     * @param in Flujo de entrada de la serialización
+     * @throws IOException si ocurre un error de lectura
+     * @throws ClassNotFoundException si el flujo contiene clases desconocidas
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        ObjectStreamClass stream = fields.getObjectStreamClass();
+
+        winner = (String) fields.get("winner", null);
+        loser = (String) fields.get("loser", null);
+        timePlayedMillis = fields.get("timePlayedMillis", 0L);
+        gameMode = (String) fields.get("gameMode", null);
+        totalTurns = fields.get("totalTurns", 0);
+        winnerShipsSunk = fields.get("winnerShipsSunk", 0);
+        loserShipsSunk = fields.get("loserShipsSunk", 0);
+
+        if (stream.getField("playerNames") != null) {
+            @SuppressWarnings("unchecked")
+            List<String> names = (List<String>) fields.get("playerNames", null);
+            playerNames = names != null ? List.copyOf(names) : List.of();
+            gameDateMillis = fields.get("gameDateMillis", 0L);
+        } else {
+            // Formato anterior: usuarios completos y fecha local. Los usuarios que contienen
+            // este registro aún se están deserializando, así que sus nombres se leen después.
+            @SuppressWarnings("unchecked")
+            List<User> users = (List<User>) fields.get("users", null);
+            legacyPlayers = users != null ? users : List.of();
+            LocalDateTime date = (LocalDateTime) fields.get("gameDate", null);
+            gameDateMillis = date != null
+                    ? date.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : 0L;
+        }
+    }
+
+    /**
+     * Obtiene los nombres de los usuarios registrados que participaron en la partida.
+     *
+     * @return Lista inmutable de nombres de usuario
+     */
+    public List<String> getPlayerNames() {
+        if (playerNames == null) {
+            playerNames = List.copyOf(toUsernames(legacyPlayers));
+            legacyPlayers = null;
+        }
+        return this.playerNames;
     }
 
     /**
@@ -170,6 +276,9 @@ public class History implements Serializable {
      * @return Tiempo en formato "MM:SS"
      */
     public String getTimePlayed() {
+        if (timePlayed == null) {
+            timePlayed = String.format("%02d:%02d", timePlayedMillis / 60000, (timePlayedMillis / 1000) % 60);
+        }
         return this.timePlayed;
     }
 
@@ -219,11 +328,23 @@ public class History implements Serializable {
     }
 
     /**
-     * Obtiene la fecha y hora en que se jugó la partida.
+     * Obtiene la fecha en que se jugó la partida en milisegundos desde la época.
+     *
+     * @return Fecha de la partida en milisegundos
+     */
+    public long getGameDateMillis() {
+        return this.gameDateMillis;
+    }
+
+    /**
+     * Obtiene la fecha y hora en que se jugó la partida, en la zona horaria del sistema.
      * 
      * @return LocalDateTime de la partida
      */
     public LocalDateTime getGameDate() {
+        if (gameDate == null) {
+            gameDate = LocalDateTime.ofInstant(Instant.ofEpochMilli(gameDateMillis), ZoneId.systemDefault());
+        }
         return this.gameDate;
     }
 
@@ -233,6 +354,9 @@ public class History implements Serializable {
      * @return Fecha y hora en formato "dd/MM/yyyy HH:mm"
      */
     public String getGameDateFormatted() {
+        if (gameDateFormatted == null) {
+            gameDateFormatted = getGameDate().format(DATE_FORMATTER);
+        }
         return this.gameDateFormatted;
     }
 
@@ -254,7 +378,7 @@ public class History implements Serializable {
      */
     public String getSummary() {
         return String.format("Winner: %s | Mode: %s | Time: %s | Turns: %d",
-                winner, gameMode, timePlayed, totalTurns);
+                winner, gameMode, getTimePlayed(), totalTurns);
     }
 
     /**
@@ -265,6 +389,6 @@ public class History implements Serializable {
     @Override
     public String toString() {
         return String.format("History[winner=%s, loser=%s, time=%s, mode=%s, turns=%d]",
-                winner, loser, timePlayed, gameMode, totalTurns);
+                winner, loser, getTimePlayed(), gameMode, totalTurns);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,211 @@
+package com.navyattack.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Codificador binario versionado para registros de {@link History}.
+ *
+ * Los nombres (jugadores, ganador, perdedor y modo de juego) no se escriben como texto
+ * sino como identificadores de una tabla de nombres internados que mantiene quien usa el
+ * codificador; la fecha se guarda en milisegundos desde la época y los contadores como
+ * enteros de longitud variable (7 bits por byte), por lo que una partida típica ocupa
+ * unos 20 bytes. Los textos legibles no se guardan: {@link History} los deriva al pedirlos.
+ *
+ * Formato de la versión 1:
+ * {@code [versión:byte][ganador][perdedor][modo][duraciónMs][fechaMs][turnos]
+ * [hundidosGanador][hundidosPerdedor][nJugadores][jugador]*}, donde los nombres se
+ * guardan como {@code id + 1} (0 representa null) y todos los campos salvo la versión
+ * son varints.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+final class HistoryCodec {
+
+    /**
+     * Versión actual del formato de los registros.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * Constructor privado: clase de utilidades.
+     */
+    private HistoryCodec() {
+    }
+
+    /**
+     * Codifica una partida.
+     *
+     * @param history Partida a codificar
+     * @param nameIds Función que devuelve el identificador internado de un nombre
+     * @param out Destino de los bytes
+     * @throws IOException si ocurre un error de escritura
+     */
+    static void encode(History history, ToIntFunction<String> nameIds, DataOutput out) throws IOException {
+        out.writeByte(VERSION);
+        writeName(out, history.getWinner(), nameIds);
+        writeName(out, history.getLoser(), nameIds);
+        writeName(out, history.getGameMode(), nameIds);
+        writeVarLong(out, history.getTimePlayedMillis());
+        writeVarLong(out, history.getGameDateMillis());
+        writeVarInt(out, history.getTotalTurns());
+        writeVarInt(out, history.getWinnerShipsSunk());
+        writeVarInt(out, history.getLoserShipsSunk());
+
+        List<String> players = history.getPlayerNames();
+        writeVarInt(out, players.size());
+        for (String player : players) {
+            writeVarInt(out, nameIds.applyAsInt(player));
+        }
+    }
+
+    /**
+     * Decodifica una partida.
+     *
+     * @param in Origen de los bytes
+     * @param names Función que devuelve el nombre internado con un identificador
+     * @return Partida decodificada
+     * @throws IOException si los datos no son válidos o su versión no es compatible
+     */
+    static History decode(DataInput in, IntFunction<String> names) throws IOException {
+        byte version = in.readByte();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported history record version " + version);
+        }
+
+        String winner = readName(in, names);
+        String loser = readName(in, names);
+        String gameMode = readName(in, names);
+        long timePlayedMillis = readVarLong(in);
+        long gameDateMillis = readVarLong(in);
+        int totalTurns = readVarInt(in);
+        int winnerShipsSunk = readVarInt(in);
+        int loserShipsSunk = readVarInt(in);
+
+        int playerCount = readVarInt(in);
+        if (playerCount < 0 || playerCount > 0xFFFF) {
+            throw new IOException("Invalid player count " + playerCount);
+        }
+        List<String> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(lookup(names, readVarInt(in)));
+        }
+        return new History(players, winner, loser, timePlayedMillis, gameMode,
+                totalTurns, winnerShipsSunk, loserShipsSunk, gameDateMillis);
+    }
+
+    /**
+     * Escribe un nombre que puede ser null como su identificador más uno.
+     *
+     * @param out Destino
+     * @param name Nombre, o null
+     * @param nameIds Tabla de identificadores
+     * @throws IOException si ocurre un error de escritura
+     */
+    private static void writeName(DataOutput out, String name, ToIntFunction<String> nameIds) throws IOException {
+        writeVarInt(out, name == null ? 0 : nameIds.applyAsInt(name) + 1);
+    }
+
+    /**
+     * Lee un nombre escrito con {@link #writeName(DataOutput, String, ToIntFunction)}.
+     *
+     * @param in Origen
+     * @param names Tabla de nombres
+     * @return Nombre, o null
+     * @throws IOException si el identificador no existe
+     */
+    private static String readName(DataInput in, IntFunction<String> names) throws IOException {
+        int id = readVarInt(in);
+        return id == 0 ? null : lookup(names, id - 1);
+    }
+
+    /**
+     * Busca un nombre internado.
+     *
+     * @param names Tabla de nombres
+     * @param id Identificador
+     * @return Nombre
+     * @throws IOException si el identificador no existe
+     */
+    private static String lookup(IntFunction<String> names, int id) throws IOException {
+        String name = names.apply(id);
+        if (name == null) {
+            throw new IOException("Unknown name id " + id);
+        }
+        return name;
+    }
+
+    /**
+     * Escribe un entero sin signo de 32 bits en formato de longitud variable.
+     *
+     * @param out Destino
+     * @param value Valor
+     * @throws IOException si ocurre un error de escritura
+     */
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Lee un entero escrito con {@link #writeVarInt(DataOutput, int)}.
+     *
+     * @param in Origen
+     * @return Valor leído
+     * @throws IOException si el entero ocupa más de 5 bytes
+     */
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Escribe un entero sin signo de 64 bits en formato de longitud variable.
+     *
+     * @param out Destino
+     * @param value Valor
+     * @throws IOException si ocurre un error de escritura
+     */
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Lee un entero escrito con {@link #writeVarLong(DataOutput, long)}.
+     *
+     * @param in Origen
+     * @return Valor leído
+     * @throws IOException si el entero ocupa más de 10 bytes
+     */
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varlong");
+    }
+}
@@ -0,0 +1,103 @@
+package com.navyattack.model;
+
+/**
+ * Resultado de una partida completa jugada con {@link GameEngine#playMatch}.
+ * Inmutable.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public final class MatchResult {
+
+    /**
+     * Lado ganador.
+     */
+    private final PlayerSide winner;
+
+    /**
+     * Disparos realizados por el jugador 1.
+     */
+    private final int player1Shots;
+
+    /**
+     * Disparos realizados por el jugador 2.
+     */
+    private final int player2Shots;
+
+    /**
+     * Barcos hundidos por el jugador 1.
+     */
+    private final int player1ShipsSunk;
+
+    /**
+     * Barcos hundidos por el jugador 2.
+     */
+    private final int player2ShipsSunk;
+
+    /**
+     * Constructor del resultado.
+     *
+     * @param winner Lado ganador
+     * @param player1Shots Disparos del jugador 1
+     * @param player2Shots Disparos del jugador 2
+     * @param player1ShipsSunk Barcos hundidos por el jugador 1
+     * @param player2ShipsSunk Barcos hundidos por el jugador 2
+     */
+    public MatchResult(PlayerSide winner, int player1Shots, int player2Shots,
+                       int player1ShipsSunk, int player2ShipsSunk) {
+        this.winner = winner;
+        this.player1Shots = player1Shots;
+        this.player2Shots = player2Shots;
+        this.player1ShipsSunk = player1ShipsSunk;
+        this.player2ShipsSunk = player2ShipsSunk;
+    }
+
+    /**
+     * Obtiene el lado ganador.
+     *
+     * @return Ganador de la partida
+     */
+    public PlayerSide getWinner() {
+        return winner;
+    }
+
+    /**
+     * Obtiene los disparos que realizó un jugador.
+     *
+     * @param side Lado del jugador
+     * @return Número de disparos válidos de ese jugador
+     */
+    public int getShots(PlayerSide side) {
+        return side == PlayerSide.PLAYER_1 ? player1Shots : player2Shots;
+    }
+
+    /**
+     * Obtiene los disparos que necesitó el ganador para hundir la flota rival.
+     *
+     * @return Disparos del ganador
+     */
+    public int getWinnerShots() {
+        return getShots(winner);
+    }
+
+    /**
+     * Obtiene los barcos rivales que hundió un jugador.
+     *
+     * @param side Lado del jugador
+     * @return Barcos hundidos por ese jugador
+     */
+    public int getShipsSunk(PlayerSide side) {
+        return side == PlayerSide.PLAYER_1 ? player1ShipsSunk : player2ShipsSunk;
+    }
+
+    /**
+     * Representación en String del resultado.
+     *
+     * @return String con el ganador y los disparos de cada jugador
+     */
+    @Override
+    public String toString() {
+        return String.format("MatchResult[winner=%s, shots=%d/%d, sunk=%d/%d]",
+                winner, player1Shots, player2Shots, player1ShipsSunk, player2ShipsSunk);
+    }
+}
@@ -0,0 +1,640 @@
+package com.navyattack.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Estrategia de ataque por simulación de Monte Carlo.
+ *
+ * En cada turno genera flotas completas de los barcos restantes que son coherentes con
+ * todo lo observado (ningún barco sobre un fallo o sobre un barco hundido, y todos los
+ * impactos sin resolver cubiertos) y cuenta cuántas veces cae un barco en cada celda no
+ * atacada. Ataca la celda que aparece ocupada en más muestras.
+ *
+ * Cada turno intenta un número fijo de muestras, repartido en partes iguales entre
+ * {@link #SHARD_COUNT} lotes con generadores propios. Los lotes los toman, en cualquier
+ * orden, tantos trabajadores como hilos tenga el {@link ForkJoinPool} más el hilo que
+ * llama o, si no se indica pool, solo el hilo que llama. Como cada lote genera siempre las
+ * mismas muestras y los conteos solo se suman, el ataque elegido depende solo de la
+ * semilla y de lo observado, no del número de hilos ni del reparto de los lotes.
+ *
+ * El presupuesto de tiempo es solo un límite superior: si vence antes de completar las
+ * muestras, cada trabajador termina la muestra en curso y se usa lo acumulado hasta ese
+ * momento. Solo en ese caso el resultado deja de ser reproducible. Si no se obtuvo ninguna
+ * muestra, o el tablero es demasiado grande para muestrear, se usa el mapa de densidad de
+ * {@link DensityTargeting}, que se mantiene actualizado con las mismas observaciones.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+final class MonteCarloTargeting implements TargetingStrategy {
+
+    /**
+     * Presupuesto de tiempo por turno por defecto, en milisegundos.
+     */
+    static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    /**
+     * Número de muestras que se intentan por turno por defecto.
+     */
+    static final int DEFAULT_SAMPLE_BUDGET = 4096;
+
+    /**
+     * Número de lotes entre los que se reparten las muestras de cada turno.
+     * Es fijo para que las muestras no dependan del número de hilos disponibles,
+     * y mayor que el número de núcleos habitual para que todos tengan trabajo.
+     */
+    static final int SHARD_COUNT = 64;
+
+    /**
+     * Número máximo de celdas para el que se muestrea; en tableros mayores
+     * se usa directamente el mapa de densidad.
+     */
+    static final int MAX_SAMPLED_CELLS = 1 << 16;
+
+    /**
+     * Intentos por barco antes de descartar una muestra.
+     */
+    private static final int PLACEMENT_ATTEMPTS = 32;
+
+    /**
+     * Estado de una celda no atacada.
+     */
+    private static final byte UNKNOWN = 0;
+
+    /**
+     * Estado de una celda atacada sin barco.
+     */
+    private static final byte MISS = 1;
+
+    /**
+     * Estado de una celda con un impacto de un barco aún no hundido.
+     */
+    private static final byte HIT = 2;
+
+    /**
+     * Estado de una celda que pertenece a un barco ya hundido.
+     */
+    private static final byte BLOCKED = 3;
+
+    /**
+     * Número de celdas por lado del tablero.
+     */
+    private final int size;
+
+    /**
+     * Configuración del tablero atacado.
+     */
+    private final BoardConfig config;
+
+    /**
+     * Presupuesto de tiempo por turno, en nanosegundos.
+     */
+    private final long budgetNanos;
+
+    /**
+     * Pool donde se ejecutan los trabajadores adicionales, o null para muestrear
+     * solo en el hilo que llama.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Mapa de densidad usado como respaldo.
+     */
+    private final DensityTargeting fallback;
+
+    /**
+     * Barcos restantes de cada tipo, indexados por ordinal.
+     */
+    private final int[] remaining;
+
+    /**
+     * Estado observado de cada celda.
+     */
+    private final byte[] state;
+
+    /**
+     * Lotes de muestras de cada turno, cada uno con su generador y su cuota.
+     */
+    private final Shard[] shards;
+
+    /**
+     * Trabajadores de muestreo, uno por hilo; el primero se ejecuta en el hilo que llama.
+     * Se reutilizan entre turnos.
+     */
+    private final Worker[] workers;
+
+    /**
+     * Índice del siguiente lote que tomará un trabajador en el turno actual.
+     */
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    /**
+     * Celdas vetadas en la muestra actual (fallos y barcos hundidos), un bit por celda.
+     */
+    private long[] blockedMask;
+
+    /**
+     * Impactos sin resolver en el turno actual.
+     */
+    private int[] hitCells;
+
+    /**
+     * Longitudes de los barcos restantes en el turno actual, de mayor a menor.
+     */
+    private int[] shipLengths;
+
+    /**
+     * Número de muestras obtenidas en el último turno.
+     */
+    private int lastSampleCount;
+
+    /**
+     * Constructor con el presupuesto por defecto y el pool común.
+     *
+     * @param config Configuración del tablero que se va a atacar
+     */
+    MonteCarloTargeting(BoardConfig config) {
+        this(config, DEFAULT_BUDGET_MILLIS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor de la estrategia.
+     *
+     * @param config Configuración del tablero que se va a atacar
+     * @param budgetMillis Presupuesto de tiempo por turno, en milisegundos
+     * @param pool Pool donde se ejecutan los trabajadores adicionales
+     * @throws IllegalArgumentException si el presupuesto no es positivo
+     */
+    MonteCarloTargeting(BoardConfig config, long budgetMillis, ForkJoinPool pool) {
+        this(config, budgetMillis, pool, new SplittableRandom());
+    }
+
+    /**
+     * Constructor de la estrategia con un generador propio y el número de muestras por defecto.
+     *
+     * @param config Configuración del tablero que se va a atacar
+     * @param budgetMillis Presupuesto de tiempo por turno, en milisegundos
+     * @param pool Pool donde se ejecutan los trabajadores adicionales, o null para usar solo el hilo que llama
+     * @param random Generador del que se derivan los de cada trabajador
+     * @throws IllegalArgumentException si el presupuesto no es positivo
+     */
+    MonteCarloTargeting(BoardConfig config, long budgetMillis, ForkJoinPool pool, SplittableRandom random) {
+        this(config, DEFAULT_SAMPLE_BUDGET, budgetMillis, pool, random);
+    }
+
+    /**
+     * Constructor de la estrategia con un generador propio, para obtener muestreos reproducibles.
+     * Los ataques elegidos son los mismos con la misma semilla mientras ningún turno
+     * agote el presupuesto de tiempo antes de intentar todas sus muestras.
+     *
+     * @param config Configuración del tablero que se va a atacar
+     * @param sampleBudget Número de muestras que se intentan por turno
+     * @param budgetMillis Límite de tiempo por turno, en milisegundos
+     * @param pool Pool donde se ejecutan los trabajadores adicionales, o null para usar solo el hilo que llama
+     * @param random Generador del que se derivan los de cada trabajador
+     * @throws IllegalArgumentException si el número de muestras o el presupuesto no son positivos
+     */
+    MonteCarloTargeting(BoardConfig config, int sampleBudget, long budgetMillis, ForkJoinPool pool,
+                        SplittableRandom random) {
+        if (sampleBudget <= 0) {
+            throw new IllegalArgumentException("Sample budget must be positive, got " + sampleBudget);
+        }
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive, got " + budgetMillis);
+        }
+        this.config = config;
+        this.size = config.getSize();
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.pool = pool;
+        this.fallback = new DensityTargeting(config, new Random(random.nextLong()));
+        this.remaining = new int[ShipType.values().length];
+        this.state = new byte[config.getCellCount()];
+        this.shards = new Shard[SHARD_COUNT];
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            int quota = sampleBudget / SHARD_COUNT + (i < sampleBudget % SHARD_COUNT ? 1 : 0);
+            shards[i] = new Shard(random.split(), quota);
+        }
+        int threads = pool == null ? 1 : Math.min(SHARD_COUNT, pool.getParallelism() + 1);
+        this.workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker();
+        }
+        reset();
+    }
+
+    /**
+     * Muestrea flotas coherentes hasta completar las muestras del turno, o hasta que vence
+     * el presupuesto de tiempo, y elige la celda no atacada ocupada en más muestras.
+     *
+     * @return Índice de la celda elegida, o -1 si no quedan celdas por atacar
+     */
+    @Override
+    public int selectTarget() {
+        lastSampleCount = 0;
+        if (state.length > MAX_SAMPLED_CELLS) {
+            return fallback.selectTarget();
+        }
+
+        prepareTurn();
+        long deadline = System.nanoTime() + budgetNanos;
+        for (Worker worker : workers) {
+            worker.deadline = deadline;
+        }
+        nextShard.set(0);
+
+        if (pool == null) {
+            workers[0].run();
+            return bestCell();
+        }
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(workers.length - 1);
+        for (int i = 1; i < workers.length; i++) {
+            tasks.add(pool.submit(workers[i]));
+        }
+        workers[0].run();
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+
+        return bestCell();
+    }
+
+    /**
+     * Registra un fallo.
+     *
+     * @param cell Índice de la celda atacada
+     */
+    @Override
+    public void recordMiss(int cell) {
+        state[cell] = MISS;
+        fallback.recordMiss(cell);
+    }
+
+    /**
+     * Registra un impacto.
+     *
+     * @param cell Índice de la celda atacada
+     */
+    @Override
+    public void recordHit(int cell) {
+        state[cell] = HIT;
+        fallback.recordHit(cell);
+    }
+
+    /**
+     * Registra un hundimiento: bloquea las celdas del barco y lo descuenta de la flota.
+     * Si no se conoce el barco, la celda se trata como un impacto.
+     *
+     * @param cell Índice de la celda atacada
+     * @param ship Barco hundido, o null si se desconoce
+     */
+    @Override
+    public void recordSunk(int cell, Ship ship) {
+        fallback.recordSunk(cell, ship);
+        if (ship == null || !ship.isPlaced()) {
+            state[cell] = HIT;
+            return;
+        }
+
+        ShipPositions positions = ship.getPositions();
+        for (int i = 0; i < positions.size(); i++) {
+            state[positions.cellIndex(i, size)] = BLOCKED;
+        }
+        state[cell] = BLOCKED;
+        int type = ship.getType().ordinal();
+        if (remaining[type] > 0) {
+            remaining[type]--;
+        }
+    }
+
+    /**
+     * Reinicia la estrategia para una nueva partida.
+     */
+    @Override
+    public void reset() {
+        Arrays.fill(state, UNKNOWN);
+        for (ShipType type : ShipType.values()) {
+            remaining[type.ordinal()] = config.getShipCount(type);
+        }
+        fallback.reset();
+        lastSampleCount = 0;
+    }
+
+    /**
+     * Obtiene el número de flotas muestreadas en el último turno.
+     *
+     * @return Muestras aceptadas en la última llamada a {@link #selectTarget()}
+     */
+    int getLastSampleCount() {
+        return lastSampleCount;
+    }
+
+    /**
+     * Prepara los datos compartidos por los trabajadores para el turno actual.
+     * Los trabajadores solo los leen mientras dura el muestreo.
+     */
+    private void prepareTurn() {
+        if (blockedMask == null) {
+            blockedMask = new long[(state.length + 63) >>> 6];
+        }
+
+        Arrays.fill(blockedMask, 0L);
+        int hitCount = 0;
+        for (int cell = 0; cell < state.length; cell++) {
+            if (state[cell] == MISS || state[cell] == BLOCKED) {
+                blockedMask[cell >>> 6] |= 1L << cell;
+            } else if (state[cell] == HIT) {
+                hitCount++;
+            }
+        }
+        hitCells = new int[hitCount];
+        for (int cell = 0, next = 0; cell < state.length; cell++) {
+            if (state[cell] == HIT) {
+                hitCells[next++] = cell;
+            }
+        }
+
+        int ships = 0;
+        for (int count : remaining) {
+            ships += count;
+        }
+        ShipType[] types = ShipType.values().clone();
+        Arrays.sort(types, (a, b) -> Integer.compare(b.getLength(), a.getLength()));
+        shipLengths = new int[ships];
+        int next = 0;
+        for (ShipType type : types) {
+            for (int i = 0; i < remaining[type.ordinal()]; i++) {
+                shipLengths[next++] = type.getLength();
+            }
+        }
+    }
+
+    /**
+     * Suma los conteos de todos los trabajadores y elige la mejor celda no atacada.
+     *
+     * @return Índice de la celda elegida, o la elección del mapa de densidad si no hubo muestras
+     */
+    private int bestCell() {
+        int samples = 0;
+        for (Worker worker : workers) {
+            samples += worker.samples;
+        }
+        lastSampleCount = samples;
+        if (samples == 0) {
+            return fallback.selectTarget();
+        }
+
+        int best = -1;
+        long bestCount = 0;
+        for (int cell = 0; cell < state.length; cell++) {
+            if (state[cell] != UNKNOWN) {
+                continue;
+            }
+            long count = 0;
+            for (Worker worker : workers) {
+                count += worker.counts[cell];
+            }
+            if (count > bestCount) {
+                bestCount = count;
+                best = cell;
+            }
+        }
+        return best >= 0 ? best : fallback.selectTarget();
+    }
+
+    /**
+     * Lote de muestras de un turno: un generador propio y las muestras que se intentan con él.
+     */
+    private static final class Shard {
+
+        /**
+         * Generador propio del lote.
+         */
+        private final SplittableRandom rng;
+
+        /**
+         * Muestras que se intentan con el lote en cada turno.
+         */
+        private final int quota;
+
+        /**
+         * Constructor del lote.
+         *
+         * @param rng Generador propio
+         * @param quota Muestras que se intentan en cada turno
+         */
+        Shard(SplittableRandom rng, int quota) {
+            this.rng = rng;
+            this.quota = quota;
+        }
+    }
+
+    /**
+     * Trabajador que toma lotes del turno hasta que no quedan, o hasta que vence el plazo.
+     * Cada trabajador tiene sus propios conteos y búferes de muestra.
+     */
+    private final class Worker implements Runnable {
+
+        /**
+         * Generador del lote en curso.
+         */
+        private SplittableRandom rng;
+
+        /**
+         * Veces que cada celda quedó ocupada en las muestras aceptadas.
+         */
+        private final int[] counts = new int[state.length];
+
+        /**
+         * Ocupación de la muestra en curso, un bit por celda.
+         */
+        private final long[] occupied = new long[(state.length + 63) >>> 6];
+
+        /**
+         * Celda inicial de cada barco colocado en la muestra en curso.
+         */
+        private int[] starts = new int[0];
+
+        /**
+         * Distancia entre celdas de cada barco colocado en la muestra en curso.
+         */
+        private int[] strides = new int[0];
+
+        /**
+         * Indica qué barcos ya fueron colocados en la muestra en curso.
+         */
+        private boolean[] used = new boolean[0];
+
+        /**
+         * Instante, en nanosegundos, en que vence el plazo del turno.
+         */
+        private long deadline;
+
+        /**
+         * Muestras aceptadas en el turno.
+         */
+        private int samples;
+
+        /**
+         * Intenta las muestras de los lotes que toma, deteniéndose antes si vence el plazo.
+         */
+        @Override
+        public void run() {
+            Arrays.fill(counts, 0);
+            samples = 0;
+            int ships = shipLengths.length;
+            if (starts.length < ships) {
+                starts = new int[ships];
+                strides = new int[ships];
+                used = new boolean[ships];
+            }
+
+            int shard;
+            while ((shard = nextShard.getAndIncrement()) < shards.length) {
+                rng = shards[shard].rng;
+                int quota = shards[shard].quota;
+                for (int attempt = 0; attempt < quota && System.nanoTime() < deadline; attempt++) {
+                    if (sample(ships)) {
+                        samples++;
+                        for (int i = 0; i < ships; i++) {
+                            for (int k = 0, c = starts[i]; k < shipLengths[i]; k++, c += strides[i]) {
+                                counts[c]++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Intenta generar una flota completa coherente con lo observado.
+         * Primero cubre cada impacto sin resolver con algún barco restante y
+         * luego coloca al azar los barcos que falten.
+         *
+         * @param ships Número de barcos restantes
+         * @return true si la muestra es válida
+         */
+        private boolean sample(int ships) {
+            System.arraycopy(blockedMask, 0, occupied, 0, occupied.length);
+            Arrays.fill(used, 0, ships, false);
+
+            for (int h = hitCells.length - 1; h >= 0; h--) {
+                int hit = hitCells[h];
+                if (isSet(hit)) {
+                    continue; // Ya lo cubre un barco de esta muestra
+                }
+                if (!coverHit(hit, ships)) {
+                    return false;
+                }
+            }
+
+            for (int i = 0; i < ships; i++) {
+                if (!used[i] && !placeAnywhere(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Coloca algún barco restante de forma que cubra un impacto.
+         *
+         * @param hit Celda del impacto
+         * @param ships Número de barcos restantes
+         * @return true si se logró cubrir el impacto
+         */
+        private boolean coverHit(int hit, int ships) {
+            int row = hit / size;
+            int col = hit % size;
+            for (int attempt = 0; attempt < PLACEMENT_ATTEMPTS; attempt++) {
+                int ship = rng.nextInt(ships);
+                if (used[ship]) {
+                    continue;
+                }
+                int length = shipLengths[ship];
+                boolean vertical = rng.nextBoolean();
+                int shift = rng.nextInt(length);
+                int startRow = vertical ? row - shift : row;
+                int startCol = vertical ? col : col - shift;
+                if (tryPlace(ship, startRow, startCol, vertical)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Coloca un barco en cualquier posición libre.
+         *
+         * @param ship Índice del barco
+         * @return true si se logró colocar
+         */
+        private boolean placeAnywhere(int ship) {
+            int length = shipLengths[ship];
+            int span = size - length + 1;
+            if (span <= 0) {
+                return false;
+            }
+            for (int attempt = 0; attempt < PLACEMENT_ATTEMPTS; attempt++) {
+                boolean vertical = rng.nextBoolean();
+                int startRow = vertical ? rng.nextInt(span) : rng.nextInt(size);
+                int startCol = vertical ? rng.nextInt(size) : rng.nextInt(span);
+                if (tryPlace(ship, startRow, startCol, vertical)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Coloca un barco si todas sus celdas están libres. Las celdas de impactos
+         * no están vetadas, así que un barco puede cubrir varios impactos a la vez.
+         *
+         * @param ship Índice del barco
+         * @param startRow Fila inicial
+         * @param startCol Columna inicial
+         * @param vertical true si el barco es vertical
+         * @return true si el barco se colocó
+         */
+        private boolean tryPlace(int ship, int startRow, int startCol, boolean vertical) {
+            int length = shipLengths[ship];
+            int endRow = vertical ? startRow + length - 1 : startRow;
+            int endCol = vertical ? startCol : startCol + length - 1;
+            if (startRow < 0 || startCol < 0 || endRow >= size || endCol >= size) {
+                return false;
+            }
+
+            int start = startRow * size + startCol;
+            int stride = vertical ? size : 1;
+            for (int k = 0, c = start; k < length; k++, c += stride) {
+                if (isSet(c)) {
+                    return false;
+                }
+            }
+            for (int k = 0, c = start; k < length; k++, c += stride) {
+                occupied[c >>> 6] |= 1L << c;
+            }
+            starts[ship] = start;
+            strides[ship] = stride;
+            used[ship] = true;
+            return true;
+        }
+
+        /**
+         * Verifica si una celda está ocupada o vetada en la muestra en curso.
+         *
+         * @param cell Índice de la celda
+         * @return true si la celda no está disponible
+         */
+        private boolean isSet(int cell) {
+            return (occupied[cell >>> 6] & (1L << cell)) != 0;
+        }
+    }
+}
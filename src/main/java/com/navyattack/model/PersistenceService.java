@@ -0,0 +1,486 @@
+package com.navyattack.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Servicio de persistencia diferida sobre un {@link GameLog}.
+ * Los guardados se encolan en una cola acotada y un hilo de fondo los escribe, de modo
+ * que la latencia del disco no recae sobre el hilo de JavaFX. Cuando hay varios
+ * guardados pendientes el hilo los agrupa en un único lote, que se escribe y se fuerza
+ * a disco una sola vez con {@link GameLog#appendAll(java.util.Collection, java.util.Collection)}.
+ *
+ * Si la cola está llena, quien guarda espera a que haya espacio. Cada registro lleva su
+ * CRC, por lo que un cierre inesperado a mitad de un lote solo descarta ese lote al
+ * cargar; {@link #close()} espera a que se escriban todos los guardados pendientes.
+ *
+ * Si la escritura de un lote falla, se reintenta hasta {@link #MAX_WRITE_ATTEMPTS} veces
+ * esperando cada vez el doble; si todos los intentos fallan, el lote se descarta y se
+ * cuenta en {@link #getDroppedSaves()}, con el último error en {@link #getLastFailure()}.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public final class PersistenceService implements AutoCloseable {
+
+    /**
+     * Capacidad de la cola de guardados por defecto.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Número máximo de intentos de escritura de un lote antes de descartarlo.
+     */
+    public static final int MAX_WRITE_ATTEMPTS = 5;
+
+    /**
+     * Espera antes del primer reintento por defecto, en milisegundos.
+     */
+    static final long DEFAULT_RETRY_DELAY_MILLIS = 100;
+
+    /**
+     * Marca que indica al hilo de escritura que debe terminar.
+     */
+    private static final PendingSave STOP = new PendingSave(null, null);
+
+    /**
+     * Registro donde se escriben los guardados.
+     */
+    private final GameLog log;
+
+    /**
+     * Cola acotada de guardados pendientes.
+     */
+    private final BlockingQueue<PendingSave> queue;
+
+    /**
+     * Hilo de fondo que escribe los guardados.
+     */
+    private final Thread writer;
+
+    /**
+     * Espera antes del primer reintento de un lote fallido, en milisegundos.
+     */
+    private final long retryDelayMillis;
+
+    /**
+     * Monitor para esperar a que se escriban los guardados.
+     */
+    private final Object progressLock = new Object();
+
+    /**
+     * Guardados recibidos; protegido por {@link #progressLock}.
+     */
+    private long submitted;
+
+    /**
+     * Guardados procesados, con o sin éxito; protegido por {@link #progressLock}.
+     */
+    private long completed;
+
+    /**
+     * Indica si el servicio ya no acepta guardados.
+     */
+    private boolean closed;
+
+    /**
+     * Lotes escritos.
+     */
+    private volatile long flushCount;
+
+    /**
+     * Guardados escritos con éxito.
+     */
+    private volatile long savesWritten;
+
+    /**
+     * Intentos de escritura de un lote que fallaron.
+     */
+    private volatile long failedFlushes;
+
+    /**
+     * Guardados descartados tras agotar los intentos de escritura.
+     */
+    private volatile long droppedSaves;
+
+    /**
+     * Error del último intento de escritura fallido, o null si no ha fallado ninguno.
+     */
+    private volatile Exception lastFailure;
+
+    /**
+     * Duración de la última escritura de un lote, en nanosegundos.
+     */
+    private volatile long lastFlushNanos;
+
+    /**
+     * Duración máxima de la escritura de un lote, en nanosegundos.
+     */
+    private volatile long maxFlushNanos;
+
+    /**
+     * Duración acumulada de las escrituras, en nanosegundos.
+     */
+    private volatile long totalFlushNanos;
+
+    /**
+     * Constructor del servicio. Inicia el hilo de escritura.
+     *
+     * @param log Registro donde se escriben los guardados
+     * @param capacity Capacidad de la cola de guardados pendientes
+     * @throws IllegalArgumentException si la capacidad no es positiva
+     */
+    public PersistenceService(GameLog log, int capacity) {
+        this(log, capacity, DEFAULT_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructor del servicio con una espera propia entre reintentos. Inicia el hilo de escritura.
+     *
+     * @param log Registro donde se escriben los guardados
+     * @param capacity Capacidad de la cola de guardados pendientes
+     * @param retryDelayMillis Espera antes del primer reintento de un lote fallido, en milisegundos
+     * @throws IllegalArgumentException si la capacidad no es positiva o la espera es negativa
+     */
+    PersistenceService(GameLog log, int capacity, long retryDelayMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+        }
+        if (retryDelayMillis < 0) {
+            throw new IllegalArgumentException("Retry delay must not be negative: " + retryDelayMillis);
+        }
+        this.log = log;
+        this.retryDelayMillis = retryDelayMillis;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::runWriter, "navyattack-persistence");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Encola el guardado de un usuario nuevo.
+     *
+     * @param user Usuario a guardar
+     * @throws IllegalStateException si el servicio está cerrado
+     */
+    public void saveUser(User user) {
+        submit(new PendingSave(user, null));
+    }
+
+    /**
+     * Encola el guardado de una partida terminada.
+     *
+     * @param history Partida a guardar
+     * @throws IllegalStateException si el servicio está cerrado
+     */
+    public void saveGame(History history) {
+        submit(new PendingSave(null, history));
+    }
+
+    /**
+     * Espera a que se escriban todos los guardados encolados hasta el momento.
+     *
+     * @throws InterruptedException si el hilo se interrumpe mientras espera
+     */
+    public void flush() throws InterruptedException {
+        synchronized (progressLock) {
+            long target = submitted;
+            while (completed < target) {
+                progressLock.wait();
+            }
+        }
+    }
+
+    /**
+     * Escribe los guardados pendientes y detiene el hilo de escritura.
+     * Los guardados posteriores se rechazan. Llamarlo más de una vez no tiene efecto.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        boolean interrupted = enqueue(STOP);
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Obtiene el número de guardados en la cola, sin contar el lote en escritura.
+     *
+     * @return Profundidad de la cola
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Obtiene el número de guardados recibidos que aún no se han escrito.
+     *
+     * @return Guardados pendientes, incluido el lote en escritura
+     */
+    public long getPendingSaves() {
+        synchronized (progressLock) {
+            return submitted - completed;
+        }
+    }
+
+    /**
+     * Obtiene el número de lotes escritos.
+     *
+     * @return Lotes escritos
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * Obtiene el número de guardados escritos con éxito.
+     *
+     * @return Guardados escritos
+     */
+    public long getSavesWritten() {
+        return savesWritten;
+    }
+
+    /**
+     * Obtiene el número de intentos de escritura de un lote que fallaron, reintentos incluidos.
+     *
+     * @return Intentos fallidos
+     */
+    public long getFailedFlushes() {
+        return failedFlushes;
+    }
+
+    /**
+     * Obtiene el número de guardados descartados porque su lote no se pudo escribir
+     * tras {@link #MAX_WRITE_ATTEMPTS} intentos.
+     *
+     * @return Guardados perdidos
+     */
+    public long getDroppedSaves() {
+        return droppedSaves;
+    }
+
+    /**
+     * Obtiene el error del último intento de escritura fallido.
+     *
+     * @return Último error, o null si ninguna escritura ha fallado
+     */
+    public Exception getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * Obtiene la duración de la última escritura de un lote.
+     *
+     * @return Latencia en nanosegundos, o 0 si no se ha escrito ninguno
+     */
+    public long getLastFlushNanos() {
+        return lastFlushNanos;
+    }
+
+    /**
+     * Obtiene la duración máxima de la escritura de un lote.
+     *
+     * @return Latencia en nanosegundos, o 0 si no se ha escrito ninguno
+     */
+    public long getMaxFlushNanos() {
+        return maxFlushNanos;
+    }
+
+    /**
+     * Obtiene la duración media de la escritura de un lote.
+     *
+     * @return Latencia en nanosegundos, o 0 si no se ha escrito ninguno
+     */
+    public long getMeanFlushNanos() {
+        long flushes = flushCount + failedFlushes;
+        return flushes == 0 ? 0 : totalFlushNanos / flushes;
+    }
+
+    /**
+     * Encola un guardado, esperando si la cola está llena.
+     *
+     * @param save Guardado a encolar
+     * @throws IllegalStateException si el servicio está cerrado
+     */
+    private synchronized void submit(PendingSave save) {
+        if (closed) {
+            throw new IllegalStateException("The persistence service is closed");
+        }
+        synchronized (progressLock) {
+            submitted++;
+        }
+        if (enqueue(save)) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Encola un elemento esperando si la cola está llena, sin abandonar la espera
+     * si el hilo se interrumpe.
+     *
+     * @param save Elemento a encolar
+     * @return true si el hilo se interrumpió mientras esperaba
+     */
+    private boolean enqueue(PendingSave save) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(save);
+                return interrupted;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+    }
+
+    /**
+     * Bucle del hilo de escritura: toma un guardado, agrupa los que esperan detrás
+     * de él y los escribe como un lote, hasta recibir la marca de parada.
+     */
+    private void runWriter() {
+        List<PendingSave> batch = new ArrayList<>();
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch);
+            if (batch.remove(STOP)) {
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Escribe un lote de guardados y actualiza las métricas.
+     * Si la escritura falla, la reintenta con esperas crecientes; si fallan todos los
+     * intentos, descarta el lote y lo cuenta como perdido.
+     *
+     * @param batch Guardados a escribir, en orden de llegada
+     */
+    private void write(List<PendingSave> batch) {
+        List<User> users = new ArrayList<>();
+        List<History> games = new ArrayList<>();
+        for (PendingSave save : batch) {
+            if (save.user != null) {
+                users.add(save.user);
+            } else {
+                games.add(save.history);
+            }
+        }
+
+        try {
+            long delay = retryDelayMillis;
+            for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+                if (tryWrite(users, games, batch.size())) {
+                    return;
+                }
+                if (attempt < MAX_WRITE_ATTEMPTS) {
+                    pause(delay);
+                    delay *= 2;
+                }
+            }
+            droppedSaves += batch.size();
+            System.err.println("Se descartaron " + batch.size() + " registros tras "
+                    + MAX_WRITE_ATTEMPTS + " intentos de escritura fallidos");
+        } finally {
+            synchronized (progressLock) {
+                completed += batch.size();
+                progressLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Intenta escribir un lote una vez y actualiza las métricas.
+     * Si falla, el registro no cambia y el lote puede volver a escribirse.
+     *
+     * @param users Usuarios del lote
+     * @param games Partidas del lote
+     * @param saves Número de guardados del lote
+     * @return true si el lote se escribió
+     */
+    private boolean tryWrite(List<User> users, List<History> games, int saves) {
+        long start = System.nanoTime();
+        try {
+            log.appendAll(users, games);
+            flushCount++;
+            savesWritten += saves;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            failedFlushes++;
+            lastFailure = e;
+            System.err.println("Error al guardar " + saves + " registros: " + e.getMessage());
+            return false;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            lastFlushNanos = elapsed;
+            maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+            totalFlushNanos += elapsed;
+        }
+    }
+
+    /**
+     * Espera antes de reintentar una escritura. Si el hilo se interrumpe, deja de esperar
+     * y conserva la interrupción para el bucle de escritura.
+     *
+     * @param millis Tiempo de espera, en milisegundos
+     */
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Guardado pendiente: un usuario nuevo o una partida terminada.
+     */
+    private static final class PendingSave {
+
+        /**
+         * Usuario a guardar, o null si es una partida.
+         */
+        private final User user;
+
+        /**
+         * Partida a guardar, o null si es un usuario.
+         */
+        private final History history;
+
+        /**
+         * Constructor del guardado.
+         *
+         * @param user Usuario a guardar, o null
+         * @param history Partida a guardar, o null
+         */
+        private PendingSave(User user, History history) {
+            this.user = user;
+            this.history = history;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.navyattack.model;
+
+/**
+ * Lado de un jugador dentro de una partida.
+ * El jugador 1 siempre empieza; en modo PVC la CPU es el jugador 2.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public enum PlayerSide {
+
+    /**
+     * Primer jugador, que abre la partida.
+     */
+    PLAYER_1,
+
+    /**
+     * Segundo jugador (otro humano o la CPU).
+     */
+    PLAYER_2;
+
+    /**
+     * Obtiene el lado contrario.
+     *
+     * @return El oponente de este lado
+     */
+    public PlayerSide opponent() {
+        return this == PLAYER_1 ? PLAYER_2 : PLAYER_1;
+    }
+}
@@ -0,0 +1,27 @@
+package com.navyattack.model;
+
+/**
+ * Jugador automático capaz de disputar una partida en un {@link GameEngine}.
+ * Las celdas se identifican por su índice lineal {@code fila * tamaño + columna}.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public interface PlayerStrategy {
+
+    /**
+     * Elige la siguiente celda del tablero rival a atacar.
+     *
+     * @return Índice de la celda a atacar
+     */
+    int attackCell();
+
+    /**
+     * Recibe el resultado del último ataque.
+     *
+     * @param result Resultado del ataque
+     * @param cell Índice de la celda atacada
+     * @param sunkShip Barco hundido por el ataque, o null si no hubo hundimiento
+     */
+    void processResult(AttackResult result, int cell, Ship sunkShip);
+}
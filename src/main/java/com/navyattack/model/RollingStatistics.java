@@ -0,0 +1,380 @@
+package com.navyattack.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Totales recientes de las partidas de un jugador, por modo de juego y por periodo
+ * (día, semana y mes).
+ *
+ * Cada modo guarda, para cada periodo, un búfer circular con un número fijo de
+ * casillas ({@link Period#getCapacity()}); una partida se suma a la casilla de su
+ * fecha y una casilla se reutiliza cuando llega una partida de un periodo más nuevo,
+ * de modo que la memoria no crece con el historial. Las consultas suman como mucho
+ * tantas casillas como la capacidad del periodo y no recorren el historial.
+ *
+ * Las fechas se interpretan en la zona horaria del sistema, como en
+ * {@link History#getGameDate()}; las semanas empiezan el lunes.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public final class RollingStatistics implements Serializable {
+
+    /**
+     * Serial version UID para control de versiones durante la serialización.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Periodos en que se agrupan las partidas.
+     */
+    public enum Period {
+
+        /** Días naturales; se conservan los últimos 31. */
+        DAY(31),
+
+        /** Semanas de lunes a domingo; se conservan las últimas 26. */
+        WEEK(26),
+
+        /** Meses naturales; se conservan los últimos 24. */
+        MONTH(24);
+
+        /**
+         * Número de periodos que se conservan.
+         */
+        private final int capacity;
+
+        /**
+         * Constructor del periodo.
+         *
+         * @param capacity Número de periodos que se conservan
+         */
+        Period(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Obtiene el número de periodos que se conservan, y por tanto el máximo que
+         * se puede consultar.
+         *
+         * @return Número de periodos
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Obtiene el número del periodo que contiene una fecha. Periodos consecutivos
+         * tienen números consecutivos.
+         *
+         * @param date Fecha
+         * @return Número del periodo
+         */
+        long keyOf(LocalDate date) {
+            switch (this) {
+                case DAY:
+                    return date.toEpochDay();
+                case WEEK:
+                    // El 1 de enero de 1970 fue jueves
+                    return Math.floorDiv(date.toEpochDay() + 3, 7);
+                default:
+                    return date.getYear() * 12L + date.getMonthValue() - 1;
+            }
+        }
+    }
+
+    /**
+     * Búferes circulares de cada modo de juego, uno por periodo.
+     */
+    private final Map<String, Ring[]> modes = new TreeMap<>();
+
+    /**
+     * Constructor de unos totales recientes vacíos.
+     */
+    public RollingStatistics() {
+    }
+
+    /**
+     * Calcula los totales recientes de un historial completo.
+     *
+     * @param username Nombre del jugador
+     * @param history Partidas del jugador, o null
+     * @return Totales recientes del historial
+     */
+    public static RollingStatistics of(String username, List<History> history) {
+        RollingStatistics statistics = new RollingStatistics();
+        if (history != null) {
+            for (History game : history) {
+                statistics.add(username, game);
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Suma una partida a las casillas de su fecha y su modo de juego.
+     *
+     * @param username Nombre del jugador
+     * @param game Partida jugada por el jugador
+     */
+    public void add(String username, History game) {
+        LocalDate date = game.getGameDate().toLocalDate();
+        Ring[] rings = ringsOf(game.getGameMode() != null ? game.getGameMode() : "");
+        for (Period period : Period.values()) {
+            rings[period.ordinal()].add(period.keyOf(date), username, game);
+        }
+    }
+
+    /**
+     * Obtiene los totales de los últimos periodos hasta hoy, incluido el actual.
+     *
+     * @param mode Modo de juego ("PVC" o "PVP"), o null para todos
+     * @param period Periodo
+     * @param count Número de periodos, entre 1 y la capacidad del periodo
+     * @return Totales de las partidas de esos periodos
+     * @throws IllegalArgumentException si el número de periodos no es válido
+     */
+    public UserTotals getTotals(String mode, Period period, int count) {
+        return getTotals(mode, period, count, LocalDate.now());
+    }
+
+    /**
+     * Obtiene los totales de los últimos periodos hasta una fecha, incluido el que la contiene.
+     *
+     * @param mode Modo de juego ("PVC" o "PVP"), o null para todos
+     * @param period Periodo
+     * @param count Número de periodos, entre 1 y la capacidad del periodo
+     * @param today Fecha de referencia
+     * @return Totales de las partidas de esos periodos
+     * @throws IllegalArgumentException si el número de periodos no es válido
+     */
+    public UserTotals getTotals(String mode, Period period, int count, LocalDate today) {
+        if (count < 1 || count > period.getCapacity()) {
+            throw new IllegalArgumentException("Count must be between 1 and " + period.getCapacity()
+                    + " for " + period + ": " + count);
+        }
+        UserTotals result = new UserTotals();
+        long newest = period.keyOf(today);
+        if (mode == null) {
+            for (Ring[] rings : modes.values()) {
+                rings[period.ordinal()].sumInto(result, newest, count);
+            }
+        } else {
+            Ring[] rings = modes.get(mode);
+            if (rings != null) {
+                rings[period.ordinal()].sumInto(result, newest, count);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Crea una copia independiente de los totales recientes.
+     *
+     * @return Copia de los totales recientes
+     */
+    public RollingStatistics copy() {
+        RollingStatistics copy = new RollingStatistics();
+        for (Map.Entry<String, Ring[]> entry : modes.entrySet()) {
+            Ring[] rings = new Ring[entry.getValue().length];
+            for (int i = 0; i < rings.length; i++) {
+                rings[i] = entry.getValue()[i].copy();
+            }
+            copy.modes.put(entry.getKey(), rings);
+        }
+        return copy;
+    }
+
+    /**
+     * Escribe los totales recientes; solo se escriben las casillas ocupadas.
+     *
+     * @param out Destino
+     * @throws IOException si ocurre un error de escritura
+     */
+    void write(DataOutput out) throws IOException {
+        HistoryCodec.writeVarInt(out, modes.size());
+        for (Map.Entry<String, Ring[]> entry : modes.entrySet()) {
+            out.writeUTF(entry.getKey());
+            for (Ring ring : entry.getValue()) {
+                ring.write(out);
+            }
+        }
+    }
+
+    /**
+     * Lee unos totales recientes escritos con {@link #write(DataOutput)}.
+     *
+     * @param in Origen
+     * @return Totales recientes leídos
+     * @throws IOException si ocurre un error de lectura o los datos no son válidos
+     */
+    static RollingStatistics read(DataInput in) throws IOException {
+        RollingStatistics statistics = new RollingStatistics();
+        int modeCount = HistoryCodec.readVarInt(in);
+        for (int i = 0; i < modeCount; i++) {
+            Ring[] rings = statistics.ringsOf(in.readUTF());
+            for (Ring ring : rings) {
+                ring.read(in);
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Obtiene los búferes de un modo de juego, creándolos si no existen.
+     *
+     * @param mode Modo de juego
+     * @return Búferes del modo, uno por periodo
+     */
+    private Ring[] ringsOf(String mode) {
+        return modes.computeIfAbsent(mode, key -> {
+            Ring[] rings = new Ring[Period.values().length];
+            for (Period period : Period.values()) {
+                rings[period.ordinal()] = new Ring(period.getCapacity());
+            }
+            return rings;
+        });
+    }
+
+    /**
+     * Búfer circular de totales por periodo. La casilla de un periodo es su número
+     * módulo la capacidad.
+     */
+    private static final class Ring implements Serializable {
+
+        /**
+         * Serial version UID para control de versiones durante la serialización.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Número del periodo de cada casilla.
+         */
+        private final long[] keys;
+
+        /**
+         * Totales de cada casilla, o null si está vacía.
+         */
+        private final UserTotals[] totals;
+
+        /**
+         * Constructor de un búfer vacío.
+         *
+         * @param capacity Número de casillas
+         */
+        private Ring(int capacity) {
+            this.keys = new long[capacity];
+            this.totals = new UserTotals[capacity];
+        }
+
+        /**
+         * Suma una partida a la casilla de un periodo. Si la casilla guarda un periodo
+         * anterior, se vacía primero; si guarda uno posterior, la partida queda fuera
+         * de los periodos conservados y se ignora.
+         *
+         * @param key Número del periodo de la partida
+         * @param username Nombre del jugador
+         * @param game Partida
+         */
+        private void add(long key, String username, History game) {
+            int slot = slotOf(key);
+            if (totals[slot] == null || keys[slot] < key) {
+                keys[slot] = key;
+                totals[slot] = new UserTotals();
+            } else if (keys[slot] > key) {
+                return;
+            }
+            totals[slot].add(username, game);
+        }
+
+        /**
+         * Suma a un resultado los totales de los últimos periodos.
+         *
+         * @param result Totales en que se acumula
+         * @param newest Número del periodo más reciente
+         * @param count Número de periodos
+         */
+        private void sumInto(UserTotals result, long newest, int count) {
+            for (long key = newest - count + 1; key <= newest; key++) {
+                int slot = slotOf(key);
+                if (totals[slot] != null && keys[slot] == key) {
+                    result.add(totals[slot]);
+                }
+            }
+        }
+
+        /**
+         * Obtiene la casilla de un periodo.
+         *
+         * @param key Número del periodo
+         * @return Índice de la casilla
+         */
+        private int slotOf(long key) {
+            return (int) Math.floorMod(key, (long) keys.length);
+        }
+
+        /**
+         * Crea una copia independiente del búfer.
+         *
+         * @return Copia del búfer
+         */
+        private Ring copy() {
+            Ring copy = new Ring(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                if (totals[i] != null) {
+                    copy.keys[i] = keys[i];
+                    copy.totals[i] = totals[i].copy();
+                }
+            }
+            return copy;
+        }
+
+        /**
+         * Escribe las casillas ocupadas del búfer.
+         *
+         * @param out Destino
+         * @throws IOException si ocurre un error de escritura
+         */
+        private void write(DataOutput out) throws IOException {
+            int used = 0;
+            for (UserTotals slot : totals) {
+                if (slot != null) {
+                    used++;
+                }
+            }
+            HistoryCodec.writeVarInt(out, used);
+            for (int i = 0; i < keys.length; i++) {
+                if (totals[i] != null) {
+                    HistoryCodec.writeVarLong(out, keys[i]);
+                    totals[i].write(out);
+                }
+            }
+        }
+
+        /**
+         * Lee las casillas escritas con {@link #write(DataOutput)}.
+         *
+         * @param in Origen
+         * @throws IOException si ocurre un error de lectura o los datos no son válidos
+         */
+        private void read(DataInput in) throws IOException {
+            int used = HistoryCodec.readVarInt(in);
+            if (used < 0 || used > keys.length) {
+                throw new IOException("Invalid number of statistics buckets: " + used);
+            }
+            for (int i = 0; i < used; i++) {
+                long key = HistoryCodec.readVarLong(in);
+                int slot = slotOf(key);
+                keys[slot] = key;
+                totals[slot] = UserTotals.read(in);
+            }
+        }
+    }
+}
@@ -1,9 +1,5 @@
 package com.navyattack.model;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
 /**
  * Representa un barco en el juego NavyAttack.
  * Cada barco tiene un tipo específico que determina su longitud, puede estar
@@ -11,6 +7,8 @@ import java.util.List;
  * 
  * El barco calcula sus propias posiciones en el tablero según su orientación
  * y coordenadas iniciales, siguiendo el principio de responsabilidad única.
+ * Las posiciones se exponen como una vista compacta ({@link ShipPositions})
+ * que no guarda un arreglo por celda.
  * 
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
@@ -34,26 +32,32 @@ public class Ship {
     
     /**
      * Fila inicial donde está colocado el barco.
-     * Null si el barco no ha sido colocado aún.
+     * Solo es significativa si el barco ya fue colocado.
      */
-    private Integer row;
+    private int row;
     
     /**
      * Columna inicial donde está colocado el barco.
-     * Null si el barco no ha sido colocado aún.
+     * Solo es significativa si el barco ya fue colocado.
      */
-    private Integer col;
+    private int col;
+
+    /**
+     * Indica si el barco ya fue colocado en el tablero.
+     */
+    private boolean placed;
     
     /**
-     * Lista de posiciones que ocupa el barco en el tablero.
-     * Cada posición es un arreglo [fila, columna].
+     * Posiciones que ocupa el barco en el tablero.
+     * Vista compacta con la celda inicial, la orientación y la longitud.
      */
-    private List<int[]> positions;
+    private ShipPositions positions;
     
     /**
-     * Número de impactos recibidos por el barco.
+     * Máscara de bits con los segmentos del barco que ya fueron impactados.
+     * El bit {@code i} corresponde a la celda {@code i} del barco contada desde su inicio.
      */
-    private int hits;
+    private long hitSegments;
     
     /**
      * Constructor del barco.
@@ -66,7 +70,6 @@ public class Ship {
         this.type = type;
         this.length = type.getLength();
         this.orientation = Orientation.HORIZONTAL;
-        this.hits = 0;
     }
     
     /**
@@ -77,20 +80,10 @@ public class Ship {
      * 
      * @param startRow Fila inicial
      * @param startCol Columna inicial
-     * @return Lista de posiciones [fila, columna] que ocuparía el barco
-     */
-    public List<int[]> calculatePositions(int startRow, int startCol) {
-        List<int[]> positions = new ArrayList<>();
-        if (orientation == Orientation.HORIZONTAL) {
-            for (int c = 0; c < length; c++) {
-                positions.add(new int[]{startRow, startCol + c});
-            }
-        } else {
-            for (int r = 0; r < length; r++) {
-                positions.add(new int[]{startRow + r, startCol});
-            }
-        }
-        return positions;
+     * @return Vista de las posiciones [fila, columna] que ocuparía el barco
+     */
+    public ShipPositions calculatePositions(int startRow, int startCol) {
+        return new ShipPositions(startRow, startCol, orientation, length);
     }
     
     /**
@@ -104,6 +97,7 @@ public class Ship {
     public void place(int row, int col) {
         this.row = row;
         this.col = col;
+        this.placed = true;
         this.positions = calculatePositions(row, col);
     }
     
@@ -119,21 +113,66 @@ public class Ship {
     }
     
     /**
-     * Registra un impacto en el barco.
-     * Incrementa el contador de impactos recibidos.
+     * Registra un impacto en el primer segmento del barco que aún no ha sido impactado.
+     * Equivale a {@link #registerHit(int)} sobre ese segmento, por lo que nunca cuenta
+     * dos veces el mismo segmento; si todos ya fueron impactados, no tiene efecto.
+     * Cuando se conoce la celda atacada debe usarse {@link #registerHit(int)}.
      */
     public void registerHit() {
-        hits++;
+        int segment = Long.numberOfTrailingZeros(~hitSegments);
+        if (segment < length) {
+            registerHit(segment);
+        }
+    }
+
+    /**
+     * Registra un impacto en un segmento concreto del barco.
+     * Cada segmento solo cuenta una vez, de modo que impactos repetidos
+     * sobre la misma celda no pueden hundir el barco.
+     *
+     * @param segment Índice del segmento impactado (0 es la celda inicial)
+     * @return true si el segmento no había sido impactado antes, false en caso contrario
+     * @throws IllegalArgumentException si el segmento está fuera de la longitud del barco
+     */
+    public boolean registerHit(int segment) {
+        if (segment < 0 || segment >= length) {
+            throw new IllegalArgumentException(
+                    String.format("Segment %d is out of range for %s", segment, type)
+            );
+        }
+
+        long bit = 1L << segment;
+        if ((hitSegments & bit) != 0) {
+            return false;
+        }
+        hitSegments |= bit;
+        return true;
+    }
+
+    /**
+     * Calcula el segmento del barco que ocupa una celda del tablero.
+     *
+     * @param cellRow Fila de la celda
+     * @param cellCol Columna de la celda
+     * @return Índice del segmento (0 es la celda inicial), o -1 si el barco no ocupa esa celda
+     */
+    public int segmentAt(int cellRow, int cellCol) {
+        if (!isPlaced()) {
+            return -1;
+        }
+        int segment = orientation == Orientation.HORIZONTAL ? cellCol - col : cellRow - row;
+        boolean sameLine = orientation == Orientation.HORIZONTAL ? cellRow == row : cellCol == col;
+        return sameLine && segment >= 0 && segment < length ? segment : -1;
     }
     
     /**
      * Verifica si el barco ha sido hundido.
-     * Un barco está hundido cuando ha recibido impactos en todas sus posiciones.
+     * Un barco está hundido cuando todos sus segmentos han sido impactados.
      * 
      * @return true si el barco está hundido, false en caso contrario
      */
     public boolean isSunk() {
-        return hits >= length;
+        return Long.bitCount(hitSegments) == length;
     }
     
     /**
@@ -142,7 +181,7 @@ public class Ship {
      * @return true si el barco tiene coordenadas asignadas, false en caso contrario
      */
     public boolean isPlaced() {
-        return row != null && col != null;
+        return placed;
     }
     
     /**
@@ -174,11 +213,11 @@ public class Ship {
     
     /**
      * Obtiene las posiciones que ocupa el barco en el tablero.
-     * Si el barco no ha sido colocado, retorna una lista vacía.
+     * Si el barco no ha sido colocado, retorna una vista vacía.
      * 
-     * @return Lista inmutable de posiciones [fila, columna], o lista vacía si no está colocado
+     * @return Vista inmutable de posiciones [fila, columna], o vista vacía si no está colocado
      */
-    public List<int[]> getPositions() {
-        return isPlaced() ? Collections.unmodifiableList(positions) : Collections.emptyList();
+    public ShipPositions getPositions() {
+        return isPlaced() ? positions : ShipPositions.EMPTY;
     }
 }
\ No newline at end of file
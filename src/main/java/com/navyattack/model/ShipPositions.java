@@ -0,0 +1,144 @@
+package com.navyattack.model;
+
+import java.util.AbstractList;
+
+/**
+ * Vista compacta e inmutable de las posiciones que ocupa un barco.
+ * En lugar de guardar una lista de arreglos {@code [fila, columna]}, solo almacena
+ * la celda inicial, la orientación y la longitud; cada posición se calcula al vuelo.
+ *
+ * Los accesores primitivos {@link #rowAt(int)}, {@link #colAt(int)} y
+ * {@link #cellIndex(int, int)} permiten recorrer las posiciones sin crear objetos.
+ * Por compatibilidad también se comporta como una {@code List<int[]>} no modificable;
+ * en ese caso cada llamada a {@link #get(int)} crea un arreglo nuevo.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public final class ShipPositions extends AbstractList<int[]> {
+
+    /**
+     * Vista sin posiciones, usada por los barcos que aún no han sido colocados.
+     */
+    public static final ShipPositions EMPTY = new ShipPositions(0, 0, Orientation.HORIZONTAL, 0);
+
+    /**
+     * Fila de la celda inicial.
+     */
+    private final int startRow;
+
+    /**
+     * Columna de la celda inicial.
+     */
+    private final int startCol;
+
+    /**
+     * Orientación en la que se extienden las posiciones.
+     */
+    private final Orientation orientation;
+
+    /**
+     * Número de posiciones.
+     */
+    private final int length;
+
+    /**
+     * Constructor de la vista de posiciones.
+     *
+     * @param startRow Fila de la celda inicial
+     * @param startCol Columna de la celda inicial
+     * @param orientation Orientación del barco
+     * @param length Número de celdas que ocupa el barco
+     */
+    public ShipPositions(int startRow, int startCol, Orientation orientation, int length) {
+        this.startRow = startRow;
+        this.startCol = startCol;
+        this.orientation = orientation;
+        this.length = length;
+    }
+
+    /**
+     * Obtiene la fila de una posición.
+     *
+     * @param i Índice de la posición (0 es la celda inicial)
+     * @return Fila de la posición
+     */
+    public int rowAt(int i) {
+        return orientation == Orientation.VERTICAL ? startRow + i : startRow;
+    }
+
+    /**
+     * Obtiene la columna de una posición.
+     *
+     * @param i Índice de la posición (0 es la celda inicial)
+     * @return Columna de la posición
+     */
+    public int colAt(int i) {
+        return orientation == Orientation.HORIZONTAL ? startCol + i : startCol;
+    }
+
+    /**
+     * Obtiene el índice lineal ({@code fila * tamaño + columna}) de una posición.
+     *
+     * @param i Índice de la posición (0 es la celda inicial)
+     * @param boardSize Número de celdas por lado del tablero
+     * @return Índice lineal de la celda
+     */
+    public int cellIndex(int i, int boardSize) {
+        return rowAt(i) * boardSize + colAt(i);
+    }
+
+    /**
+     * Obtiene la fila de la celda inicial.
+     *
+     * @return Fila inicial
+     */
+    public int getStartRow() {
+        return startRow;
+    }
+
+    /**
+     * Obtiene la columna de la celda inicial.
+     *
+     * @return Columna inicial
+     */
+    public int getStartCol() {
+        return startCol;
+    }
+
+    /**
+     * Obtiene la orientación de las posiciones.
+     *
+     * @return Orientación (HORIZONTAL o VERTICAL)
+     */
+    public Orientation getOrientation() {
+        return orientation;
+    }
+
+    /**
+     * Obtiene una posición como arreglo {@code [fila, columna]}.
+     * Crea un arreglo nuevo en cada llamada; en recorridos frecuentes es preferible
+     * usar {@link #rowAt(int)} y {@link #colAt(int)}.
+     *
+     * @param i Índice de la posición
+     * @return Arreglo {@code [fila, columna]}
+     * @throws IndexOutOfBoundsException si el índice está fuera de rango
+     */
+    @Override
+    public int[] get(int i) {
+        if (i < 0 || i >= length) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + length);
+        }
+        return new int[]{rowAt(i), colAt(i)};
+    }
+
+    /**
+     * Obtiene el número de posiciones.
+     *
+     * @return Longitud del barco, o 0 si no está colocado
+     */
+    @Override
+    public int size() {
+        return length;
+    }
+}
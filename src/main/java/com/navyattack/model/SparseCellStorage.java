@@ -0,0 +1,240 @@
+package com.navyattack.model;
+
+import java.util.Arrays;
+
+/**
+ * Almacenamiento disperso de celdas para tableros muy grandes y casi vacíos.
+ * Solo guarda las celdas ocupadas por barcos o ya atacadas, en un mapa de
+ * direccionamiento abierto con claves {@code long} primitivas (sondeo lineal).
+ * Las celdas que no aparecen en el mapa están en estado EMPTY.
+ *
+ * La memoria usada es proporcional a la cantidad de celdas ocupadas o atacadas,
+ * no al tamaño del tablero, lo que permite mantener muchas partidas grandes
+ * en memoria al mismo tiempo.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+final class SparseCellStorage implements CellStorage {
+
+    /**
+     * Clave que marca una ranura libre del mapa (los índices de celda nunca son negativos).
+     */
+    private static final long FREE_KEY = -1L;
+
+    /**
+     * Capacidad inicial del mapa (potencia de dos).
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Bandera de celda ocupada por un barco.
+     */
+    private static final int SHIP_FLAG = 1;
+
+    /**
+     * Bandera de celda atacada con impacto.
+     */
+    private static final int HIT_FLAG = 2;
+
+    /**
+     * Bandera de celda atacada con fallo.
+     */
+    private static final int MISS_FLAG = 4;
+
+    /**
+     * Desplazamiento del identificador de barco dentro del valor empaquetado.
+     */
+    private static final int SHIP_ID_SHIFT = 3;
+
+    /**
+     * Claves del mapa (índices de celda), o FREE_KEY en las ranuras libres.
+     */
+    private long[] keys;
+
+    /**
+     * Valores del mapa: banderas de estado y el identificador del barco empaquetados.
+     */
+    private int[] values;
+
+    /**
+     * Número de ranuras ocupadas.
+     */
+    private int entries;
+
+    /**
+     * Número de celdas con barco que aún no han sido impactadas.
+     */
+    private int remainingShipCells;
+
+    /**
+     * Constructor del almacenamiento disperso con la capacidad inicial.
+     */
+    SparseCellStorage() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Reserva los arreglos del mapa con una capacidad dada.
+     *
+     * @param capacity Número de ranuras (potencia de dos)
+     */
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, FREE_KEY);
+        entries = 0;
+    }
+
+    /**
+     * Calcula la ranura inicial de una clave.
+     *
+     * @param key Clave a ubicar
+     * @return Ranura inicial de sondeo
+     */
+    private int slotOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & (keys.length - 1);
+    }
+
+    /**
+     * Busca la ranura de una clave.
+     *
+     * @param key Clave a buscar
+     * @return Ranura que contiene la clave, o -1 si no está en el mapa
+     */
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return slot;
+            }
+            if (current == FREE_KEY) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Obtiene el valor empaquetado de una celda.
+     *
+     * @param index Índice de la celda
+     * @return Valor empaquetado, o 0 si la celda está vacía
+     */
+    private int get(int index) {
+        int slot = find(index);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    /**
+     * Combina banderas con el valor de una celda, insertándola si no existía.
+     * Duplica la capacidad cuando el factor de carga supera 1/2.
+     *
+     * @param index Índice de la celda
+     * @param bits Bits a activar en el valor
+     */
+    private void or(int index, int bits) {
+        if ((entries + 1) * 2 > keys.length) {
+            grow();
+        }
+        long key = index;
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                values[slot] |= bits;
+                return;
+            }
+            if (current == FREE_KEY) {
+                keys[slot] = key;
+                values[slot] = bits;
+                entries++;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Duplica la capacidad del mapa y reubica todas las entradas.
+     */
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int slot = slotOf(oldKeys[i]);
+                while (keys[slot] != FREE_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                entries++;
+            }
+        }
+    }
+
+    @Override
+    public CellState getState(int index) {
+        int value = get(index);
+        if ((value & HIT_FLAG) != 0) {
+            return CellState.HIT;
+        }
+        if ((value & MISS_FLAG) != 0) {
+            return CellState.MISS;
+        }
+        return (value & SHIP_FLAG) != 0 ? CellState.SHIP : CellState.EMPTY;
+    }
+
+    @Override
+    public boolean isRunFree(int start, int length, int stride) {
+        if (entries == 0) {
+            return true;
+        }
+        for (int i = 0, index = start; i < length; i++, index += stride) {
+            if ((get(index) & (SHIP_FLAG | MISS_FLAG)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void placeShip(int index, int shipId) {
+        or(index, SHIP_FLAG | (shipId << SHIP_ID_SHIFT));
+        remainingShipCells++;
+    }
+
+    @Override
+    public int shipIdAt(int index) {
+        return get(index) >>> SHIP_ID_SHIFT;
+    }
+
+    @Override
+    public void markHit(int index) {
+        or(index, HIT_FLAG);
+        remainingShipCells--;
+    }
+
+    @Override
+    public void markMiss(int index) {
+        or(index, MISS_FLAG);
+    }
+
+    @Override
+    public int getRemainingShipCells() {
+        return remainingShipCells;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Libera la memoria volviendo a la capacidad inicial.
+     */
+    @Override
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+        remainingShipCells = 0;
+    }
+}
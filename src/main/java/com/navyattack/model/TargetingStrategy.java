@@ -0,0 +1,47 @@
+package com.navyattack.model;
+
+/**
+ * Estrategia de selección de objetivos de la CPU.
+ * Decide la siguiente celda a atacar a partir de los resultados observados.
+ *
+ * Las celdas se identifican por su índice lineal {@code fila * tamaño + columna}.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+interface TargetingStrategy {
+
+    /**
+     * Elige la siguiente celda a atacar entre las que aún no han sido atacadas.
+     *
+     * @return Índice de la celda elegida, o -1 si no quedan celdas por atacar
+     */
+    int selectTarget();
+
+    /**
+     * Registra que el ataque a una celda cayó en el agua.
+     *
+     * @param cell Índice de la celda atacada
+     */
+    void recordMiss(int cell);
+
+    /**
+     * Registra que el ataque a una celda impactó un barco sin hundirlo.
+     *
+     * @param cell Índice de la celda atacada
+     */
+    void recordHit(int cell);
+
+    /**
+     * Registra que el ataque a una celda hundió un barco.
+     *
+     * @param cell Índice de la celda atacada
+     * @param ship Barco hundido, o null si se desconoce
+     */
+    void recordSunk(int cell, Ship ship);
+
+    /**
+     * Reinicia la estrategia para una nueva partida.
+     */
+    void reset();
+}
@@ -0,0 +1,212 @@
+package com.navyattack.model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Torneo de partidas CPU contra CPU sin interfaz, para medir la fuerza de cada dificultad.
+ * Las partidas se reparten en un {@link ForkJoinPool} dividiendo recursivamente el rango
+ * de partidas, de modo que los hilos libres roban trabajo de los ocupados.
+ *
+ * Cada partida deriva sus semillas (tableros y CPUs) de la semilla del torneo y de su
+ * índice. Las CPU en dificultad HARD muestrean en el hilo de su partida, sin pool propio,
+ * para que las partidas paralelas no se repartan a su vez entre todos los núcleos; cada
+ * turno intenta un número fijo de muestras y el tiempo de pensamiento es solo un límite
+ * superior. Así, con la misma semilla el resultado es el mismo sin importar el número de
+ * hilos ni el orden de ejecución, salvo que algún turno HARD agote su tiempo de
+ * pensamiento antes de completar sus muestras.
+ *
+ * Los contendientes se alternan el primer turno: en las partidas pares abre
+ * el primero y en las impares el segundo.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public final class Tournament {
+
+    /**
+     * Número de partidas a partir del cual una tarea ya no se divide.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 16;
+
+    /**
+     * Incremento de la secuencia de Weyl usada para derivar semillas por partida.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Configuración de los tableros de todas las partidas.
+     */
+    private final BoardConfig config;
+
+    /**
+     * Dificultad del primer contendiente.
+     */
+    private final CPUDifficulty first;
+
+    /**
+     * Dificultad del segundo contendiente.
+     */
+    private final CPUDifficulty second;
+
+    /**
+     * Límite de tiempo por turno de las CPU en dificultad HARD, en milisegundos.
+     */
+    private final long thinkTimeMillis;
+
+    /**
+     * Constructor del torneo.
+     *
+     * @param config Configuración de los tableros
+     * @param first Dificultad del primer contendiente
+     * @param second Dificultad del segundo contendiente
+     * @param thinkTimeMillis Tiempo de pensamiento por turno para la dificultad HARD
+     * @throws IllegalArgumentException si algún parámetro es null o el tiempo no es positivo
+     */
+    public Tournament(BoardConfig config, CPUDifficulty first, CPUDifficulty second, long thinkTimeMillis) {
+        if (config == null || first == null || second == null) {
+            throw new IllegalArgumentException("Board configuration and both difficulties are required");
+        }
+        if (thinkTimeMillis <= 0) {
+            throw new IllegalArgumentException("Think time must be positive, got " + thinkTimeMillis);
+        }
+        this.config = config;
+        this.first = first;
+        this.second = second;
+        this.thinkTimeMillis = thinkTimeMillis;
+    }
+
+    /**
+     * Juega el torneo en el pool común.
+     *
+     * @param games Número de partidas
+     * @param seed Semilla del torneo
+     * @return Resultados agregados
+     */
+    public TournamentResult play(int games, long seed) {
+        return play(games, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Juega el torneo en el pool indicado.
+     *
+     * @param games Número de partidas
+     * @param seed Semilla del torneo
+     * @param pool Pool donde se ejecutan las partidas
+     * @return Resultados agregados
+     * @throws IllegalArgumentException si el número de partidas es negativo
+     */
+    public TournamentResult play(int games, long seed, ForkJoinPool pool) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games cannot be negative, got " + games);
+        }
+        long start = System.nanoTime();
+        TournamentResult result = pool.invoke(new GameRange(seed, 0, games));
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Juega una sola partida del torneo.
+     *
+     * @param seed Semilla del torneo
+     * @param index Índice de la partida
+     * @param result Resultado donde se registra la partida
+     */
+    void playGame(long seed, int index, TournamentResult result) {
+        SplittableRandom random = new SplittableRandom(gameSeed(seed, index));
+        Board board1 = new Board(config);
+        Board board2 = new Board(config);
+        Board.placeShipsRandomly(board1, random.nextLong());
+        Board.placeShipsRandomly(board2, random.nextLong());
+        CPU firstCpu = new CPU(config, first, thinkTimeMillis, random.nextLong(), null);
+        CPU secondCpu = new CPU(config, second, thinkTimeMillis, random.nextLong(), null);
+
+        boolean firstOpens = (index & 1) == 0;
+        GameEngine engine = new GameEngine(board1, board2);
+        MatchResult match = firstOpens
+                ? engine.playMatch(firstCpu, secondCpu)
+                : engine.playMatch(secondCpu, firstCpu);
+
+        boolean firstWon = (match.getWinner() == PlayerSide.PLAYER_1) == firstOpens;
+        result.record(firstWon ? PlayerSide.PLAYER_1 : PlayerSide.PLAYER_2, match.getWinnerShots());
+    }
+
+    /**
+     * Deriva la semilla de una partida a partir de la del torneo y su índice,
+     * mezclando los bits como SplitMix64 para que partidas vecinas no se parezcan.
+     *
+     * @param seed Semilla del torneo
+     * @param index Índice de la partida
+     * @return Semilla de la partida
+     */
+    static long gameSeed(long seed, int index) {
+        long z = seed + (index + 1L) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Tarea que juega un rango de partidas, dividiéndolo mientras sea grande.
+     */
+    private final class GameRange extends RecursiveTask<TournamentResult> {
+
+        /**
+         * Serial version UID para control de versiones durante la serialización.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Semilla del torneo.
+         */
+        private final long seed;
+
+        /**
+         * Índice de la primera partida del rango.
+         */
+        private final int from;
+
+        /**
+         * Índice siguiente a la última partida del rango.
+         */
+        private final int to;
+
+        /**
+         * Constructor de la tarea.
+         *
+         * @param seed Semilla del torneo
+         * @param from Primera partida, inclusive
+         * @param to Última partida, exclusiva
+         */
+        GameRange(long seed, int from, int to) {
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Juega el rango directamente o lo divide en dos mitades.
+         *
+         * @return Resultados del rango
+         */
+        @Override
+        protected TournamentResult compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                TournamentResult result = new TournamentResult();
+                for (int index = from; index < to; index++) {
+                    playGame(seed, index, result);
+                }
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            GameRange left = new GameRange(seed, from, middle);
+            GameRange right = new GameRange(seed, middle, to);
+            left.fork();
+            TournamentResult result = right.compute();
+            return result.merge(left.join());
+        }
+    }
+}
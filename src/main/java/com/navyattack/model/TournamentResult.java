@@ -0,0 +1,195 @@
+package com.navyattack.model;
+
+import java.util.Arrays;
+
+/**
+ * Resultados agregados de un {@link Tournament} entre dos configuraciones de CPU.
+ * Guarda las victorias de cada contendiente y la distribución de disparos necesarios
+ * para ganar, como un histograma indexado por número de disparos.
+ *
+ * Los contendientes se identifican con {@link PlayerSide}: {@code PLAYER_1} es la primera
+ * dificultad configurada y {@code PLAYER_2} la segunda, independientemente de quién
+ * abrió cada partida.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public final class TournamentResult {
+
+    /**
+     * Partidas ganadas por cada contendiente.
+     */
+    private final int[] wins;
+
+    /**
+     * Histogramas de disparos para ganar de cada contendiente; la posición i cuenta
+     * las victorias logradas con i disparos. Crecen según el máximo observado.
+     */
+    private final int[][] shotsToWin;
+
+    /**
+     * Tiempo total del torneo, en nanosegundos.
+     */
+    private long elapsedNanos;
+
+    /**
+     * Constructor de un resultado vacío.
+     */
+    TournamentResult() {
+        this.wins = new int[2];
+        this.shotsToWin = new int[][]{new int[0], new int[0]};
+    }
+
+    /**
+     * Registra una partida terminada.
+     *
+     * @param winner Contendiente ganador
+     * @param shots Disparos que necesitó el ganador
+     */
+    void record(PlayerSide winner, int shots) {
+        int index = winner.ordinal();
+        wins[index]++;
+        int[] histogram = shotsToWin[index];
+        if (shots >= histogram.length) {
+            histogram = Arrays.copyOf(histogram, Math.max(shots + 1, histogram.length * 2));
+            shotsToWin[index] = histogram;
+        }
+        histogram[shots]++;
+    }
+
+    /**
+     * Acumula en este resultado las partidas de otro.
+     *
+     * @param other Resultado a combinar
+     * @return Este resultado, para encadenar llamadas
+     */
+    TournamentResult merge(TournamentResult other) {
+        for (int i = 0; i < 2; i++) {
+            wins[i] += other.wins[i];
+            int[] source = other.shotsToWin[i];
+            if (source.length > shotsToWin[i].length) {
+                shotsToWin[i] = Arrays.copyOf(shotsToWin[i], source.length);
+            }
+            for (int shots = 0; shots < source.length; shots++) {
+                shotsToWin[i][shots] += source[shots];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Establece el tiempo total del torneo.
+     *
+     * @param elapsedNanos Duración en nanosegundos
+     */
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Obtiene el número de partidas jugadas.
+     *
+     * @return Partidas jugadas
+     */
+    public int getGames() {
+        return wins[0] + wins[1];
+    }
+
+    /**
+     * Obtiene las partidas ganadas por un contendiente.
+     *
+     * @param side Contendiente
+     * @return Victorias
+     */
+    public int getWins(PlayerSide side) {
+        return wins[side.ordinal()];
+    }
+
+    /**
+     * Obtiene la proporción de partidas ganadas por un contendiente.
+     *
+     * @param side Contendiente
+     * @return Tasa de victorias entre 0 y 1, o 0 si no se jugó ninguna partida
+     */
+    public double getWinRate(PlayerSide side) {
+        int games = getGames();
+        return games == 0 ? 0.0 : (double) getWins(side) / games;
+    }
+
+    /**
+     * Obtiene el histograma de disparos para ganar de un contendiente.
+     *
+     * @param side Contendiente
+     * @return Copia del histograma; la posición i cuenta las victorias con i disparos
+     */
+    public int[] getShotsToWinHistogram(PlayerSide side) {
+        int[] histogram = shotsToWin[side.ordinal()];
+        int length = histogram.length;
+        while (length > 0 && histogram[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.copyOf(histogram, length);
+    }
+
+    /**
+     * Obtiene el promedio de disparos para ganar de un contendiente.
+     *
+     * @param side Contendiente
+     * @return Disparos promedio en sus victorias, o 0 si no ganó ninguna
+     */
+    public double getMeanShotsToWin(PlayerSide side) {
+        int[] histogram = shotsToWin[side.ordinal()];
+        long total = 0;
+        for (int shots = 0; shots < histogram.length; shots++) {
+            total += (long) shots * histogram[shots];
+        }
+        int count = getWins(side);
+        return count == 0 ? 0.0 : (double) total / count;
+    }
+
+    /**
+     * Obtiene un percentil de los disparos para ganar de un contendiente.
+     *
+     * @param side Contendiente
+     * @param percentile Percentil entre 0 y 100
+     * @return Menor número de disparos que cubre el percentil, o 0 si no ganó ninguna partida
+     * @throws IllegalArgumentException si el percentil está fuera de rango
+     */
+    public int getShotsToWinPercentile(PlayerSide side, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, got " + percentile);
+        }
+        int count = getWins(side);
+        if (count == 0) {
+            return 0;
+        }
+        long threshold = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        int[] histogram = shotsToWin[side.ordinal()];
+        long seen = 0;
+        for (int shots = 0; shots < histogram.length; shots++) {
+            seen += histogram[shots];
+            if (seen >= threshold) {
+                return shots;
+            }
+        }
+        return histogram.length - 1;
+    }
+
+    /**
+     * Obtiene el tiempo total del torneo.
+     *
+     * @return Duración en nanosegundos
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Obtiene el rendimiento del torneo.
+     *
+     * @return Partidas por segundo, o 0 si no se midió el tiempo
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : getGames() * 1_000_000_000.0 / elapsedNanos;
+    }
+}
@@ -2,46 +2,92 @@ package com.navyattack.model;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * Representa un usuario del sistema NavyAttack.
  * Contiene la información de autenticación del usuario (nombre de usuario y contraseña)
  * y mantiene un historial de todas las partidas jugadas.
- * 
+ *
  * Esta clase es serializable para permitir la persistencia de los datos de usuario
  * en el sistema de archivos.
- * 
+ *
+ * Además del historial, el usuario mantiene los totales de sus partidas
+ * ({@link UserTotals}), que se actualizan al añadir cada partida para que sus
+ * estadísticas no necesiten recorrer el historial, y los totales recientes por modo de
+ * juego y periodo ({@link RollingStatistics}).
+ *
+ * Un usuario cargado de un {@link GameLog} solo conoce el hash de su contraseña, que es
+ * lo único que guarda el registro; si se carga desde el índice, conoce además sus totales
+ * y su historial se lee del registro la primera vez que se pide. Las partidas añadidas
+ * antes de esa lectura se guardan aparte y se unen al historial al leerlo, para que
+ * añadir una partida nunca lea del disco.
+ *
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
  */
 public class User implements Serializable {
-    
+
     /**
      * Serial version UID para control de versiones durante la serialización.
      */
     private static final long serialVersionUID = 1L;
-    
+
     /**
      * Nombre de usuario único que identifica al usuario en el sistema.
      */
     private String username;
-    
+
     /**
-     * Contraseña del usuario para autenticación.
+     * Contraseña del usuario para autenticación, o null si el usuario se cargó de un
+     * registro, que solo guarda su hash.
      */
     private String password;
-    
+
     /**
      * Lista de partidas jugadas por el usuario.
      * Cada elemento representa una partida completada con sus estadísticas.
+     * Es null si aún no se ha leído del registro.
      */
     private List<History> history;
-    
+
+    /**
+     * Totales acumulados de las partidas del historial.
+     * Es null en usuarios serializados por versiones anteriores hasta que se piden.
+     */
+    private UserTotals totals;
+
+    /**
+     * Totales recientes de las partidas, por modo de juego y periodo.
+     * Es null en usuarios serializados por versiones anteriores hasta que se piden.
+     */
+    private RollingStatistics recent;
+
+    /**
+     * Hash de la contraseña, calculado al pedirlo o leído del registro.
+     */
+    private byte[] passwordHash;
+
+    /**
+     * Registro del que se lee el historial, o null si ya está en memoria.
+     */
+    private transient GameLog source;
+
+    /**
+     * Partidas añadidas mientras el historial aún no se ha leído del registro, o null si no hay.
+     */
+    private transient List<History> pendingHistory;
+
     /**
      * Constructor del usuario.
      * Inicializa un nuevo usuario con credenciales y un historial vacío.
-     * 
+     *
      * @param username Nombre de usuario
      * @param password Contraseña del usuario
      */
@@ -49,42 +95,207 @@ public class User implements Serializable {
         this.username = username;
         this.password = password;
         this.history = new ArrayList<>();
+        this.totals = new UserTotals();
+        this.recent = new RollingStatistics();
+    }
+
+    /**
+     * Constructor de un usuario cargado de un registro, que solo conoce el hash de su contraseña.
+     * Si se indica un registro, el historial se lee de él al pedirlo.
+     *
+     * @param username Nombre de usuario
+     * @param passwordHash Hash de la contraseña, según {@link #hashPassword(String, String)}
+     * @param totals Totales de las partidas del usuario
+     * @param recent Totales recientes de las partidas del usuario
+     * @param source Registro del que se lee el historial, o null si empieza vacío
+     */
+    User(String username, byte[] passwordHash, UserTotals totals, RollingStatistics recent, GameLog source) {
+        this.username = username;
+        this.passwordHash = passwordHash;
+        this.totals = totals;
+        this.recent = recent;
+        this.source = source;
     }
-    
+
     /**
      * Añade una partida al historial del usuario.
-     * Registra una nueva partida completada con todas sus estadísticas.
-     * 
+     * Registra una nueva partida completada con todas sus estadísticas
+     * y la suma a los totales del usuario, generales y recientes.
+     * Si el historial aún no se ha leído del registro, la partida queda pendiente
+     * hasta que se pida, sin leerlo.
+     *
      * @param game Registro de historial de la partida a añadir
      */
     public void addHistory(History game) {
-        this.history.add(game);
+        UserTotals current = totals();
+        RollingStatistics currentRecent = recent();
+        if (this.history != null) {
+            this.history.add(game);
+        } else {
+            if (this.pendingHistory == null) {
+                this.pendingHistory = new ArrayList<>();
+            }
+            this.pendingHistory.add(game);
+        }
+        current.add(username, game);
+        currentRecent.add(username, game);
     }
-    
+
     /**
      * Obtiene el nombre de usuario.
-     * 
+     *
      * @return Nombre de usuario
      */
     public String getUsername() {
         return this.username;
     }
-    
+
     /**
      * Obtiene la contraseña del usuario.
-     * 
-     * @return Contraseña del usuario
+     * Los usuarios cargados de un registro no la conocen, porque solo se guarda su hash;
+     * para verificarla se usa {@link #matchesPassword(String)}.
+     *
+     * @return Contraseña del usuario, o null si el usuario se cargó de un registro
      */
     public String getPassword() {
         return this.password;
     }
-    
+
+    /**
+     * Verifica una contraseña comparando su hash con el del usuario.
+     *
+     * @param candidate Contraseña a verificar
+     * @return true si coincide con la del usuario
+     */
+    public boolean matchesPassword(String candidate) {
+        byte[] hash = getPasswordHash();
+        if (candidate == null || hash == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(hash, hashPassword(username, candidate));
+    }
+
+    /**
+     * Obtiene el hash de la contraseña del usuario.
+     *
+     * @return Hash de la contraseña, o null si el usuario no tiene contraseña
+     */
+    byte[] getPasswordHash() {
+        if (this.passwordHash == null && this.password != null) {
+            this.passwordHash = hashPassword(username, password);
+        }
+        return this.passwordHash;
+    }
+
     /**
      * Obtiene el historial completo de partidas del usuario.
-     * 
+     * Al leerlo del registro se le añaden las partidas pendientes que el registro aún
+     * no contenga.
+     *
      * @return Lista de partidas jugadas por el usuario
+     * @throws UncheckedIOException si el historial no se puede leer del registro
      */
     public List<History> getHistory() {
+        if (this.history == null) {
+            List<History> loaded;
+            try {
+                loaded = source != null ? source.readHistory(username) : new ArrayList<>();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read the history of " + username, e);
+            }
+            if (this.pendingHistory != null) {
+                for (History game : this.pendingHistory) {
+                    if (!loaded.contains(game)) {
+                        loaded.add(game);
+                    }
+                }
+                this.pendingHistory = null;
+            }
+            this.history = loaded;
+        }
         return this.history;
     }
-}
\ No newline at end of file
+
+    /**
+     * Obtiene una copia de los totales de las partidas del usuario, sin recorrer su historial.
+     *
+     * @return Totales del usuario
+     */
+    public UserTotals getTotals() {
+        return totals().copy();
+    }
+
+    /**
+     * Obtiene los totales de las partidas del usuario en los últimos periodos hasta hoy,
+     * sin recorrer su historial.
+     *
+     * @param mode Modo de juego ("PVC" o "PVP"), o null para todos
+     * @param period Periodo
+     * @param count Número de periodos, entre 1 y la capacidad del periodo
+     * @return Totales de las partidas de esos periodos
+     * @throws IllegalArgumentException si el número de periodos no es válido
+     */
+    public UserTotals getRecentTotals(String mode, RollingStatistics.Period period, int count) {
+        return recent().getTotals(mode, period, count);
+    }
+
+    /**
+     * Obtiene los totales del usuario, calculándolos desde el historial si el usuario
+     * se serializó con una versión anterior que no los guardaba.
+     *
+     * @return Totales del usuario
+     */
+    private UserTotals totals() {
+        if (this.totals == null) {
+            this.totals = UserTotals.of(username, getHistory());
+        }
+        return this.totals;
+    }
+
+    /**
+     * Obtiene los totales recientes del usuario, calculándolos desde el historial si el
+     * usuario se serializó con una versión anterior que no los guardaba.
+     *
+     * @return Totales recientes del usuario
+     */
+    private RollingStatistics recent() {
+        if (this.recent == null) {
+            this.recent = RollingStatistics.of(username, getHistory());
+        }
+        return this.recent;
+    }
+
+    /**
+     * Calcula el hash SHA-256 de una contraseña, usando el nombre de usuario como sal.
+     *
+     * @param username Nombre de usuario
+     * @param password Contraseña
+     * @return Hash de 32 bytes
+     */
+    static byte[] hashPassword(String username, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (username != null) {
+                digest.update(username.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+            return digest.digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Lee del registro los datos pendientes antes de serializar al usuario.
+     *
+     * @param out Flujo de salida
+     * @throws IOException si ocurre un error de escritura
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getPasswordHash();
+        getHistory();
+        totals();
+        recent();
+        out.defaultWriteObject();
+    }
+}
@@ -7,8 +7,11 @@ import java.util.List;
  * Analiza el historial de partidas de un usuario y calcula métricas como victorias,
  * derrotas, porcentaje de victorias, promedios de barcos hundidos, turnos y tiempo de juego.
  * 
- * Esta clase proporciona un análisis completo del rendimiento del jugador basado
- * en todas sus partidas registradas.
+ * Las estadísticas se pueden construir desde un historial, recorriéndolo, o desde
+ * un {@link User}, usando los totales que el usuario mantiene al añadir cada partida
+ * sin recorrer su historial. Si la propiedad del sistema {@value #VERIFY_PROPERTY} es
+ * true, estos últimos se comparan además con un recálculo completo, como ayuda para
+ * depurar.
  * 
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
@@ -16,49 +19,19 @@ import java.util.List;
 public class UserStatistics {
 
     /**
-     * Nombre del usuario cuyas estadísticas se están calculando.
-     */
-    private final String username;
-    
-    /**
-     * Historial de partidas del usuario.
+     * Propiedad del sistema que activa la verificación de los totales del usuario.
      */
-    private final List<History> history;
+    public static final String VERIFY_PROPERTY = "navyattack.verifyStatistics";
 
     /**
-     * Número total de derrotas del usuario.
-     */
-    private int defeats;
-    
-    /**
-     * Número total de victorias del usuario.
-     */
-    private int victories;
-    
-    /**
-     * Número total de partidas jugadas.
-     */
-    private int totalGames;
-    
-    /**
-     * Suma total de turnos en todas las partidas.
-     */
-    private int totalTurns;
-    
-    /**
-     * Número total de barcos hundidos por el usuario.
-     */
-    private int totalShipsSunk;
-    
-    /**
-     * Número total de barcos perdidos por el usuario.
+     * Nombre del usuario cuyas estadísticas se están calculando.
      */
-    private int totalShipsLost;
-    
+    private final String username;
+
     /**
-     * Tiempo total de juego acumulado en milisegundos.
+     * Totales de las partidas del usuario.
      */
-    private long totalPlayTime;
+    private final UserTotals totals;
 
     /**
      * Constructor de las estadísticas del usuario.
@@ -68,44 +41,50 @@ public class UserStatistics {
      * @param history Lista de partidas jugadas por el usuario
      */
     public UserStatistics(String username, List<History> history) {
-        this.history = history;
         this.username = username;
-        calculateStatistics();
+        this.totals = UserTotals.of(username, history);
     }
 
     /**
-     * Calcula todas las estadísticas del usuario basándose en su historial de partidas.
-     * Procesa cada partida para determinar victorias, derrotas, barcos hundidos,
-     * tiempo de juego y turnos totales.
+     * Constructor de las estadísticas a partir de unos totales ya calculados.
+     *
+     * @param username Nombre del usuario
+     * @param totals Totales de las partidas
      */
-    private void calculateStatistics() {
-        if (history == null || history.isEmpty()) {
-            return;
-        }
+    private UserStatistics(String username, UserTotals totals) {
+        this.username = username;
+        this.totals = totals;
+    }
 
-        totalGames = history.size();
-        victories = 0;
-        defeats = 0;
-        totalShipsSunk = 0;
-        totalShipsLost = 0;
-        totalPlayTime = 0;
-        totalTurns = 0;
+    /**
+     * Crea las estadísticas de unos totales ya calculados, por ejemplo los recientes
+     * de {@link User#getRecentTotals(String, RollingStatistics.Period, int)}.
+     *
+     * @param username Nombre del usuario
+     * @param totals Totales de las partidas
+     * @return Estadísticas de los totales
+     */
+    public static UserStatistics of(String username, UserTotals totals) {
+        return new UserStatistics(username, totals.copy());
+    }
 
-        for (History game : history) {
-            // Contar victorias y derrotas
-            if (game.didPlayerWin(username)) {
-                victories++;
-                totalShipsSunk += game.getWinnerShipsSunk();
-                totalShipsLost += game.getLoserShipsSunk();
-            } else {
-                defeats++;
-                totalShipsSunk += game.getLoserShipsSunk();
-                totalShipsLost += game.getWinnerShipsSunk();
+    /**
+     * Constructor de las estadísticas de un usuario a partir de sus totales,
+     * en tiempo constante y sin leer su historial.
+     *
+     * @param user Usuario
+     * @throws IllegalStateException si la verificación está activa y los totales no
+     *         coinciden con los del historial
+     */
+    public UserStatistics(User user) {
+        this.username = user.getUsername();
+        this.totals = user.getTotals();
+        if (Boolean.getBoolean(VERIFY_PROPERTY)) {
+            UserTotals recomputed = UserTotals.of(username, user.getHistory());
+            if (!recomputed.equals(totals)) {
+                throw new IllegalStateException("Statistics of " + username + " are out of date: "
+                        + totals + " != " + recomputed);
             }
-
-            // Acumular tiempo y turnos
-            totalPlayTime += game.getTimePlayedMillis();
-            totalTurns += game.getTotalTurns();
         }
     }
 
@@ -115,8 +94,8 @@ public class UserStatistics {
      * @return Porcentaje de victorias (0-100), o 0.0 si no hay partidas jugadas
      */
     public double getWinRate() {
-        if (totalGames == 0) return 0.0;
-        return (victories * 100.0) / totalGames;
+        if (totals.getGames() == 0) return 0.0;
+        return (totals.getVictories() * 100.0) / totals.getGames();
     }
 
     /**
@@ -125,8 +104,8 @@ public class UserStatistics {
      * @return Promedio de barcos hundidos, o 0.0 si no hay partidas jugadas
      */
     public double getAverageShipsSunk() {
-        if (totalGames == 0) return 0.0;
-        return (double) totalShipsSunk / totalGames;
+        if (totals.getGames() == 0) return 0.0;
+        return (double) totals.getShipsSunk() / totals.getGames();
     }
 
     /**
@@ -135,8 +114,8 @@ public class UserStatistics {
      * @return Promedio de turnos, o 0.0 si no hay partidas jugadas
      */
     public double getAverageTurns() {
-        if (totalGames == 0) return 0.0;
-        return (double) totalTurns / totalGames;
+        if (totals.getGames() == 0) return 0.0;
+        return (double) totals.getTurns() / totals.getGames();
     }
 
     /**
@@ -145,8 +124,8 @@ public class UserStatistics {
      * @return Tiempo promedio en formato "MM:SS", o "00:00" si no hay partidas jugadas
      */
     public String getAveragePlayTime() {
-        if (totalGames == 0) return "00:00";
-        long avgMillis = totalPlayTime / totalGames;
+        if (totals.getGames() == 0) return "00:00";
+        long avgMillis = totals.getPlayTimeMillis() / totals.getGames();
         long seconds = (avgMillis / 1000) % 60;
         long minutes = (avgMillis / 1000) / 60;
         return String.format("%02d:%02d", minutes, seconds);
@@ -159,6 +138,7 @@ public class UserStatistics {
      * @return Tiempo total formateado
      */
     public String getTotalPlayTimeFormatted() {
+        long totalPlayTime = totals.getPlayTimeMillis();
         long seconds = (totalPlayTime / 1000) % 60;
         long minutes = (totalPlayTime / 1000) / 60 % 60;
         long hours = (totalPlayTime / 1000) / 3600;
@@ -176,7 +156,7 @@ public class UserStatistics {
      * @return Número total de partidas
      */
     public int getTotalGames() {
-        return totalGames;
+        return totals.getGames();
     }
 
     /**
@@ -185,7 +165,7 @@ public class UserStatistics {
      * @return Número de victorias
      */
     public int getVictories() {
-        return victories;
+        return totals.getVictories();
     }
 
     /**
@@ -194,7 +174,7 @@ public class UserStatistics {
      * @return Número de derrotas
      */
     public int getDefeats() {
-        return defeats;
+        return totals.getDefeats();
     }
 
     /**
@@ -203,7 +183,7 @@ public class UserStatistics {
      * @return Número total de barcos hundidos
      */
     public int getTotalShipsSunk() {
-        return totalShipsSunk;
+        return totals.getShipsSunk();
     }
 
     /**
@@ -212,7 +192,7 @@ public class UserStatistics {
      * @return Número total de barcos perdidos
      */
     public int getTotalShipsLost() {
-        return totalShipsLost;
+        return totals.getShipsLost();
     }
 
     /**
@@ -221,7 +201,7 @@ public class UserStatistics {
      * @return Tiempo total en milisegundos
      */
     public long getTotalPlayTime() {
-        return totalPlayTime;
+        return totals.getPlayTimeMillis();
     }
 
     /**
@@ -230,7 +210,7 @@ public class UserStatistics {
      * @return Número total de turnos
      */
     public int getTotalTurns() {
-        return totalTurns;
+        return totals.getTurns();
     }
 
     /**
@@ -252,7 +232,8 @@ public class UserStatistics {
     public String getSummary() {
         return String.format(
                 "Games: %d | W: %d | L: %d | Win Rate: %.1f%% | Ships Sunk: %d | Total Time: %s",
-                totalGames, victories, defeats, getWinRate(), totalShipsSunk, getTotalPlayTimeFormatted()
+                totals.getGames(), totals.getVictories(), totals.getDefeats(), getWinRate(),
+                totals.getShipsSunk(), getTotalPlayTimeFormatted()
         );
     }
 
@@ -0,0 +1,281 @@
+package com.navyattack.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Totales acumulados de las partidas de un jugador: partidas, victorias, derrotas,
+ * barcos hundidos y perdidos, turnos y tiempo de juego.
+ * Se actualizan en tiempo constante con cada partida nueva, por lo que las estadísticas
+ * de un usuario no necesitan recorrer su historial.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public final class UserTotals implements Serializable {
+
+    /**
+     * Serial version UID para control de versiones durante la serialización.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Número total de partidas jugadas.
+     */
+    private int games;
+
+    /**
+     * Número total de victorias.
+     */
+    private int victories;
+
+    /**
+     * Número total de derrotas.
+     */
+    private int defeats;
+
+    /**
+     * Número total de barcos hundidos por el jugador.
+     */
+    private int shipsSunk;
+
+    /**
+     * Número total de barcos perdidos por el jugador.
+     */
+    private int shipsLost;
+
+    /**
+     * Suma de los turnos de todas las partidas.
+     */
+    private int turns;
+
+    /**
+     * Tiempo total de juego en milisegundos.
+     */
+    private long playTimeMillis;
+
+    /**
+     * Constructor de unos totales vacíos.
+     */
+    public UserTotals() {
+    }
+
+    /**
+     * Calcula los totales de un historial completo.
+     *
+     * @param username Nombre del jugador
+     * @param history Partidas del jugador, o null
+     * @return Totales del historial
+     */
+    public static UserTotals of(String username, List<History> history) {
+        UserTotals totals = new UserTotals();
+        if (history != null) {
+            for (History game : history) {
+                totals.add(username, game);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Suma una partida a los totales.
+     *
+     * @param username Nombre del jugador
+     * @param game Partida jugada por el jugador
+     */
+    public void add(String username, History game) {
+        games++;
+        if (game.didPlayerWin(username)) {
+            victories++;
+            shipsSunk += game.getWinnerShipsSunk();
+            shipsLost += game.getLoserShipsSunk();
+        } else {
+            defeats++;
+            shipsSunk += game.getLoserShipsSunk();
+            shipsLost += game.getWinnerShipsSunk();
+        }
+        turns += game.getTotalTurns();
+        playTimeMillis += game.getTimePlayedMillis();
+    }
+
+    /**
+     * Suma otros totales a estos.
+     *
+     * @param other Totales a sumar
+     */
+    void add(UserTotals other) {
+        games += other.games;
+        victories += other.victories;
+        defeats += other.defeats;
+        shipsSunk += other.shipsSunk;
+        shipsLost += other.shipsLost;
+        turns += other.turns;
+        playTimeMillis += other.playTimeMillis;
+    }
+
+    /**
+     * Crea una copia independiente de los totales.
+     *
+     * @return Copia de los totales
+     */
+    public UserTotals copy() {
+        UserTotals copy = new UserTotals();
+        copy.games = games;
+        copy.victories = victories;
+        copy.defeats = defeats;
+        copy.shipsSunk = shipsSunk;
+        copy.shipsLost = shipsLost;
+        copy.turns = turns;
+        copy.playTimeMillis = playTimeMillis;
+        return copy;
+    }
+
+    /**
+     * Escribe los totales como enteros de longitud variable.
+     *
+     * @param out Destino
+     * @throws IOException si ocurre un error de escritura
+     */
+    void write(DataOutput out) throws IOException {
+        HistoryCodec.writeVarInt(out, games);
+        HistoryCodec.writeVarInt(out, victories);
+        HistoryCodec.writeVarInt(out, defeats);
+        HistoryCodec.writeVarInt(out, shipsSunk);
+        HistoryCodec.writeVarInt(out, shipsLost);
+        HistoryCodec.writeVarInt(out, turns);
+        HistoryCodec.writeVarLong(out, playTimeMillis);
+    }
+
+    /**
+     * Lee unos totales escritos con {@link #write(DataOutput)}.
+     *
+     * @param in Origen
+     * @return Totales leídos
+     * @throws IOException si ocurre un error de lectura
+     */
+    static UserTotals read(DataInput in) throws IOException {
+        UserTotals totals = new UserTotals();
+        totals.games = HistoryCodec.readVarInt(in);
+        totals.victories = HistoryCodec.readVarInt(in);
+        totals.defeats = HistoryCodec.readVarInt(in);
+        totals.shipsSunk = HistoryCodec.readVarInt(in);
+        totals.shipsLost = HistoryCodec.readVarInt(in);
+        totals.turns = HistoryCodec.readVarInt(in);
+        totals.playTimeMillis = HistoryCodec.readVarLong(in);
+        return totals;
+    }
+
+    /**
+     * Obtiene el número total de partidas jugadas.
+     *
+     * @return Número de partidas
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Obtiene el número total de victorias.
+     *
+     * @return Número de victorias
+     */
+    public int getVictories() {
+        return victories;
+    }
+
+    /**
+     * Obtiene el número total de derrotas.
+     *
+     * @return Número de derrotas
+     */
+    public int getDefeats() {
+        return defeats;
+    }
+
+    /**
+     * Obtiene el número total de barcos hundidos por el jugador.
+     *
+     * @return Barcos hundidos
+     */
+    public int getShipsSunk() {
+        return shipsSunk;
+    }
+
+    /**
+     * Obtiene el número total de barcos perdidos por el jugador.
+     *
+     * @return Barcos perdidos
+     */
+    public int getShipsLost() {
+        return shipsLost;
+    }
+
+    /**
+     * Obtiene la suma de los turnos de todas las partidas.
+     *
+     * @return Turnos acumulados
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Obtiene el tiempo total de juego.
+     *
+     * @return Tiempo en milisegundos
+     */
+    public long getPlayTimeMillis() {
+        return playTimeMillis;
+    }
+
+    /**
+     * Compara dos totales campo a campo.
+     *
+     * @param obj Objeto a comparar
+     * @return true si todos los totales coinciden
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof UserTotals)) {
+            return false;
+        }
+        UserTotals other = (UserTotals) obj;
+        return games == other.games && victories == other.victories && defeats == other.defeats
+                && shipsSunk == other.shipsSunk && shipsLost == other.shipsLost
+                && turns == other.turns && playTimeMillis == other.playTimeMillis;
+    }
+
+    /**
+     * Calcula el hash de los totales.
+     *
+     * @return Hash coherente con {@link #equals(Object)}
+     */
+    @Override
+    public int hashCode() {
+        int result = games;
+        result = 31 * result + victories;
+        result = 31 * result + defeats;
+        result = 31 * result + shipsSunk;
+        result = 31 * result + shipsLost;
+        result = 31 * result + turns;
+        return 31 * result + Long.hashCode(playTimeMillis);
+    }
+
+    /**
+     * Representación en texto de los totales, útil al depurar.
+     *
+     * @return Totales en texto
+     */
+    @Override
+    public String toString() {
+        return "UserTotals[games=" + games + ", victories=" + victories + ", defeats=" + defeats
+                + ", shipsSunk=" + shipsSunk + ", shipsLost=" + shipsLost + ", turns=" + turns
+                + ", playTimeMillis=" + playTimeMillis + "]";
+    }
+}
@@ -12,7 +12,7 @@ import javafx.scene.text.FontWeight;
 
 import com.navyattack.model.ShipType;
 import com.navyattack.controller.NavigationController;
-import com.navyattack.view.components.BoardGridComponent;
+import com.navyattack.view.components.BoardRenderer;
 
 /**
  * Vista para la fase de deployment (colocación de barcos) en NavyAttack.
@@ -26,17 +26,22 @@ import com.navyattack.view.components.BoardGridComponent;
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
  */
-public class DeploymentView implements IView {
+public class DeploymentView implements PreparableView {
 
     /**
      * Escena de JavaFX que contiene la vista de deployment.
      */
     private Scene scene;
+
+    /**
+     * Contenedor raíz de la vista, construido en {@link #prepare()}.
+     */
+    private HBox mainLayout;
     
     /**
      * Componente de cuadrícula del tablero donde se colocan los barcos.
      */
-    private BoardGridComponent boardGrid;
+    private BoardRenderer boardGrid;
     
     /**
      * Controlador de navegación para cambiar entre vistas.
@@ -108,30 +113,39 @@ public class DeploymentView implements IView {
      */
     private String currentPlayer;
 
+    /**
+     * Número de celdas por lado del tablero.
+     */
+    private final int boardSize;
+
     /**
      * Constructor de la vista de deployment.
      * 
      * @param controller Controlador de navegación
      * @param gameMode Modo de juego (PVP o PVC)
      * @param currentPlayer Nombre del jugador actual
+     * @param boardSize Número de celdas por lado del tablero
      */
-    public DeploymentView(NavigationController controller, String gameMode, String currentPlayer) {
+    public DeploymentView(NavigationController controller, String gameMode, String currentPlayer, int boardSize) {
         this.menuController = controller;
         this.gameMode = gameMode;
         this.currentPlayer = currentPlayer;
+        this.boardSize = boardSize;
     }
 
     /**
-     * Inicia y muestra la vista de deployment en el stage proporcionado.
-     * 
-     * @param primaryStage Stage donde se mostrará la vista
+     * Construye el tablero y el panel de controles sin mostrarlos.
+     * Puede ejecutarse fuera del hilo de JavaFX.
      */
     @Override
-    public void start(Stage primaryStage) {
-        HBox mainLayout = new HBox(20);
-        mainLayout.setAlignment(Pos.CENTER);
-        mainLayout.setPadding(new Insets(20));
-        mainLayout.setStyle("-fx-background-color: #5872C9;");
+    public void prepare() {
+        if (mainLayout != null) {
+            return;
+        }
+        HBox layout = new HBox(20);
+        layout.setAlignment(Pos.CENTER);
+        layout.setPadding(new Insets(20));
+        layout.setStyle("-fx-background-color: #5872C9;");
 
         // Panel izquierdo: Tablero
         VBox leftPanel = createBoardPanel();
@@ -139,7 +153,19 @@ public class DeploymentView implements IView {
         // Panel derecho: Controles
         VBox rightPanel = createControlPanel();
 
-        mainLayout.getChildren().addAll(leftPanel, rightPanel);
+        layout.getChildren().addAll(leftPanel, rightPanel);
+        mainLayout = layout;
+    }
+
+    /**
+     * Inicia y muestra la vista de deployment en el stage proporcionado.
+     * Si la vista no se preparó antes, se construye en este momento.
+     * 
+     * @param primaryStage Stage donde se mostrará la vista
+     */
+    @Override
+    public void start(Stage primaryStage) {
+        prepare();
 
         scene = new Scene(mainLayout, 1080, 720);
         primaryStage.setScene(scene);
@@ -166,9 +192,9 @@ public class DeploymentView implements IView {
         title.setFont(Font.font("Arial", FontWeight.BOLD, 24));
         title.setTextFill(javafx.scene.paint.Color.WHITE);
 
-        boardGrid = new BoardGridComponent(10, true);
+        boardGrid = BoardRenderer.create(boardSize, true);
 
-        panel.getChildren().addAll(playerLabel, title, boardGrid.getGridPane());
+        panel.getChildren().addAll(playerLabel, title, boardGrid.getNode());
         return panel;
     }
 
@@ -509,9 +535,9 @@ public class DeploymentView implements IView {
     /**
      * Obtiene el componente de cuadrícula del tablero.
      * 
-     * @return BoardGridComponent del tablero
+     * @return BoardRenderer del tablero
      */
-    public BoardGridComponent getBoardGrid() {
+    public BoardRenderer getBoardGrid() {
         return boardGrid;
     }
 
@@ -9,9 +9,11 @@ import javafx.geometry.Insets;
 import javafx.scene.control.Label;
 import javafx.scene.control.Button;
 import javafx.scene.text.FontWeight;
+import javafx.scene.control.ProgressIndicator;
 
 import com.navyattack.controller.NavigationController;
-import com.navyattack.view.components.BoardGridComponent;
+import com.navyattack.view.components.BoardRenderer;
+import com.navyattack.view.components.CellClickListener;
 
 /**
  * Vista principal del juego durante la batalla.
@@ -21,19 +23,31 @@ import com.navyattack.view.components.BoardGridComponent;
  *         Johan Stevan Bermeo Buitrago
  * @version 1.0
  */
-public class GameView implements IView {
+public class GameView implements PreparableView {
 
     /** Escena principal del juego */
     private Scene scene;
 
+    /** Contenedor raíz de la vista, construido en {@link #prepare()} */
+    private BorderPane root;
+
     /** Controlador de navegación entre vistas */
     private NavigationController menuController;
 
     /** Tablero propio del jugador */
-    private BoardGridComponent myBoard;
+    private BoardRenderer myBoard;
 
     /** Tablero enemigo para los ataques */
-    private BoardGridComponent enemyBoard;
+    private BoardRenderer enemyBoard;
+
+    /** Panel que contiene el tablero propio */
+    private VBox myBoardPanel;
+
+    /** Panel que contiene el tablero enemigo */
+    private VBox enemyBoardPanel;
+
+    /** Receptor de los clicks en el tablero enemigo */
+    private CellClickListener enemyBoardClickListener;
 
     /** Etiqueta con el turno actual */
     private Label currentTurnLabel;
@@ -62,6 +76,12 @@ public class GameView implements IView {
     /** Etiqueta del cronómetro */
     private Label timerLabel;
 
+    /** Indicador visible mientras la CPU calcula su ataque */
+    private HBox cpuThinkingIndicator;
+
+    /** Acción adicional a ejecutar al rendirse, antes de volver al menú */
+    private Runnable onSurrender;
+
     /** Botón para finalizar el turno */
     private Button btnEndTurn;
 
@@ -77,6 +97,9 @@ public class GameView implements IView {
     /** Modo de juego actual */
     private String gameMode;
 
+    /** Número de celdas por lado de los tableros */
+    private final int boardSize;
+
     /**
      * Constructor de la vista del juego.
      * 
@@ -84,32 +107,48 @@ public class GameView implements IView {
      * @param player1    Nombre del jugador 1
      * @param player2    Nombre del jugador 2
      * @param gameMode   Modo de juego seleccionado
+     * @param boardSize  Número de celdas por lado de los tableros
      */
-    public GameView(NavigationController controller, String player1, String player2, String gameMode) {
+    public GameView(NavigationController controller, String player1, String player2, String gameMode, int boardSize) {
         this.menuController = controller;
         this.player1 = player1;
         this.player2 = player2;
         this.gameMode = gameMode;
+        this.boardSize = boardSize;
     }
 
     /**
-     * Inicia la vista principal del juego.
-     * 
-     * @param primaryStage Escenario principal de la aplicación
+     * Construye los paneles y los tableros de la vista sin mostrarlos.
+     * Puede ejecutarse fuera del hilo de JavaFX.
      */
     @Override
-    public void start(Stage primaryStage) {
-        BorderPane root = new BorderPane();
-        root.setStyle("-fx-background-color: #2c3e50;");
+    public void prepare() {
+        if (root != null) {
+            return;
+        }
+        BorderPane pane = new BorderPane();
+        pane.setStyle("-fx-background-color: #2c3e50;");
 
         VBox topPanel = createTopPanel();
-        root.setTop(topPanel);
+        pane.setTop(topPanel);
 
         HBox centerPanel = createCenterPanel();
-        root.setCenter(centerPanel);
+        pane.setCenter(centerPanel);
 
         HBox bottomPanel = createBottomPanel();
-        root.setBottom(bottomPanel);
+        pane.setBottom(bottomPanel);
+        root = pane;
+    }
+
+    /**
+     * Inicia la vista principal del juego.
+     * Si la vista no se preparó antes, se construye en este momento.
+     * 
+     * @param primaryStage Escenario principal de la aplicación
+     */
+    @Override
+    public void start(Stage primaryStage) {
+        prepare();
 
         scene = new Scene(root, 1400, 800);
         primaryStage.setScene(scene);
@@ -140,7 +179,17 @@ public class GameView implements IView {
         messageLabel.setFont(Font.font("Arial", FontWeight.NORMAL, 16));
         messageLabel.setTextFill(javafx.scene.paint.Color.WHITE);
 
-        panel.getChildren().addAll(timerLabel, currentTurnLabel, messageLabel);
+        ProgressIndicator spinner = new ProgressIndicator();
+        spinner.setPrefSize(20, 20);
+        Label thinkingLabel = new Label("CPU is thinking...");
+        thinkingLabel.setFont(Font.font("Arial", FontWeight.NORMAL, 14));
+        thinkingLabel.setTextFill(javafx.scene.paint.Color.web("#f39c12"));
+        cpuThinkingIndicator = new HBox(8, spinner, thinkingLabel);
+        cpuThinkingIndicator.setAlignment(Pos.CENTER);
+        cpuThinkingIndicator.setVisible(false);
+        cpuThinkingIndicator.setManaged(false);
+
+        panel.getChildren().addAll(timerLabel, currentTurnLabel, messageLabel, cpuThinkingIndicator);
         return panel;
     }
 
@@ -154,8 +203,8 @@ public class GameView implements IView {
         panel.setAlignment(Pos.CENTER);
         panel.setPadding(new Insets(20));
 
-        VBox myBoardPanel = createBoardPanel("YOUR FLEET", player1, true, true);
-        VBox enemyBoardPanel = createBoardPanel("ENEMY WATERS", player2 != null ? player2 : "CPU", false, false);
+        myBoardPanel = createBoardPanel("YOUR FLEET", player1, true, true);
+        enemyBoardPanel = createBoardPanel("ENEMY WATERS", player2 != null ? player2 : "CPU", false, false);
 
         panel.getChildren().addAll(myBoardPanel, enemyBoardPanel);
         return panel;
@@ -203,7 +252,7 @@ public class GameView implements IView {
         }
 
         boolean interactive = !isMyBoard;
-        BoardGridComponent board = new BoardGridComponent(10, interactive);
+        BoardRenderer board = BoardRenderer.create(boardSize, interactive);
 
         if (isMyBoard) {
             myBoard = board;
@@ -217,7 +266,7 @@ public class GameView implements IView {
         scoreLabel.setFont(Font.font("Arial", FontWeight.BOLD, 14));
         scoreLabel.setTextFill(javafx.scene.paint.Color.WHITE);
 
-        panel.getChildren().addAll(titleLabel, nameLabel, board.getGridPane(), scoreLabel);
+        panel.getChildren().addAll(titleLabel, nameLabel, board.getNode(), scoreLabel);
         return panel;
     }
 
@@ -287,11 +336,35 @@ public class GameView implements IView {
 
     /**
      * Maneja la acción de rendirse, regresando al menú principal.
+     * Antes de navegar ejecuta la acción registrada con {@link #setOnSurrender(Runnable)}.
      */
     private void handleSurrender() {
+        if (onSurrender != null) {
+            onSurrender.run();
+        }
         menuController.navigateToView("menu");
     }
 
+    /**
+     * Asigna una acción a ejecutar cuando el jugador se rinde.
+     * Permite al controlador cancelar trabajo pendiente, como el turno de la CPU.
+     *
+     * @param action Acción a ejecutar antes de volver al menú
+     */
+    public void setOnSurrender(Runnable action) {
+        this.onSurrender = action;
+    }
+
+    /**
+     * Muestra u oculta el indicador de que la CPU está calculando su ataque.
+     *
+     * @param thinking true para mostrar el indicador, false para ocultarlo
+     */
+    public void setCpuThinking(boolean thinking) {
+        cpuThinkingIndicator.setVisible(thinking);
+        cpuThinkingIndicator.setManaged(thinking);
+    }
+
     /**
      * Actualiza el nombre del jugador propio.
      * 
@@ -354,22 +427,67 @@ public class GameView implements IView {
     }
 
     /** @return Tablero del jugador */
-    public BoardGridComponent getMyBoard() {
+    public BoardRenderer getMyBoard() {
         return myBoard;
     }
 
     /** @return Tablero del enemigo */
-    public BoardGridComponent getEnemyBoard() {
+    public BoardRenderer getEnemyBoard() {
         return enemyBoard;
     }
 
     /**
      * Asigna el manejador de clics para las celdas del tablero enemigo.
      * 
-     * @param handler Manejador del evento
+     * @param listener Receptor que recibe la fila y la columna de la celda
+     */
+    public void setOnEnemyBoardClick(CellClickListener listener) {
+        enemyBoardClickListener = listener;
+        enemyBoard.setCellClickListener(listener);
+    }
+
+    /**
+     * Crea un componente de tablero del tamaño de la partida, sin mostrarlo.
+     * Permite mantener un componente por tablero y alternarlos con
+     * {@link #showBoards(BoardRenderer, BoardRenderer)} en lugar de redibujarlos.
+     *
+     * @param interactive true si el tablero debe responder a clicks
+     * @return Componente de tablero vacío
+     */
+    public BoardRenderer createBoard(boolean interactive) {
+        BoardRenderer board = BoardRenderer.create(boardSize, interactive);
+        if (interactive && enemyBoardClickListener != null) {
+            board.setCellClickListener(enemyBoardClickListener);
+        }
+        return board;
+    }
+
+    /**
+     * Muestra otros componentes como tablero propio y tablero enemigo, en el lugar de
+     * los actuales. Los componentes conservan lo que ya mostraban.
+     *
+     * @param myBoard Tablero propio a mostrar
+     * @param enemyBoard Tablero enemigo a mostrar
      */
-    public void setOnEnemyBoardClick(javafx.event.EventHandler<javafx.event.ActionEvent> handler) {
-        enemyBoard.setCellClickHandler(handler);
+    public void showBoards(BoardRenderer myBoard, BoardRenderer enemyBoard) {
+        replaceBoard(myBoardPanel, this.myBoard, myBoard);
+        replaceBoard(enemyBoardPanel, this.enemyBoard, enemyBoard);
+        this.myBoard = myBoard;
+        this.enemyBoard = enemyBoard;
+    }
+
+    /**
+     * Reemplaza el nodo de un tablero dentro de su panel.
+     *
+     * @param panel Panel del tablero
+     * @param current Tablero mostrado actualmente
+     * @param replacement Tablero a mostrar
+     */
+    private void replaceBoard(VBox panel, BoardRenderer current, BoardRenderer replacement) {
+        if (current != replacement) {
+            int index = panel.getChildren().indexOf(current.getNode());
+            panel.getChildren().set(index, replacement.getNode());
+        }
     }
 
     /**
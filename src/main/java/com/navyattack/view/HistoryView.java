@@ -8,6 +8,7 @@ import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.geometry.Insets;
 
+import com.navyattack.model.User;
 import com.navyattack.model.History;
 import com.navyattack.model.UserStatistics;
 import com.navyattack.controller.NavigationController;
@@ -30,6 +31,9 @@ public class HistoryView implements IView {
     /** Lista de partidas jugadas */
     private List<History> history;
 
+    /** Usuario cuyas estadísticas se muestran, o null si solo se conoce su historial */
+    private User user;
+
     /** Controlador de navegación entre vistas */
     private NavigationController controller;
 
@@ -49,6 +53,18 @@ public class HistoryView implements IView {
         this.controller = controller;
     }
 
+    /**
+     * Constructor de la vista del historial de un usuario.
+     * Las estadísticas se toman de los totales del usuario sin recorrer su historial.
+     * 
+     * @param controller Controlador de navegación entre vistas
+     * @param user       Usuario cuyo historial se mostrará
+     */
+    public HistoryView(NavigationController controller, User user) {
+        this(controller, user.getUsername(), user.getHistory());
+        this.user = user;
+    }
+
     /**
      * Inicializa y muestra la interfaz del historial.
      * 
@@ -113,7 +129,7 @@ public class HistoryView implements IView {
                 "-fx-border-radius: 10;"
         );
 
-        UserStatistics stats = new UserStatistics(username, history);
+        UserStatistics stats = user != null ? new UserStatistics(user) : new UserStatistics(username, history);
 
         VBox gamesBox = createStatBox("🎮", "Games", String.valueOf(stats.getTotalGames()));
         VBox winsBox = createStatBox("🏆", "Wins", String.valueOf(stats.getVictories()));
@@ -26,4 +26,21 @@ public interface IView {
      * @return la {@link Scene} correspondiente a la vista.
      */
     Scene getScene();
+
+    /**
+     * Vuelve a mostrar en el escenario la escena ya construida de la vista,
+     * actualizando los datos que pueden haber cambiado desde que se mostró por última vez.
+     * Lo usa el {@link com.navyattack.controller.NavigationController} para reutilizar
+     * las vistas que guarda en caché en lugar de reconstruirlas.
+     *
+     * Si la escena no sirve para el estado actual (por ejemplo, cambió el número de
+     * usuarios conectados), la vista no muestra nada y devuelve false para que se
+     * reconstruya con {@link #start(Stage)}. Por defecto las vistas no se reutilizan.
+     *
+     * @param stage el {@link Stage} principal donde se mostrará la vista.
+     * @return true si la escena se reutilizó, false si la vista debe reconstruirse.
+     */
+    default boolean refresh(Stage stage) {
+        return false;
+    }
 }
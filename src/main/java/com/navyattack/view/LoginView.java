@@ -44,6 +44,9 @@ public class LoginView implements IView {
     /** Campo de texto para ingresar la contraseña. */
     private PasswordField passwordField;
 
+    /** Indica si la escena se construyó para el inicio de sesión del segundo jugador. */
+    private boolean secondUser;
+
     /**
      * Constructor de la clase LoginView.
      *
@@ -63,13 +66,36 @@ public class LoginView implements IView {
      */
     @Override
     public void start(Stage stage) {
-        if (menuController.hasSingleUser()) {
+        secondUser = menuController.hasSingleUser();
+        if (secondUser) {
             createSecondUserInterface(stage);
         } else {
             createMainInterface(stage);
         }
     }
 
+    /**
+     * Vuelve a mostrar la escena ya construida con el formulario vacío.
+     * Si cambió el número de usuarios conectados, la vista debe reconstruirse.
+     *
+     * @param stage el escenario principal donde se mostrará la vista.
+     * @return true si la escena se reutilizó, false si la vista debe reconstruirse.
+     */
+    @Override
+    public boolean refresh(Stage stage) {
+        if (scene == null || secondUser != menuController.hasSingleUser()) {
+            return false;
+        }
+        usuarioField.clear();
+        passwordField.clear();
+        messageLabel.setText("");
+
+        stage.setTitle(secondUser ? "Navy Attack" : "Navy Attack - Login");
+        stage.setScene(scene);
+        stage.show();
+        return true;
+    }
+
     /**
      * Crea la interfaz principal del login (primer usuario).
      *
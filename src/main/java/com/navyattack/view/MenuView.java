@@ -1,6 +1,7 @@
 package com.navyattack.view; 
 
-import java.util.List; 
+import java.util.List;
+import java.util.ArrayList;
 
 import javafx.stage.Stage; 
 import javafx.scene.Scene; 
@@ -10,6 +11,7 @@ import javafx.scene.text.Text;
 import javafx.scene.text.Font; 
 import javafx.geometry.Insets; 
 import javafx.scene.layout.HBox; 
+import javafx.scene.layout.VBox; 
 import javafx.scene.layout.Region; 
 import javafx.scene.control.Button; 
 import javafx.scene.image.ImageView; 
@@ -18,7 +20,9 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.layout.BorderPane; 
 import javafx.application.Application; 
 
-import com.navyattack.model.History; 
+import com.navyattack.model.User; 
+import com.navyattack.model.UserStatistics; 
+import com.navyattack.model.RollingStatistics; 
 import com.navyattack.controller.MenuController;
 import com.navyattack.controller.NavigationController;
 
@@ -41,6 +45,12 @@ public class MenuView extends Application implements IView {
     /** Controlador encargado de la navegación entre vistas. */
     private NavigationController navigationController; 
 
+    /** Nombres de los usuarios conectados para los que se construyó la escena. */
+    private final List<String> usernames = new ArrayList<>();
+
+    /** Textos con el resumen reciente de cada usuario, en el mismo orden que {@link #usernames}. */
+    private final List<Text> recentTexts = new ArrayList<>();
+
     /**
      * Constructor de la clase MenuView.
      *
@@ -60,6 +70,10 @@ public class MenuView extends Application implements IView {
      */
     @Override 
     public void start(Stage stage) { 
+        usernames.clear();
+        recentTexts.clear();
+        menuController.getLoggedUsers().forEach(user -> usernames.add(user.getUsername()));
+
         if (menuController.hasSingleUser()) {
             createSingleUserInterface(stage);
         } else {
@@ -67,6 +81,35 @@ public class MenuView extends Application implements IView {
         }
     }
     
+    /**
+     * Vuelve a mostrar la escena ya construida, actualizando el resumen reciente
+     * de cada usuario con sus totales actuales.
+     * Si cambiaron los usuarios conectados, la vista debe reconstruirse.
+     *
+     * @param stage escenario principal donde se muestra la vista.
+     * @return true si la escena se reutilizó, false si la vista debe reconstruirse.
+     */
+    @Override
+    public boolean refresh(Stage stage) {
+        List<User> users = menuController.getLoggedUsers();
+        if (scene == null || users.size() != usernames.size()) {
+            return false;
+        }
+        for (int i = 0; i < users.size(); i++) {
+            if (!users.get(i).getUsername().equals(usernames.get(i))) {
+                return false;
+            }
+        }
+        for (int i = 0; i < users.size(); i++) {
+            recentTexts.get(i).setText(createRecentSummary(users.get(i)));
+        }
+
+        stage.setTitle("Navy Attack"); 
+        stage.setScene(scene); 
+        stage.show(); 
+        return true;
+    }
+
     /**
      * Crea la interfaz del menú cuando solo hay un usuario conectado.
      *
@@ -141,8 +184,7 @@ public class MenuView extends Application implements IView {
         historyBtn.setMaxWidth(125); 
         UtilsMenuView.styleButton(historyBtn, "black", "#333333", "white", "10px 0 10px 0"); 
         historyBtn.setOnAction(e -> navigationController.navigateToHistory(
-            menuController.getLoggedUsers().get(0).getUsername(), 
-            menuController.getLoggedUsers().get(0).getHistory()
+            menuController.getLoggedUsers().get(0)
         )); 
         GridPane.setHalignment(historyBtn, HPos.CENTER); 	
         grid.add(historyBtn, 0, 3, 1, 1); 
@@ -156,6 +198,13 @@ public class MenuView extends Application implements IView {
         }); 
         GridPane.setHalignment(logoutBtn, HPos.CENTER); 
         grid.add(logoutBtn, 0, 4, 1, 1); 
+
+        Text recentText = new Text(createRecentSummary(menuController.getLoggedUsers().get(0)));
+        recentText.setFont(Font.font("Tahoma", 14));
+        recentText.setStyle("-fx-fill: white;");
+        recentTexts.add(recentText);
+        GridPane.setHalignment(recentText, HPos.CENTER); 
+        grid.add(recentText, 0, 5, 1, 1); 
         mainPane.setCenter(grid); 
 
         Scene scene = new Scene(mainPane, 1080, 720); 
@@ -175,15 +224,9 @@ public class MenuView extends Application implements IView {
         BorderPane mainPane = new BorderPane();
         mainPane.setStyle("-fx-background-color: linear-gradient(to right, #5872C9 0%, #5872C9 50%, #C95858 50%, #C95858 100%);");
         
-        HBox leftUserContainer = createUserContainer(
-            menuController.getLoggedUsers().get(0).getUsername(),
-            menuController.getLoggedUsers().get(0).getHistory()
-        );
+        HBox leftUserContainer = createUserContainer(menuController.getLoggedUsers().get(0));
         
-        HBox rightUserContainer = createUserContainer(
-            menuController.getLoggedUsers().get(1).getUsername(),
-            menuController.getLoggedUsers().get(1).getHistory()
-        );
+        HBox rightUserContainer = createUserContainer(menuController.getLoggedUsers().get(1));
 
         BorderPane topPane = new BorderPane(); 
         topPane.setLeft(leftUserContainer); 
@@ -226,11 +269,11 @@ public class MenuView extends Application implements IView {
      * Crea un contenedor visual con la información de un usuario,
      * incluyendo su nombre, historial y botones de acción.
      *
-     * @param username nombre del usuario.
-     * @param history lista del historial de partidas del usuario.
+     * @param user usuario a mostrar; su historial se lee al abrirlo.
      * @return un {@link HBox} con los elementos visuales del usuario.
      */
-    private HBox createUserContainer(String username, List<History> history) {
+    private HBox createUserContainer(User user) {
+        String username = user.getUsername();
         HBox userContainer = new HBox(10);
         userContainer.setAlignment(Pos.CENTER_LEFT);
         userContainer.setStyle(
@@ -246,19 +289,42 @@ public class MenuView extends Application implements IView {
         
         Text usernames = new Text(username);
         usernames.setFont(Font.font("Tahoma", FontWeight.BOLD, 15));
+
+        Text recentText = new Text(createRecentSummary(user));
+        recentText.setFont(Font.font("Tahoma", 11));
+        recentTexts.add(recentText);
+
+        VBox nameContainer = new VBox(2, usernames, recentText);
+        nameContainer.setAlignment(Pos.CENTER_LEFT);
         
         Button historyBtn = new Button("History");
         UtilsMenuView.styleButton(historyBtn, "black", "#333333", "white", "5px 10px 5px 10px");
-        historyBtn.setOnAction(e -> navigationController.navigateToHistory(username, history));
+        historyBtn.setOnAction(e -> navigationController.navigateToHistory(user));
         
         Button logoutBtn = new Button("Logout");
         UtilsMenuView.styleButton(logoutBtn, "white", "#EDEDED", "black", "5px 10px 5px 10px");
         logoutBtn.setOnAction(e -> navigationController.logoutUser(username));
         
-        userContainer.getChildren().addAll(userIcon, usernames, historyBtn, logoutBtn);
+        userContainer.getChildren().addAll(userIcon, nameContainer, historyBtn, logoutBtn);
         return userContainer;
     }
 
+    /**
+     * Crea un resumen de las partidas del usuario en los últimos 30 días, por modo de juego.
+     * Usa los totales recientes del usuario, por lo que no lee su historial.
+     *
+     * @param user usuario cuyo resumen se muestra.
+     * @return texto con el porcentaje de victorias y las partidas de cada modo.
+     */
+    private String createRecentSummary(User user) {
+        UserStatistics pvc = UserStatistics.of(user.getUsername(),
+                user.getRecentTotals("PVC", RollingStatistics.Period.DAY, 30));
+        UserStatistics pvp = UserStatistics.of(user.getUsername(),
+                user.getRecentTotals("PVP", RollingStatistics.Period.DAY, 30));
+        return String.format("Last 30 days: vs CPU %.0f%% of %d | vs Player %.0f%% of %d",
+                pvc.getWinRate(), pvc.getTotalGames(), pvp.getWinRate(), pvp.getTotalGames());
+    }
+
     /**
      * Obtiene la escena asociada a la vista del menú.
      *
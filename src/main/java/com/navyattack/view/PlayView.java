@@ -11,23 +11,34 @@ import javafx.scene.paint.Color;
 import javafx.scene.layout.HBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
 import javafx.scene.text.FontWeight;
 import javafx.scene.layout.StackPane;
 import javafx.scene.effect.DropShadow;
 import javafx.application.Application;
 
+import com.navyattack.model.BoardConfig;
+import com.navyattack.model.CPUDifficulty;
 import com.navyattack.controller.MenuController;
 import com.navyattack.controller.NavigationController;
 
 /**
  * Clase que representa la vista de selección de modo de juego en NavyAttack.
  * Permite al usuario elegir entre los modos "Player vs CPU" y "Player vs Player",
- * con un diseño visual adaptado al número de usuarios registrados.
+ * con un diseño visual adaptado al número de usuarios registrados, el tamaño del
+ * tablero y la dificultad de la CPU para el modo "Player vs CPU".
  * 
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
  */
 public class PlayView extends Application implements IView {
+
+    /**
+     * Tamaños de tablero que se pueden elegir para la partida. Los mayores de
+     * {@link com.navyattack.view.components.BoardRenderer#CANVAS_SIZE_THRESHOLD}
+     * se dibujan en un canvas.
+     */
+    private static final Integer[] BOARD_SIZES = {10, 15, 20, 50, 100};
     
     /** Escena principal de la vista. */
     private Scene scene;
@@ -35,6 +46,10 @@ public class PlayView extends Application implements IView {
     private MenuController menuController;
     /** Controlador encargado de la navegación entre vistas. */
     private NavigationController navigationController;
+    /** Contenedor de las tarjetas de modo de juego. */
+    private VBox cardsContainer;
+    /** Indica si la escena se construyó con un solo usuario (modo PVP deshabilitado). */
+    private boolean singleUser;
     
     /**
      * Constructor que inicializa la vista con sus controladores.
@@ -55,6 +70,8 @@ public class PlayView extends Application implements IView {
      */
     @Override
     public void start(Stage primaryStage) {
+        singleUser = menuController.hasSingleUser();
+
         VBox root = new VBox();
         root.setAlignment(Pos.CENTER);
         root.setSpacing(40);
@@ -65,7 +82,7 @@ public class PlayView extends Application implements IView {
         title.setFont(Font.font("Arial", FontWeight.BOLD, 18));
         title.setTextFill(Color.web("#FFFFFF"));
         
-        VBox cardsContainer = new VBox(30);
+        cardsContainer = new VBox(30);
         cardsContainer.setAlignment(Pos.CENTER);
         
         StackPane cardPlayerVsCPU = createCard(
@@ -95,7 +112,7 @@ public class PlayView extends Application implements IView {
         StackPane cardPlayerVsPlayer;
 
         // Configura el modo PVP dependiendo del número de usuarios registrados
-        if (!menuController.hasSingleUser()) {
+        if (!singleUser) {
             cardPlayerVsPlayer = createCard(
                 "Player vs Player",
                 "👥",
@@ -142,17 +159,58 @@ public class PlayView extends Application implements IView {
         }
         
         cardsContainer.getChildren().addAll(cardPlayerVsCPU, cardPlayerVsPlayer);       
+        HBox boardSizePanel = createBoardSizePanel();
+        HBox difficultyPanel = createDifficultyPanel();
+        VBox settingsPanel = new VBox(10, boardSizePanel, difficultyPanel);
         HBox bottomPanel = createBottomPanel();
         
-        root.getChildren().addAll(title, cardsContainer, bottomPanel);
+        root.getChildren().addAll(title, cardsContainer, settingsPanel, bottomPanel);
         
-        scene = new Scene(root, 350, 450);
+        scene = new Scene(root, 350, 520);
         primaryStage.setTitle("NavyAttack - Play");
         primaryStage.setScene(scene);
         primaryStage.setResizable(false);
         primaryStage.show();
+        prepareDeployments();
     }
     
+    /**
+     * Vuelve a mostrar la escena ya construida, con las tarjetas en su tamaño normal.
+     * Si cambió el número de usuarios conectados, la vista debe reconstruirse
+     * para habilitar o deshabilitar el modo PVP.
+     *
+     * @param primaryStage el {@link Stage} principal donde se mostrará la vista.
+     * @return true si la escena se reutilizó, false si la vista debe reconstruirse.
+     */
+    @Override
+    public boolean refresh(Stage primaryStage) {
+        if (scene == null || singleUser != menuController.hasSingleUser()) {
+            return false;
+        }
+        cardsContainer.getChildren().forEach(card -> {
+            card.setScaleX(1.0);
+            card.setScaleY(1.0);
+        });
+
+        primaryStage.setTitle("NavyAttack - Play");
+        primaryStage.setScene(scene);
+        primaryStage.setResizable(false);
+        primaryStage.show();
+        prepareDeployments();
+        return true;
+    }
+
+    /**
+     * Pide construir en segundo plano la pantalla de deployment de cada modo disponible,
+     * para que se muestre sin esperas al elegir uno.
+     */
+    private void prepareDeployments() {
+        navigationController.prepareDeployment("PVC");
+        if (!singleUser) {
+            navigationController.prepareDeployment("PVP");
+        }
+    }
+
     /**
      * Crea una tarjeta visual interactiva para seleccionar el modo de juego.
      *
@@ -195,6 +253,63 @@ public class PlayView extends Application implements IView {
         return card;
     }
     
+    /**
+     * Crea el panel para elegir el tamaño del tablero de las siguientes partidas.
+     * Al cambiarlo, la configuración se guarda en el controlador de navegación y las
+     * pantallas de deployment se vuelven a preparar con el nuevo tamaño.
+     *
+     * @return un {@link HBox} que contiene la etiqueta y el selector de tamaño.
+     */
+    private HBox createBoardSizePanel() {
+        HBox boardSizePanel = new HBox(10);
+        boardSizePanel.setAlignment(Pos.CENTER);
+
+        Label boardSizeLabel = new Label("Board size");
+        boardSizeLabel.setFont(Font.font("Arial", FontWeight.BOLD, 13));
+        boardSizeLabel.setTextFill(Color.web("#FFFFFF"));
+
+        ComboBox<Integer> boardSizeBox = new ComboBox<>();
+        boardSizeBox.getItems().addAll(BOARD_SIZES);
+        int currentSize = navigationController.getBoardConfig().getSize();
+        if (!boardSizeBox.getItems().contains(currentSize)) {
+            boardSizeBox.getItems().add(currentSize);
+        }
+        boardSizeBox.setValue(currentSize);
+        boardSizeBox.setPrefWidth(110);
+        boardSizeBox.setOnAction(e -> {
+            navigationController.setBoardConfig(BoardConfig.ofSize(boardSizeBox.getValue()));
+            prepareDeployments();
+        });
+
+        boardSizePanel.getChildren().addAll(boardSizeLabel, boardSizeBox);
+        return boardSizePanel;
+    }
+
+    /**
+     * Crea el panel para elegir la dificultad de la CPU en el modo "Player vs CPU".
+     * La dificultad elegida se guarda en el controlador de navegación y se usa
+     * en las siguientes partidas contra la CPU.
+     *
+     * @return un {@link HBox} que contiene la etiqueta y el selector de dificultad.
+     */
+    private HBox createDifficultyPanel() {
+        HBox difficultyPanel = new HBox(10);
+        difficultyPanel.setAlignment(Pos.CENTER);
+
+        Label difficultyLabel = new Label("CPU difficulty");
+        difficultyLabel.setFont(Font.font("Arial", FontWeight.BOLD, 13));
+        difficultyLabel.setTextFill(Color.web("#FFFFFF"));
+
+        ComboBox<CPUDifficulty> difficultyBox = new ComboBox<>();
+        difficultyBox.getItems().addAll(CPUDifficulty.values());
+        difficultyBox.setValue(navigationController.getCpuDifficulty());
+        difficultyBox.setPrefWidth(110);
+        difficultyBox.setOnAction(e -> navigationController.setCpuDifficulty(difficultyBox.getValue()));
+
+        difficultyPanel.getChildren().addAll(difficultyLabel, difficultyBox);
+        return difficultyPanel;
+    }
+
     /**
      * Crea el panel inferior con el botón de retorno al menú principal.
      *
@@ -0,0 +1,22 @@
+package com.navyattack.view;
+
+/**
+ * Vista cuyo árbol de nodos puede construirse antes de mostrarse.
+ * JavaFX permite crear y modificar nodos en cualquier hilo mientras no formen parte
+ * de una escena visible, por lo que {@link #prepare()} puede ejecutarse en segundo plano;
+ * {@link #start(javafx.stage.Stage)} solo crea la escena con el árbol ya construido
+ * y la muestra en el hilo de JavaFX.
+ *
+ * Si la vista no se preparó antes, {@link #start(javafx.stage.Stage)} la prepara al mostrarse.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public interface PreparableView extends IView {
+
+    /**
+     * Construye el árbol de nodos de la vista sin añadirlo a ninguna escena.
+     * Puede invocarse desde cualquier hilo; las llamadas posteriores no tienen efecto.
+     */
+    void prepare();
+}
@@ -42,6 +42,8 @@ public class SignUpView implements IView {
 	private PasswordField confirmPasswordField;
 	/** Controlador encargado de la navegación entre vistas. */
 	private NavigationController navigationController;
+	/** Indica si la escena se construyó para el registro del segundo jugador. */
+	private boolean secondUser;
 	
 	/**
 	 * Constructor de la vista de registro.
@@ -62,13 +64,37 @@ public class SignUpView implements IView {
 	 */
 	@Override
 	public void start(Stage stage) {
-		if (menuController.hasSingleUser()) {
+		secondUser = menuController.hasSingleUser();
+		if (secondUser) {
 			createSecondUserInterface(stage);
 		} else {
 			createMainInterface(stage);
 		}
 	}
 	
+	/**
+	 * Vuelve a mostrar la escena ya construida con el formulario vacío.
+	 * Si cambió el número de usuarios conectados, la vista debe reconstruirse.
+	 *
+	 * @param stage el {@link Stage} principal donde se mostrará la vista.
+	 * @return true si la escena se reutilizó, false si la vista debe reconstruirse.
+	 */
+	@Override
+	public boolean refresh(Stage stage) {
+		if (scene == null || secondUser != menuController.hasSingleUser()) {
+			return false;
+		}
+		usuarioField.clear();
+		passwordField.clear();
+		confirmPasswordField.clear();
+		messageLabel.setText("");
+		
+		stage.setTitle(secondUser ? "Navy Attack" : "Navy Attack - Sign Up");
+		stage.setScene(scene);
+		stage.show();
+		return true;
+	}
+	
 	/**
 	 * Crea la interfaz principal de registro para el primer usuario.
 	 *
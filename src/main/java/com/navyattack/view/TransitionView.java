@@ -20,11 +20,14 @@ import com.navyattack.controller.NavigationController;
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
  */
-public class TransitionView implements IView {
+public class TransitionView implements PreparableView {
 
     /** Escena principal de la vista. */
     private Scene scene;
 
+    /** Contenedor raíz de la vista, construido en {@link #prepare()}. */
+    private VBox root;
+
     /** Modo de juego actual (por ejemplo, PVP o PVC). */
     private String gameMode;
 
@@ -48,16 +51,18 @@ public class TransitionView implements IView {
     }
 
     /**
-     * Inicializa y muestra la escena principal de la vista de transición.
-     *
-     * @param primaryStage ventana principal de la aplicación
+     * Construye los mensajes y el botón de la vista sin mostrarlos.
+     * Puede ejecutarse fuera del hilo de JavaFX.
      */
     @Override
-    public void start(Stage primaryStage) {
-        VBox root = new VBox(30);
-        root.setAlignment(Pos.CENTER);
-        root.setPadding(new Insets(50));
-        root.setStyle("-fx-background-color: #5872C9;");
+    public void prepare() {
+        if (root != null) {
+            return;
+        }
+        VBox box = new VBox(30);
+        box.setAlignment(Pos.CENTER);
+        box.setPadding(new Insets(50));
+        box.setStyle("-fx-background-color: #5872C9;");
 
         Label title = new Label("🎮 PLAYER TRANSITION 🎮");
         title.setFont(Font.font("Arial", FontWeight.BOLD, 32));
@@ -71,7 +76,19 @@ public class TransitionView implements IView {
         styleButton(btnContinue);
         btnContinue.setOnAction(e -> handleContinue());
 
-        root.getChildren().addAll(title, messageBox, btnContinue);
+        box.getChildren().addAll(title, messageBox, btnContinue);
+        root = box;
+    }
+
+    /**
+     * Inicializa y muestra la escena principal de la vista de transición.
+     * Si la vista no se preparó antes, se construye en este momento.
+     *
+     * @param primaryStage ventana principal de la aplicación
+     */
+    @Override
+    public void start(Stage primaryStage) {
+        prepare();
 
         scene = new Scene(root, 800, 600);
         primaryStage.setScene(scene);
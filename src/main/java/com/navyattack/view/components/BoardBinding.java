@@ -0,0 +1,118 @@
+package com.navyattack.view.components;
+
+import com.navyattack.model.Board;
+import com.navyattack.model.CellState;
+import com.navyattack.model.CellChangeListener;
+
+/**
+ * Mantiene un {@link BoardRenderer} sincronizado con un {@link Board}.
+ * Al crearse dibuja el estado actual del tablero una sola vez; después aplica en el
+ * componente solo las celdas que el tablero avisa como cambiadas, de modo que el coste
+ * de cada ataque es proporcional a los cambios y no al tamaño del tablero.
+ *
+ * Los barcos solo se muestran si la vinculación es de la flota propia; en el tablero
+ * enemigo solo se muestran los impactos y los fallos.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public class BoardBinding implements CellChangeListener {
+
+    /**
+     * Tablero observado.
+     */
+    private final Board board;
+
+    /**
+     * Componente que muestra el tablero.
+     */
+    private final BoardRenderer renderer;
+
+    /**
+     * Indica si se muestran los barcos del tablero.
+     */
+    private final boolean showShips;
+
+    /**
+     * Constructor de la vinculación.
+     * Dibuja el estado actual del tablero y empieza a observar sus cambios.
+     *
+     * @param board Tablero a mostrar
+     * @param renderer Componente donde se muestra, inicialmente vacío
+     * @param showShips true para mostrar los barcos (flota propia), false para mostrar solo ataques
+     */
+    public BoardBinding(Board board, BoardRenderer renderer, boolean showShips) {
+        this.board = board;
+        this.renderer = renderer;
+        this.showShips = showShips;
+
+        drawBoard();
+        board.addCellChangeListener(this);
+    }
+
+    /**
+     * Obtiene el componente que muestra el tablero.
+     *
+     * @return Componente del tablero
+     */
+    public BoardRenderer getRenderer() {
+        return renderer;
+    }
+
+    /**
+     * Deja de observar el tablero. El componente conserva lo que ya mostraba.
+     */
+    public void unbind() {
+        board.removeCellChangeListener(this);
+    }
+
+    /**
+     * Aplica en el componente el nuevo estado de una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param state Nuevo estado de la celda
+     */
+    @Override
+    public void cellChanged(int row, int col, CellState state) {
+        switch (state) {
+            case HIT -> renderer.markHit(row, col);
+            case MISS -> renderer.markMiss(row, col);
+            case SHIP -> {
+                if (showShips) {
+                    renderer.showShipCell(row, col);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Vacía el componente cuando se reinicia el tablero.
+     */
+    @Override
+    public void boardReset() {
+        renderer.reset();
+    }
+
+    /**
+     * Dibuja el estado completo del tablero: sus barcos, si se muestran, y los ataques recibidos.
+     */
+    private void drawBoard() {
+        if (showShips) {
+            board.getShips().forEach(ship -> renderer.showShipCells(ship.getPositions()));
+        }
+        for (int row = 0; row < board.getSize(); row++) {
+            for (int col = 0; col < board.getSize(); col++) {
+                CellState state = board.getCellState(row, col);
+
+                if (state == CellState.HIT) {
+                    renderer.markHit(row, col);
+                } else if (state == CellState.MISS) {
+                    renderer.markMiss(row, col);
+                }
+            }
+        }
+    }
+}
@@ -1,48 +1,134 @@
 package com.navyattack.view.components;
 
-import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
+import java.util.BitSet;
+import java.util.List;
+
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.layout.GridPane;
+import com.navyattack.model.ShipPositions;
 
 /**
  * Componente reutilizable que representa un tablero de juego en NavyAttack.
  * Proporciona una cuadrícula visual de celdas interactivas o no interactivas
  * que pueden mostrar barcos, ataques y diferentes estados del juego.
- * 
+ *
  * Este componente encapsula toda la lógica de visualización del tablero,
  * incluyendo la gestión de estilos, eventos de click y marcado de celdas.
- * 
+ * Usa un botón por celda, por lo que {@link BoardRenderer#create(int, boolean)} solo
+ * lo elige para tableros pequeños; los grandes se dibujan con {@link CanvasBoardComponent}.
+ *
+ * Los estilos de las celdas se definen en la hoja {@value #STYLESHEET}: el estado lógico
+ * de cada celda se guarda en un arreglo de bytes y se refleja en el botón con las
+ * pseudoclases {@code :ship}, {@code :hit}, {@code :miss}, {@code :preview-valid} y
+ * {@code :preview-invalid}, sin construir ni analizar estilos en línea.
+ *
  * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
  * @version 1.0
  */
-public class BoardGridComponent {
+public class BoardGridComponent implements BoardRenderer {
+
+    /**
+     * Hoja de estilos de la cuadrícula y sus celdas.
+     */
+    public static final String STYLESHEET = "/styles/board-grid.css";
+
+    /**
+     * Estado de una celda vacía.
+     */
+    private static final byte EMPTY = 0;
+
+    /**
+     * Estado de una celda ocupada por un barco visible.
+     */
+    private static final byte SHIP = 1;
+
+    /**
+     * Estado de una celda impactada.
+     */
+    private static final byte HIT = 2;
+
+    /**
+     * Estado de una celda fallada.
+     */
+    private static final byte MISS = 3;
+
+    /**
+     * Pseudoclase de una celda con barco.
+     */
+    private static final PseudoClass SHIP_CLASS = PseudoClass.getPseudoClass("ship");
+
+    /**
+     * Pseudoclase de una celda impactada.
+     */
+    private static final PseudoClass HIT_CLASS = PseudoClass.getPseudoClass("hit");
+
+    /**
+     * Pseudoclase de una celda fallada.
+     */
+    private static final PseudoClass MISS_CLASS = PseudoClass.getPseudoClass("miss");
+
+    /**
+     * Pseudoclase de una celda de una previsualización válida.
+     */
+    private static final PseudoClass PREVIEW_VALID_CLASS = PseudoClass.getPseudoClass("preview-valid");
+
+    /**
+     * Pseudoclase de una celda de una previsualización inválida.
+     */
+    private static final PseudoClass PREVIEW_INVALID_CLASS = PseudoClass.getPseudoClass("preview-invalid");
 
     /**
      * GridPane de JavaFX que contiene la cuadrícula del tablero.
      */
     private final GridPane gridPane;
-    
+
     /**
      * Matriz bidimensional de botones que representan las celdas del tablero.
      */
     private final Button[][] cells;
-    
+
+    /**
+     * Estado de cada celda, por índice {@code fila * tamaño + columna}.
+     */
+    private final byte[] states;
+
+    /**
+     * Celdas resaltadas por la previsualización actual.
+     */
+    private final BitSet highlighted;
+
+    /**
+     * Pseudoclase de la previsualización actual.
+     */
+    private PseudoClass highlightClass;
+
     /**
-     * Tamaño del tablero (normalmente 10x10).
+     * Número de celdas por lado del tablero (10 en el tablero estándar).
      */
     private final int size;
-    
+
     /**
      * Indica si el tablero es interactivo (responde a clicks del usuario).
      */
     private final boolean interactive;
 
+    /**
+     * Lado total en píxeles que ocupa la cuadrícula, repartido entre todas las celdas.
+     */
+    private static final double GRID_EXTENT = 500;
+
+    /**
+     * Lado mínimo en píxeles de una celda, para tableros muy grandes.
+     */
+    private static final double MIN_CELL_SIZE = 4;
+
     /**
      * Constructor del componente de tablero.
      * Inicializa la cuadrícula con el tamaño especificado y configura
      * si las celdas responderán a eventos de click.
-     * 
+     *
      * @param size Tamaño del tablero (número de filas y columnas)
      * @param interactive true si las celdas deben responder a clicks, false para tableros de solo lectura
      */
@@ -51,23 +137,26 @@ public class BoardGridComponent {
         this.interactive = interactive;
         this.gridPane = new GridPane();
         this.cells = new Button[size][size];
+        this.states = new byte[size * size];
+        this.highlighted = new BitSet(size * size);
 
         initializeGrid();
     }
 
     /**
      * Inicializa la cuadrícula del tablero.
-     * Crea todas las celdas y las agrega al GridPane con el estilo apropiado.
+     * Crea todas las celdas y las agrega al GridPane con la hoja de estilos del tablero.
      */
     private void initializeGrid() {
         gridPane.setAlignment(javafx.geometry.Pos.CENTER);
         gridPane.setHgap(0);
         gridPane.setVgap(0);
-        gridPane.setStyle("-fx-background-color: #5872C9; -fx-padding: 10px;");
+        gridPane.getStylesheets().add(BoardGridComponent.class.getResource(STYLESHEET).toExternalForm());
+        gridPane.getStyleClass().add("board-grid");
 
         for (int row = 0; row < size; row++) {
             for (int col = 0; col < size; col++) {
-                Button cell = createCell(row, col);
+                Button cell = createCell();
                 cells[row][col] = cell;
                 gridPane.add(cell, col, row);
             }
@@ -76,17 +165,16 @@ public class BoardGridComponent {
 
     /**
      * Crea una celda individual del tablero.
-     * Configura el tamaño, estilo y datos asociados a la celda.
-     * 
-     * @param row Fila de la celda
-     * @param col Columna de la celda
+     * Configura el tamaño y la clase de estilo de la celda.
+     *
      * @return Button configurado como celda del tablero
      */
-    private Button createCell(int row, int col) {
+    private Button createCell() {
         Button cell = new Button();
-        cell.setPrefSize(50, 50);
-        cell.setStyle(getCellStyle());
-        cell.setUserData(new int[]{row, col});
+        double cellSize = Math.max(MIN_CELL_SIZE, GRID_EXTENT / size);
+        cell.setMinSize(cellSize, cellSize);
+        cell.setPrefSize(cellSize, cellSize);
+        cell.getStyleClass().add("board-cell");
 
         if (!interactive) {
             cell.setDisable(true);
@@ -96,140 +184,163 @@ public class BoardGridComponent {
     }
 
     /**
-     * Obtiene el estilo CSS por defecto para una celda del tablero.
-     * 
-     * @return String con el estilo CSS de una celda vacía
+     * Obtiene el GridPane que contiene el tablero.
+     *
+     * @return GridPane del tablero
      */
-    private String getCellStyle() {
-        return "-fx-background-color: white; " +
-                "-fx-border-color: #000000; " +
-                "-fx-border-width: 1px;";
+    public GridPane getGridPane() {
+        return gridPane;
     }
 
     /**
-     * Obtiene el GridPane que contiene el tablero.
-     * 
+     * Obtiene el nodo que muestra el tablero, que es su GridPane.
+     *
      * @return GridPane del tablero
      */
-    public GridPane getGridPane() {
+    @Override
+    public Node getNode() {
         return gridPane;
     }
 
     /**
-     * Establece el manejador de eventos para clicks en las celdas.
+     * Establece el receptor de los clicks en las celdas.
+     * Cada botón conoce su fila y columna, por lo que el receptor las recibe directamente.
      * Solo funciona si el tablero es interactivo.
      *
-     * @param handler EventHandler que se ejecutará al hacer click en una celda
+     * @param listener Receptor que recibe la fila y la columna de la celda pulsada
      */
-    public void setCellClickHandler(EventHandler<ActionEvent> handler) {
+    @Override
+    public void setCellClickListener(CellClickListener listener) {
         if (!interactive) {
             System.out.println("WARNING: Trying to set click handler on non-interactive board");
             return;
         }
 
-        System.out.println("Setting cell click handler on " + size + "x" + size + " board");
-
         for (int row = 0; row < size; row++) {
             for (int col = 0; col < size; col++) {
-                Button cell = cells[row][col];
-
-                // Verificar que la celda tenga userData
-                if (cell.getUserData() == null) {
-                    System.err.println("WARNING: Cell [" + row + "," + col + "] has no userData");
-                    cell.setUserData(new int[]{row, col});
-                }
-
-                // Establecer el handler
-                cell.setOnAction(handler);
+                int cellRow = row;
+                int cellCol = col;
+                cells[row][col].setOnAction(e -> listener.onCellClick(cellRow, cellCol));
             }
         }
     }
 
     /**
-     * Resalta un conjunto de celdas con un color específico.
+     * Resalta un conjunto de celdas como previsualización válida o inválida.
      * Limpia los resaltados previos antes de aplicar el nuevo.
      * Utilizado para previsualizar la colocación de barcos.
-     * 
+     *
      * @param positions Lista de posiciones [fila, columna] a resaltar
-     * @param color Código de color hexadecimal para el resaltado
+     * @param valid true si la previsualización es válida, false si no
      */
-    public void highlightCells(java.util.List<int[]> positions, String color) {
+    @Override
+    public void highlightCells(List<int[]> positions, boolean valid) {
         clearHighlights();
-        String style = String.format("-fx-background-color: %s; -fx-border-color: #333; -fx-border-width: 2px;", color);
+        highlightClass = valid ? PREVIEW_VALID_CLASS : PREVIEW_INVALID_CLASS;
 
         for (int[] pos : positions) {
-            if (isValidPosition(pos[0], pos[1])) {
-                cells[pos[0]][pos[1]].setStyle(style);
-            }
+            highlight(pos[0], pos[1]);
+        }
+    }
+
+    /**
+     * Resalta las celdas de una vista compacta de posiciones como previsualización.
+     * Recorre las posiciones con los accesores primitivos, sin crear arreglos por celda.
+     *
+     * @param positions Posiciones a resaltar
+     * @param valid true si la previsualización es válida, false si no
+     */
+    @Override
+    public void highlightCells(ShipPositions positions, boolean valid) {
+        clearHighlights();
+        highlightClass = valid ? PREVIEW_VALID_CLASS : PREVIEW_INVALID_CLASS;
+
+        for (int i = 0; i < positions.size(); i++) {
+            highlight(positions.rowAt(i), positions.colAt(i));
         }
     }
 
     /**
-     * Muestra las celdas ocupadas por barcos con un estilo específico.
+     * Muestra las celdas ocupadas por barcos.
      * Utilizado para visualizar los barcos colocados en el tablero.
-     * 
+     *
      * @param positions Lista de posiciones [fila, columna] ocupadas por barcos
      */
-    public void showShipCells(java.util.List<int[]> positions) {
-        String shipStyle = "-fx-background-color: #666; -fx-border-color: #333; -fx-border-width: 2px;";
-
+    @Override
+    public void showShipCells(List<int[]> positions) {
         for (int[] pos : positions) {
-            if (isValidPosition(pos[0], pos[1])) {
-                cells[pos[0]][pos[1]].setStyle(shipStyle);
-            }
+            setState(pos[0], pos[1], SHIP);
         }
     }
 
+    /**
+     * Muestra las celdas de una vista compacta de posiciones como ocupadas por un barco.
+     * Recorre las posiciones con los accesores primitivos, sin crear arreglos por celda.
+     *
+     * @param positions Posiciones ocupadas por el barco
+     */
+    @Override
+    public void showShipCells(ShipPositions positions) {
+        for (int i = 0; i < positions.size(); i++) {
+            setState(positions.rowAt(i), positions.colAt(i), SHIP);
+        }
+    }
+
+    /**
+     * Muestra una celda como ocupada por un barco.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     */
+    @Override
+    public void showShipCell(int row, int col) {
+        setState(row, col, SHIP);
+    }
+
     /**
      * Marca una celda como impactada (HIT).
-     * Aplica estilo visual y texto para indicar un impacto exitoso.
-     * 
+     * Aplica el estilo y el texto que indican un impacto exitoso.
+     *
      * @param row Fila de la celda impactada
      * @param col Columna de la celda impactada
      */
+    @Override
     public void markHit(int row, int col) {
-        if (isValidPosition(row, col)) {
-            cells[row][col].setStyle("-fx-background-color: #ff4444; -fx-border-color: #333;");
-            cells[row][col].setText("X");
-        }
+        setState(row, col, HIT);
     }
 
     /**
      * Marca una celda como fallida (MISS).
-     * Aplica estilo visual y texto para indicar un ataque al agua.
-     * 
+     * Aplica el estilo y el texto que indican un ataque al agua.
+     *
      * @param row Fila de la celda fallada
      * @param col Columna de la celda fallada
      */
+    @Override
     public void markMiss(int row, int col) {
-        if (isValidPosition(row, col)) {
-            cells[row][col].setStyle("-fx-background-color: #4444ff; -fx-border-color: #333;");
-            cells[row][col].setText("○");
-        }
+        setState(row, col, MISS);
     }
 
     /**
      * Limpia los resaltados temporales del tablero.
-     * Elimina colores de previsualización pero mantiene barcos colocados.
+     * Solo recorre las celdas resaltadas; las celdas vuelven a mostrar su estado,
+     * incluidos los barcos colocados.
      */
+    @Override
     public void clearHighlights() {
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                String style = cells[r][c].getStyle();
-                if (style.contains("#ffeb3b") || style.contains("#90EE90") || style.contains("#FF6B6B")) {
-                    // Solo limpiar highlights, no barcos colocados
-                    if (!style.contains("#666")) {
-                        cells[r][c].setStyle(getCellStyle());
-                    }
-                }
-            }
+        for (int index = highlighted.nextSetBit(0); index >= 0; index = highlighted.nextSetBit(index + 1)) {
+            Button cell = cells[index / size][index % size];
+            cell.pseudoClassStateChanged(PREVIEW_VALID_CLASS, false);
+            cell.pseudoClassStateChanged(PREVIEW_INVALID_CLASS, false);
         }
+        highlighted.clear();
     }
 
     /**
      * Deshabilita todas las celdas del tablero.
      * Previene la interacción del usuario con el tablero.
      */
+    @Override
     public void disableAllCells() {
         for (int row = 0; row < size; row++) {
             for (int col = 0; col < size; col++) {
@@ -242,6 +353,7 @@ public class BoardGridComponent {
      * Habilita todas las celdas del tablero.
      * Solo funciona si el tablero fue configurado como interactivo.
      */
+    @Override
     public void enableAllCells() {
         if (!interactive) return;
 
@@ -254,13 +366,15 @@ public class BoardGridComponent {
 
     /**
      * Reinicia todas las celdas a su estado inicial.
-     * Elimina texto y restaura el estilo por defecto.
+     * Elimina texto, resaltados y estados de las celdas.
      */
+    @Override
     public void reset() {
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
-                cells[row][col].setText("");
-                cells[row][col].setStyle(getCellStyle());
+        clearHighlights();
+        for (int index = 0; index < states.length; index++) {
+            if (states[index] != EMPTY) {
+                states[index] = EMPTY;
+                applyState(index);
             }
         }
     }
@@ -269,14 +383,56 @@ public class BoardGridComponent {
      * Limpia completamente el tablero.
      * Utilizado en el intercambio de displays entre jugadores en modo PVP.
      */
+    @Override
     public void clearAll() {
         reset();
-        clearHighlights();
+    }
+
+    /**
+     * Resalta una celda con la previsualización actual, si está dentro del tablero.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     */
+    private void highlight(int row, int col) {
+        if (isValidPosition(row, col)) {
+            highlighted.set(row * size + col);
+            cells[row][col].pseudoClassStateChanged(highlightClass, true);
+        }
+    }
+
+    /**
+     * Cambia el estado de una celda, si está dentro del tablero, y lo aplica a su botón.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param state Nuevo estado
+     */
+    private void setState(int row, int col, byte state) {
+        if (isValidPosition(row, col)) {
+            int index = row * size + col;
+            states[index] = state;
+            applyState(index);
+        }
+    }
+
+    /**
+     * Refleja el estado de una celda en las pseudoclases y el texto de su botón.
+     *
+     * @param index Índice de la celda
+     */
+    private void applyState(int index) {
+        Button cell = cells[index / size][index % size];
+        byte state = states[index];
+        cell.pseudoClassStateChanged(SHIP_CLASS, state == SHIP);
+        cell.pseudoClassStateChanged(HIT_CLASS, state == HIT);
+        cell.pseudoClassStateChanged(MISS_CLASS, state == MISS);
+        cell.setText(state == HIT ? "X" : state == MISS ? "○" : "");
     }
 
     /**
      * Verifica si una posición está dentro de los límites del tablero.
-     * 
+     *
      * @param row Fila a verificar
      * @param col Columna a verificar
      * @return true si la posición es válida, false en caso contrario
@@ -284,4 +440,4 @@ public class BoardGridComponent {
     private boolean isValidPosition(int row, int col) {
         return row >= 0 && row < size && col >= 0 && col < size;
     }
-}
\ No newline at end of file
+}
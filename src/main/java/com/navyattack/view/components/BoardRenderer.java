@@ -0,0 +1,136 @@
+package com.navyattack.view.components;
+
+import java.util.List;
+
+import javafx.scene.Node;
+import com.navyattack.model.ShipPositions;
+
+/**
+ * Representación visual de un tablero de juego en NavyAttack.
+ * Define las operaciones que usan las vistas y los controladores para mostrar barcos,
+ * ataques y previsualizaciones, independientemente de cómo se dibujen las celdas.
+ *
+ * Hay dos implementaciones: {@link BoardGridComponent}, con un botón por celda, y
+ * {@link CanvasBoardComponent}, que dibuja todo el tablero en un único lienzo y se
+ * usa en tableros grandes, donde un control por celda sería demasiado costoso.
+ * {@link #create(int, boolean)} elige entre ellas según el tamaño del tablero.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public interface BoardRenderer {
+
+    /**
+     * Tamaño de tablero a partir del cual se dibuja en un lienzo en lugar de usar botones.
+     */
+    int CANVAS_SIZE_THRESHOLD = 20;
+
+    /**
+     * Crea el componente de tablero adecuado para un tamaño.
+     *
+     * @param size Tamaño del tablero (número de filas y columnas)
+     * @param interactive true si las celdas deben responder a clicks
+     * @return Componente con botones si el tablero es pequeño, o con lienzo si es grande
+     */
+    static BoardRenderer create(int size, boolean interactive) {
+        if (size > CANVAS_SIZE_THRESHOLD) {
+            return new CanvasBoardComponent(size, interactive);
+        }
+        return new BoardGridComponent(size, interactive);
+    }
+
+    /**
+     * Obtiene el nodo de JavaFX que muestra el tablero.
+     *
+     * @return Nodo del tablero
+     */
+    Node getNode();
+
+    /**
+     * Establece el receptor de los clicks en las celdas.
+     * Solo tiene efecto si el tablero es interactivo.
+     *
+     * @param listener Receptor que recibe la fila y la columna de la celda
+     */
+    void setCellClickListener(CellClickListener listener);
+
+    /**
+     * Resalta un conjunto de celdas como previsualización, limpiando los resaltados previos.
+     *
+     * @param positions Lista de posiciones [fila, columna] a resaltar
+     * @param valid true si la previsualización es válida (verde), false si no (rojo)
+     */
+    void highlightCells(List<int[]> positions, boolean valid);
+
+    /**
+     * Resalta las celdas de una vista compacta de posiciones como previsualización,
+     * limpiando los resaltados previos.
+     *
+     * @param positions Posiciones a resaltar
+     * @param valid true si la previsualización es válida (verde), false si no (rojo)
+     */
+    void highlightCells(ShipPositions positions, boolean valid);
+
+    /**
+     * Muestra un conjunto de celdas como ocupadas por barcos.
+     *
+     * @param positions Lista de posiciones [fila, columna] ocupadas por barcos
+     */
+    void showShipCells(List<int[]> positions);
+
+    /**
+     * Muestra las celdas de una vista compacta de posiciones como ocupadas por un barco.
+     *
+     * @param positions Posiciones ocupadas por el barco
+     */
+    void showShipCells(ShipPositions positions);
+
+    /**
+     * Muestra una celda como ocupada por un barco.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     */
+    void showShipCell(int row, int col);
+
+    /**
+     * Marca una celda como impactada (HIT).
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     */
+    void markHit(int row, int col);
+
+    /**
+     * Marca una celda como fallida (MISS).
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     */
+    void markMiss(int row, int col);
+
+    /**
+     * Limpia los resaltados temporales, manteniendo barcos y ataques.
+     */
+    void clearHighlights();
+
+    /**
+     * Deshabilita todas las celdas del tablero.
+     */
+    void disableAllCells();
+
+    /**
+     * Habilita todas las celdas del tablero, si es interactivo.
+     */
+    void enableAllCells();
+
+    /**
+     * Reinicia todas las celdas a su estado inicial.
+     */
+    void reset();
+
+    /**
+     * Limpia completamente el tablero.
+     */
+    void clearAll();
+}
@@ -0,0 +1,525 @@
+package com.navyattack.view.components;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import com.navyattack.model.ShipPositions;
+
+/**
+ * Componente de tablero que dibuja todas las celdas en un único {@link Canvas}.
+ * Ofrece las mismas operaciones que {@link BoardGridComponent}, pero sin un control
+ * por celda: el estado de cada celda se guarda en un arreglo de bytes y los clicks y
+ * el paso del ratón se traducen a fila y columna a partir de la posición del puntero.
+ *
+ * Cada cambio vuelve a dibujar solo las celdas afectadas, de modo que marcar un
+ * ataque o mover el ratón cuesta lo mismo en un tablero de 10x10 que en uno de
+ * 100x100; solo {@link #reset()} y la creación del componente dibujan el tablero completo.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+public class CanvasBoardComponent implements BoardRenderer {
+
+    /**
+     * Estado de una celda vacía.
+     */
+    private static final byte EMPTY = 0;
+
+    /**
+     * Estado de una celda ocupada por un barco visible.
+     */
+    private static final byte SHIP = 1;
+
+    /**
+     * Estado de una celda impactada.
+     */
+    private static final byte HIT = 2;
+
+    /**
+     * Estado de una celda fallada.
+     */
+    private static final byte MISS = 3;
+
+    /**
+     * Lado total en píxeles que ocupa el tablero, igual que en {@link BoardGridComponent}.
+     */
+    private static final double GRID_EXTENT = 500;
+
+    /**
+     * Lado mínimo en píxeles de una celda, para tableros muy grandes.
+     */
+    private static final double MIN_CELL_SIZE = 4;
+
+    /**
+     * Lado mínimo en píxeles de una celda para dibujar el símbolo de impacto o fallo.
+     */
+    private static final double MIN_SYMBOL_CELL_SIZE = 12;
+
+    /**
+     * Opacidad del tablero deshabilitado, la misma que usa JavaFX con los botones deshabilitados.
+     */
+    private static final double DISABLED_OPACITY = 0.4;
+
+    /**
+     * Color de una celda vacía.
+     */
+    private static final Color EMPTY_COLOR = Color.WHITE;
+
+    /**
+     * Color de una celda con barco.
+     */
+    private static final Color SHIP_COLOR = Color.web("#666666");
+
+    /**
+     * Color de una celda impactada.
+     */
+    private static final Color HIT_COLOR = Color.web("#ff4444");
+
+    /**
+     * Color de una celda fallada.
+     */
+    private static final Color MISS_COLOR = Color.web("#4444ff");
+
+    /**
+     * Color de una previsualización válida, el mismo de la hoja de estilos de la cuadrícula.
+     */
+    private static final Color PREVIEW_VALID_COLOR = Color.web("#90EE90");
+
+    /**
+     * Color de una previsualización inválida, el mismo de la hoja de estilos de la cuadrícula.
+     */
+    private static final Color PREVIEW_INVALID_COLOR = Color.web("#FF6B6B");
+
+    /**
+     * Color del borde de una celda vacía.
+     */
+    private static final Color BORDER_COLOR = Color.BLACK;
+
+    /**
+     * Color del borde de las celdas marcadas o resaltadas.
+     */
+    private static final Color MARKED_BORDER_COLOR = Color.web("#333333");
+
+    /**
+     * Contenedor del lienzo, con el mismo fondo y margen que la cuadrícula de botones.
+     */
+    private final StackPane pane;
+
+    /**
+     * Lienzo en el que se dibuja el tablero.
+     */
+    private final Canvas canvas;
+
+    /**
+     * Contexto gráfico del lienzo.
+     */
+    private final GraphicsContext graphics;
+
+    /**
+     * Número de celdas por lado del tablero.
+     */
+    private final int size;
+
+    /**
+     * Lado en píxeles de cada celda.
+     */
+    private final double cellSize;
+
+    /**
+     * Indica si el tablero es interactivo (responde a clicks del usuario).
+     */
+    private final boolean interactive;
+
+    /**
+     * Estado de cada celda, por índice {@code fila * tamaño + columna}.
+     */
+    private final byte[] states;
+
+    /**
+     * Celdas resaltadas actualmente.
+     */
+    private final BitSet highlighted;
+
+    /**
+     * Color del resaltado actual.
+     */
+    private Color highlightColor;
+
+    /**
+     * Indica si las celdas responden al ratón.
+     */
+    private boolean enabled;
+
+    /**
+     * Índice de la celda bajo el puntero, o -1 si no hay ninguna.
+     */
+    private int hoverIndex = -1;
+
+    /**
+     * Receptor de los clicks en las celdas, o null si no hay ninguno.
+     */
+    private CellClickListener listener;
+
+    /**
+     * Constructor del componente de tablero.
+     *
+     * @param size Tamaño del tablero (número de filas y columnas)
+     * @param interactive true si las celdas deben responder a clicks, false para tableros de solo lectura
+     */
+    public CanvasBoardComponent(int size, boolean interactive) {
+        this.size = size;
+        this.interactive = interactive;
+        this.enabled = interactive;
+        this.cellSize = Math.max(MIN_CELL_SIZE, GRID_EXTENT / size);
+        this.states = new byte[size * size];
+        this.highlighted = new BitSet(size * size);
+        this.canvas = new Canvas(size * cellSize, size * cellSize);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.pane = new StackPane(canvas);
+        pane.setStyle("-fx-background-color: #5872C9; -fx-padding: 10px;");
+        pane.setMaxSize(StackPane.USE_PREF_SIZE, StackPane.USE_PREF_SIZE);
+
+        graphics.setTextAlign(TextAlignment.CENTER);
+        graphics.setTextBaseline(VPos.CENTER);
+        graphics.setFont(Font.font("System", FontWeight.BOLD, cellSize * 0.5));
+
+        canvas.setOnMouseMoved(this::handleMouseMoved);
+        canvas.setOnMouseExited(e -> setHoverIndex(-1));
+        canvas.setOnMouseClicked(this::handleMouseClicked);
+
+        updateOpacity();
+        drawAll();
+    }
+
+    /**
+     * Obtiene el nodo que muestra el tablero.
+     *
+     * @return Contenedor del lienzo
+     */
+    @Override
+    public Node getNode() {
+        return pane;
+    }
+
+    /**
+     * Establece el receptor de los clicks en las celdas.
+     * Solo funciona si el tablero es interactivo.
+     *
+     * @param listener Receptor que recibe la fila y la columna de la celda pulsada
+     */
+    @Override
+    public void setCellClickListener(CellClickListener listener) {
+        if (!interactive) {
+            System.out.println("WARNING: Trying to set click handler on non-interactive board");
+            return;
+        }
+        this.listener = listener;
+    }
+
+    /**
+     * Resalta un conjunto de celdas como previsualización válida o inválida.
+     * Limpia los resaltados previos antes de aplicar el nuevo.
+     *
+     * @param positions Lista de posiciones [fila, columna] a resaltar
+     * @param valid true si la previsualización es válida, false si no
+     */
+    @Override
+    public void highlightCells(List<int[]> positions, boolean valid) {
+        clearHighlights();
+        highlightColor = valid ? PREVIEW_VALID_COLOR : PREVIEW_INVALID_COLOR;
+        for (int[] pos : positions) {
+            highlight(pos[0], pos[1]);
+        }
+    }
+
+    /**
+     * Resalta las celdas de una vista compacta de posiciones como previsualización.
+     * Limpia los resaltados previos antes de aplicar el nuevo.
+     *
+     * @param positions Posiciones a resaltar
+     * @param valid true si la previsualización es válida, false si no
+     */
+    @Override
+    public void highlightCells(ShipPositions positions, boolean valid) {
+        clearHighlights();
+        highlightColor = valid ? PREVIEW_VALID_COLOR : PREVIEW_INVALID_COLOR;
+        for (int i = 0; i < positions.size(); i++) {
+            highlight(positions.rowAt(i), positions.colAt(i));
+        }
+    }
+
+    /**
+     * Muestra las celdas ocupadas por barcos.
+     *
+     * @param positions Lista de posiciones [fila, columna] ocupadas por barcos
+     */
+    @Override
+    public void showShipCells(List<int[]> positions) {
+        for (int[] pos : positions) {
+            setState(pos[0], pos[1], SHIP);
+        }
+    }
+
+    /**
+     * Muestra las celdas de una vista compacta de posiciones como ocupadas por un barco.
+     *
+     * @param positions Posiciones ocupadas por el barco
+     */
+    @Override
+    public void showShipCells(ShipPositions positions) {
+        for (int i = 0; i < positions.size(); i++) {
+            setState(positions.rowAt(i), positions.colAt(i), SHIP);
+        }
+    }
+
+    /**
+     * Muestra una celda como ocupada por un barco.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     */
+    @Override
+    public void showShipCell(int row, int col) {
+        setState(row, col, SHIP);
+    }
+
+    /**
+     * Marca una celda como impactada (HIT).
+     *
+     * @param row Fila de la celda impactada
+     * @param col Columna de la celda impactada
+     */
+    @Override
+    public void markHit(int row, int col) {
+        setState(row, col, HIT);
+    }
+
+    /**
+     * Marca una celda como fallida (MISS).
+     *
+     * @param row Fila de la celda fallada
+     * @param col Columna de la celda fallada
+     */
+    @Override
+    public void markMiss(int row, int col) {
+        setState(row, col, MISS);
+    }
+
+    /**
+     * Limpia los resaltados temporales del tablero.
+     * Las celdas resaltadas vuelven a mostrar su estado, incluidos los barcos colocados.
+     */
+    @Override
+    public void clearHighlights() {
+        for (int index = highlighted.nextSetBit(0); index >= 0; index = highlighted.nextSetBit(index + 1)) {
+            highlighted.clear(index);
+            drawCell(index);
+        }
+    }
+
+    /**
+     * Deshabilita todas las celdas del tablero.
+     */
+    @Override
+    public void disableAllCells() {
+        enabled = false;
+        setHoverIndex(-1);
+        updateOpacity();
+    }
+
+    /**
+     * Habilita todas las celdas del tablero.
+     * Solo funciona si el tablero fue configurado como interactivo.
+     */
+    @Override
+    public void enableAllCells() {
+        if (!interactive) return;
+
+        enabled = true;
+        updateOpacity();
+    }
+
+    /**
+     * Reinicia todas las celdas a su estado inicial y vuelve a dibujar el tablero.
+     */
+    @Override
+    public void reset() {
+        Arrays.fill(states, EMPTY);
+        highlighted.clear();
+        drawAll();
+    }
+
+    /**
+     * Limpia completamente el tablero.
+     * Utilizado en el intercambio de displays entre jugadores en modo PVP.
+     */
+    @Override
+    public void clearAll() {
+        reset();
+    }
+
+    /**
+     * Resalta una celda, si está dentro del tablero.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     */
+    private void highlight(int row, int col) {
+        if (isValidPosition(row, col)) {
+            int index = row * size + col;
+            highlighted.set(index);
+            drawCell(index);
+        }
+    }
+
+    /**
+     * Cambia el estado de una celda, si está dentro del tablero, y la vuelve a dibujar.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param state Nuevo estado
+     */
+    private void setState(int row, int col, byte state) {
+        if (isValidPosition(row, col)) {
+            int index = row * size + col;
+            states[index] = state;
+            drawCell(index);
+        }
+    }
+
+    /**
+     * Actualiza la celda bajo el puntero al moverse el ratón.
+     *
+     * @param event Evento del ratón
+     */
+    private void handleMouseMoved(MouseEvent event) {
+        setHoverIndex(enabled ? indexAt(event.getX(), event.getY()) : -1);
+    }
+
+    /**
+     * Notifica al receptor el click en una celda, si el tablero está habilitado.
+     *
+     * @param event Evento del ratón
+     */
+    private void handleMouseClicked(MouseEvent event) {
+        if (!enabled || listener == null) return;
+
+        int index = indexAt(event.getX(), event.getY());
+        if (index >= 0) {
+            listener.onCellClick(index / size, index % size);
+        }
+    }
+
+    /**
+     * Cambia la celda bajo el puntero y vuelve a dibujar la anterior y la nueva.
+     *
+     * @param index Índice de la nueva celda, o -1
+     */
+    private void setHoverIndex(int index) {
+        if (index == hoverIndex) return;
+
+        int previous = hoverIndex;
+        hoverIndex = index;
+        if (previous >= 0) {
+            drawCell(previous);
+        }
+        if (index >= 0) {
+            drawCell(index);
+        }
+    }
+
+    /**
+     * Obtiene la celda que contiene un punto del lienzo.
+     *
+     * @param x Coordenada horizontal en el lienzo
+     * @param y Coordenada vertical en el lienzo
+     * @return Índice de la celda, o -1 si el punto está fuera del tablero
+     */
+    private int indexAt(double x, double y) {
+        int row = (int) Math.floor(y / cellSize);
+        int col = (int) Math.floor(x / cellSize);
+        return isValidPosition(row, col) ? row * size + col : -1;
+    }
+
+    /**
+     * Aplica la opacidad que corresponde a si el tablero está habilitado.
+     */
+    private void updateOpacity() {
+        canvas.setOpacity(enabled ? 1.0 : DISABLED_OPACITY);
+    }
+
+    /**
+     * Dibuja todas las celdas del tablero.
+     */
+    private void drawAll() {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int index = 0; index < states.length; index++) {
+            drawCell(index);
+        }
+    }
+
+    /**
+     * Dibuja una celda según su estado, su resaltado y si está bajo el puntero.
+     *
+     * @param index Índice de la celda
+     */
+    private void drawCell(int index) {
+        double x = (index % size) * cellSize;
+        double y = (index / size) * cellSize;
+        byte state = states[index];
+
+        Color fill;
+        String symbol = null;
+        if (highlighted.get(index)) {
+            fill = highlightColor;
+        } else if (state == HIT) {
+            fill = HIT_COLOR;
+            symbol = "X";
+        } else if (state == MISS) {
+            fill = MISS_COLOR;
+            symbol = "○";
+        } else if (state == SHIP) {
+            fill = SHIP_COLOR;
+        } else {
+            fill = EMPTY_COLOR;
+        }
+        if (index == hoverIndex) {
+            fill = fill.interpolate(Color.GRAY, 0.3);
+        }
+
+        graphics.setFill(fill);
+        graphics.fillRect(x, y, cellSize, cellSize);
+
+        boolean marked = state != EMPTY || highlighted.get(index);
+        graphics.setStroke(marked ? MARKED_BORDER_COLOR : BORDER_COLOR);
+        graphics.setLineWidth(cellSize >= MIN_SYMBOL_CELL_SIZE ? 1 : 0.5);
+        graphics.strokeRect(x + 0.5, y + 0.5, cellSize - 1, cellSize - 1);
+
+        if (symbol != null && cellSize >= MIN_SYMBOL_CELL_SIZE) {
+            graphics.setFill(Color.BLACK);
+            graphics.fillText(symbol, x + cellSize / 2, y + cellSize / 2);
+        }
+    }
+
+    /**
+     * Verifica si una posición está dentro de los límites del tablero.
+     *
+     * @param row Fila a verificar
+     * @param col Columna a verificar
+     * @return true si la posición es válida, false en caso contrario
+     */
+    private boolean isValidPosition(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
+}
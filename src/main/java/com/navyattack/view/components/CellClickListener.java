@@ -0,0 +1,19 @@
+package com.navyattack.view.components;
+
+/**
+ * Receptor de los clicks sobre las celdas de un {@link BoardRenderer}.
+ *
+ * @author Juan Manuel Otálora Hernández - Johan Stevan Bermeo Buitrago
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface CellClickListener {
+
+    /**
+     * Se invoca al hacer click en una celda habilitada del tablero.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     */
+    void onCellClick(int row, int col);
+}
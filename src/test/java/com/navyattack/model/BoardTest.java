@@ -4,6 +4,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Tests unitarios para la clase Board
@@ -290,6 +294,21 @@ class BoardTest {
         assertTrue(destroyer.isSunk());
     }
 
+    @Test
+    @DisplayName("getShipAt() devuelve el barco que ocupa la celda")
+    void testGetShipAt() {
+        Ship submarine = new Ship(ShipType.SUBMARINE);
+        Ship destroyer = new Ship(ShipType.DESTROYER);
+        destroyer.rotate();
+        board.placeShip(submarine, 0, 0);
+        board.placeShip(destroyer, 2, 5);
+
+        assertSame(submarine, board.getShipAt(0, 1));
+        assertSame(destroyer, board.getShipAt(4, 5));
+        assertNull(board.getShipAt(0, 2));
+        assertNull(board.getShipAt(-1, 0));
+    }
+
     // ==================== TESTS DE ESTADO DEL JUEGO ====================
 
     @Test
@@ -388,6 +407,134 @@ class BoardTest {
         assertEquals(expectedCells, shipCells);
     }
 
+    @Test
+    @DisplayName("Colocación aleatoria con semilla es reproducible")
+    void testPlaceShipsRandomlyWithSeedIsReproducible() {
+        Board other = new Board();
+        Board.placeShipsRandomly(board, 42L);
+        Board.placeShipsRandomly(other, 42L);
+
+        assertEquals(board.toString(), other.toString());
+    }
+
+    @Test
+    @DisplayName("Colocación aleatoria retrocede en tableros sin espacio libre")
+    void testPlaceShipsRandomlyBacktracksOnTightBoard() {
+        java.util.Map<ShipType, Integer> fleet = new java.util.EnumMap<>(ShipType.class);
+        fleet.put(ShipType.CRUISER, 2);
+        fleet.put(ShipType.SUBMARINE, 4);
+        BoardConfig tight = new BoardConfig(4, fleet); // 16 celdas para 16 celdas de flota
+
+        for (long seed = 0; seed < 50; seed++) {
+            Board tiny = new Board(tight);
+            Board.placeShipsRandomly(tiny, seed);
+            assertTrue(tiny.areAllShipsPlaced());
+            assertEquals(16, tiny.getRemainingShipCells());
+        }
+    }
+
+    @Test
+    @DisplayName("Colocación aleatoria falla sin modificar el tablero si la flota no cabe")
+    void testPlaceShipsRandomlyThrowsWhenImpossible() {
+        java.util.Map<ShipType, Integer> fleet = new java.util.EnumMap<>(ShipType.class);
+        fleet.put(ShipType.DESTROYER, 1);
+        Board tiny = new Board(new BoardConfig(2, fleet)); // El destructor es más largo que el lado
+
+        assertThrows(IllegalStateException.class, () -> Board.placeShipsRandomly(tiny, 1L));
+        assertEquals(0, tiny.getPlacedShipsCount());
+    }
+
+    // ==================== TESTS DE CONFIGURACIÓN ====================
+
+    @Test
+    @DisplayName("Tablero grande respeta las dimensiones de su configuración")
+    void testLargeBoardUsesConfigSize() {
+        Board large = new Board(BoardConfig.ofSize(1000));
+        assertEquals(1000, large.getSize());
+
+        Ship carrier = new Ship(ShipType.CARRY);
+        carrier.rotate();
+        assertTrue(large.canPlaceShip(carrier, 994, 999));
+        assertFalse(large.canPlaceShip(carrier, 995, 999));
+
+        large.placeShip(carrier, 994, 999);
+        assertEquals(AttackResult.HIT, large.attack(999, 999));
+        assertEquals(AttackResult.MISS, large.attack(0, 0));
+        assertEquals(AttackResult.INVALID_POSITION, large.attack(1000, 0));
+        assertEquals(5, large.getRemainingShipCells());
+    }
+
+    @Test
+    @DisplayName("Tableros casi vacíos usan almacenamiento disperso")
+    void testStorageSelectedByDensity() {
+        assumeTrue(System.getProperty(Board.STORAGE_PROPERTY) == null);
+
+        assertFalse(new Board().usesSparseStorage());
+        assertTrue(new Board(BoardConfig.ofSize(1000)).usesSparseStorage());
+    }
+
+    @Test
+    @DisplayName("La flota se toma de la configuración del tablero")
+    void testBoardUsesConfiguredFleet() {
+        java.util.Map<ShipType, Integer> fleet = new java.util.EnumMap<>(ShipType.class);
+        fleet.put(ShipType.SUBMARINE, 2);
+        Board custom = new Board(new BoardConfig(12, fleet));
+
+        assertEquals(2, custom.getRemainingShips(ShipType.SUBMARINE));
+        assertEquals(0, custom.getRemainingShips(ShipType.CARRY));
+
+        Board.placeShipsRandomly(custom);
+        assertTrue(custom.areAllShipsPlaced());
+        assertEquals(4, custom.getRemainingShipCells());
+    }
+
+    @Test
+    @DisplayName("Configuraciones inválidas lanzan excepción")
+    void testInvalidConfigThrows() {
+        assertThrows(IllegalArgumentException.class, () -> BoardConfig.ofSize(0));
+        assertThrows(IllegalArgumentException.class, () -> BoardConfig.ofSize(5)); // La flota no cabe
+    }
+
+    // ==================== TESTS DE AVISOS DE CAMBIOS ====================
+
+    @Test
+    @DisplayName("Los receptores reciben solo las celdas que cambian")
+    void testCellChangeListenerReceivesChanges() {
+        List<String> changes = new ArrayList<>();
+        int[] resets = new int[1];
+        CellChangeListener listener = new CellChangeListener() {
+            @Override
+            public void cellChanged(int row, int col, CellState state) {
+                changes.add(row + "," + col + "=" + state);
+            }
+
+            @Override
+            public void boardReset() {
+                resets[0]++;
+            }
+        };
+        board.addCellChangeListener(listener);
+
+        Ship destroyer = new Ship(ShipType.DESTROYER);
+        board.placeShip(destroyer, 2, 3);
+        assertEquals(List.of("2,3=SHIP", "2,4=SHIP", "2,5=SHIP"), changes);
+
+        changes.clear();
+        board.attack(2, 3);
+        board.attack(7, 7);
+        board.attack(7, 7);
+        board.attack(20, 20);
+        assertEquals(List.of("2,3=HIT", "7,7=MISS"), changes);
+
+        board.reset();
+        assertEquals(1, resets[0]);
+
+        board.removeCellChangeListener(listener);
+        changes.clear();
+        board.attack(1, 1);
+        assertTrue(changes.isEmpty());
+    }
+
     // ==================== TESTS DE RESET ====================
 
     @Test
@@ -0,0 +1,258 @@
+package com.navyattack.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tests unitarios para la clase CPU y sus estrategias de ataque
+ */
+class CPUTest {
+
+    /**
+     * Juega una partida completa de la CPU contra un tablero y devuelve el número de disparos.
+     */
+    private int playGame(CPU cpu, Board board) {
+        Set<Integer> attacked = new HashSet<>();
+        int size = board.getSize();
+        while (!board.areAllShipsSunk()) {
+            int[] pos = cpu.attack();
+            assertTrue(attacked.add(pos[0] * size + pos[1]), "La CPU repitió un ataque");
+            AttackResult result = board.attack(pos[0], pos[1]);
+            Ship sunk = result == AttackResult.SUNK ? board.getShipAt(pos[0], pos[1]) : null;
+            cpu.processResult(result, pos, sunk);
+            assertTrue(attacked.size() <= size * size);
+        }
+        return attacked.size();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CPUDifficulty.class, names = {"EASY", "MEDIUM"})
+    @DisplayName("La CPU hunde toda la flota sin repetir ataques")
+    void testCpuSinksWholeFleet(CPUDifficulty difficulty) {
+        for (long seed = 0; seed < 10; seed++) {
+            Board board = new Board();
+            Board.placeShipsRandomly(board, seed);
+            playGame(new CPU(board.getConfig(), difficulty), board);
+            assertTrue(board.areAllShipsSunk());
+        }
+    }
+
+    @Test
+    @DisplayName("La búsqueda EASY agota el patrón de ajedrez antes que el resto, sin repetir celdas")
+    void testEasyHuntCoversCheckerboardFirst() {
+        int size = 7;
+        CPU cpu = new CPU(BoardConfig.ofSize(size), CPUDifficulty.EASY, 50, 3L);
+        Set<Integer> attacked = new HashSet<>();
+        int patternCells = (size * size + 1) / 2;
+        for (int shot = 0; shot < size * size; shot++) {
+            int cell = cpu.attackCell();
+            assertTrue(attacked.add(cell), "La CPU repitió un ataque");
+            boolean inPattern = (cell / size + cell % size) % 2 == 0;
+            assertEquals(shot < patternCells, inPattern);
+            cpu.processResult(AttackResult.MISS, cell, null);
+        }
+    }
+
+    @Test
+    @DisplayName("La API de celdas empaquetadas equivale a la de arreglos")
+    void testPackedCellApi() {
+        CPU cpu = new CPU(BoardConfig.standard(), CPUDifficulty.EASY);
+        cpu.processResult(AttackResult.HIT, 34, null);
+        assertEquals("TARGET", cpu.getCurrentMode());
+
+        Set<Integer> neighbours = Set.of(24, 44, 33, 35);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(neighbours.contains(cpu.attackCell()));
+        }
+        assertEquals(4, cpu.getAttackCount());
+
+        cpu.reset();
+        assertEquals(0, cpu.getAttackCount());
+        assertEquals("HUNT", cpu.getCurrentMode());
+    }
+
+    @Test
+    @DisplayName("Una partida completa con celdas empaquetadas no reserva memoria por disparo")
+    void testPackedGameDoesNotAllocatePerShot() {
+        java.lang.management.ThreadMXBean threads = java.lang.management.ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        long threadId = Thread.currentThread().getId();
+
+        for (CPUDifficulty difficulty : new CPUDifficulty[]{CPUDifficulty.EASY, CPUDifficulty.MEDIUM}) {
+            playPackedGame(difficulty, allocations, threadId); // Calentamiento: carga de clases
+            long[] measured = playPackedGame(difficulty, allocations, threadId);
+
+            assertTrue(measured[0] < 16L * measured[1],
+                    difficulty + " reservó " + measured[0] + " bytes en " + measured[1] + " disparos");
+        }
+    }
+
+    /**
+     * Juega una partida con la API de celdas empaquetadas y mide la memoria reservada
+     * por las llamadas a la CPU (el tablero disperso puede crecer y no se cuenta).
+     *
+     * @return Arreglo [bytes reservados por la CPU, disparos]
+     */
+    private long[] playPackedGame(CPUDifficulty difficulty, com.sun.management.ThreadMXBean allocations, long threadId) {
+        Board board = new Board();
+        Board.placeShipsRandomly(board, 11L);
+        CPU cpu = new CPU(board.getConfig(), difficulty);
+
+        long allocated = 0;
+        int shots = 0;
+        while (!board.areAllShipsSunk()) {
+            long before = allocations.getThreadAllocatedBytes(threadId);
+            int cell = cpu.attackCell();
+            allocated += allocations.getThreadAllocatedBytes(threadId) - before;
+
+            AttackResult result = board.attack(cell / 10, cell % 10);
+            Ship sunk = result == AttackResult.SUNK ? board.getShipAt(cell / 10, cell % 10) : null;
+
+            before = allocations.getThreadAllocatedBytes(threadId);
+            cpu.processResult(result, cell, sunk);
+            allocated += allocations.getThreadAllocatedBytes(threadId) - before;
+            shots++;
+        }
+        return new long[]{allocated, shots};
+    }
+
+    @Test
+    @DisplayName("El mapa de densidad incremental coincide con el cálculo completo")
+    void testDensityMatchesFullRecompute() {
+        Board board = new Board();
+        Board.placeShipsRandomly(board, 7L);
+        DensityTargeting density = new DensityTargeting(board.getConfig());
+        byte[] observed = new byte[board.getConfig().getCellCount()]; // 0 desconocida, 1 fallo, 2 impacto, 3 hundida
+        int[] remaining = new int[ShipType.values().length];
+        for (ShipType type : ShipType.values()) {
+            remaining[type.ordinal()] = board.getConfig().getShipCount(type);
+        }
+
+        for (int shot = 0; shot < 40 && !board.areAllShipsSunk(); shot++) {
+            int cell = density.selectTarget();
+            assertEquals(0, observed[cell]);
+            int row = cell / 10;
+            int col = cell % 10;
+            AttackResult result = board.attack(row, col);
+            if (result == AttackResult.MISS) {
+                observed[cell] = 1;
+                density.recordMiss(cell);
+            } else if (result == AttackResult.HIT) {
+                observed[cell] = 2;
+                density.recordHit(cell);
+            } else {
+                Ship ship = board.getShipAt(row, col);
+                for (int[] pos : ship.getPositions()) {
+                    observed[pos[0] * 10 + pos[1]] = 3;
+                }
+                remaining[ship.getType().ordinal()]--;
+                density.recordSunk(cell, ship);
+            }
+
+            for (int c = 0; c < observed.length; c++) {
+                assertEquals(bruteForceDensity(observed, remaining, c), density.getDensity(c),
+                        "Densidad incorrecta en la celda " + c + " tras el disparo " + shot);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("La CPU MEDIUM ataca junto a un impacto sin resolver")
+    void testMediumFollowsUpHit() {
+        CPU cpu = new CPU(BoardConfig.standard(), CPUDifficulty.MEDIUM);
+        cpu.processResult(AttackResult.HIT, new int[]{5, 5});
+
+        int[] next = cpu.attack();
+        assertEquals(1, Math.abs(next[0] - 5) + Math.abs(next[1] - 5));
+        assertEquals("TARGET", cpu.getCurrentMode());
+    }
+
+    @Test
+    @DisplayName("La CPU HARD hunde toda la flota con un presupuesto corto")
+    void testHardCpuSinksWholeFleet() {
+        Board board = new Board();
+        Board.placeShipsRandomly(board, 3L);
+        CPU cpu = new CPU(board.getConfig(), CPUDifficulty.HARD, 2);
+
+        playGame(cpu, board);
+        assertTrue(board.areAllShipsSunk());
+    }
+
+    @Test
+    @DisplayName("Monte Carlo respeta el presupuesto de tiempo y obtiene muestras")
+    void testMonteCarloRespectsBudget() {
+        MonteCarloTargeting strategy = new MonteCarloTargeting(BoardConfig.standard(), 20,
+                java.util.concurrent.ForkJoinPool.commonPool());
+        strategy.recordHit(55);
+        strategy.recordMiss(56);
+
+        long start = System.nanoTime();
+        int cell = strategy.selectTarget();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 500, "Tardó " + elapsedMillis + " ms");
+        assertTrue(strategy.getLastSampleCount() > 0);
+        assertTrue(cell == 45 || cell == 54 || cell == 65, "Debería atacar junto al impacto, eligió " + cell);
+    }
+
+    @Test
+    @DisplayName("Monte Carlo elige lo mismo con la misma semilla, con o sin pool")
+    void testMonteCarloDeterministicWithFixedSampleBudget() {
+        MonteCarloTargeting sequential = new MonteCarloTargeting(BoardConfig.standard(), 512, 60_000, null,
+                new java.util.SplittableRandom(9L));
+        MonteCarloTargeting parallel = new MonteCarloTargeting(BoardConfig.standard(), 512, 60_000,
+                java.util.concurrent.ForkJoinPool.commonPool(), new java.util.SplittableRandom(9L));
+
+        for (int turn = 0; turn < 10; turn++) {
+            int cell = sequential.selectTarget();
+            assertEquals(cell, parallel.selectTarget());
+            assertEquals(sequential.getLastSampleCount(), parallel.getLastSampleCount());
+            sequential.recordMiss(cell);
+            parallel.recordMiss(cell);
+        }
+    }
+
+    /**
+     * Calcula la densidad de una celda enumerando todas las colocaciones.
+     */
+    private int bruteForceDensity(byte[] observed, int[] remaining, int cell) {
+        int total = 0;
+        for (ShipType type : ShipType.values()) {
+            if (remaining[type.ordinal()] == 0) {
+                continue;
+            }
+            int length = type.getLength();
+            for (int r = 0; r < 10; r++) {
+                for (int c = 0; c < 10; c++) {
+                    for (int stride : new int[]{1, 10}) {
+                        if ((stride == 1 ? c : r) + length > 10) {
+                            continue;
+                        }
+                        int start = r * 10 + c;
+                        boolean covers = false;
+                        boolean blocked = false;
+                        int hits = 0;
+                        for (int k = 0; k < length; k++) {
+                            int x = start + k * stride;
+                            covers |= x == cell;
+                            blocked |= observed[x] == 1 || observed[x] == 3;
+                            hits += observed[x] == 2 ? 1 : 0;
+                        }
+                        if (covers && !blocked) {
+                            total += 1 + DensityTargeting.HIT_WEIGHT * hits;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,80 @@
+package com.navyattack.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests unitarios para la clase DataManager
+ */
+class DataManagerTest {
+
+    @Test
+    @DisplayName("Los usuarios se buscan por nombre")
+    void testFindUser() {
+        DataManager dataManager = new DataManager();
+        User alice = new User("alice", "secret1");
+        dataManager.addUser(alice);
+        dataManager.addUser(new User("bob", "secret2"));
+
+        assertSame(alice, dataManager.findUser("alice"));
+        assertNull(dataManager.findUser("carol"));
+        assertNull(dataManager.findUser(null));
+        assertEquals(2, dataManager.getUsersCount());
+    }
+
+    @Test
+    @DisplayName("Las sesiones activas conservan el orden y no se repiten")
+    void testLoggedUsersKeepOrder() {
+        DataManager dataManager = new DataManager();
+        User alice = new User("alice", "secret1");
+        User bob = new User("bob", "secret2");
+
+        dataManager.addLoggedUser(bob);
+        dataManager.addLoggedUser(alice);
+        dataManager.addLoggedUser(bob);
+        List<User> snapshot = dataManager.getLoggedUsers();
+
+        assertEquals(List.of(bob, alice), snapshot);
+        assertTrue(dataManager.isLogged(alice));
+
+        dataManager.deleteLoggedUser(bob);
+        assertEquals(List.of(bob, alice), snapshot);
+        assertEquals(List.of(alice), dataManager.getLoggedUsers());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(bob));
+    }
+
+    @Test
+    @DisplayName("Solo uno de varios registros simultáneos con el mismo nombre tiene éxito")
+    void testConcurrentRegistration() throws Exception {
+        DataManager dataManager = new DataManager();
+        AtomicInteger registered = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[64];
+            for (int i = 0; i < futures.length; i++) {
+                int id = i;
+                futures[i] = executor.submit(() -> {
+                    if (dataManager.addUserIfAbsent(new User("player" + (id % 8), "secret" + id))) {
+                        registered.incrementAndGet();
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(8, registered.get());
+        assertEquals(8, dataManager.getUsersCount());
+    }
+}
@@ -0,0 +1,131 @@
+package com.navyattack.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+/**
+ * Tests unitarios para el motor de partidas sin interfaz
+ */
+class GameEngineTest {
+
+    private Board player1Board;
+    private Board player2Board;
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        BoardConfig config = new BoardConfig(4, Map.of(ShipType.SUBMARINE, 1));
+        player1Board = new Board(config);
+        player2Board = new Board(config);
+        Board.placeShipsRandomly(player1Board, 1L);
+        Board.placeShipsRandomly(player2Board, 2L);
+        engine = new GameEngine(player1Board, player2Board);
+    }
+
+    /**
+     * Busca una celda de agua en el tablero dado.
+     */
+    private int[] findWater(Board board) {
+        for (int row = 0; row < board.getSize(); row++) {
+            for (int col = 0; col < board.getSize(); col++) {
+                if (board.getShipAt(row, col) == null) {
+                    return new int[]{row, col};
+                }
+            }
+        }
+        throw new AssertionError("El tablero no tiene agua");
+    }
+
+    @Test
+    @DisplayName("Los turnos alternan entre ambos jugadores")
+    void testTurnsAlternate() {
+        assertEquals(PlayerSide.PLAYER_1, engine.getCurrentPlayer());
+        assertSame(player2Board, engine.getTargetBoard());
+
+        int[] water = findWater(player2Board);
+        assertEquals(AttackResult.MISS, engine.attack(water[0], water[1]));
+        assertTrue(engine.hasAttackedThisTurn());
+        engine.endTurn();
+
+        assertEquals(PlayerSide.PLAYER_2, engine.getCurrentPlayer());
+        assertFalse(engine.hasAttackedThisTurn());
+        assertSame(player1Board, engine.getTargetBoard());
+        assertEquals(1, engine.getTurnCount());
+        assertEquals(1, engine.getTurnCount(PlayerSide.PLAYER_1));
+        assertEquals(0, engine.getTurnCount(PlayerSide.PLAYER_2));
+    }
+
+    @Test
+    @DisplayName("No se puede atacar dos veces ni terminar el turno sin atacar")
+    void testOneAttackPerTurn() {
+        assertThrows(IllegalStateException.class, engine::endTurn);
+
+        int[] water = findWater(player2Board);
+        engine.attack(water[0], water[1]);
+        assertThrows(IllegalStateException.class, () -> engine.attack(0, 0));
+    }
+
+    @Test
+    @DisplayName("Los ataques inválidos no consumen el turno")
+    void testInvalidAttackKeepsTurn() {
+        assertEquals(AttackResult.INVALID_POSITION, engine.attack(-1, 0));
+        assertFalse(engine.hasAttackedThisTurn());
+
+        int[] water = findWater(player2Board);
+        engine.attack(water[0], water[1]);
+        engine.endTurn();
+        engine.attack(findWater(player1Board)[0], findWater(player1Board)[1]);
+        engine.endTurn();
+
+        assertEquals(AttackResult.ALREADY_ATTACKED, engine.attack(water[0], water[1]));
+        assertFalse(engine.hasAttackedThisTurn());
+        assertEquals(PlayerSide.PLAYER_1, engine.getCurrentPlayer());
+    }
+
+    @Test
+    @DisplayName("Hundir la flota rival termina la partida")
+    void testVictory() {
+        ShipPositions positions = player2Board.getShips().get(0).getPositions();
+        int[] water = findWater(player1Board);
+
+        engine.attack(positions.rowAt(0), positions.colAt(0));
+        engine.endTurn();
+        engine.attack(water[0], water[1]);
+        engine.endTurn();
+        assertEquals(AttackResult.SUNK, engine.attack(positions.rowAt(1), positions.colAt(1)));
+
+        assertTrue(engine.isGameOver());
+        assertEquals(PlayerSide.PLAYER_1, engine.getWinner());
+        assertEquals(1, engine.getShipsSunkBy(PlayerSide.PLAYER_1));
+        assertEquals(0, engine.getShipsRemaining(PlayerSide.PLAYER_2));
+        assertEquals(1, engine.getShipsRemaining(PlayerSide.PLAYER_1));
+        assertThrows(IllegalStateException.class, engine::endTurn);
+        assertThrows(IllegalStateException.class, () -> engine.attack(0, 0));
+    }
+
+    @Test
+    @DisplayName("Dos CPU juegan una partida completa sin interfaz")
+    void testCpuMatch() {
+        Board board1 = new Board();
+        Board board2 = new Board();
+        Board.placeShipsRandomly(board1, 7L);
+        Board.placeShipsRandomly(board2, 8L);
+        GameEngine match = new GameEngine(board1, board2);
+
+        MatchResult result = match.playMatch(
+                new CPU(board2.getConfig(), CPUDifficulty.MEDIUM),
+                new CPU(board1.getConfig(), CPUDifficulty.EASY));
+
+        PlayerSide winner = result.getWinner();
+        assertNotNull(winner);
+        assertEquals(winner, match.getWinner());
+        assertTrue(match.getBoard(winner.opponent()).areAllShipsSunk());
+        assertEquals(board1.getShips().size(), result.getShipsSunk(winner));
+        assertTrue(result.getShots(PlayerSide.PLAYER_1) - result.getShots(PlayerSide.PLAYER_2) <= 1);
+        assertTrue(result.getShots(PlayerSide.PLAYER_1) >= result.getShots(PlayerSide.PLAYER_2));
+    }
+}
@@ -0,0 +1,359 @@
+package com.navyattack.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Tests unitarios para el registro de solo anexado de usuarios y partidas
+ */
+class GameLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    private History createGame(User winner, User loser) {
+        return new History(List.of(winner, loser), winner.getUsername(), loser.getUsername(),
+                "03:20", 200_000, "PVP", 31, 10, 7);
+    }
+
+    @Test
+    @DisplayName("Usuarios y partidas se recuperan al volver a cargar el registro")
+    void testRoundTrip() throws IOException {
+        Path file = tempDir.resolve("game.log");
+        User alice = new User("alice", "secret1");
+        User bob = new User("bob", "secret2");
+        History game = createGame(alice, bob);
+
+        try (GameLog log = new GameLog(file)) {
+            log.appendUser(alice);
+            log.appendUser(bob);
+            log.appendGame(game);
+        }
+
+        List<User> loaded;
+        try (GameLog log = new GameLog(file)) {
+            loaded = log.load();
+        }
+        assertEquals(2, loaded.size());
+        User loadedAlice = loaded.get(0);
+        User loadedBob = loaded.get(1);
+        assertEquals("alice", loadedAlice.getUsername());
+        assertTrue(loadedBob.matchesPassword("secret2"));
+        assertFalse(loadedBob.matchesPassword("secret1"));
+        assertNull(loadedBob.getPassword());
+
+        String contents = new String(Files.readAllBytes(file), java.nio.charset.StandardCharsets.ISO_8859_1);
+        assertFalse(contents.contains("secret1"), "El registro no debe guardar contraseñas en texto plano");
+        assertFalse(contents.contains("secret2"), "El registro no debe guardar contraseñas en texto plano");
+
+        History loadedGame = loadedAlice.getHistory().get(0);
+        assertSame(loadedGame, loadedBob.getHistory().get(0));
+        assertEquals("alice", loadedGame.getWinner());
+        assertEquals("bob", loadedGame.getLoser());
+        assertEquals(200_000, loadedGame.getTimePlayedMillis());
+        assertEquals(31, loadedGame.getTotalTurns());
+        assertEquals(7, loadedGame.getLoserShipsSunk());
+        assertEquals(game.getGameDateFormatted(), loadedGame.getGameDateFormatted());
+    }
+
+    @Test
+    @DisplayName("Guardar una partida solo anexa su registro")
+    void testAppendCostIsPerRecord() throws IOException {
+        Path file = tempDir.resolve("game.log");
+        User alice = new User("alice", "secret1");
+        User bob = new User("bob", "secret2");
+
+        try (GameLog log = new GameLog(file)) {
+            log.appendUser(alice);
+            log.appendUser(bob);
+            log.appendGame(createGame(alice, bob));
+            long sizeAfterOne = Files.size(file);
+            for (int i = 0; i < 50; i++) {
+                log.appendGame(createGame(alice, bob));
+            }
+            long perGame = (Files.size(file) - sizeAfterOne) / 50;
+            log.appendGame(createGame(alice, bob));
+            assertEquals(sizeAfterOne + 51 * perGame, Files.size(file));
+        }
+    }
+
+    @Test
+    @DisplayName("Un registro incompleto al final se descarta y el archivo se trunca")
+    void testTornTailIsDiscarded() throws IOException {
+        Path file = tempDir.resolve("game.log");
+        User alice = new User("alice", "secret1");
+        User bob = new User("bob", "secret2");
+
+        try (GameLog log = new GameLog(file)) {
+            log.appendUser(alice);
+            log.appendUser(bob);
+            log.appendGame(createGame(alice, bob));
+        }
+        long validSize = Files.size(file);
+        try (GameLog log = new GameLog(file)) {
+            log.appendGame(createGame(alice, bob));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 3);
+        }
+
+        try (GameLog log = new GameLog(file)) {
+            List<User> loaded = log.load();
+            assertEquals(1, loaded.get(0).getHistory().size());
+            assertEquals(validSize, Files.size(file));
+
+            log.appendGame(createGame(loaded.get(0), loaded.get(1)));
+        }
+        try (GameLog log = new GameLog(file)) {
+            assertEquals(2, log.load().get(1).getHistory().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Una cola dañada se trunca sin obligar a compactar el registro")
+    void testTruncatedTailNeedsNoCompaction() throws IOException {
+        Path file = tempDir.resolve("game.log");
+        try (GameLog log = new GameLog(file)) {
+            log.appendUser(new User("alice", "secret1"));
+        }
+        long validSize = Files.size(file);
+        Files.write(file, new byte[128 * 1024], StandardOpenOption.APPEND);
+
+        try (GameLog log = new GameLog(file)) {
+            assertEquals(1, log.load().size());
+            assertEquals(validSize, Files.size(file));
+            assertFalse(log.needsMigration());
+        }
+    }
+
+    @Test
+    @DisplayName("La compactación reescribe el registro sin perder datos")
+    void testCompaction() throws IOException {
+        Path file = tempDir.resolve("game.log");
+        User alice = new User("alice", "secret1");
+        User bob = new User("bob", "secret2");
+        alice.addHistory(createGame(alice, bob));
+        bob.addHistory(alice.getHistory().get(0));
+        alice.addHistory(new History(List.of(alice), "CPU", "alice", "01:00", 60_000, "PVC", 12, 10, 4));
+
+        try (GameLog log = new GameLog(file)) {
+            log.compact(List.of(alice, bob));
+            assertFalse(log.needsMigration());
+            assertFalse(Files.exists(tempDir.resolve("game.log.tmp")));
+        }
+
+        try (GameLog log = new GameLog(file)) {
+            List<User> loaded = log.load();
+            assertEquals(2, loaded.get(0).getHistory().size());
+            assertEquals(1, loaded.get(1).getHistory().size());
+            assertEquals("CPU", loaded.get(0).getHistory().get(1).getWinner());
+        }
+    }
+
+    @Test
+    @DisplayName("Un registro con el formato de texto anterior se lee y se compacta")
+    void testReadsTextFormatAndCompacts() throws IOException {
+        Path file = tempDir.resolve("game.log");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(GameLog.MAGIC);
+        out.writeByte(1);
+        writeRecord(out, GameLog.USER_RECORD, payload -> {
+            payload.writeUTF("alice");
+            payload.writeUTF("secret1");
+        });
+        writeRecord(out, GameLog.GAME_RECORD, payload -> {
+            for (String text : new String[]{"alice", "CPU", "01:40"}) {
+                payload.writeBoolean(true);
+                payload.writeUTF(text);
+            }
+            payload.writeLong(100_000);
+            payload.writeBoolean(true);
+            payload.writeUTF("PVC");
+            payload.writeInt(22);
+            payload.writeInt(10);
+            payload.writeInt(5);
+            payload.writeLong(1_700_000_000_000L);
+            payload.writeShort(1);
+            payload.writeUTF("alice");
+        });
+        Files.write(file, bytes.toByteArray());
+
+        try (GameLog log = new GameLog(file)) {
+            List<User> loaded = log.load();
+            assertTrue(log.needsMigration());
+            assertThrows(IllegalStateException.class, () -> log.appendUser(new User("bob", "secret2")));
+            log.compact(loaded);
+            assertFalse(log.needsMigration());
+            log.appendUser(new User("bob", "secret2"));
+        }
+
+        try (GameLog log = new GameLog(file)) {
+            List<User> loaded = log.load();
+            assertEquals(2, loaded.size());
+            History game = loaded.get(0).getHistory().get(0);
+            assertEquals("CPU", game.getLoser());
+            assertEquals(1_700_000_000_000L, game.getGameDateMillis());
+            assertEquals("01:40", game.getTimePlayed());
+            assertTrue(loaded.get(0).matchesPassword("secret1"));
+        }
+    }
+
+    @Test
+    @DisplayName("La carga indexada lee los historiales solo al pedirlos")
+    void testIndexedLoadIsLazy() throws IOException {
+        Path file = tempDir.resolve("game.log");
+        User alice = new User("alice", "secret1");
+        User bob = new User("bob", "secret2");
+
+        try (GameLog log = new GameLog(file)) {
+            log.appendAll(List.of(alice, bob), List.of(createGame(alice, bob), createGame(bob, alice)));
+            log.appendGame(new History(List.of(alice), "CPU", "alice", "01:00", 60_000, "PVC", 12, 10, 4));
+        }
+        assertTrue(Files.exists(tempDir.resolve("game.log.idx")));
+
+        try (GameLog log = new GameLog(file)) {
+            List<User> loaded = log.loadIndexed();
+            User loadedAlice = loaded.get(0);
+            User loadedBob = loaded.get(1);
+            assertTrue(loadedAlice.matchesPassword("secret1"));
+            assertFalse(loadedAlice.matchesPassword("secret2"));
+            assertEquals(3, loadedAlice.getTotals().getGames());
+            assertEquals(1, loadedAlice.getTotals().getVictories());
+            assertEquals(2, loadedBob.getTotals().getGames());
+            assertEquals(1, loadedAlice.getRecentTotals("PVC", RollingStatistics.Period.DAY, 1).getGames());
+
+            assertEquals(3, loadedAlice.getHistory().size());
+            assertEquals(2, loadedBob.getHistory().size());
+            assertSame(loadedAlice.getHistory().get(1), loadedBob.getHistory().get(1));
+            assertEquals("bob", loadedAlice.getHistory().get(1).getWinner());
+            assertEquals("CPU", loadedAlice.getHistory().get(2).getWinner());
+            assertTrue(loadedBob.matchesPassword("secret2"));
+            assertEquals(UserTotals.of("bob", loadedBob.getHistory()), loadedBob.getTotals());
+
+            log.compact(loaded);
+        }
+
+        try (GameLog log = new GameLog(file)) {
+            List<User> loaded = log.load();
+            assertEquals(3, loaded.get(0).getHistory().size());
+            assertEquals(2, loaded.get(1).getHistory().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Añadir una partida a un usuario de la carga indexada no lee su historial")
+    void testIndexedAddHistoryDoesNotReadLog() throws IOException {
+        Path file = tempDir.resolve("game.log");
+        Path moved = tempDir.resolve("game.log.moved");
+        User alice = new User("alice", "secret1");
+        User bob = new User("bob", "secret2");
+
+        try (GameLog log = new GameLog(file)) {
+            log.appendAll(List.of(alice, bob), List.of(createGame(alice, bob), createGame(bob, alice)));
+        }
+
+        try (GameLog log = new GameLog(file)) {
+            List<User> loaded = log.loadIndexed();
+            User loadedAlice = loaded.get(0);
+            User loadedBob = loaded.get(1);
+            History game = createGame(loadedAlice, loadedBob);
+
+            // Sin el archivo, cualquier lectura del historial fallaría
+            Files.move(file, moved);
+            loadedAlice.addHistory(game);
+            loadedBob.addHistory(game);
+            assertEquals(3, loadedAlice.getTotals().getGames());
+            assertEquals(2, loadedAlice.getTotals().getVictories());
+            assertEquals(3, loadedBob.getTotals().getGames());
+            Files.move(moved, file);
+
+            log.appendGame(game);
+            List<History> history = loadedAlice.getHistory();
+            assertEquals(3, history.size(), "La partida ya guardada no debe aparecer dos veces");
+            assertSame(game, history.get(2));
+            assertEquals("bob", history.get(1).getWinner());
+            assertEquals(3, loadedBob.getHistory().size());
+        }
+    }
+
+    @Test
+    @DisplayName("La carga indexada incluye los registros anexados después del índice")
+    void testIndexedLoadReadsTail() throws IOException {
+        Path file = tempDir.resolve("game.log");
+        Path index = tempDir.resolve("game.log.idx");
+        User alice = new User("alice", "secret1");
+        User bob = new User("bob", "secret2");
+
+        try (GameLog log = new GameLog(file)) {
+            log.appendAll(List.of(alice, bob), List.of(createGame(alice, bob)));
+        }
+        byte[] oldIndex = Files.readAllBytes(index);
+        try (GameLog log = new GameLog(file)) {
+            log.appendUser(new User("carol", "secret3"));
+            log.appendGame(createGame(bob, alice));
+        }
+        // Índice de una sesión que terminó sin cerrar el registro
+        Files.write(index, oldIndex);
+
+        try (GameLog log = new GameLog(file)) {
+            List<User> loaded = log.loadIndexed();
+            assertEquals(3, loaded.size());
+            assertTrue(loaded.get(2).matchesPassword("secret3"));
+            assertEquals(2, loaded.get(0).getHistory().size());
+            assertEquals("bob", loaded.get(1).getHistory().get(1).getWinner());
+        }
+
+        Files.delete(index);
+        try (GameLog log = new GameLog(file)) {
+            List<User> loaded = log.loadIndexed();
+            assertEquals(2, loaded.get(1).getHistory().size());
+        }
+        assertTrue(Files.exists(index));
+    }
+
+    /**
+     * Escribe un registro con su longitud y CRC.
+     */
+    private void writeRecord(DataOutputStream out, byte type, PayloadWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.write(new DataOutputStream(bytes));
+        byte[] payload = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        out.writeInt(payload.length);
+        out.writeByte(type);
+        out.write(payload);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Escribe los datos de un registro de prueba.
+     */
+    private interface PayloadWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @Test
+    @DisplayName("Un archivo que no es un registro se rechaza")
+    void testRejectsForeignFile() throws IOException {
+        Path file = tempDir.resolve("game.log");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6});
+        try (GameLog log = new GameLog(file)) {
+            assertThrows(IOException.class, log::load);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.navyattack.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests unitarios para el codificador binario de History
+ */
+class HistoryCodecTest {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    private int intern(String name) {
+        return ids.computeIfAbsent(name, n -> {
+            names.add(n);
+            return names.size() - 1;
+        });
+    }
+
+    private byte[] encode(History history) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        HistoryCodec.encode(history, this::intern, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    private History decode(byte[] bytes) throws IOException {
+        return HistoryCodec.decode(new DataInputStream(new ByteArrayInputStream(bytes)),
+                id -> id < names.size() ? names.get(id) : null);
+    }
+
+    @Test
+    @DisplayName("Una partida se codifica y decodifica sin perder datos")
+    void testRoundTrip() throws IOException {
+        User alice = new User("alice", "secret1");
+        User bob = new User("bob", "secret2");
+        History game = new History(List.of(alice, bob), "alice", "bob", "12:34", 754_000, "PVP", 57, 10, 9);
+
+        History decoded = decode(encode(game));
+
+        assertEquals(List.of("alice", "bob"), decoded.getPlayerNames());
+        assertEquals("alice", decoded.getWinner());
+        assertEquals("bob", decoded.getLoser());
+        assertEquals("PVP", decoded.getGameMode());
+        assertEquals(754_000, decoded.getTimePlayedMillis());
+        assertEquals("12:34", decoded.getTimePlayed());
+        assertEquals(57, decoded.getTotalTurns());
+        assertEquals(10, decoded.getWinnerShipsSunk());
+        assertEquals(9, decoded.getLoserShipsSunk());
+        assertEquals(game.getGameDateMillis(), decoded.getGameDateMillis());
+        assertEquals(game.getGameDateFormatted(), decoded.getGameDateFormatted());
+    }
+
+    @Test
+    @DisplayName("El registro codificado es un orden de magnitud menor que la serialización")
+    void testRecordIsCompact() throws IOException {
+        User alice = new User("alice", "secret1");
+        History game = new History(List.of(alice), "CPU", "alice", "05:00", 300_000, "PVC", 48, 10, 6);
+        alice.addHistory(game);
+
+        byte[] encoded = encode(game);
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(game);
+        }
+
+        assertTrue(encoded.length <= 24, "Registro de " + encoded.length + " bytes");
+        assertTrue(encoded.length * 10 <= serialized.size());
+    }
+
+    @Test
+    @DisplayName("Los nombres nulos se conservan")
+    void testNullNames() throws IOException {
+        History game = new History(List.of(), null, null, "00:10", 10_000, null, 1, 0, 0);
+        History decoded = decode(encode(game));
+
+        assertNull(decoded.getWinner());
+        assertNull(decoded.getLoser());
+        assertNull(decoded.getGameMode());
+        assertTrue(decoded.getPlayerNames().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Una versión desconocida se rechaza")
+    void testRejectsUnknownVersion() throws IOException {
+        byte[] bytes = encode(new History(List.of(), "a", "b", "00:10", 10_000, "PVP", 1, 0, 0));
+        bytes[0] = (byte) (HistoryCodec.VERSION + 1);
+        assertThrows(IOException.class, () -> decode(bytes));
+    }
+
+    @Test
+    @DisplayName("Los enteros de longitud variable cubren todo el rango")
+    void testVarints() throws IOException {
+        int[] ints = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        long[] longs = {0L, 300L, System.currentTimeMillis(), Long.MAX_VALUE, -1L};
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int value : ints) {
+            HistoryCodec.writeVarInt(out, value);
+        }
+        for (long value : longs) {
+            HistoryCodec.writeVarLong(out, value);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (int value : ints) {
+            assertEquals(value, HistoryCodec.readVarInt(in));
+        }
+        for (long value : longs) {
+            assertEquals(value, HistoryCodec.readVarLong(in));
+        }
+    }
+
+    @Test
+    @DisplayName("Un users.dat de versiones anteriores se lee con nombres de jugadores")
+    void testReadsLegacyUsersFile() throws IOException, ClassNotFoundException {
+        List<User> users;
+        try (InputStream resource = getClass().getResourceAsStream("legacy-users.dat");
+             ObjectInputStream in = new ObjectInputStream(resource)) {
+            @SuppressWarnings("unchecked")
+            List<User> read = (List<User>) in.readObject();
+            users = read;
+        }
+
+        User alice = users.get(0);
+        assertEquals("alice", alice.getUsername());
+        assertEquals(2, alice.getHistory().size());
+
+        History pvp = alice.getHistory().get(0);
+        assertSame(pvp, users.get(1).getHistory().get(0));
+        assertEquals(List.of("alice", "bob"), pvp.getPlayerNames());
+        assertEquals("03:20", pvp.getTimePlayed());
+        assertEquals(31, pvp.getTotalTurns());
+        assertTrue(pvp.getGameDateMillis() > 0);
+
+        History pvc = alice.getHistory().get(1);
+        assertEquals("CPU", pvc.getLoser());
+        assertEquals(List.of("alice"), pvc.getPlayerNames());
+    }
+}
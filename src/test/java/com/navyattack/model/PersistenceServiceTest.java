@@ -0,0 +1,145 @@
+package com.navyattack.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests unitarios para el servicio de persistencia diferida
+ */
+class PersistenceServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private History createGame(User winner, User loser) {
+        return new History(List.of(winner, loser), winner.getUsername(), loser.getUsername(),
+                "03:20", 200_000, "PVP", 31, 10, 7);
+    }
+
+    @Test
+    @DisplayName("Los guardados encolados se escriben al cerrar el servicio")
+    void testCloseWritesPendingSaves() throws IOException {
+        Path file = tempDir.resolve("game.log");
+        User alice = new User("alice", "secret1");
+        User bob = new User("bob", "secret2");
+
+        try (GameLog log = new GameLog(file)) {
+            PersistenceService service = new PersistenceService(log, 4);
+            service.saveUser(alice);
+            service.saveUser(bob);
+            for (int i = 0; i < 20; i++) {
+                service.saveGame(createGame(alice, bob));
+            }
+            service.close();
+
+            assertEquals(22, service.getSavesWritten());
+            assertEquals(0, service.getPendingSaves());
+            assertEquals(0, service.getFailedFlushes());
+            assertTrue(service.getMaxFlushNanos() > 0);
+            assertThrows(IllegalStateException.class, () -> service.saveUser(new User("carol", "secret3")));
+        }
+
+        try (GameLog log = new GameLog(file)) {
+            List<User> loaded = log.load();
+            assertEquals(2, loaded.size());
+            assertEquals(20, loaded.get(1).getHistory().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Los guardados que esperan durante una escritura se agrupan en un lote")
+    void testPendingSavesAreCoalesced() throws Exception {
+        Path file = tempDir.resolve("game.log");
+        User alice = new User("alice", "secret1");
+        User bob = new User("bob", "secret2");
+
+        try (GameLog log = new GameLog(file)) {
+            PersistenceService service = new PersistenceService(log, 64);
+            // Mientras se tiene el monitor del registro, el hilo de escritura queda bloqueado
+            synchronized (log) {
+                service.saveUser(alice);
+                while (service.getQueueDepth() > 0) {
+                    Thread.sleep(1);
+                }
+                service.saveUser(bob);
+                for (int i = 0; i < 30; i++) {
+                    service.saveGame(createGame(alice, bob));
+                }
+                assertEquals(31, service.getQueueDepth());
+                assertEquals(32, service.getPendingSaves());
+            }
+            service.flush();
+
+            assertEquals(0, service.getPendingSaves());
+            assertEquals(32, service.getSavesWritten());
+            assertEquals(2, service.getFlushCount());
+            assertTrue(service.getMeanFlushNanos() > 0);
+            service.close();
+        }
+
+        try (GameLog log = new GameLog(file)) {
+            assertEquals(30, log.load().get(0).getHistory().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Un lote cuya escritura falla se reintenta hasta escribirse")
+    void testFailedBatchIsRetried() throws Exception {
+        Path blocker = tempDir.resolve("blocked");
+        Files.createFile(blocker);
+        Path file = blocker.resolve("game.log");
+
+        try (GameLog log = new GameLog(file)) {
+            PersistenceService service = new PersistenceService(log, 4, 20);
+            service.saveUser(new User("alice", "secret1"));
+            // Mientras exista el archivo, el directorio del registro no se puede crear
+            while (service.getFailedFlushes() == 0) {
+                Thread.sleep(1);
+            }
+            Files.delete(blocker);
+            service.flush();
+
+            assertEquals(1, service.getSavesWritten());
+            assertEquals(0, service.getDroppedSaves());
+            assertNotNull(service.getLastFailure());
+            service.close();
+        }
+
+        try (GameLog log = new GameLog(file)) {
+            assertEquals("alice", log.load().get(0).getUsername());
+        }
+    }
+
+    @Test
+    @DisplayName("Un lote que falla en todos los intentos se cuenta como perdido")
+    void testBatchDroppedAfterMaxAttempts() throws Exception {
+        Path blocker = tempDir.resolve("blocked");
+        Files.createFile(blocker);
+
+        try (GameLog log = new GameLog(blocker.resolve("game.log"))) {
+            PersistenceService service = new PersistenceService(log, 4, 1);
+            service.saveUser(new User("alice", "secret1"));
+            service.flush();
+
+            assertEquals(0, service.getSavesWritten());
+            assertEquals(1, service.getDroppedSaves());
+            assertEquals(PersistenceService.MAX_WRITE_ATTEMPTS, service.getFailedFlushes());
+            assertEquals(0, service.getPendingSaves());
+            service.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Una capacidad no positiva se rechaza")
+    void testRejectsInvalidCapacity() {
+        GameLog log = new GameLog(tempDir.resolve("game.log"));
+        assertThrows(IllegalArgumentException.class, () -> new PersistenceService(log, 0));
+    }
+}
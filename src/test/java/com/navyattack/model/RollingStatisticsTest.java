@@ -0,0 +1,116 @@
+package com.navyattack.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Tests unitarios para la clase RollingStatistics
+ */
+class RollingStatisticsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 5, 15);
+
+    /**
+     * Crea una partida jugada al mediodía de una fecha
+     */
+    private History createGame(String winner, String loser, String mode, LocalDate date) {
+        long millis = date.atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new History(List.of(winner, loser), winner, loser, 60_000, mode, 20, 5, 3, millis);
+    }
+
+    @Test
+    @DisplayName("Los totales se filtran por modo de juego y por días")
+    void testTotalsByModeAndDays() {
+        RollingStatistics statistics = new RollingStatistics();
+        statistics.add("alice", createGame("alice", "CPU", "PVC", TODAY));
+        statistics.add("alice", createGame("CPU", "alice", "PVC", TODAY.minusDays(3)));
+        statistics.add("alice", createGame("alice", "bob", "PVP", TODAY.minusDays(3)));
+        statistics.add("alice", createGame("alice", "CPU", "PVC", TODAY.minusDays(20)));
+
+        UserTotals lastWeek = statistics.getTotals("PVC", RollingStatistics.Period.DAY, 7, TODAY);
+        assertEquals(2, lastWeek.getGames());
+        assertEquals(1, lastWeek.getVictories());
+
+        assertEquals(3, statistics.getTotals("PVC", RollingStatistics.Period.DAY, 30, TODAY).getGames());
+        assertEquals(4, statistics.getTotals(null, RollingStatistics.Period.DAY, 30, TODAY).getGames());
+        assertEquals(1, statistics.getTotals("PVC", RollingStatistics.Period.DAY, 1, TODAY).getGames());
+        assertEquals(0, statistics.getTotals("PVC", RollingStatistics.Period.DAY, 1, TODAY.plusDays(1)).getGames());
+        assertEquals(0, statistics.getTotals("Unknown", RollingStatistics.Period.DAY, 30, TODAY).getGames());
+    }
+
+    @Test
+    @DisplayName("Las semanas empiezan el lunes y los meses son naturales")
+    void testWeeksAndMonths() {
+        RollingStatistics statistics = new RollingStatistics();
+        // 15 de mayo de 2024 fue miércoles
+        statistics.add("alice", createGame("alice", "CPU", "PVC", LocalDate.of(2024, 5, 13)));
+        statistics.add("alice", createGame("alice", "CPU", "PVC", LocalDate.of(2024, 5, 12)));
+        statistics.add("alice", createGame("alice", "CPU", "PVC", LocalDate.of(2024, 4, 30)));
+
+        assertEquals(1, statistics.getTotals("PVC", RollingStatistics.Period.WEEK, 1, TODAY).getGames());
+        assertEquals(2, statistics.getTotals("PVC", RollingStatistics.Period.MONTH, 1, TODAY).getGames());
+        assertEquals(3, statistics.getTotals("PVC", RollingStatistics.Period.MONTH, 2, TODAY).getGames());
+    }
+
+    @Test
+    @DisplayName("Las casillas antiguas se reutilizan y las partidas fuera de la ventana se ignoran")
+    void testRingKeepsOnlyRecentPeriods() {
+        RollingStatistics statistics = new RollingStatistics();
+        int capacity = RollingStatistics.Period.DAY.getCapacity();
+        statistics.add("alice", createGame("alice", "CPU", "PVC", TODAY.minusDays(capacity)));
+        assertEquals(1, statistics.getTotals("PVC", RollingStatistics.Period.DAY, capacity,
+                TODAY.minusDays(1)).getGames());
+
+        // Comparte casilla con la partida anterior y la reemplaza
+        statistics.add("alice", createGame("alice", "CPU", "PVC", TODAY));
+        // Más antigua que el periodo guardado en su casilla
+        statistics.add("alice", createGame("alice", "CPU", "PVC", TODAY.minusDays(2L * capacity)));
+
+        assertEquals(1, statistics.getTotals("PVC", RollingStatistics.Period.DAY, capacity, TODAY).getGames());
+        assertEquals(3, statistics.getTotals("PVC", RollingStatistics.Period.MONTH, 24, TODAY).getGames());
+    }
+
+    @Test
+    @DisplayName("Un número de periodos fuera de la capacidad se rechaza")
+    void testRejectsInvalidCount() {
+        RollingStatistics statistics = new RollingStatistics();
+        assertThrows(IllegalArgumentException.class,
+                () -> statistics.getTotals("PVC", RollingStatistics.Period.DAY, 0, TODAY));
+        assertThrows(IllegalArgumentException.class,
+                () -> statistics.getTotals("PVC", RollingStatistics.Period.WEEK, 27, TODAY));
+    }
+
+    @Test
+    @DisplayName("Los totales recientes se escriben y se leen sin cambios")
+    void testWriteAndRead() throws IOException {
+        RollingStatistics statistics = new RollingStatistics();
+        for (int i = 0; i < 100; i++) {
+            String mode = i % 3 == 0 ? "PVP" : "PVC";
+            statistics.add("alice", createGame(i % 2 == 0 ? "alice" : "CPU", "alice", mode, TODAY.minusDays(i)));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        statistics.write(new DataOutputStream(bytes));
+        RollingStatistics read = RollingStatistics.read(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        for (RollingStatistics.Period period : RollingStatistics.Period.values()) {
+            for (String mode : new String[] {"PVC", "PVP", null}) {
+                assertEquals(statistics.getTotals(mode, period, period.getCapacity(), TODAY),
+                        read.getTotals(mode, period, period.getCapacity(), TODAY));
+            }
+        }
+        assertEquals(statistics.getTotals(null, RollingStatistics.Period.DAY, 30, TODAY),
+                statistics.copy().getTotals(null, RollingStatistics.Period.DAY, 30, TODAY));
+    }
+}
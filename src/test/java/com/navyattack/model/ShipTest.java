@@ -290,6 +290,67 @@ class ShipTest {
         assertTrue(submarine.isSunk());
     }
 
+    @Test
+    @DisplayName("Impactos repetidos en el mismo segmento no hunden el barco")
+    void testRepeatedSegmentHitsDoNotSink() {
+        submarine.place(0, 0);
+
+        assertTrue(submarine.registerHit(0));
+        assertFalse(submarine.registerHit(0));
+        assertFalse(submarine.isSunk());
+
+        assertTrue(submarine.registerHit(1));
+        assertTrue(submarine.isSunk());
+    }
+
+    @Test
+    @DisplayName("registerHit() sin segmento no vuelve a contar un segmento ya impactado")
+    void testRegisterHitWithoutSegmentSkipsHitSegments() {
+        destroyer.place(0, 0);
+
+        assertTrue(destroyer.registerHit(0));
+        assertTrue(destroyer.registerHit(2));
+        destroyer.registerHit();
+        assertTrue(destroyer.isSunk());
+        assertFalse(destroyer.registerHit(1), "registerHit() debió impactar el segmento 1");
+
+        destroyer.registerHit();
+        assertTrue(destroyer.isSunk());
+    }
+
+    @Test
+    @DisplayName("segmentAt() ubica la celda dentro del barco")
+    void testSegmentAt() {
+        destroyer.rotate(); // Vertical
+        destroyer.place(3, 4);
+
+        assertEquals(0, destroyer.segmentAt(3, 4));
+        assertEquals(2, destroyer.segmentAt(5, 4));
+        assertEquals(-1, destroyer.segmentAt(6, 4));
+        assertEquals(-1, destroyer.segmentAt(4, 5));
+    }
+
+    @Test
+    @DisplayName("registerHit(segment) rechaza segmentos fuera del barco")
+    void testRegisterHitRejectsInvalidSegment() {
+        assertThrows(IllegalArgumentException.class, () -> submarine.registerHit(2));
+        assertThrows(IllegalArgumentException.class, () -> submarine.registerHit(-1));
+    }
+
+    @Test
+    @DisplayName("ShipPositions expone filas, columnas e índices sin crear arreglos")
+    void testShipPositionsPrimitiveAccessors() {
+        destroyer.rotate(); // Vertical
+        ShipPositions positions = destroyer.calculatePositions(2, 7);
+
+        assertEquals(3, positions.size());
+        assertEquals(4, positions.rowAt(2));
+        assertEquals(7, positions.colAt(2));
+        assertEquals(3 * 10 + 7, positions.cellIndex(1, 10));
+        assertThrows(UnsupportedOperationException.class, () -> positions.add(new int[]{0, 0}));
+        assertThrows(IndexOutOfBoundsException.class, () -> positions.get(3));
+    }
+
     // ==================== TESTS DE EDGE CASES ====================
 
     @Test
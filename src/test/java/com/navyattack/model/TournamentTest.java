@@ -0,0 +1,89 @@
+package com.navyattack.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests unitarios para el torneo de CPU contra CPU
+ */
+class TournamentTest {
+
+    @Test
+    @DisplayName("El torneo juega todas las partidas y agrega las estadísticas")
+    void testAggregatesAllGames() {
+        Tournament tournament = new Tournament(BoardConfig.standard(), CPUDifficulty.EASY, CPUDifficulty.MEDIUM, 50);
+        TournamentResult result = tournament.play(40, 3L);
+
+        assertEquals(40, result.getGames());
+        assertEquals(40, result.getWins(PlayerSide.PLAYER_1) + result.getWins(PlayerSide.PLAYER_2));
+        assertEquals(1.0, result.getWinRate(PlayerSide.PLAYER_1) + result.getWinRate(PlayerSide.PLAYER_2), 1e-9);
+
+        int fleetCells = BoardConfig.standard().getTotalShipCells();
+        for (PlayerSide side : PlayerSide.values()) {
+            int[] histogram = result.getShotsToWinHistogram(side);
+            assertEquals(result.getWins(side), Arrays.stream(histogram).sum());
+            for (int shots = 0; shots < Math.min(fleetCells, histogram.length); shots++) {
+                assertEquals(0, histogram[shots], "Nadie gana con menos disparos que celdas de barco");
+            }
+        }
+        assertTrue(result.getGamesPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("La misma semilla da el mismo resultado con cualquier número de hilos")
+    void testDeterministicAcrossThreadCounts() {
+        Tournament tournament = new Tournament(BoardConfig.standard(), CPUDifficulty.MEDIUM, CPUDifficulty.EASY, 50);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try {
+            TournamentResult a = tournament.play(48, 42L, single);
+            TournamentResult b = tournament.play(48, 42L, parallel);
+            for (PlayerSide side : PlayerSide.values()) {
+                assertEquals(a.getWins(side), b.getWins(side));
+                assertArrayEquals(a.getShotsToWinHistogram(side), b.getShotsToWinHistogram(side));
+            }
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Con HARD la misma semilla da el mismo resultado con cualquier número de hilos")
+    void testHardDeterministicAcrossThreadCounts() {
+        Tournament tournament = new Tournament(BoardConfig.standard(), CPUDifficulty.HARD, CPUDifficulty.MEDIUM, 60_000);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try {
+            TournamentResult a = tournament.play(4, 7L, single);
+            TournamentResult b = tournament.play(4, 7L, parallel);
+            for (PlayerSide side : PlayerSide.values()) {
+                assertEquals(a.getWins(side), b.getWins(side));
+                assertArrayEquals(a.getShotsToWinHistogram(side), b.getShotsToWinHistogram(side));
+            }
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Los percentiles recorren el histograma acumulado")
+    void testPercentiles() {
+        TournamentResult result = new TournamentResult();
+        result.record(PlayerSide.PLAYER_1, 30);
+        result.record(PlayerSide.PLAYER_1, 40);
+        result.record(PlayerSide.PLAYER_1, 40);
+        result.record(PlayerSide.PLAYER_1, 90);
+
+        assertEquals(30, result.getShotsToWinPercentile(PlayerSide.PLAYER_1, 0));
+        assertEquals(40, result.getShotsToWinPercentile(PlayerSide.PLAYER_1, 50));
+        assertEquals(90, result.getShotsToWinPercentile(PlayerSide.PLAYER_1, 100));
+        assertEquals(50.0, result.getMeanShotsToWin(PlayerSide.PLAYER_1), 1e-9);
+        assertEquals(0, result.getShotsToWinPercentile(PlayerSide.PLAYER_2, 50));
+    }
+}
@@ -355,6 +355,52 @@ class UserStatisticsTest {
         assertEquals(0, stats.getDefeats());
     }
 
+    // ==================== TESTS DE TOTALES ACUMULADOS ====================
+
+    @Test
+    @DisplayName("Los totales del usuario se actualizan al añadir cada partida")
+    void testUserTotalsFollowHistory() {
+        user.addHistory(createHistory("testuser", "opponent1", 10, 5, 3));
+        user.addHistory(createHistory("CPU", "testuser", 14, 5, 2));
+        user.addHistory(createHistoryWithTime("testuser", "CPU", 20, 4, 1, 90000));
+
+        UserTotals totals = user.getTotals();
+        assertEquals(UserTotals.of("testuser", user.getHistory()), totals);
+        assertEquals(3, totals.getGames());
+        assertEquals(2, totals.getVictories());
+        assertEquals(44, totals.getTurns());
+
+        // La copia devuelta no cambia con partidas posteriores
+        user.addHistory(createHistory("testuser", "opponent2", 8, 5, 0));
+        assertEquals(3, totals.getGames());
+        assertEquals(4, user.getTotals().getGames());
+    }
+
+    @Test
+    @DisplayName("Las estadísticas desde los totales coinciden con las del historial")
+    void testStatisticsFromTotals() {
+        user.addHistory(createHistory("testuser", "opponent1", 10, 5, 3));
+        user.addHistory(createHistory("opponent2", "testuser", 16, 5, 1));
+
+        String previous = System.setProperty(UserStatistics.VERIFY_PROPERTY, "true");
+        try {
+            UserStatistics fromTotals = new UserStatistics(user);
+            UserStatistics fromHistory = new UserStatistics("testuser", user.getHistory());
+
+            assertEquals(fromHistory.getTotalGames(), fromTotals.getTotalGames());
+            assertEquals(fromHistory.getWinRate(), fromTotals.getWinRate());
+            assertEquals(fromHistory.getAverageShipsSunk(), fromTotals.getAverageShipsSunk());
+            assertEquals(fromHistory.getAverageTurns(), fromTotals.getAverageTurns());
+            assertEquals(fromHistory.getAveragePlayTime(), fromTotals.getAveragePlayTime());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(UserStatistics.VERIFY_PROPERTY);
+            } else {
+                System.setProperty(UserStatistics.VERIFY_PROPERTY, previous);
+            }
+        }
+    }
+
     // ==================== MÉTODOS HELPER ====================
 
     /**